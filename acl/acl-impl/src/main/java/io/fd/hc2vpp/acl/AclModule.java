@@ -60,6 +60,7 @@ public class AclModule extends AbstractModule {
     protected void configure() {
         LOG.info("Configuring module Acl");
         install(ConfigurationModule.create());
+        requestInjection(AclConfiguration.class);
 
         // binds JVpp Acl future facade
         bind(FutureJVppAclFacade.class).toProvider(jvppAclProviderClass).in(Singleton.class);
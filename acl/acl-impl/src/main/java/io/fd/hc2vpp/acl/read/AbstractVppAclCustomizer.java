@@ -42,6 +42,7 @@ import java.util.List;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.interfaces.rev140508.Interfaces;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.interfaces.rev140508.interfaces.state.Interface;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang._interface.acl.rev161214.VppAclInterfaceAugmentation;
@@ -61,13 +62,23 @@ abstract class AbstractVppAclCustomizer extends FutureJVppAclCustomizer
 
     private final DumpCacheManager<AclInterfaceListDetailsReplyDump, Integer> aclReferenceDumpManager;
     private final DumpCacheManager<AclDetailsReplyDump, Integer> aclDumpManager;
+    // if present, ACLs and their assignments are read using single dump per transaction
+    private final AclStateIndex stateIndex;
 
     protected AbstractVppAclCustomizer(@Nonnull final FutureJVppAclFacade jVppAclFacade,
                                        @Nonnull final NamingContext interfaceContext,
                                        @Nonnull final AclContextManager standardAclContext) {
+        this(jVppAclFacade, interfaceContext, standardAclContext, null);
+    }
+
+    protected AbstractVppAclCustomizer(@Nonnull final FutureJVppAclFacade jVppAclFacade,
+                                       @Nonnull final NamingContext interfaceContext,
+                                       @Nonnull final AclContextManager standardAclContext,
+                                       @Nullable final AclStateIndex stateIndex) {
         super(jVppAclFacade);
         this.interfaceContext = interfaceContext;
         this.standardAclContext = standardAclContext;
+        this.stateIndex = stateIndex;
 
         aclReferenceDumpManager =
             new DumpCacheManagerBuilder<AclInterfaceListDetailsReplyDump, Integer>()
@@ -96,7 +107,8 @@ abstract class AbstractVppAclCustomizer extends FutureJVppAclCustomizer
         return (identifier, params) -> {
             AclDump request = new AclDump();
             request.aclIndex = params;
-            return getReplyForRead(getjVppAclFacade().aclDump(request).toCompletableFuture(), identifier);
+            return getReplyForRead(getjVppAclFacade().aclDump(request).toCompletableFuture(),
+                    identifier, AclDump.class);
         };
     }
 
@@ -105,7 +117,7 @@ abstract class AbstractVppAclCustomizer extends FutureJVppAclCustomizer
             AclInterfaceListDump dumpRequest = new AclInterfaceListDump();
             dumpRequest.swIfIndex = params;
             return getReplyForRead(getjVppAclFacade().aclInterfaceListDump(dumpRequest).toCompletableFuture(),
-                identifier);
+                identifier, AclInterfaceListDump.class);
         };
     }
 
@@ -118,19 +130,33 @@ abstract class AbstractVppAclCustomizer extends FutureJVppAclCustomizer
         final String parentInterfaceName = id.firstKeyOf(Interface.class).getName();
         final int parentInterfaceIndex = interfaceContext.getIndex(parentInterfaceName, context.getMappingContext());
 
+        final AclInterfaceListDetails aclDetails = getInterfaceAcls(id, context, parentInterfaceIndex);
+        if (aclDetails == null) {
+            return Collections.emptyList();
+        }
+        return filterAcls(aclDetails)
+            .mapToObj(aclIndex -> standardAclContext.getAclName(aclIndex, context.getMappingContext()))
+            .map(aclName -> new VppAclsKey(aclName, VppAcl.class))
+            .collect(Collectors.toList());
+    }
+
+    @Nullable
+    private AclInterfaceListDetails getInterfaceAcls(@Nonnull final InstanceIdentifier<VppAcls> id,
+                                                     @Nonnull final ReadContext context,
+                                                     final int interfaceIndex) throws ReadFailedException {
+        if (stateIndex != null) {
+            return stateIndex.getInterfaceAcls(id, context.getModificationCache(), interfaceIndex);
+        }
+
         final Optional<AclInterfaceListDetailsReplyDump> dumpReply =
-            aclReferenceDumpManager.getDump(id, context.getModificationCache(), parentInterfaceIndex);
+            aclReferenceDumpManager.getDump(id, context.getModificationCache(), interfaceIndex);
 
         if (dumpReply.isPresent() && !dumpReply.get().aclInterfaceListDetails.isEmpty()) {
             // if dumpReply is present, then aclInterfaceListDetails contains single element (actually it should not be
             // dump message in vpp)
-            final AclInterfaceListDetails aclDetails = dumpReply.get().aclInterfaceListDetails.get(0);
-            return filterAcls(aclDetails)
-                .mapToObj(aclIndex -> standardAclContext.getAclName(aclIndex, context.getMappingContext()))
-                .map(aclName -> new VppAclsKey(aclName, VppAcl.class))
-                .collect(Collectors.toList());
+            return dumpReply.get().aclInterfaceListDetails.get(0);
         } else {
-            return Collections.emptyList();
+            return null;
         }
     }
 
@@ -156,10 +182,7 @@ abstract class AbstractVppAclCustomizer extends FutureJVppAclCustomizer
         final String aclName = vppAclsKey.getName();
         final int aclIndex = standardAclContext.getAclIndex(aclName, ctx.getMappingContext());
 
-        final Optional<AclDetailsReplyDump> dumpReply =
-            aclDumpManager.getDump(id, ctx.getModificationCache(), aclIndex);
-
-        if (dumpReply.isPresent() && !dumpReply.get().aclDetails.isEmpty()) {
+        if (aclExists(id, ctx, aclIndex)) {
             builder.setName(aclName);
             builder.setType(vppAclsKey.getType());
         } else {
@@ -168,6 +191,16 @@ abstract class AbstractVppAclCustomizer extends FutureJVppAclCustomizer
         }
     }
 
+    private boolean aclExists(@Nonnull final InstanceIdentifier<VppAcls> id, @Nonnull final ReadContext ctx,
+                              final int aclIndex) throws ReadFailedException {
+        if (stateIndex != null) {
+            return stateIndex.getAcl(id, ctx.getModificationCache(), aclIndex) != null;
+        }
+        final Optional<AclDetailsReplyDump> dumpReply =
+            aclDumpManager.getDump(id, ctx.getModificationCache(), aclIndex);
+        return dumpReply.isPresent() && !dumpReply.get().aclDetails.isEmpty();
+    }
+
     @Nonnull
     @Override
     public Initialized<VppAcls> init(@Nonnull final InstanceIdentifier<VppAcls> id,
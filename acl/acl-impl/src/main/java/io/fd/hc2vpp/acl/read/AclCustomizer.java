@@ -24,6 +24,7 @@ import io.fd.hc2vpp.acl.util.protocol.IpProtocolReader;
 import io.fd.hc2vpp.common.translate.util.Ipv4Translator;
 import io.fd.hc2vpp.common.translate.util.Ipv6Translator;
 import io.fd.hc2vpp.common.translate.util.JvppReplyConsumer;
+import io.fd.honeycomb.translate.ModificationCache;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.fd.honeycomb.translate.spi.read.Initialized;
@@ -65,13 +66,23 @@ public class AclCustomizer extends FutureJVppAclCustomizer
 
     private final DumpCacheManager<AclDetailsReplyDump, Integer> vppAclDumpManager;
     private final DumpCacheManager<MacipAclDetailsReplyDump, Integer> macipAclDumpManager;
+    // if present, ACLs are read using single dump per transaction
+    private final AclStateIndex stateIndex;
 
     public AclCustomizer(@Nonnull final FutureJVppAclFacade jVppAclFacade,
                             @Nonnull final AclContextManager standardAclContext,
                             @Nonnull final AclContextManager macipAclContext) {
+        this(jVppAclFacade, standardAclContext, macipAclContext, null);
+    }
+
+    public AclCustomizer(@Nonnull final FutureJVppAclFacade jVppAclFacade,
+                         @Nonnull final AclContextManager standardAclContext,
+                         @Nonnull final AclContextManager macipAclContext,
+                         @Nullable final AclStateIndex stateIndex) {
         super(jVppAclFacade);
         this.standardAclContext = standardAclContext;
         this.macipAclContext = macipAclContext;
+        this.stateIndex = stateIndex;
 
         vppAclDumpManager = new DumpCacheManager.DumpCacheManagerBuilder<AclDetailsReplyDump, Integer>()
             .withExecutor(createVppAclExecutor())
@@ -88,7 +99,8 @@ public class AclCustomizer extends FutureJVppAclCustomizer
         return (identifier, params) -> {
             AclDump request = new AclDump();
             request.aclIndex = params;
-            return getReplyForRead(getjVppAclFacade().aclDump(request).toCompletableFuture(), identifier);
+            return getReplyForRead(getjVppAclFacade().aclDump(request).toCompletableFuture(),
+                    identifier, AclDump.class);
         };
     }
 
@@ -96,7 +108,8 @@ public class AclCustomizer extends FutureJVppAclCustomizer
         return (identifier, params) -> {
             MacipAclDump request = new MacipAclDump();
             request.aclIndex = params;
-            return getReplyForRead(getjVppAclFacade().macipAclDump(request).toCompletableFuture(), identifier);
+            return getReplyForRead(getjVppAclFacade().macipAclDump(request).toCompletableFuture(),
+                    identifier, MacipAclDump.class);
         };
     }
 
@@ -114,6 +127,15 @@ public class AclCustomizer extends FutureJVppAclCustomizer
         throws ReadFailedException {
         final List<AclKey> keys = new ArrayList<>();
 
+        if (stateIndex != null) {
+            final ModificationCache cache = context.getModificationCache();
+            stateIndex.getAcls(id, cache).forEach(details -> keys.add(new AclKey(
+                standardAclContext.getAclName(details.aclIndex, context.getMappingContext()), VppAcl.class)));
+            stateIndex.getMacipAcls(id, cache).forEach(details -> keys.add(new AclKey(
+                macipAclContext.getAclName(details.aclIndex, context.getMappingContext()), VppMacipAcl.class)));
+            return keys;
+        }
+
         final Optional<AclDetailsReplyDump> vppAclDump =
             vppAclDumpManager.getDump(id, context.getModificationCache(), READ_ALL);
         if (vppAclDump.isPresent()) {
@@ -154,40 +176,56 @@ public class AclCustomizer extends FutureJVppAclCustomizer
 
         if (aclType.equals(VppAcl.class)) {
             final int index = standardAclContext.getAclIndex(name, ctx.getMappingContext());
-            final Optional<AclDetailsReplyDump> dump = vppAclDumpManager.getDump(id, ctx.getModificationCache(), index);
-
-            if (dump.isPresent() && !dump.get().aclDetails.isEmpty()) {
-                final java.util.Optional<AclDetails> detail = dump.get().aclDetails.stream()
-                    .filter(acl -> acl.aclIndex == index).findFirst();
-                if (detail.isPresent()) {
-                    final AclDetails aclDetails = detail.get();
-                    setTag(builder, aclDetails.tag);
-                    builder.setAccessListEntries(new AccessListEntriesBuilder()
-                        .setAce(toStandardAces(name, aclDetails.r, standardAclContext, ctx.getMappingContext()))
-                        .build());
-                }
+            final AclDetails aclDetails = getAclDetails(id, ctx.getModificationCache(), index);
+            if (aclDetails != null) {
+                setTag(builder, aclDetails.tag);
+                builder.setAccessListEntries(new AccessListEntriesBuilder()
+                    .setAce(toStandardAces(name, aclDetails.r, standardAclContext, ctx.getMappingContext()))
+                    .build());
             }
         } else if (aclType.equals(VppMacipAcl.class)) {
             final int index = macipAclContext.getAclIndex(name, ctx.getMappingContext());
-            final Optional<MacipAclDetailsReplyDump> dump =
-                macipAclDumpManager.getDump(id, ctx.getModificationCache(), index);
-
-            if (dump.isPresent() && !dump.get().macipAclDetails.isEmpty()) {
-                final java.util.Optional<MacipAclDetails> detail =
-                    dump.get().macipAclDetails.stream().filter(acl -> acl.aclIndex == index).findFirst();
-                final MacipAclDetails macipAclDetails = detail.get();
+            final MacipAclDetails macipAclDetails = getMacipAclDetails(id, ctx.getModificationCache(), index);
+            if (macipAclDetails != null) {
                 setTag(builder, macipAclDetails.tag);
-                if (detail.isPresent()) {
-                    builder.setAccessListEntries(new AccessListEntriesBuilder()
-                        .setAce(toMacIpAces(name, macipAclDetails.r, macipAclContext, ctx.getMappingContext()))
-                        .build());
-                }
+                builder.setAccessListEntries(new AccessListEntriesBuilder()
+                    .setAce(toMacIpAces(name, macipAclDetails.r, macipAclContext, ctx.getMappingContext()))
+                    .build());
             }
         } else {
             throw new IllegalArgumentException("Unsupported acl type: " + aclType);
         }
     }
 
+    @Nullable
+    private AclDetails getAclDetails(@Nonnull final InstanceIdentifier<Acl> id,
+                                     @Nonnull final ModificationCache cache,
+                                     final int index) throws ReadFailedException {
+        if (stateIndex != null) {
+            return stateIndex.getAcl(id, cache, index);
+        }
+        final Optional<AclDetailsReplyDump> dump = vppAclDumpManager.getDump(id, cache, index);
+        if (dump.isPresent() && !dump.get().aclDetails.isEmpty()) {
+            return dump.get().aclDetails.stream().filter(acl -> acl.aclIndex == index).findFirst().orElse(null);
+        }
+        return null;
+    }
+
+    @Nullable
+    private MacipAclDetails getMacipAclDetails(@Nonnull final InstanceIdentifier<Acl> id,
+                                               @Nonnull final ModificationCache cache,
+                                               final int index) throws ReadFailedException {
+        if (stateIndex != null) {
+            return stateIndex.getMacipAcl(id, cache, index);
+        }
+        final Optional<MacipAclDetailsReplyDump> dump = macipAclDumpManager.getDump(id, cache, index);
+        if (dump.isPresent() && !dump.get().macipAclDetails.isEmpty()) {
+            return dump.get().macipAclDetails.stream().filter(acl -> acl.aclIndex == index).findFirst()
+                .orElse(null);
+        }
+        return null;
+    }
+
     private void setTag(@Nonnull final AclBuilder builder, @Nullable final byte[] tag) {
         if (tag != null) {
             final String strTag = toString(tag);
@@ -0,0 +1,207 @@
+/*
+ * Copyright (c) 2017 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.acl.read;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.base.Optional;
+import io.fd.hc2vpp.common.translate.util.JvppReplyConsumer;
+import io.fd.honeycomb.translate.ModificationCache;
+import io.fd.honeycomb.translate.read.ReadFailedException;
+import io.fd.honeycomb.translate.util.read.cache.DumpCacheManager;
+import io.fd.honeycomb.translate.util.read.cache.StaticCacheKeyFactory;
+import io.fd.vpp.jvpp.acl.dto.AclDetails;
+import io.fd.vpp.jvpp.acl.dto.AclDetailsReplyDump;
+import io.fd.vpp.jvpp.acl.dto.AclDump;
+import io.fd.vpp.jvpp.acl.dto.AclInterfaceListDetails;
+import io.fd.vpp.jvpp.acl.dto.AclInterfaceListDetailsReplyDump;
+import io.fd.vpp.jvpp.acl.dto.AclInterfaceListDump;
+import io.fd.vpp.jvpp.acl.dto.MacipAclDetails;
+import io.fd.vpp.jvpp.acl.dto.MacipAclDetailsReplyDump;
+import io.fd.vpp.jvpp.acl.dto.MacipAclDump;
+import io.fd.vpp.jvpp.acl.future.FutureJVppAclFacade;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.ToIntFunction;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Serves ACL state of all readers from single dump of standard ACLs, mac-ip ACLs and interface ACL assignments
+ * per transaction. Dumped details are indexed by ACL index and sw_if_index respectively. Both dumps and indexes
+ * are stored in modification cache under static keys, so they are shared by all readers using this class and
+ * destroyed together with the transaction.
+ */
+public final class AclStateIndex implements JvppReplyConsumer {
+
+    private static final Logger LOG = LoggerFactory.getLogger(AclStateIndex.class);
+
+    /**
+     * Index used to request dump of all ACLs or all interfaces
+     */
+    private static final int READ_ALL = -1;
+
+    private static final String ACL_INDEX_KEY = AclStateIndex.class.getName() + "_aclByIndex";
+    private static final String MACIP_ACL_INDEX_KEY = AclStateIndex.class.getName() + "_macipAclByIndex";
+    private static final String INTERFACE_INDEX_KEY = AclStateIndex.class.getName() + "_interfaceBySwIfIndex";
+
+    private final DumpCacheManager<AclDetailsReplyDump, Integer> aclDumpManager;
+    private final DumpCacheManager<MacipAclDetailsReplyDump, Integer> macipAclDumpManager;
+    private final DumpCacheManager<AclInterfaceListDetailsReplyDump, Integer> interfaceDumpManager;
+
+    public AclStateIndex(@Nonnull final FutureJVppAclFacade jVppAclFacade) {
+        checkNotNull(jVppAclFacade, "Acl facade should not be null");
+        aclDumpManager = new DumpCacheManager.DumpCacheManagerBuilder<AclDetailsReplyDump, Integer>()
+            .withCacheKeyFactory(new StaticCacheKeyFactory(ACL_INDEX_KEY + "_dump", AclDetailsReplyDump.class))
+            .withExecutor((identifier, params) -> {
+                final AclDump request = new AclDump();
+                request.aclIndex = params;
+                return getReplyForRead(jVppAclFacade.aclDump(request).toCompletableFuture(), identifier, AclDump.class);
+            })
+            .acceptOnly(AclDetailsReplyDump.class)
+            .build();
+
+        macipAclDumpManager = new DumpCacheManager.DumpCacheManagerBuilder<MacipAclDetailsReplyDump, Integer>()
+            .withCacheKeyFactory(
+                new StaticCacheKeyFactory(MACIP_ACL_INDEX_KEY + "_dump", MacipAclDetailsReplyDump.class))
+            .withExecutor((identifier, params) -> {
+                final MacipAclDump request = new MacipAclDump();
+                request.aclIndex = params;
+                return getReplyForRead(jVppAclFacade.macipAclDump(request).toCompletableFuture(),
+                        identifier, MacipAclDump.class);
+            })
+            .acceptOnly(MacipAclDetailsReplyDump.class)
+            .build();
+
+        interfaceDumpManager = new DumpCacheManager.DumpCacheManagerBuilder<AclInterfaceListDetailsReplyDump, Integer>()
+            .withCacheKeyFactory(
+                new StaticCacheKeyFactory(INTERFACE_INDEX_KEY + "_dump", AclInterfaceListDetailsReplyDump.class))
+            .withExecutor((identifier, params) -> {
+                final AclInterfaceListDump request = new AclInterfaceListDump();
+                request.swIfIndex = params;
+                return getReplyForRead(jVppAclFacade.aclInterfaceListDump(request).toCompletableFuture(),
+                    identifier, AclInterfaceListDump.class);
+            })
+            .acceptOnly(AclInterfaceListDetailsReplyDump.class)
+            .build();
+    }
+
+    /**
+     * @return details of standard ACL with provided index, or null if there is no such ACL in VPP
+     */
+    @Nullable
+    public AclDetails getAcl(@Nonnull final InstanceIdentifier<?> id, @Nonnull final ModificationCache cache,
+                             final int aclIndex) throws ReadFailedException {
+        return getAclIndex(id, cache).get(aclIndex);
+    }
+
+    /**
+     * @return details of all standard ACLs, in order returned by VPP
+     */
+    @Nonnull
+    public Collection<AclDetails> getAcls(@Nonnull final InstanceIdentifier<?> id,
+                                          @Nonnull final ModificationCache cache) throws ReadFailedException {
+        return getAclIndex(id, cache).values();
+    }
+
+    /**
+     * @return details of mac-ip ACL with provided index, or null if there is no such ACL in VPP
+     */
+    @Nullable
+    public MacipAclDetails getMacipAcl(@Nonnull final InstanceIdentifier<?> id, @Nonnull final ModificationCache cache,
+                                       final int aclIndex) throws ReadFailedException {
+        return getMacipAclIndex(id, cache).get(aclIndex);
+    }
+
+    /**
+     * @return details of all mac-ip ACLs, in order returned by VPP
+     */
+    @Nonnull
+    public Collection<MacipAclDetails> getMacipAcls(@Nonnull final InstanceIdentifier<?> id,
+                                                    @Nonnull final ModificationCache cache)
+        throws ReadFailedException {
+        return getMacipAclIndex(id, cache).values();
+    }
+
+    /**
+     * @return standard ACLs assigned to interface with provided sw_if_index, or null if there are none
+     */
+    @Nullable
+    public AclInterfaceListDetails getInterfaceAcls(@Nonnull final InstanceIdentifier<?> id,
+                                                    @Nonnull final ModificationCache cache,
+                                                    final int swIfIndex) throws ReadFailedException {
+        Map<Integer, AclInterfaceListDetails> index = getIndex(cache, INTERFACE_INDEX_KEY);
+        if (index == null) {
+            final Optional<AclInterfaceListDetailsReplyDump> dump = interfaceDumpManager.getDump(id, cache, READ_ALL);
+            index = initIndex(cache, INTERFACE_INDEX_KEY, dump.isPresent()
+                ? dump.get().aclInterfaceListDetails
+                : null, details -> details.swIfIndex);
+        }
+        return index.get(swIfIndex);
+    }
+
+    private Map<Integer, AclDetails> getAclIndex(final InstanceIdentifier<?> id, final ModificationCache cache)
+        throws ReadFailedException {
+        final Map<Integer, AclDetails> index = getIndex(cache, ACL_INDEX_KEY);
+        if (index != null) {
+            return index;
+        }
+        final Optional<AclDetailsReplyDump> dump = aclDumpManager.getDump(id, cache, READ_ALL);
+        return initIndex(cache, ACL_INDEX_KEY, dump.isPresent()
+            ? dump.get().aclDetails
+            : null, details -> details.aclIndex);
+    }
+
+    private Map<Integer, MacipAclDetails> getMacipAclIndex(final InstanceIdentifier<?> id,
+                                                           final ModificationCache cache)
+        throws ReadFailedException {
+        final Map<Integer, MacipAclDetails> index = getIndex(cache, MACIP_ACL_INDEX_KEY);
+        if (index != null) {
+            return index;
+        }
+        final Optional<MacipAclDetailsReplyDump> dump = macipAclDumpManager.getDump(id, cache, READ_ALL);
+        return initIndex(cache, MACIP_ACL_INDEX_KEY, dump.isPresent()
+            ? dump.get().macipAclDetails
+            : null, details -> details.aclIndex);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <D> Map<Integer, D> getIndex(final ModificationCache cache, final String key) {
+        return (Map<Integer, D>) cache.get(key);
+    }
+
+    private static <D> Map<Integer, D> initIndex(final ModificationCache cache, final String key,
+                                                 @Nullable final List<D> details,
+                                                 final ToIntFunction<D> indexExtractor) {
+        final List<D> nonNullDetails = details == null
+            ? Collections.emptyList()
+            : details;
+        final Map<Integer, D> index = new LinkedHashMap<>(nonNullDetails.size() * 2);
+        for (final D detail : nonNullDetails) {
+            index.put(indexExtractor.applyAsInt(detail), detail);
+        }
+        LOG.debug("Indexed {} entries under {}", index.size(), key);
+        cache.put(key, index);
+        return index;
+    }
+}
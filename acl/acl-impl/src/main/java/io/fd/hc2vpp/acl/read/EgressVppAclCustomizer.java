@@ -25,6 +25,7 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.stream.IntStream;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang._interface.acl.rev161214._interface.acl.attributes.Acl;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang._interface.acl.rev161214._interface.acl.attributes.acl.Egress;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang._interface.acl.rev161214._interface.acl.attributes.acl.EgressBuilder;
@@ -41,9 +42,16 @@ public final class EgressVppAclCustomizer extends AbstractVppAclCustomizer {
         super(jVppAclFacade, interfaceContext, standardAclContext);
     }
 
+    public EgressVppAclCustomizer(@Nonnull final FutureJVppAclFacade jVppAclFacade,
+                                  @Nonnull final NamingContext interfaceContext,
+                                  @Nonnull final AclContextManager standardAclContext,
+                                  @Nullable final AclStateIndex stateIndex) {
+        super(jVppAclFacade, interfaceContext, standardAclContext, stateIndex);
+    }
+
     @Override
     protected IntStream filterAcls(@Nonnull final AclInterfaceListDetails aclDetails) {
-        return Arrays.stream(aclDetails.acls).skip(aclDetails.nInput);
+        return Arrays.stream(aclDetails.acls).skip(Byte.toUnsignedInt(aclDetails.nInput));
     }
 
     @Override
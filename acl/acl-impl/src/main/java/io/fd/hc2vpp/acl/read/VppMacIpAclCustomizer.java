@@ -40,6 +40,7 @@ import io.fd.vpp.jvpp.acl.dto.MacipAclInterfaceGet;
 import io.fd.vpp.jvpp.acl.dto.MacipAclInterfaceGetReply;
 import io.fd.vpp.jvpp.acl.future.FutureJVppAclFacade;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.interfaces.rev140508.interfaces.state.Interface;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang._interface.acl.rev161214._interface.acl.attributes.Acl;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang._interface.acl.rev161214._interface.acl.attributes.acl.Ingress;
@@ -63,11 +64,21 @@ public class VppMacIpAclCustomizer extends FutureJVppAclCustomizer
     private final DumpCacheManager<MacipAclInterfaceGetReply, Void> interfaceMacIpAclDumpManager;
     private final NamingContext interfaceContext;
     private final AclContextManager macIpAclContext;
+    // if present, mac-ip ACLs are read using single dump per transaction
+    private final AclStateIndex stateIndex;
 
     public VppMacIpAclCustomizer(@Nonnull final FutureJVppAclFacade jVppAclFacade,
                                  @Nonnull final NamingContext interfaceContext,
                                  @Nonnull final AclContextManager macIpAclContext) {
+        this(jVppAclFacade, interfaceContext, macIpAclContext, null);
+    }
+
+    public VppMacIpAclCustomizer(@Nonnull final FutureJVppAclFacade jVppAclFacade,
+                                 @Nonnull final NamingContext interfaceContext,
+                                 @Nonnull final AclContextManager macIpAclContext,
+                                 @Nullable final AclStateIndex stateIndex) {
         super(jVppAclFacade);
+        this.stateIndex = stateIndex;
 
         // for dumping of Mac-ip details
         macIpAclDumpManager = new DumpCacheManager.DumpCacheManagerBuilder<MacipAclDetailsReplyDump, Integer>()
@@ -94,7 +105,8 @@ public class VppMacIpAclCustomizer extends FutureJVppAclCustomizer
             MacipAclDump request = new MacipAclDump();
             request.aclIndex = params;
 
-            return getReplyForRead(getjVppAclFacade().macipAclDump(request).toCompletableFuture(), identifier);
+            return getReplyForRead(getjVppAclFacade().macipAclDump(request).toCompletableFuture(),
+                    identifier, MacipAclDump.class);
         };
     }
 
@@ -124,10 +136,7 @@ public class VppMacIpAclCustomizer extends FutureJVppAclCustomizer
         if (interfacesMacIpDumpReply.isPresent() && interfaceIndex < interfacesMacIpDumpReply.get().count) {
             final int aclIndex = interfacesMacIpDumpReply.get().acls[interfaceIndex];
             if (aclIndex != ACL_NOT_ASSIGNED) {
-                final Optional<MacipAclDetailsReplyDump> macIpDumpReply =
-                    macIpAclDumpManager.getDump(id, modificationCache, aclIndex);
-
-                if (macIpDumpReply.isPresent() && !macIpDumpReply.get().macipAclDetails.isEmpty()) {
+                if (macIpAclExists(id, modificationCache, aclIndex)) {
                     builder.setName(macIpAclContext.getAclName(aclIndex, mappingContext));
                     builder.setType(
                         org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.vpp.acl.rev170615.VppMacipAcl.class);
@@ -144,6 +153,17 @@ public class VppMacIpAclCustomizer extends FutureJVppAclCustomizer
         LOG.debug("No Mac-ip ACL specified for Interface name={},index={}", interfaceName, interfaceIndex);
     }
 
+    private boolean macIpAclExists(@Nonnull final InstanceIdentifier<VppMacipAcl> id,
+                                   @Nonnull final ModificationCache modificationCache,
+                                   final int aclIndex) throws ReadFailedException {
+        if (stateIndex != null) {
+            return stateIndex.getMacipAcl(id, modificationCache, aclIndex) != null;
+        }
+        final Optional<MacipAclDetailsReplyDump> macIpDumpReply =
+            macIpAclDumpManager.getDump(id, modificationCache, aclIndex);
+        return macIpDumpReply.isPresent() && !macIpDumpReply.get().macipAclDetails.isEmpty();
+    }
+
     @Override
     public void merge(@Nonnull final Builder<? extends DataObject> parentBuilder,
                       @Nonnull final VppMacipAcl readValue) {
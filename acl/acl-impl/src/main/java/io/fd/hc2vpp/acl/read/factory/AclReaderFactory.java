@@ -22,8 +22,10 @@ import static io.fd.hc2vpp.acl.read.factory.InterfaceAclReaderFactory.ACL_INGRES
 import com.google.common.collect.ImmutableSet;
 import com.google.inject.Inject;
 import com.google.inject.name.Named;
+import io.fd.hc2vpp.acl.AclConfiguration;
 import io.fd.hc2vpp.acl.AclModule;
 import io.fd.hc2vpp.acl.read.AclCustomizer;
+import io.fd.hc2vpp.acl.read.AclStateIndex;
 import io.fd.hc2vpp.acl.util.AclContextManager;
 import io.fd.hc2vpp.acl.util.factory.AclFactory;
 import io.fd.honeycomb.translate.impl.read.GenericInitListReader;
@@ -49,6 +51,9 @@ public class AclReaderFactory implements ReaderFactory, AclFactory {
     @Named(AclModule.MAC_IP_ACL_CONTEXT_NAME)
     private AclContextManager macIpAClContext;
 
+    @Inject
+    private AclConfiguration configuration;
+
     private static final InstanceIdentifier<AccessLists> ACLS_ID = InstanceIdentifier.create(AccessLists.class);
     private static final InstanceIdentifier<Acl> ACL_ID = ACLS_ID.child(Acl.class);
 
@@ -58,7 +63,10 @@ public class AclReaderFactory implements ReaderFactory, AclFactory {
 
         registry.subtreeAddBefore(vppAclChildren(InstanceIdentifier.create(Acl.class)),
             new GenericInitListReader<>(ACL_ID,
-                new AclCustomizer(futureAclFacade, standardAclContext, macIpAClContext)),
+                new AclCustomizer(futureAclFacade, standardAclContext, macIpAClContext,
+                    configuration.isSingleDumpStateReadEnabled()
+                        ? new AclStateIndex(futureAclFacade)
+                        : null)),
             ImmutableSet.of(ACL_INGRESS_IID, ACL_EGRESS_IID));
     }
 }
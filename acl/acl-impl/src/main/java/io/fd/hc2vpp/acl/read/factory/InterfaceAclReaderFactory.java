@@ -18,7 +18,9 @@ package io.fd.hc2vpp.acl.read.factory;
 
 import com.google.inject.Inject;
 import com.google.inject.name.Named;
+import io.fd.hc2vpp.acl.AclConfiguration;
 import io.fd.hc2vpp.acl.AclModule;
+import io.fd.hc2vpp.acl.read.AclStateIndex;
 import io.fd.hc2vpp.acl.read.EgressVppAclCustomizer;
 import io.fd.hc2vpp.acl.read.IngressVppAclCustomizer;
 import io.fd.hc2vpp.acl.read.VppMacIpAclCustomizer;
@@ -61,6 +63,9 @@ public class InterfaceAclReaderFactory implements ReaderFactory {
     @Named("interface-context")
     private NamingContext interfaceContext;
 
+    @Inject
+    private AclConfiguration configuration;
+
     private static final InstanceIdentifier<Interface>
         IFC_ID = InstanceIdentifier.create(InterfacesState.class).child(Interface.class);
     private static final InstanceIdentifier<VppAclInterfaceStateAugmentation> VPP_ACL_AUG_IID =
@@ -74,14 +79,18 @@ public class InterfaceAclReaderFactory implements ReaderFactory {
         registry.addStructuralReader(VPP_ACL_AUG_IID, VppAclInterfaceStateAugmentationBuilder.class);
         registry.addStructuralReader(ACL_IID, AclBuilder.class);
 
+        final AclStateIndex stateIndex = configuration.isSingleDumpStateReadEnabled()
+            ? new AclStateIndex(futureAclFacade)
+            : null;
+
         registry.addStructuralReader(ACL_INGRESS_IID, IngressBuilder.class);
         registry.addAfter(new GenericInitListReader<>(ACL_INGRESS_IID.child(VppAcls.class),
-            new IngressVppAclCustomizer(futureAclFacade, interfaceContext, standardAclContext)), IFC_ID);
+            new IngressVppAclCustomizer(futureAclFacade, interfaceContext, standardAclContext, stateIndex)), IFC_ID);
         registry.addAfter(new GenericInitReader<>(ACL_INGRESS_IID.child(VppMacipAcl.class),
-            new VppMacIpAclCustomizer(futureAclFacade, interfaceContext, macIpAClContext)), IFC_ID);
+            new VppMacIpAclCustomizer(futureAclFacade, interfaceContext, macIpAClContext, stateIndex)), IFC_ID);
 
         registry.addStructuralReader(ACL_EGRESS_IID, EgressBuilder.class);
         registry.addAfter(new GenericInitListReader<>(ACL_EGRESS_IID.child(VppAcls.class),
-            new EgressVppAclCustomizer(futureAclFacade, interfaceContext, standardAclContext)), IFC_ID);
+            new EgressVppAclCustomizer(futureAclFacade, interfaceContext, standardAclContext, stateIndex)), IFC_ID);
     }
 }
@@ -27,7 +27,8 @@ import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.access.cont
 public interface AclContextManager {
 
     /**
-     * Creates metadata for ACL. Existing mapping is overwritten if exists.
+     * Creates metadata for ACL. Existing mapping is updated to match given aces, only changed ace mappings are
+     * written.
      * @param id   ACL index
      * @param name ACL name
      * @param aces list of aces used to create rule-name to index mapping
@@ -21,11 +21,18 @@ import static com.google.common.base.Preconditions.checkState;
 import static java.util.Objects.requireNonNull;
 
 import com.google.common.base.Optional;
+import com.google.common.util.concurrent.Striped;
+import io.fd.hc2vpp.common.translate.util.ContextIndex;
+import io.fd.hc2vpp.common.translate.util.MappingContextIndex;
 import io.fd.honeycomb.translate.MappingContext;
 import io.fd.honeycomb.translate.util.RWUtils;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.Lock;
 import java.util.stream.Collector;
 import javax.annotation.Nonnull;
 import javax.annotation.concurrent.ThreadSafe;
@@ -45,33 +52,56 @@ import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
 import org.opendaylight.yangtools.yang.binding.KeyedInstanceIdentifier;
 
 /**
- * Facade on top of {@link MappingContext} that manages {@link VppAclContext}.
+ * Facade on top of {@link MappingContext} that manages {@link VppAclContext}. Lookups do not lock, creation of
+ * artificial ace mappings is serialized per ACL.
+ * <p/>
+ * ACL index to name lookups are served from an in-memory index, built from context data the first time
+ * a {@link MappingContext} instance is used and kept up to date by {@link #addAcl} and {@link #removeAcl}
+ * afterwards, so it assumes the mapping context is transaction scoped.
  */
 @ThreadSafe
 public final class AclContextManagerImpl implements AclContextManager {
 
-    private static final Collector<AclMapping, ?, AclMapping> SINGLE_ITEM_ACL_COLLECTOR =
-        RWUtils.singleItemCollector();
-
     private static final Collector<AceMapping, ?, AceMapping> SINGLE_ITEM_ACE_COLLECTOR =
         RWUtils.singleItemCollector();
 
+    private static final int LOCK_STRIPES = 64;
+
     private final InstanceIdentifier<VppAclContext> ctxIid;
 
+    private final Striped<Lock> aclNameLocks = Striped.lock(LOCK_STRIPES);
+
     private final String artificialNamePrefix;
 
+    private final MappingContextIndex<ContextIndex<Integer, String>> nameIndexes;
+
     public AclContextManagerImpl(@Nonnull final String artificialNamePrefix, @Nonnull final String aclContextName) {
         this.artificialNamePrefix = requireNonNull(artificialNamePrefix, "artificialNamePrefix should not be null");
         requireNonNull(aclContextName, "aclContextName should not be null");
         this.ctxIid = InstanceIdentifier.create(Contexts.class)
             .augmentation(VppAclContextAugmentation.class).child(VppAclMappings.class)
             .child(VppAclContext.class, new VppAclContextKey(aclContextName));
+        this.nameIndexes = new MappingContextIndex<>(this::buildNameIndex);
     }
 
     @Override
-    public synchronized void addAcl(final int id, @Nonnull final String name, @Nonnull final List<Ace> aces,
-                                    @Nonnull final MappingContext ctx) {
+    public void addAcl(final int id, @Nonnull final String name, @Nonnull final List<Ace> aces,
+                       @Nonnull final MappingContext ctx) {
+        nameIndexes.update(ctx, () -> putAclMapping(id, name, aces, ctx), nameIndex -> {
+            nameIndex.put(name, id);
+            return true;
+        });
+    }
+
+    private void putAclMapping(final int id, @Nonnull final String name, @Nonnull final List<Ace> aces,
+                               @Nonnull final MappingContext ctx) {
         final KeyedInstanceIdentifier<AclMapping, AclMappingKey> mappingIid = getAclIid(name);
+        final Optional<AclMapping> existing = ctx.read(mappingIid);
+        if (existing.isPresent() && Integer.valueOf(id).equals(existing.get().getIndex())
+                && patchAceMappings(mappingIid, existing.get(), aces, ctx)) {
+            return;
+        }
+
         final AclMappingBuilder aclMapping = new AclMappingBuilder().setIndex(id).setName(name);
 
         final List<AceMapping> mappings = new ArrayList<>(aces.size());
@@ -83,37 +113,80 @@ public final class AclContextManagerImpl implements AclContextManager {
         ctx.put(mappingIid, aclMapping.build());
     }
 
+    /**
+     * Writes only ace mappings that were added, removed or moved to other index. If most of the mappings changed
+     * (e.g. rule was inserted at the beginning of the acl), writing whole acl mapping is cheaper.
+     *
+     * @return true if mappings were patched, false if whole acl mapping needs to be written
+     */
+    private boolean patchAceMappings(@Nonnull final KeyedInstanceIdentifier<AclMapping, AclMappingKey> mappingIid,
+                                     @Nonnull final AclMapping existing, @Nonnull final List<Ace> aces,
+                                     @Nonnull final MappingContext ctx) {
+        final List<AceMapping> existingMappings = existing.getAceMapping() == null
+                ? Collections.emptyList()
+                : existing.getAceMapping();
+        final Map<String, Integer> existingIndexes = new HashMap<>(existingMappings.size() * 4 / 3 + 1);
+        existingMappings.forEach(mapping -> existingIndexes.put(mapping.getName(), mapping.getIndex()));
+
+        final List<AceMapping> changed = new ArrayList<>();
+        int aceIndex = 0;
+        for (final Ace ace : aces) {
+            final Integer existingIndex = existingIndexes.remove(ace.getRuleName());
+            if (existingIndex == null || existingIndex != aceIndex) {
+                changed.add(new AceMappingBuilder().setName(ace.getRuleName()).setIndex(aceIndex).build());
+            }
+            aceIndex++;
+        }
+        // mappings of removed aces remained
+        final Set<String> removed = existingIndexes.keySet();
+
+        if (changed.size() + removed.size() > aces.size() / 2) {
+            return false;
+        }
+        removed.forEach(aceName -> ctx.delete(getAceIid(mappingIid, aceName)));
+        changed.forEach(mapping -> ctx.put(getAceIid(mappingIid, mapping.getName()), mapping));
+        return true;
+    }
+
     @Override
-    public synchronized boolean containsAcl(@Nonnull final String name, @Nonnull final MappingContext ctx) {
+    public boolean containsAcl(@Nonnull final String name, @Nonnull final MappingContext ctx) {
         final Optional<AclMapping> read = ctx.read(getAclIid(name));
         return read.isPresent();
     }
 
     @Override
-    public synchronized int getAclIndex(@Nonnull final String name, @Nonnull final MappingContext ctx) {
+    public int getAclIndex(@Nonnull final String name, @Nonnull final MappingContext ctx) {
         final Optional<AclMapping> read = ctx.read(getAclIid(name));
         checkArgument(read.isPresent(), "No mapping stored for name: %s", name);
         return read.get().getIndex();
     }
 
     @Override
-    public synchronized String getAclName(final int id, @Nonnull final MappingContext ctx) {
-        if (!containsAclName(id, ctx)) {
-            final String artificialName = getArtificialAclName(id);
-            addAcl(id, artificialName, Collections.emptyList(), ctx);
+    public String getAclName(final int id, @Nonnull final MappingContext ctx) {
+        final String name = nameIndexes.get(ctx).get(id);
+        if (name != null) {
+            return name;
         }
 
-        final Optional<VppAclContext> read = ctx.read(ctxIid);
-        checkState(read.isPresent(), "VppAclContext for index: %s is not present. But should be", id);
-
-        return read.get().getAclMapping().stream()
-            .filter(t -> t.getIndex().equals(id))
-            .collect(SINGLE_ITEM_ACL_COLLECTOR).getName();
+        return nameIndexes.locked(ctx, nameIndex -> {
+            // check again, mapping might have been added meanwhile
+            final String storedName = nameIndex.get(id);
+            if (storedName != null) {
+                return storedName;
+            }
+            final String artificialName = getArtificialAclName(id);
+            addAcl(id, artificialName, Collections.emptyList(), ctx);
+            return artificialName;
+        });
     }
 
-    private boolean containsAclName(final int id, @Nonnull final MappingContext mappingContext) {
-        final Optional<VppAclContext> read = mappingContext.read(ctxIid);
-        return read.isPresent() && read.get().getAclMapping().stream().anyMatch(t -> t.getIndex().equals(id));
+    private ContextIndex<Integer, String> buildNameIndex(@Nonnull final MappingContext ctx) {
+        final ContextIndex<Integer, String> nameIndex = new ContextIndex<>();
+        final Optional<VppAclContext> context = ctx.read(ctxIid);
+        if (context.isPresent() && context.get().getAclMapping() != null) {
+            context.get().getAclMapping().forEach(mapping -> nameIndex.put(mapping.getName(), mapping.getIndex()));
+        }
+        return nameIndex;
     }
 
     private String getArtificialAclName(final int index) {
@@ -121,16 +194,25 @@ public final class AclContextManagerImpl implements AclContextManager {
     }
 
     @Override
-    public synchronized void removeAcl(@Nonnull final String name, @Nonnull final MappingContext ctx) {
-        ctx.delete(getAclIid(name));
+    public void removeAcl(@Nonnull final String name, @Nonnull final MappingContext ctx) {
+        nameIndexes.update(ctx, () -> ctx.delete(getAclIid(name)), nameIndex -> nameIndex.remove(name));
     }
 
     @Override
-    public synchronized String getAceName(@Nonnull final String aclName, final int aceIndex,
-                                          @Nonnull final MappingContext ctx) {
+    public String getAceName(@Nonnull final String aclName, final int aceIndex,
+                             @Nonnull final MappingContext ctx) {
         if (!containsAceName(aclName, aceIndex, ctx)) {
-            final String artificialName = getArtificialAceName(aceIndex);
-            addAce(aclName, aceIndex, artificialName, ctx);
+            final Lock lock = aclNameLocks.get(aclName);
+            lock.lock();
+            try {
+                // check again, mapping might have been added meanwhile
+                if (!containsAceName(aclName, aceIndex, ctx)) {
+                    final String artificialName = getArtificialAceName(aceIndex);
+                    addAce(aclName, aceIndex, artificialName, ctx);
+                }
+            } finally {
+                lock.unlock();
+            }
         }
 
         final Optional<AclMapping> read = ctx.read(getAclIid(aclName));
@@ -154,13 +236,16 @@ public final class AclContextManagerImpl implements AclContextManager {
         return ctxIid.child(AclMapping.class, new AclMappingKey(name));
     }
 
+    private static KeyedInstanceIdentifier<AceMapping, AceMappingKey> getAceIid(
+        @Nonnull final KeyedInstanceIdentifier<AclMapping, AclMappingKey> aclIid, @Nonnull final String aceName) {
+        return aclIid.child(AceMapping.class, new AceMappingKey(aceName));
+    }
+
     private void addAce(@Nonnull final String aclName, final int aceIndex, @Nonnull final String aceName,
                         @Nonnull final MappingContext ctx) {
         final AceMappingBuilder aceMapping = new AceMappingBuilder();
         aceMapping.setIndex(aceIndex);
         aceMapping.setName(aceName);
-        final KeyedInstanceIdentifier<AceMapping, AceMappingKey> iid =
-            getAclIid(aclName).child(AceMapping.class, new AceMappingKey(aceName));
-        ctx.put(iid, aceMapping.build());
+        ctx.put(getAceIid(getAclIid(aclName), aceName), aceMapping.build());
     }
 }
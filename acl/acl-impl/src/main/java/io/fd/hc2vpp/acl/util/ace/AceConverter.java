@@ -45,61 +45,65 @@ public interface AceConverter extends MacIpAceDataExtractor, StandardAceDataExtr
 
     default MacipAclRule[] toMacIpAclRules(@Nonnull final List<Ace> aces) {
         return aces.stream()
-                .map(ace -> {
-                    final VppMacipAce macIpAce = fromMacIpAce(ace);
-
-                    MacipAclRule rule = new MacipAclRule();
-
-                    rule.srcMac = sourceMacAsBytes(macIpAce);
-                    rule.srcMacMask = sourceMacMaskAsBytes(macIpAce);
-                    rule.isPermit = macIpAction(ace);
-
-                    if (macIpIsIpv6(macIpAce)) {
-                        rule.isIpv6 = 1;
-                        rule.srcIpAddr = ipv6Address(macIpAce);
-                        rule.srcIpPrefixLen = ipv6AddressPrefix(macIpAce);
-                    } else {
-                        rule.isIpv6 = 0;
-                        rule.srcIpAddr = ipv4Address(macIpAce);
-                        rule.srcIpPrefixLen = ipv4AddressPrefix(macIpAce);
-                    }
-
-                    return rule;
-                })
+                .map(this::toMacIpAclRule)
                 .collect(Collectors.toList())
                 .toArray(new MacipAclRule[aces.size()]);
     }
 
+    default MacipAclRule toMacIpAclRule(@Nonnull final Ace ace) {
+        final VppMacipAce macIpAce = fromMacIpAce(ace);
+
+        MacipAclRule rule = new MacipAclRule();
+
+        rule.srcMac = sourceMacAsBytes(macIpAce);
+        rule.srcMacMask = sourceMacMaskAsBytes(macIpAce);
+        rule.isPermit = macIpAction(ace);
+
+        if (macIpIsIpv6(macIpAce)) {
+            rule.isIpv6 = 1;
+            rule.srcIpAddr = ipv6Address(macIpAce);
+            rule.srcIpPrefixLen = ipv6AddressPrefix(macIpAce);
+        } else {
+            rule.isIpv6 = 0;
+            rule.srcIpAddr = ipv4Address(macIpAce);
+            rule.srcIpPrefixLen = ipv4AddressPrefix(macIpAce);
+        }
+
+        return rule;
+    }
+
     default AclRule[] toStandardAclRules(@Nonnull final List<Ace> aces) {
         return aces.stream()
-                .map(ace -> {
-                    final VppAce standardAce = fromStandardAce(ace);
-
-                    // pre-bind rule with protocol based attributes (if present)
-                    AclRule rule = createPreBindRule(standardAce);
-
-                    rule.isPermit = standardAction(ace);
-
-                    if (standardIsIpv6(standardAce, ace.getMatches())) {
-                        rule.isIpv6 = 1;
-                        rule.srcIpAddr = ipv6SourceAddress(standardAce);
-                        rule.srcIpPrefixLen = ipv6SourceAddressPrefix(standardAce);
-                        rule.dstIpAddr = ipv6DestinationAddress(standardAce);
-                        rule.dstIpPrefixLen = ipv6DestinationAddressPrefix(standardAce);
-                    } else {
-                        rule.isIpv6 = 0;
-                        rule.srcIpAddr = ipv4SourceAddress(standardAce);
-                        rule.srcIpPrefixLen = ipv4SourceAddressPrefix(standardAce);
-                        rule.dstIpAddr = ipv4DestinationAddress(standardAce);
-                        rule.dstIpPrefixLen = ipv4DestinationAddressPrefix(standardAce);
-                    }
-
-                    return rule;
-                })
+                .map(this::toStandardAclRule)
                 .collect(Collectors.toList())
                 .toArray(new AclRule[aces.size()]);
     }
 
+    default AclRule toStandardAclRule(@Nonnull final Ace ace) {
+        final VppAce standardAce = fromStandardAce(ace);
+
+        // pre-bind rule with protocol based attributes (if present)
+        AclRule rule = createPreBindRule(standardAce);
+
+        rule.isPermit = standardAction(ace);
+
+        if (standardIsIpv6(standardAce, ace.getMatches())) {
+            rule.isIpv6 = 1;
+            rule.srcIpAddr = ipv6SourceAddress(standardAce);
+            rule.srcIpPrefixLen = ipv6SourceAddressPrefix(standardAce);
+            rule.dstIpAddr = ipv6DestinationAddress(standardAce);
+            rule.dstIpPrefixLen = ipv6DestinationAddressPrefix(standardAce);
+        } else {
+            rule.isIpv6 = 0;
+            rule.srcIpAddr = ipv4SourceAddress(standardAce);
+            rule.srcIpPrefixLen = ipv4SourceAddressPrefix(standardAce);
+            rule.dstIpAddr = ipv4DestinationAddress(standardAce);
+            rule.dstIpPrefixLen = ipv4DestinationAddressPrefix(standardAce);
+        }
+
+        return rule;
+    }
+
     default List<Ace> toMacIpAces(final String aclName, @Nonnull MacipAclRule[] rules,
                                   @Nonnull final AclContextManager macipAclContext,
                                   @Nonnull final MappingContext mappingContext) {
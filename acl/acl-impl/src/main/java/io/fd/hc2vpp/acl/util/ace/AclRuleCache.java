@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2017 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.fd.hc2vpp.acl.util.ace;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.ThreadSafe;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.access.control.list.rev160708.access.lists.acl.access.list.entries.Ace;
+
+/**
+ * Keeps vpp rules compiled from ACEs of every ACL written by honeycomb. Rules are keyed by ACL name and ACE content,
+ * so update of an ACL converts only added or changed ACEs and reuses rules of the unchanged ones.
+ * <p/>
+ * Cached rules are shared by subsequent requests and must not be modified.
+ *
+ * @param <R> type of vpp rule
+ */
+@ThreadSafe
+public final class AclRuleCache<R> {
+
+    private final ConcurrentMap<String, Map<Ace, R>> rulesByAcl = new ConcurrentHashMap<>();
+    private final Function<Ace, R> converter;
+    private final IntFunction<R[]> arrayFactory;
+
+    /**
+     * @param converter    converts single ACE to vpp rule
+     * @param arrayFactory creates array of rules of given size
+     */
+    public AclRuleCache(@Nonnull final Function<Ace, R> converter, @Nonnull final IntFunction<R[]> arrayFactory) {
+        this.converter = requireNonNull(converter, "converter should not be null");
+        this.arrayFactory = requireNonNull(arrayFactory, "arrayFactory should not be null");
+    }
+
+    /**
+     * Converts ACEs of ACL to vpp rules, reusing rules of ACEs, that were present in previous version of the ACL.
+     * Rules of ACEs not present in the ACL anymore are dropped.
+     *
+     * @param aclName name of the ACL
+     * @param aces    all ACEs of the ACL
+     * @return vpp rules in the order of ACEs
+     */
+    public R[] compile(@Nonnull final String aclName, @Nonnull final List<Ace> aces) {
+        final Map<Ace, R> previous = rulesByAcl.getOrDefault(aclName, Collections.emptyMap());
+        final Map<Ace, R> current = new HashMap<>(aces.size() * 4 / 3 + 1);
+        final R[] rules = arrayFactory.apply(aces.size());
+        int i = 0;
+        for (final Ace ace : aces) {
+            R rule = previous.get(ace);
+            if (rule == null) {
+                rule = current.computeIfAbsent(ace, converter);
+            } else {
+                current.put(ace, rule);
+            }
+            rules[i++] = rule;
+        }
+        rulesByAcl.put(aclName, current);
+        return rules;
+    }
+
+    /**
+     * Drops rules of removed ACL.
+     */
+    public void invalidate(@Nonnull final String aclName) {
+        rulesByAcl.remove(aclName);
+    }
+}
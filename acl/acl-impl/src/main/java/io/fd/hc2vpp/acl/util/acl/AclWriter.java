@@ -18,6 +18,7 @@ package io.fd.hc2vpp.acl.util.acl;
 
 import io.fd.hc2vpp.acl.util.AclContextManager;
 import io.fd.hc2vpp.acl.util.ace.AceConverter;
+import io.fd.hc2vpp.acl.util.ace.AclRuleCache;
 import io.fd.hc2vpp.common.translate.util.JvppReplyConsumer;
 import io.fd.honeycomb.translate.MappingContext;
 import io.fd.honeycomb.translate.write.WriteFailedException;
@@ -28,6 +29,8 @@ import io.fd.vpp.jvpp.acl.dto.MacipAclAdd;
 import io.fd.vpp.jvpp.acl.dto.MacipAclAddReply;
 import io.fd.vpp.jvpp.acl.dto.MacipAclDel;
 import io.fd.vpp.jvpp.acl.future.FutureJVppAclFacade;
+import io.fd.vpp.jvpp.acl.types.AclRule;
+import io.fd.vpp.jvpp.acl.types.MacipAclRule;
 import java.util.List;
 import javax.annotation.Nonnull;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.access.control.list.rev160708.access.lists.Acl;
@@ -44,6 +47,7 @@ public interface AclWriter extends AclDataExtractor, AceConverter, JvppReplyCons
     default void addStandardAcl(@Nonnull final FutureJVppAclFacade futureFacade,
                                 @Nonnull final InstanceIdentifier<Acl> id, @Nonnull final Acl acl,
                                 @Nonnull final AclContextManager standardAclContext,
+                                @Nonnull final AclRuleCache<AclRule> ruleCache,
                                 @Nonnull final MappingContext mappingContext) throws WriteFailedException {
 
         final AclAddReplace request = new AclAddReplace();
@@ -52,7 +56,7 @@ public interface AclWriter extends AclDataExtractor, AceConverter, JvppReplyCons
         request.aclIndex = ACL_INDEX_CREATE_NEW;
 
         final List<Ace> aces = getAces(acl);
-        request.r = toStandardAclRules(aces);
+        request.r = ruleCache.compile(acl.getAclName(), aces);
         request.count = request.r.length;
 
         final AclAddReplaceReply reply =
@@ -66,6 +70,7 @@ public interface AclWriter extends AclDataExtractor, AceConverter, JvppReplyCons
     default void updateStandardAcl(@Nonnull final FutureJVppAclFacade futureFacade,
                                    @Nonnull final InstanceIdentifier<Acl> id, @Nonnull final Acl acl,
                                    @Nonnull final AclContextManager standardAclContext,
+                                   @Nonnull final AclRuleCache<AclRule> ruleCache,
                                    @Nonnull final MappingContext mappingContext) throws WriteFailedException {
 
         final AclAddReplace request = new AclAddReplace();
@@ -75,12 +80,13 @@ public interface AclWriter extends AclDataExtractor, AceConverter, JvppReplyCons
         request.aclIndex = standardAclContext.getAclIndex(acl.getAclName(), mappingContext);
 
         final List<Ace> aces = getAces(acl);
-        request.r = toStandardAclRules(aces);
+        // only rules of changed aces are converted
+        request.r = ruleCache.compile(acl.getAclName(), aces);
         request.count = request.r.length;
 
         final AclAddReplaceReply reply = getReplyForWrite(futureFacade.aclAddReplace(request).toCompletableFuture(), id);
 
-        // overwrites existing acl metadata (aces might have been changed):
+        // updates existing acl metadata (aces might have been changed):
         standardAclContext.addAcl(reply.aclIndex, acl.getAclName(), aces, mappingContext);
     }
 
@@ -102,13 +108,14 @@ public interface AclWriter extends AclDataExtractor, AceConverter, JvppReplyCons
     default void addMacIpAcl(@Nonnull final FutureJVppAclFacade futureFacade,
                              @Nonnull final InstanceIdentifier<Acl> id, @Nonnull final Acl acl,
                              @Nonnull final AclContextManager macIpAclContext,
+                             @Nonnull final AclRuleCache<MacipAclRule> ruleCache,
                              @Nonnull final MappingContext mappingContext) throws WriteFailedException {
         final MacipAclAdd request = new MacipAclAdd();
 
         request.tag = getAclTag(acl);
 
         final List<Ace> aces = getAces(acl);
-        request.r = toMacIpAclRules(aces);
+        request.r = ruleCache.compile(acl.getAclName(), aces);
         request.count = request.r.length;
 
         final MacipAclAddReply reply = getReplyForWrite(futureFacade.macipAclAdd(request).toCompletableFuture(), id);
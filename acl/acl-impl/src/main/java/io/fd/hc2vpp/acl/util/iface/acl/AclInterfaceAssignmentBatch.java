@@ -0,0 +1,188 @@
+/*
+ * Copyright (c) 2017 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.acl.util.iface.acl;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static io.fd.hc2vpp.acl.util.iface.acl.AclInterfaceAssignmentRequest.aclIndexes;
+import static io.fd.hc2vpp.acl.util.iface.acl.AclInterfaceAssignmentRequest.createRequest;
+import static java.util.stream.Collectors.toList;
+
+import io.fd.hc2vpp.acl.util.AclContextManager;
+import io.fd.hc2vpp.common.translate.util.BulkRequestWriter;
+import io.fd.hc2vpp.common.translate.util.BulkRequestWriter.Change;
+import io.fd.hc2vpp.common.translate.util.NamingContext;
+import io.fd.honeycomb.translate.MappingContext;
+import io.fd.honeycomb.translate.write.WriteFailedException;
+import io.fd.vpp.jvpp.acl.dto.AclInterfaceSetAclList;
+import io.fd.vpp.jvpp.acl.dto.AclInterfaceSetAclListReply;
+import io.fd.vpp.jvpp.acl.future.FutureJVppAclFacade;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Supplier;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.interfaces.rev140508.interfaces.Interface;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang._interface.acl.rev161214.VppAclsBaseAttributes;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang._interface.acl.rev161214._interface.acl.attributes.Acl;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang._interface.acl.rev161214.vpp.acls.base.attributes.VppAcls;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Assigns ACLs to multiple interfaces, keeping bounded number of acl_interface_set_acl_list requests in flight,
+ * see {@link BulkRequestWriter}.
+ * <p/>
+ * Indexes of all interfaces and ACLs are resolved up front from single snapshot of mapping context, so that
+ * mapping context is not locked while waiting for VPP replies. If any assignment can't be resolved, nothing is sent.
+ */
+public final class AclInterfaceAssignmentBatch {
+
+    private static final Logger LOG = LoggerFactory.getLogger(AclInterfaceAssignmentBatch.class);
+
+    private final MappingContext mappingContext;
+    private final NamingContext interfaceContext;
+    private final AclContextManager standardAclContext;
+    private final List<Assignment> assignments = new ArrayList<>();
+
+    public AclInterfaceAssignmentBatch(@Nonnull final MappingContext mappingContext,
+                                       @Nonnull final NamingContext interfaceContext,
+                                       @Nonnull final AclContextManager standardAclContext) {
+        this.mappingContext = checkNotNull(mappingContext, "Mapping context cannot be null");
+        this.interfaceContext = checkNotNull(interfaceContext, "Interface context cannot be null");
+        this.standardAclContext = checkNotNull(standardAclContext, "ACL context cannot be null");
+    }
+
+    public AclInterfaceAssignmentBatch create(@Nonnull final InstanceIdentifier<Acl> id, @Nonnull final Acl dataAfter) {
+        assignments.add(new Assignment(id, null, dataAfter));
+        return this;
+    }
+
+    public AclInterfaceAssignmentBatch update(@Nonnull final InstanceIdentifier<Acl> id, @Nonnull final Acl dataBefore,
+                                              @Nonnull final Acl dataAfter) {
+        assignments.add(new Assignment(id, dataBefore, dataAfter));
+        return this;
+    }
+
+    /**
+     * Removes all ACLs from interface, just in case they were set by other means.
+     */
+    public AclInterfaceAssignmentBatch delete(@Nonnull final InstanceIdentifier<Acl> id,
+                                              @Nonnull final Acl dataBefore) {
+        assignments.add(new Assignment(id, dataBefore, null));
+        return this;
+    }
+
+    public int size() {
+        return assignments.size();
+    }
+
+    public void execute(@Nonnull final FutureJVppAclFacade api, @Nonnull final BulkRequestWriter writer)
+            throws WriteFailedException {
+        if (assignments.isEmpty()) {
+            return;
+        }
+
+        final Map<Change, Throwable> resolveFailures = new LinkedHashMap<>();
+        final List<Change> changes = resolve(api, resolveFailures);
+        if (!resolveFailures.isEmpty()) {
+            // nothing was sent yet, so there is nothing to revert
+            throw BulkRequestWriter.toWriteFailedException(resolveFailures);
+        }
+        writer.write(changes);
+    }
+
+    /**
+     * Resolves indexes of interfaces and ACLs of all assignments.
+     *
+     * @param failures collects failures of assignments, that could not be resolved
+     * @return changes sending resolved assignments
+     */
+    private List<Change> resolve(final FutureJVppAclFacade api, final Map<Change, Throwable> failures) {
+        final List<Change> changes = new ArrayList<>(assignments.size());
+        // locking on mapping context, to prevent modifying of mappings (for both contexts) while resolving the batch
+        synchronized (mappingContext) {
+            for (final Assignment assignment : assignments) {
+                final Change change = assignment.toChange();
+                final int swIfIndex;
+                final AclInterfaceSetAclList request;
+                try {
+                    swIfIndex = interfaceContext.getIndex(assignment.interfaceName, mappingContext);
+                    request = createRequest(swIfIndex,
+                            aclIndexes(aclNames(assignment.after, false), standardAclContext, mappingContext),
+                            aclIndexes(aclNames(assignment.after, true), standardAclContext, mappingContext));
+                } catch (RuntimeException e) {
+                    failures.put(change, e);
+                    continue;
+                }
+                Supplier<CompletionStage<AclInterfaceSetAclListReply>> revert = null;
+                try {
+                    final AclInterfaceSetAclList revertRequest = createRequest(swIfIndex,
+                            aclIndexes(aclNames(assignment.before, false), standardAclContext, mappingContext),
+                            aclIndexes(aclNames(assignment.before, true), standardAclContext, mappingContext));
+                    revert = () -> api.aclInterfaceSetAclList(revertRequest);
+                } catch (RuntimeException e) {
+                    LOG.debug("Assignment for {} cannot be reverted", assignment.id, e);
+                }
+                LOG.debug("Acl interface assignment request {} for {}", request, assignment.id);
+                changes.add(change.request(() -> api.aclInterfaceSetAclList(request), revert));
+            }
+        }
+        return changes;
+    }
+
+    private static List<String> aclNames(@Nullable final Acl acl, final boolean egress) {
+        if (acl == null) {
+            return Collections.emptyList();
+        }
+        final VppAclsBaseAttributes acls = egress
+                ? acl.getEgress()
+                : acl.getIngress();
+        if (acls == null || acls.getVppAcls() == null) {
+            return Collections.emptyList();
+        } else {
+            return acls.getVppAcls().stream().map(VppAcls::getName).collect(toList());
+        }
+    }
+
+    private static final class Assignment {
+        private final InstanceIdentifier<Acl> id;
+        private final String interfaceName;
+        private final Acl before;
+        private final Acl after;
+
+        private Assignment(final InstanceIdentifier<Acl> id, final Acl before, final Acl after) {
+            this.id = id;
+            this.interfaceName = id.firstKeyOf(Interface.class).getName();
+            this.before = before;
+            this.after = after;
+        }
+
+        private Change toChange() {
+            if (before == null) {
+                return Change.create(id, after);
+            } else if (after == null) {
+                return Change.delete(id, before);
+            }
+            return Change.update(id, before, after);
+        }
+    }
+}
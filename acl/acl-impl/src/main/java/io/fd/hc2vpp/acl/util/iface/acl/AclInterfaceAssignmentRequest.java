@@ -17,6 +17,7 @@
 
 package io.fd.hc2vpp.acl.util.iface.acl;
 
+import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 
 import com.google.common.collect.ImmutableList;
@@ -28,9 +29,10 @@ import io.fd.honeycomb.translate.MappingContext;
 import io.fd.honeycomb.translate.write.WriteFailedException;
 import io.fd.vpp.jvpp.acl.dto.AclInterfaceSetAclList;
 import io.fd.vpp.jvpp.acl.future.FutureJVppAclFacade;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
-import java.util.stream.Stream;
+import java.util.stream.IntStream;
 import javax.annotation.Nonnull;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.interfaces.rev140508.interfaces.Interface;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang._interface.acl.rev161214._interface.acl.attributes.Acl;
@@ -43,6 +45,11 @@ import org.slf4j.LoggerFactory;
  */
 public class AclInterfaceAssignmentRequest implements JvppReplyConsumer, ByteDataTranslator {
 
+    /**
+     * Maximum number of ACLs assigned to single interface, limited by u8 count of acl_interface_set_acl_list.
+     */
+    static final int MAX_ACL_COUNT = 255;
+
     private static final Logger LOG = LoggerFactory.getLogger(AclInterfaceAssignmentRequest.class);
 
     private final MappingContext mappingContext;
@@ -156,15 +163,35 @@ public class AclInterfaceAssignmentRequest implements JvppReplyConsumer, ByteDat
 
     // synchronized on higher layer
     private AclInterfaceSetAclList createRequest(final String interfaceName) {
+        return createRequest(interfaceContext.getIndex(interfaceName, mappingContext),
+                aclIndexes(inputAclNames, standardAclContext, mappingContext),
+                aclIndexes(outputAclNames, standardAclContext, mappingContext));
+    }
 
-        AclInterfaceSetAclList request = new AclInterfaceSetAclList();
-        request.swIfIndex = interfaceContext.getIndex(interfaceName, mappingContext);
-        // FIXME (HC2VPP-201): possible overflow
-        request.nInput = (byte) inputAclNames.size();
-        request.count = (byte) (inputAclNames.size() + outputAclNames.size());
-        request.acls = Stream.concat(inputAclNames.stream(), outputAclNames.stream())
+    static int[] aclIndexes(@Nonnull final List<String> aclNames, @Nonnull final AclContextManager standardAclContext,
+                            @Nonnull final MappingContext mappingContext) {
+        return aclNames.stream()
                 .mapToInt(aclName -> standardAclContext.getAclIndex(aclName, mappingContext))
                 .toArray();
+    }
+
+    /**
+     * Creates request assigning ACLs to interface. Counts of ACLs are unsigned bytes in the request, so at most
+     * {@link #MAX_ACL_COUNT} ACLs can be assigned to single interface.
+     */
+    static AclInterfaceSetAclList createRequest(final int swIfIndex, @Nonnull final int[] inputAcls,
+                                                @Nonnull final int[] outputAcls) {
+        final int count = inputAcls.length + outputAcls.length;
+        checkArgument(count <= MAX_ACL_COUNT,
+                "Unable to assign %s ACLs to interface %s, at most %s ACLs per interface are supported",
+                count, swIfIndex, MAX_ACL_COUNT);
+
+        AclInterfaceSetAclList request = new AclInterfaceSetAclList();
+        request.swIfIndex = swIfIndex;
+        // u8 in vpp api, values above 127 are sent as negative bytes
+        request.nInput = (byte) inputAcls.length;
+        request.count = (byte) count;
+        request.acls = IntStream.concat(Arrays.stream(inputAcls), Arrays.stream(outputAcls)).toArray();
         return request;
     }
 }
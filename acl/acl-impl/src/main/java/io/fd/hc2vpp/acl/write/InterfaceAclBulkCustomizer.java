@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2017 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.acl.write;
+
+import io.fd.hc2vpp.acl.util.AclContextManager;
+import io.fd.hc2vpp.acl.util.FutureJVppAclCustomizer;
+import io.fd.hc2vpp.acl.util.iface.acl.AclInterfaceAssignmentBatch;
+import io.fd.hc2vpp.common.translate.util.BulkRequestWriter;
+import io.fd.hc2vpp.common.translate.util.JvppRequestDeadline;
+import io.fd.hc2vpp.common.translate.util.NamingContext;
+import io.fd.honeycomb.translate.spi.write.WriterCustomizer;
+import io.fd.honeycomb.translate.write.WriteContext;
+import io.fd.honeycomb.translate.write.WriteFailedException;
+import io.fd.vpp.jvpp.acl.future.FutureJVppAclFacade;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import javax.annotation.Nonnull;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.interfaces.rev140508.Interfaces;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.interfaces.rev140508.interfaces.Interface;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.interfaces.rev140508.interfaces.InterfaceKey;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang._interface.acl.rev161214.VppAclInterfaceAugmentation;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang._interface.acl.rev161214._interface.acl.attributes.Acl;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Handles acl assignments(only standard ones, mac-ip have dedicated customizer) of all interfaces at once.
+ * Assignments are executed by {@link AclInterfaceAssignmentBatch}, so that multiple requests are in flight.
+ */
+public class InterfaceAclBulkCustomizer extends FutureJVppAclCustomizer implements WriterCustomizer<Interfaces> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(InterfaceAclBulkCustomizer.class);
+
+    private final NamingContext interfaceContext;
+    private final AclContextManager standardAclContext;
+    private final BulkRequestWriter writer;
+
+    public InterfaceAclBulkCustomizer(@Nonnull final FutureJVppAclFacade jVppAclFacade,
+                                      @Nonnull final NamingContext interfaceContext,
+                                      @Nonnull final AclContextManager standardAclContext,
+                                      @Nonnull final BulkRequestWriter writer) {
+        super(jVppAclFacade);
+        this.interfaceContext = interfaceContext;
+        this.standardAclContext = standardAclContext;
+        this.writer = writer;
+    }
+
+    @Override
+    public void writeCurrentAttributes(@Nonnull final InstanceIdentifier<Interfaces> id,
+                                       @Nonnull final Interfaces dataAfter,
+                                       @Nonnull final WriteContext writeContext) throws WriteFailedException {
+        final AclInterfaceAssignmentBatch batch = newBatch(writeContext);
+        acls(dataAfter).forEach((key, acl) -> batch.create(aclId(id, key), acl));
+        execute(batch, writeContext);
+    }
+
+    @Override
+    public void updateCurrentAttributes(@Nonnull final InstanceIdentifier<Interfaces> id,
+                                        @Nonnull final Interfaces dataBefore, @Nonnull final Interfaces dataAfter,
+                                        @Nonnull final WriteContext writeContext) throws WriteFailedException {
+        final Map<InterfaceKey, Acl> before = acls(dataBefore);
+        final Map<InterfaceKey, Acl> after = acls(dataAfter);
+        final AclInterfaceAssignmentBatch batch = newBatch(writeContext);
+        before.forEach((key, aclBefore) -> {
+            final Acl aclAfter = after.get(key);
+            if (aclAfter == null) {
+                batch.delete(aclId(id, key), aclBefore);
+            } else if (!aclAfter.equals(aclBefore)) {
+                batch.update(aclId(id, key), aclBefore, aclAfter);
+            }
+        });
+        after.forEach((key, aclAfter) -> {
+            if (!before.containsKey(key)) {
+                batch.create(aclId(id, key), aclAfter);
+            }
+        });
+        execute(batch, writeContext);
+    }
+
+    @Override
+    public void deleteCurrentAttributes(@Nonnull final InstanceIdentifier<Interfaces> id,
+                                        @Nonnull final Interfaces dataBefore,
+                                        @Nonnull final WriteContext writeContext) throws WriteFailedException {
+        final AclInterfaceAssignmentBatch batch = newBatch(writeContext);
+        acls(dataBefore).forEach((key, acl) -> batch.delete(aclId(id, key), acl));
+        execute(batch, writeContext);
+    }
+
+    private AclInterfaceAssignmentBatch newBatch(final WriteContext writeContext) {
+        return new AclInterfaceAssignmentBatch(writeContext.getMappingContext(), interfaceContext, standardAclContext);
+    }
+
+    private void execute(final AclInterfaceAssignmentBatch batch, final WriteContext writeContext)
+            throws WriteFailedException {
+        LOG.debug("Executing acl assignment for {} interfaces", batch.size());
+        try (JvppRequestDeadline deadline = JvppRequestDeadline.forTransaction(writeContext.getModificationCache())) {
+            batch.execute(getjVppAclFacade(), writer);
+        }
+    }
+
+    private static InstanceIdentifier<Acl> aclId(final InstanceIdentifier<Interfaces> id, final InterfaceKey key) {
+        return id.child(Interface.class, key).augmentation(VppAclInterfaceAugmentation.class).child(Acl.class);
+    }
+
+    private static Map<InterfaceKey, Acl> acls(final Interfaces data) {
+        final Map<InterfaceKey, Acl> acls = new LinkedHashMap<>();
+        Optional.ofNullable(data.getInterface()).orElse(Collections.emptyList()).forEach(iface -> {
+            final VppAclInterfaceAugmentation augmentation =
+                    iface.getAugmentation(VppAclInterfaceAugmentation.class);
+            if (augmentation != null && augmentation.getAcl() != null) {
+                acls.put(iface.getKey(), augmentation.getAcl());
+            }
+        });
+        return acls;
+    }
+}
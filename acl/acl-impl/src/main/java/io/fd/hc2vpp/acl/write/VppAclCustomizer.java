@@ -25,6 +25,7 @@ import static java.util.Optional.ofNullable;
 import com.google.common.base.Optional;
 import io.fd.hc2vpp.acl.util.AclContextManager;
 import io.fd.hc2vpp.acl.util.FutureJVppAclCustomizer;
+import io.fd.hc2vpp.acl.util.ace.AclRuleCache;
 import io.fd.hc2vpp.acl.util.acl.AclDataExtractor;
 import io.fd.hc2vpp.acl.util.acl.AclValidator;
 import io.fd.hc2vpp.acl.util.acl.AclWriter;
@@ -33,6 +34,8 @@ import io.fd.honeycomb.translate.spi.write.ListWriterCustomizer;
 import io.fd.honeycomb.translate.write.WriteContext;
 import io.fd.honeycomb.translate.write.WriteFailedException;
 import io.fd.vpp.jvpp.acl.future.FutureJVppAclFacade;
+import io.fd.vpp.jvpp.acl.types.AclRule;
+import io.fd.vpp.jvpp.acl.types.MacipAclRule;
 import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -58,6 +61,8 @@ public class VppAclCustomizer extends FutureJVppAclCustomizer
 
     private final AclContextManager standardAclContext;
     private final AclContextManager macIpAclContext;
+    private final AclRuleCache<AclRule> standardRuleCache;
+    private final AclRuleCache<MacipAclRule> macIpRuleCache;
 
     public VppAclCustomizer(@Nonnull final FutureJVppAclFacade jVppAclFacade,
                             @Nonnull final AclContextManager standardAclContext,
@@ -65,6 +70,8 @@ public class VppAclCustomizer extends FutureJVppAclCustomizer
         super(jVppAclFacade);
         this.standardAclContext = standardAclContext;
         this.macIpAclContext = macIpAclContext;
+        this.standardRuleCache = new AclRuleCache<>(this::toStandardAclRule, AclRule[]::new);
+        this.macIpRuleCache = new AclRuleCache<>(this::toMacIpAclRule, MacipAclRule[]::new);
     }
 
     @Override
@@ -75,9 +82,9 @@ public class VppAclCustomizer extends FutureJVppAclCustomizer
         final MappingContext mappingContext = writeContext.getMappingContext();
 
         if (isStandardAcl(dataAfter)) {
-            addStandardAcl(getjVppAclFacade(), id, dataAfter, standardAclContext, mappingContext);
+            addStandardAcl(getjVppAclFacade(), id, dataAfter, standardAclContext, standardRuleCache, mappingContext);
         } else if (isMacIpAcl(dataAfter)) {
-            addMacIpAcl(getjVppAclFacade(), id, dataAfter, macIpAclContext, mappingContext);
+            addMacIpAcl(getjVppAclFacade(), id, dataAfter, macIpAclContext, macIpRuleCache, mappingContext);
         } else {
             // double check, first one done by validation
             throw new WriteFailedException.CreateFailedException(id, dataAfter,
@@ -94,14 +101,16 @@ public class VppAclCustomizer extends FutureJVppAclCustomizer
         final MappingContext mappingContext = writeContext.getMappingContext();
 
         if (isStandardAcl(dataAfter)) {
-            updateStandardAcl(getjVppAclFacade(), id, dataAfter, standardAclContext, mappingContext);
+            updateStandardAcl(getjVppAclFacade(), id, dataAfter, standardAclContext, standardRuleCache,
+                    mappingContext);
         } else if (isMacIpAcl(dataAfter)) {
             synchronized (macIpAclContext) {
                 // there is no direct support for update of mac-ip acl, but only one is allowed per interface
                 // so it is atomic from vpp standpoint. Enclosed in synchronized block to prevent issues with
                 // multiple threads managing naming context
+                // rules compiled for acl before update are reused
                 deleteMacIpAcl(getjVppAclFacade(), id, dataBefore, macIpAclContext, mappingContext);
-                addMacIpAcl(getjVppAclFacade(), id, dataAfter, macIpAclContext, mappingContext);
+                addMacIpAcl(getjVppAclFacade(), id, dataAfter, macIpAclContext, macIpRuleCache, mappingContext);
             }
         } else {
             // double check, first one done by validation
@@ -125,8 +134,10 @@ public class VppAclCustomizer extends FutureJVppAclCustomizer
 
         if (isStandardAcl(dataBefore)) {
             deleteStandardAcl(getjVppAclFacade(), id, dataBefore, standardAclContext, mappingContext);
+            standardRuleCache.invalidate(dataBefore.getAclName());
         } else if (isMacIpAcl(dataBefore)) {
             deleteMacIpAcl(getjVppAclFacade(), id, dataBefore, macIpAclContext, mappingContext);
+            macIpRuleCache.invalidate(dataBefore.getAclName());
         } else {
             // double check, first one done by validation
             throw new WriteFailedException.DeleteFailedException(id,
@@ -17,8 +17,12 @@
 package io.fd.hc2vpp.acl.write.factory;
 
 import com.google.common.collect.ImmutableSet;
+import com.google.inject.Inject;
+import io.fd.hc2vpp.acl.AclConfiguration;
+import io.fd.hc2vpp.acl.write.InterfaceAclBulkCustomizer;
 import io.fd.hc2vpp.acl.write.InterfaceAclCustomizer;
 import io.fd.hc2vpp.acl.write.InterfaceAclMacIpCustomizer;
+import io.fd.hc2vpp.common.translate.util.BulkRequestWriter;
 import io.fd.honeycomb.translate.impl.write.GenericWriter;
 import io.fd.honeycomb.translate.write.WriterFactory;
 import io.fd.honeycomb.translate.write.registry.ModifiableWriterRegistryBuilder;
@@ -43,16 +47,41 @@ public class InterfaceAclWriterFactory extends AbstractAclWriterFactory implemen
         InstanceIdentifier.create(Interfaces.class).child(Interface.class);
 
 
+    @Inject
+    private AclConfiguration configuration;
+
+    @Inject
+    private BulkRequestWriter bulkRequestWriter;
+
     @Override
     public void init(@Nonnull final ModifiableWriterRegistryBuilder registry) {
-        registry.subtreeAddAfter(aclHandledChildren(InstanceIdentifier.create(Acl.class)),
-            new GenericWriter<>(ACL_IID,
-                new InterfaceAclCustomizer(futureAclFacade, interfaceContext, standardAclContext)), IFC_ID);
+        if (configuration.isBulkInterfaceAssignmentEnabled()) {
+            registry.subtreeAddAfter(bulkAclHandledChildren(),
+                new GenericWriter<>(InstanceIdentifier.create(Interfaces.class),
+                    new InterfaceAclBulkCustomizer(futureAclFacade, interfaceContext, standardAclContext,
+                        bulkRequestWriter)), IFC_ID);
+        } else {
+            registry.subtreeAddAfter(aclHandledChildren(InstanceIdentifier.create(Acl.class)),
+                new GenericWriter<>(ACL_IID,
+                    new InterfaceAclCustomizer(futureAclFacade, interfaceContext, standardAclContext)), IFC_ID);
+        }
 
         registry.addAfter(new GenericWriter<>(ACL_IID.child(Ingress.class).child(VppMacipAcl.class),
             new InterfaceAclMacIpCustomizer(futureAclFacade, macIpAClContext, interfaceContext)), IFC_ID);
     }
 
+    /**
+     * Acl containers of all interfaces, relative to {@link Interfaces}. Interface itself is handled by its own writers.
+     */
+    static Set<InstanceIdentifier<?>> bulkAclHandledChildren() {
+        final InstanceIdentifier<Acl> aclId = InstanceIdentifier.create(Interfaces.class).child(Interface.class)
+            .augmentation(VppAclInterfaceAugmentation.class).child(Acl.class);
+        return ImmutableSet.<InstanceIdentifier<?>>builder()
+            .add(aclId)
+            .addAll(aclHandledChildren(aclId))
+            .build();
+    }
+
     static Set<InstanceIdentifier<?>> aclHandledChildren(final InstanceIdentifier<Acl> parentId) {
         return ImmutableSet.of(parentId.child(Ingress.class),
             parentId.child(Ingress.class).child(VppAcls.class),
@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2017 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.acl.read;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.MockitoAnnotations.initMocks;
+
+import io.fd.hc2vpp.common.test.util.FutureProducer;
+import io.fd.honeycomb.translate.ModificationCache;
+import io.fd.honeycomb.translate.read.ReadFailedException;
+import io.fd.vpp.jvpp.acl.dto.AclDetails;
+import io.fd.vpp.jvpp.acl.dto.AclDetailsReplyDump;
+import io.fd.vpp.jvpp.acl.dto.AclDump;
+import io.fd.vpp.jvpp.acl.dto.AclInterfaceListDetails;
+import io.fd.vpp.jvpp.acl.dto.AclInterfaceListDetailsReplyDump;
+import io.fd.vpp.jvpp.acl.dto.AclInterfaceListDump;
+import io.fd.vpp.jvpp.acl.future.FutureJVppAclFacade;
+import java.util.ArrayList;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.interfaces.rev140508.InterfacesState;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+
+public class AclStateIndexTest implements FutureProducer {
+
+    private static final InstanceIdentifier<InterfacesState> ID = InstanceIdentifier.create(InterfacesState.class);
+
+    @Mock
+    private FutureJVppAclFacade aclApi;
+
+    private ModificationCache cache;
+    private AclStateIndex index;
+
+    @Before
+    public void setUp() {
+        initMocks(this);
+        cache = new ModificationCache();
+        index = new AclStateIndex(aclApi);
+    }
+
+    @Test
+    public void testInterfaceAclsDumpedOnce() throws ReadFailedException {
+        final AclInterfaceListDetailsReplyDump reply = new AclInterfaceListDetailsReplyDump();
+        reply.aclInterfaceListDetails.add(interfaceAcls(1, 3, 4));
+        reply.aclInterfaceListDetails.add(interfaceAcls(2, 5));
+        when(aclApi.aclInterfaceListDump(any())).thenReturn(future(reply));
+
+        assertSame(reply.aclInterfaceListDetails.get(0), index.getInterfaceAcls(ID, cache, 1));
+        assertSame(reply.aclInterfaceListDetails.get(1), index.getInterfaceAcls(ID, cache, 2));
+        assertNull(index.getInterfaceAcls(ID, cache, 3));
+        // other instances share the index through the cache
+        assertSame(reply.aclInterfaceListDetails.get(1), new AclStateIndex(aclApi).getInterfaceAcls(ID, cache, 2));
+
+        final ArgumentCaptor<AclInterfaceListDump> request = ArgumentCaptor.forClass(AclInterfaceListDump.class);
+        verify(aclApi, times(1)).aclInterfaceListDump(request.capture());
+        assertEquals(-1, request.getValue().swIfIndex);
+    }
+
+    @Test
+    public void testAclsDumpedOnce() throws ReadFailedException {
+        final AclDetailsReplyDump reply = new AclDetailsReplyDump();
+        reply.aclDetails.add(acl(7));
+        reply.aclDetails.add(acl(2));
+        when(aclApi.aclDump(any())).thenReturn(future(reply));
+
+        assertSame(reply.aclDetails.get(0), index.getAcl(ID, cache, 7));
+        assertSame(reply.aclDetails.get(1), index.getAcl(ID, cache, 2));
+        assertNull(index.getAcl(ID, cache, 1));
+        // order of VPP is kept
+        assertEquals(reply.aclDetails, new ArrayList<>(index.getAcls(ID, cache)));
+
+        final ArgumentCaptor<AclDump> request = ArgumentCaptor.forClass(AclDump.class);
+        verify(aclApi, times(1)).aclDump(request.capture());
+        assertEquals(-1, request.getValue().aclIndex);
+    }
+
+    private static AclInterfaceListDetails interfaceAcls(final int swIfIndex, final int... acls) {
+        final AclInterfaceListDetails details = new AclInterfaceListDetails();
+        details.swIfIndex = swIfIndex;
+        details.acls = acls;
+        details.count = (byte) acls.length;
+        details.nInput = (byte) acls.length;
+        return details;
+    }
+
+    private static AclDetails acl(final int aclIndex) {
+        final AclDetails details = new AclDetails();
+        details.aclIndex = aclIndex;
+        return details;
+    }
+}
@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) 2017 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.fd.hc2vpp.acl.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.MockitoAnnotations.initMocks;
+
+import com.google.common.base.Optional;
+import io.fd.honeycomb.translate.MappingContext;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.opendaylight.yang.gen.v1.urn.honeycomb.params.xml.ns.yang.naming.context.rev160513.Contexts;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.access.control.list.rev160708.access.lists.acl.access.list.entries.Ace;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.access.control.list.rev160708.access.lists.acl.access.list.entries.AceBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.vpp.acl.context.rev170104.VppAclContextAugmentation;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.vpp.acl.context.rev170104.vpp.acl.context.attributes.VppAclMappings;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.vpp.acl.context.rev170104.vpp.acl.context.attributes.vpp.acl.mappings.VppAclContext;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.vpp.acl.context.rev170104.vpp.acl.context.attributes.vpp.acl.mappings.VppAclContextBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.vpp.acl.context.rev170104.vpp.acl.context.attributes.vpp.acl.mappings.VppAclContextKey;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.vpp.acl.context.rev170104.vpp.acl.context.attributes.vpp.acl.mappings.vpp.acl.context.AclMapping;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.vpp.acl.context.rev170104.vpp.acl.context.attributes.vpp.acl.mappings.vpp.acl.context.AclMappingBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.vpp.acl.context.rev170104.vpp.acl.context.attributes.vpp.acl.mappings.vpp.acl.context.AclMappingKey;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.vpp.acl.context.rev170104.vpp.acl.context.attributes.vpp.acl.mappings.vpp.acl.context.acl.mapping.AceMapping;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.vpp.acl.context.rev170104.vpp.acl.context.attributes.vpp.acl.mappings.vpp.acl.context.acl.mapping.AceMappingBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.vpp.acl.context.rev170104.vpp.acl.context.attributes.vpp.acl.mappings.vpp.acl.context.acl.mapping.AceMappingKey;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+import org.opendaylight.yangtools.yang.binding.KeyedInstanceIdentifier;
+
+public class AclContextManagerImplTest {
+
+    private static final String CONTEXT_NAME = "acl-context";
+    private static final String ACL_NAME = "acl";
+    private static final int ACL_INDEX = 3;
+    private static final KeyedInstanceIdentifier<VppAclContext, VppAclContextKey> CTX_IID =
+            InstanceIdentifier.create(Contexts.class).augmentation(VppAclContextAugmentation.class)
+                    .child(VppAclMappings.class).child(VppAclContext.class, new VppAclContextKey(CONTEXT_NAME));
+    private static final KeyedInstanceIdentifier<AclMapping, AclMappingKey> ACL_IID =
+            CTX_IID.child(AclMapping.class, new AclMappingKey(ACL_NAME));
+
+    @Mock
+    private MappingContext ctx;
+
+    private AclContextManagerImpl manager;
+
+    @Before
+    public void setUp() {
+        initMocks(this);
+        manager = new AclContextManagerImpl("learned-acl-", CONTEXT_NAME);
+        when(ctx.read(any())).thenReturn(Optional.absent());
+    }
+
+    @Test
+    public void testAddAcl() {
+        manager.addAcl(ACL_INDEX, ACL_NAME, aces("a", "b"), ctx);
+        verify(ctx).put(ACL_IID, aclMapping(ACL_INDEX, "a", "b"));
+    }
+
+    @Test
+    public void testUpdateAclPatchesChangedAces() {
+        when(ctx.read(ACL_IID)).thenReturn(Optional.of(aclMapping(ACL_INDEX, "a", "b", "c", "d", "e")));
+
+        // c replaced with x
+        manager.addAcl(ACL_INDEX, ACL_NAME, aces("a", "b", "x", "d", "e"), ctx);
+
+        verify(ctx).delete(aceIid("c"));
+        verify(ctx).put(aceIid("x"), aceMapping("x", 2));
+        verify(ctx, never()).put(ACL_IID, aclMapping(ACL_INDEX, "a", "b", "x", "d", "e"));
+    }
+
+    @Test
+    public void testUpdateAclRewritesMostlyChangedAces() {
+        when(ctx.read(ACL_IID)).thenReturn(Optional.of(aclMapping(ACL_INDEX, "a", "b", "c", "d")));
+
+        // rule inserted at the beginning moves all the others
+        manager.addAcl(ACL_INDEX, ACL_NAME, aces("x", "a", "b", "c", "d"), ctx);
+
+        verify(ctx).put(ACL_IID, aclMapping(ACL_INDEX, "x", "a", "b", "c", "d"));
+    }
+
+    @Test
+    public void testAddAclWithOtherIndex() {
+        when(ctx.read(ACL_IID)).thenReturn(Optional.of(aclMapping(ACL_INDEX, "a", "b")));
+
+        manager.addAcl(ACL_INDEX + 1, ACL_NAME, aces("a", "b"), ctx);
+
+        verify(ctx).put(ACL_IID, aclMapping(ACL_INDEX + 1, "a", "b"));
+    }
+
+    @Test
+    public void testGetAclNameReadsContextOnce() {
+        when(ctx.read(CTX_IID)).thenReturn(Optional.of(new VppAclContextBuilder()
+                .setName(CONTEXT_NAME)
+                .setAclMapping(Arrays.asList(aclMapping(ACL_INDEX, "a"),
+                        new AclMappingBuilder().setName("other").setIndex(ACL_INDEX + 1).build()))
+                .build()));
+
+        assertEquals(ACL_NAME, manager.getAclName(ACL_INDEX, ctx));
+        assertEquals("other", manager.getAclName(ACL_INDEX + 1, ctx));
+        verify(ctx, times(1)).read(CTX_IID);
+    }
+
+    @Test
+    public void testGetAclNameArtificial() {
+        assertEquals("learned-acl-" + ACL_INDEX, manager.getAclName(ACL_INDEX, ctx));
+        verify(ctx).put(CTX_IID.child(AclMapping.class, new AclMappingKey("learned-acl-" + ACL_INDEX)),
+                new AclMappingBuilder().setName("learned-acl-" + ACL_INDEX).setIndex(ACL_INDEX)
+                        .setAceMapping(Collections.emptyList()).build());
+
+        // served from index afterwards
+        assertEquals("learned-acl-" + ACL_INDEX, manager.getAclName(ACL_INDEX, ctx));
+        verify(ctx, times(1)).read(CTX_IID);
+    }
+
+    @Test
+    public void testGetAclNameAfterRemove() {
+        when(ctx.read(CTX_IID)).thenReturn(Optional.of(new VppAclContextBuilder()
+                .setName(CONTEXT_NAME)
+                .setAclMapping(Collections.singletonList(aclMapping(ACL_INDEX, "a")))
+                .build()));
+        assertEquals(ACL_NAME, manager.getAclName(ACL_INDEX, ctx));
+
+        manager.removeAcl(ACL_NAME, ctx);
+        assertEquals("learned-acl-" + ACL_INDEX, manager.getAclName(ACL_INDEX, ctx));
+    }
+
+    private static KeyedInstanceIdentifier<AceMapping, AceMappingKey> aceIid(final String aceName) {
+        return ACL_IID.child(AceMapping.class, new AceMappingKey(aceName));
+    }
+
+    private static List<Ace> aces(final String... names) {
+        final List<Ace> aces = new ArrayList<>(names.length);
+        Arrays.stream(names).forEach(name -> aces.add(new AceBuilder().setRuleName(name).build()));
+        return aces;
+    }
+
+    private static AceMapping aceMapping(final String name, final int index) {
+        return new AceMappingBuilder().setName(name).setIndex(index).build();
+    }
+
+    private static AclMapping aclMapping(final int index, final String... aceNames) {
+        final List<AceMapping> mappings = new ArrayList<>(aceNames.length);
+        for (int i = 0; i < aceNames.length; i++) {
+            mappings.add(aceMapping(aceNames[i], i));
+        }
+        return new AclMappingBuilder().setIndex(index).setName(ACL_NAME).setAceMapping(mappings).build();
+    }
+}
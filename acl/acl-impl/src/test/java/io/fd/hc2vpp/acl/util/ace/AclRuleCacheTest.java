@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2017 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.fd.hc2vpp.acl.util.ace;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Before;
+import org.junit.Test;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.access.control.list.rev160708.access.lists.acl.access.list.entries.Ace;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.access.control.list.rev160708.access.lists.acl.access.list.entries.AceBuilder;
+
+public class AclRuleCacheTest {
+
+    private static final String ACL_NAME = "acl";
+
+    private final AtomicInteger conversions = new AtomicInteger();
+    private AclRuleCache<String[]> cache;
+
+    @Before
+    public void setUp() {
+        cache = new AclRuleCache<>(ace -> {
+            conversions.incrementAndGet();
+            return new String[] {ace.getRuleName()};
+        }, String[][]::new);
+    }
+
+    @Test
+    public void testCompile() {
+        final String[][] rules = cache.compile(ACL_NAME, Arrays.asList(ace("a"), ace("b")));
+        assertArrayEquals(new String[][] {{"a"}, {"b"}}, rules);
+        assertEquals(2, conversions.get());
+    }
+
+    @Test
+    public void testUpdateConvertsChangedAcesOnly() {
+        final String[][] before = cache.compile(ACL_NAME, Arrays.asList(ace("a"), ace("b"), ace("c")));
+        final String[][] after = cache.compile(ACL_NAME, Arrays.asList(ace("c"), ace("a"), ace("d")));
+
+        assertEquals(4, conversions.get());
+        assertSame(before[2], after[0]);
+        assertSame(before[0], after[1]);
+        assertArrayEquals(new String[] {"d"}, after[2]);
+    }
+
+    @Test
+    public void testRulesOfRemovedAcesDropped() {
+        final String[][] before = cache.compile(ACL_NAME, Arrays.asList(ace("a"), ace("b")));
+        cache.compile(ACL_NAME, Arrays.asList(ace("a")));
+        final String[][] after = cache.compile(ACL_NAME, Arrays.asList(ace("a"), ace("b")));
+
+        assertEquals(3, conversions.get());
+        assertNotSame(before[1], after[1]);
+    }
+
+    @Test
+    public void testAclsCachedSeparately() {
+        cache.compile(ACL_NAME, Arrays.asList(ace("a")));
+        cache.compile("other-acl", Arrays.asList(ace("a")));
+        assertEquals(2, conversions.get());
+    }
+
+    @Test
+    public void testInvalidate() {
+        cache.compile(ACL_NAME, Arrays.asList(ace("a")));
+        cache.invalidate(ACL_NAME);
+        cache.compile(ACL_NAME, Arrays.asList(ace("a")));
+        assertEquals(2, conversions.get());
+    }
+
+    private static Ace ace(final String name) {
+        return new AceBuilder().setRuleName(name).build();
+    }
+}
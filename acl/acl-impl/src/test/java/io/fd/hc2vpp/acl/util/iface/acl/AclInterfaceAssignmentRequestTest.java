@@ -154,6 +154,20 @@ public class AclInterfaceAssignmentRequestTest implements NamingContextHelper, F
         assertTrue(Arrays.equals(new int[]{}, request.acls));
     }
 
+    @Test
+    public void createRequestWithMaxAclCount() {
+        final AclInterfaceSetAclList request =
+                AclInterfaceAssignmentRequest.createRequest(INTERFACE_INDEX, new int[200], new int[55]);
+        assertEquals(255, Byte.toUnsignedInt(request.count));
+        assertEquals(200, Byte.toUnsignedInt(request.nInput));
+        assertEquals(255, request.acls.length);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void createRequestWithTooManyAcls() {
+        AclInterfaceAssignmentRequest.createRequest(INTERFACE_INDEX, new int[200], new int[56]);
+    }
+
     private AclInterfaceAssignmentRequest createValidRequest() {
         return create(mappingContext)
                 .identifier(validIdentifier)
@@ -0,0 +1,185 @@
+/*
+ * Copyright (c) 2017 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.acl.write;
+
+import static java.util.stream.Collectors.toList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.google.common.collect.ImmutableList;
+import io.fd.hc2vpp.acl.AclTestSchemaContext;
+import io.fd.hc2vpp.acl.util.AclContextManager;
+import io.fd.hc2vpp.common.test.write.WriterCustomizerTest;
+import io.fd.hc2vpp.common.translate.util.BulkRequestWriter;
+import io.fd.hc2vpp.common.translate.util.NamingContext;
+import io.fd.honeycomb.translate.write.WriteFailedException;
+import io.fd.vpp.jvpp.acl.dto.AclInterfaceSetAclList;
+import io.fd.vpp.jvpp.acl.dto.AclInterfaceSetAclListReply;
+import io.fd.vpp.jvpp.acl.future.FutureJVppAclFacade;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.interfaces.rev140508.Interfaces;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.interfaces.rev140508.InterfacesBuilder;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.interfaces.rev140508.interfaces.Interface;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.interfaces.rev140508.interfaces.InterfaceBuilder;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.interfaces.rev140508.interfaces.InterfaceKey;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang._interface.acl.rev161214.VppAclInterfaceAugmentation;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang._interface.acl.rev161214.VppAclInterfaceAugmentationBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang._interface.acl.rev161214._interface.acl.attributes.Acl;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang._interface.acl.rev161214._interface.acl.attributes.AclBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang._interface.acl.rev161214._interface.acl.attributes.acl.IngressBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang._interface.acl.rev161214.vpp.acls.base.attributes.VppAcls;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang._interface.acl.rev161214.vpp.acls.base.attributes.VppAclsBuilder;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+
+public class InterfaceAclBulkCustomizerTest extends WriterCustomizerTest implements AclTestSchemaContext {
+
+    private static final String IFC_CTX_NAME = "ifc-test-instance";
+    private static final String IFACE_NAME_1 = "eth0";
+    private static final String IFACE_NAME_2 = "eth1";
+    private static final String IFACE_NAME_3 = "eth2";
+    private static final int IFACE_ID_1 = 1;
+    private static final int IFACE_ID_2 = 2;
+    private static final int IFACE_ID_3 = 3;
+    private static final String ACL_NAME_1 = "acl-1";
+    private static final String ACL_NAME_2 = "acl-2";
+    private static final int ACL_INDEX_1 = 10;
+    private static final int ACL_INDEX_2 = 20;
+    private static final InstanceIdentifier<Interfaces> IFCS_ID = InstanceIdentifier.create(Interfaces.class);
+
+    @Captor
+    private ArgumentCaptor<AclInterfaceSetAclList> requestCaptor;
+    @Mock
+    private FutureJVppAclFacade aclApi;
+    @Mock
+    private AclContextManager standardAclContext;
+
+    private InterfaceAclBulkCustomizer customizer;
+
+    @Override
+    protected void setUpTest() throws Exception {
+        defineMapping(mappingContext, IFACE_NAME_1, IFACE_ID_1, IFC_CTX_NAME);
+        defineMapping(mappingContext, IFACE_NAME_2, IFACE_ID_2, IFC_CTX_NAME);
+        defineMapping(mappingContext, IFACE_NAME_3, IFACE_ID_3, IFC_CTX_NAME);
+        when(standardAclContext.getAclIndex(ACL_NAME_1, mappingContext)).thenReturn(ACL_INDEX_1);
+        when(standardAclContext.getAclIndex(ACL_NAME_2, mappingContext)).thenReturn(ACL_INDEX_2);
+        customizer = new InterfaceAclBulkCustomizer(aclApi, new NamingContext("generatedIfaceName", IFC_CTX_NAME),
+                standardAclContext, new BulkRequestWriter(2));
+        when(aclApi.aclInterfaceSetAclList(any())).thenReturn(future(new AclInterfaceSetAclListReply()));
+    }
+
+    @Test
+    public void testWrite() throws WriteFailedException {
+        customizer.writeCurrentAttributes(IFCS_ID, interfaces(
+                iface(IFACE_NAME_1, acl(ACL_NAME_1)),
+                iface(IFACE_NAME_2, acl(ACL_NAME_1, ACL_NAME_2)),
+                iface(IFACE_NAME_3, null)), writeContext);
+
+        verifyRequests(request(IFACE_ID_1, ACL_INDEX_1), request(IFACE_ID_2, ACL_INDEX_1, ACL_INDEX_2));
+    }
+
+    @Test
+    public void testUpdate() throws WriteFailedException {
+        customizer.updateCurrentAttributes(IFCS_ID,
+                interfaces(
+                        iface(IFACE_NAME_1, acl(ACL_NAME_1)),
+                        iface(IFACE_NAME_2, acl(ACL_NAME_1))),
+                interfaces(
+                        iface(IFACE_NAME_1, acl(ACL_NAME_1)),
+                        iface(IFACE_NAME_2, acl(ACL_NAME_2)),
+                        iface(IFACE_NAME_3, acl(ACL_NAME_1))),
+                writeContext);
+
+        // unchanged interface is skipped
+        verifyRequests(request(IFACE_ID_2, ACL_INDEX_2), request(IFACE_ID_3, ACL_INDEX_1));
+    }
+
+    @Test
+    public void testDelete() throws WriteFailedException {
+        customizer.deleteCurrentAttributes(IFCS_ID, interfaces(
+                iface(IFACE_NAME_1, acl(ACL_NAME_1)),
+                iface(IFACE_NAME_2, acl(ACL_NAME_2))), writeContext);
+
+        verifyRequests(request(IFACE_ID_1), request(IFACE_ID_2));
+    }
+
+    @Test
+    public void testWriteUnknownAcl() {
+        when(standardAclContext.getAclIndex(ACL_NAME_2, mappingContext))
+                .thenThrow(new IllegalArgumentException("No mapping"));
+        try {
+            customizer.writeCurrentAttributes(IFCS_ID, interfaces(
+                    iface(IFACE_NAME_1, acl(ACL_NAME_1)),
+                    iface(IFACE_NAME_2, acl(ACL_NAME_2))), writeContext);
+        } catch (WriteFailedException.CreateFailedException e) {
+            assertEquals(aclId(IFACE_NAME_2), e.getFailedId());
+            // nothing is sent, if any assignment cannot be resolved
+            verify(aclApi, times(0)).aclInterfaceSetAclList(any());
+            return;
+        } catch (WriteFailedException e) {
+            fail("CreateFailedException expected");
+        }
+        fail("WriteFailedException expected");
+    }
+
+    private void verifyRequests(final AclInterfaceSetAclList... requests) {
+        verify(aclApi, times(requests.length)).aclInterfaceSetAclList(requestCaptor.capture());
+        assertEquals(Arrays.asList(requests), requestCaptor.getAllValues());
+    }
+
+    private static AclInterfaceSetAclList request(final int swIfIndex, final int... inputAcls) {
+        final AclInterfaceSetAclList request = new AclInterfaceSetAclList();
+        request.swIfIndex = swIfIndex;
+        request.nInput = (byte) inputAcls.length;
+        request.count = (byte) inputAcls.length;
+        request.acls = inputAcls;
+        return request;
+    }
+
+    private static InstanceIdentifier<Acl> aclId(final String ifaceName) {
+        return IFCS_ID.child(Interface.class, new InterfaceKey(ifaceName))
+                .augmentation(VppAclInterfaceAugmentation.class).child(Acl.class);
+    }
+
+    private static Interfaces interfaces(final Interface... interfaces) {
+        return new InterfacesBuilder().setInterface(ImmutableList.copyOf(interfaces)).build();
+    }
+
+    private static Interface iface(final String name, final Acl acl) {
+        final InterfaceBuilder builder = new InterfaceBuilder().setKey(new InterfaceKey(name)).setName(name);
+        if (acl != null) {
+            builder.addAugmentation(VppAclInterfaceAugmentation.class,
+                    new VppAclInterfaceAugmentationBuilder().setAcl(acl).build());
+        }
+        return builder.build();
+    }
+
+    private static Acl acl(final String... inputAclNames) {
+        final List<VppAcls> acls = Arrays.stream(inputAclNames)
+                .map(name -> new VppAclsBuilder().setName(name).build())
+                .collect(toList());
+        return new AclBuilder().setIngress(new IngressBuilder().setVppAcls(acls).build()).build();
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2017 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.bgp.inet;
+
+import net.jmob.guice.conf.core.BindConfig;
+import net.jmob.guice.conf.core.InjectConfig;
+import net.jmob.guice.conf.core.Syntax;
+
+/**
+ * Class containing static configuration for bgp-inet module.
+ */
+@BindConfig(value = "bgp-inet", syntax = Syntax.JSON)
+public class BgpInetConfiguration {
+
+    @InjectConfig("fib-pipeline-enabled")
+    private boolean fibPipelineEnabled;
+
+    @InjectConfig("fib-pipeline-window")
+    private int fibPipelineWindow;
+
+    /**
+     * If enabled, LocRib routes are programmed to VPP FIB asynchronously by {@link FibProgrammingPipeline}.
+     */
+    public boolean isFibPipelineEnabled() {
+        return fibPipelineEnabled;
+    }
+
+    /**
+     * Maximum number of route requests in flight, used if FIB pipeline is enabled.
+     */
+    public int getFibPipelineWindow() {
+        return fibPipelineWindow;
+    }
+}
@@ -0,0 +1,309 @@
+/*
+ * Copyright (c) 2017 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.bgp.inet;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import io.fd.hc2vpp.common.translate.util.AsyncRequestWindow;
+import io.fd.honeycomb.translate.write.WriteFailedException;
+import io.fd.vpp.jvpp.core.dto.IpAddDelRoute;
+import io.fd.vpp.jvpp.core.future.FutureJVppCore;
+import java.lang.management.ManagementFactory;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import org.opendaylight.yangtools.yang.binding.DataObject;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Programs BGP routes to VPP FIB asynchronously.
+ * <p/>
+ * Route changes are queued per route and coalesced while waiting to be sent: only the last change of each route
+ * is programmed, and route added and removed before being programmed is not sent at all. Single worker thread,
+ * started by {@link #start()}, sends queued changes keeping bounded number of requests in flight.
+ * <p/>
+ * Routes are programmed after the write that queued them has returned, so failed routes are not reported to
+ * writers of other routes. Failures are logged together with the route before and after the change and counted,
+ * statistics are exposed as JMX MBean {@value #OBJECT_NAME}.
+ */
+@ThreadSafe
+final class FibProgrammingPipeline implements FibProgrammingPipelineMXBean, AutoCloseable {
+
+    static final String OBJECT_NAME = "io.fd.hc2vpp:type=FibProgrammingPipeline";
+
+    private static final Logger LOG = LoggerFactory.getLogger(FibProgrammingPipeline.class);
+
+    private final FutureJVppCore vppApi;
+    private final int windowSize;
+
+    @GuardedBy("this")
+    private Map<InstanceIdentifier<?>, PendingChange> pending = new LinkedHashMap<>();
+    @GuardedBy("this")
+    private Thread worker;
+    @GuardedBy("this")
+    private boolean closed;
+
+    private final AtomicLong programmedRoutes = new AtomicLong();
+    private final AtomicLong failedRoutes = new AtomicLong();
+    private final AtomicLong coalescedChanges = new AtomicLong();
+    private volatile int inFlightBatchSize;
+    private volatile double routesPerSecond;
+
+    FibProgrammingPipeline(@Nonnull final FutureJVppCore vppApi, final int windowSize) {
+        checkArgument(windowSize > 0, "FIB pipeline window has to be positive, but was %s", windowSize);
+        this.vppApi = checkNotNull(vppApi, "vppApi should not be null");
+        this.windowSize = windowSize;
+    }
+
+    /**
+     * Starts worker thread and registers statistics MBean.
+     */
+    synchronized void start() {
+        checkState(!closed, "FIB pipeline was already closed");
+        checkState(worker == null, "FIB pipeline was already started");
+        worker = new ThreadFactoryBuilder().setNameFormat("bgp-fib-pipeline-%d").setDaemon(true).build()
+            .newThread(this::run);
+        worker.start();
+        try {
+            ManagementFactory.getPlatformMBeanServer().registerMBean(this, new ObjectName(OBJECT_NAME));
+        } catch (JMException e) {
+            LOG.warn("Unable to register FIB pipeline MBean", e);
+        }
+    }
+
+    /**
+     * Stops worker thread, routes still queued are not programmed.
+     */
+    @Override
+    public synchronized void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        if (worker != null) {
+            worker.interrupt();
+            unregisterMBean();
+        }
+        if (!pending.isEmpty()) {
+            LOG.warn("FIB pipeline closed, {} queued routes were not programmed", pending.size());
+        }
+    }
+
+    /**
+     * Queues route addition.
+     */
+    synchronized void add(@Nonnull final InstanceIdentifier<?> id, @Nonnull final DataObject route,
+                          @Nonnull final IpAddDelRoute addRequest) {
+        final PendingChange change = pending.get(id);
+        if (change == null) {
+            queue(id, new PendingChange(null, route, addRequest));
+        } else {
+            coalescedChanges.incrementAndGet();
+            change.set(route, addRequest);
+        }
+    }
+
+    /**
+     * Queues replace of route present in FIB. Add request with new next hop replaces paths of the prefix.
+     */
+    synchronized void replace(@Nonnull final InstanceIdentifier<?> id, @Nonnull final DataObject routeBefore,
+                              @Nonnull final DataObject routeAfter, @Nonnull final IpAddDelRoute addRequest) {
+        final PendingChange change = pending.get(id);
+        if (change == null) {
+            queue(id, new PendingChange(routeBefore, routeAfter, addRequest));
+        } else {
+            coalescedChanges.incrementAndGet();
+            change.set(routeAfter, addRequest);
+        }
+    }
+
+    /**
+     * Queues route removal.
+     */
+    synchronized void delete(@Nonnull final InstanceIdentifier<?> id, @Nonnull final DataObject route,
+                             @Nonnull final IpAddDelRoute deleteRequest) {
+        final PendingChange change = pending.get(id);
+        if (change == null) {
+            queue(id, new PendingChange(route, null, deleteRequest));
+        } else if (change.routeBefore == null) {
+            // route was not programmed yet, nothing to do
+            coalescedChanges.incrementAndGet();
+            pending.remove(id);
+        } else {
+            coalescedChanges.incrementAndGet();
+            change.set(null, deleteRequest);
+        }
+    }
+
+    @Override
+    public long getProgrammedRoutes() {
+        return programmedRoutes.get();
+    }
+
+    @Override
+    public long getFailedRoutes() {
+        return failedRoutes.get();
+    }
+
+    @Override
+    public long getCoalescedChanges() {
+        return coalescedChanges.get();
+    }
+
+    @Override
+    public synchronized int getQueueDepth() {
+        return pending.size() + inFlightBatchSize;
+    }
+
+    @Override
+    public double getRoutesPerSecond() {
+        return routesPerSecond;
+    }
+
+    private void queue(final InstanceIdentifier<?> id, final PendingChange change) {
+        checkState(!closed, "FIB pipeline was already closed");
+        pending.put(id, change);
+        notifyAll();
+    }
+
+    private void run() {
+        final AsyncRequestWindow<InstanceIdentifier<?>> window = new AsyncRequestWindow<>(windowSize);
+        while (!Thread.currentThread().isInterrupted()) {
+            final Map<InstanceIdentifier<?>, PendingChange> batch;
+            try {
+                batch = takeBatch();
+            } catch (InterruptedException e) {
+                LOG.debug("FIB pipeline interrupted", e);
+                Thread.currentThread().interrupt();
+                return;
+            }
+            try {
+                program(window, batch);
+            } catch (RuntimeException e) {
+                if (Thread.currentThread().isInterrupted()) {
+                    LOG.debug("FIB pipeline interrupted while programming {} routes", batch.size(), e);
+                    return;
+                }
+                LOG.error("Failed to program {} routes", batch.size(), e);
+                window.awaitAll();
+                batch.forEach((id, change) -> fail(id, change, e));
+            } finally {
+                inFlightBatchSize = 0;
+            }
+        }
+    }
+
+    private synchronized Map<InstanceIdentifier<?>, PendingChange> takeBatch() throws InterruptedException {
+        while (pending.isEmpty()) {
+            wait();
+        }
+        final Map<InstanceIdentifier<?>, PendingChange> batch = pending;
+        pending = new LinkedHashMap<>();
+        inFlightBatchSize = batch.size();
+        return batch;
+    }
+
+    private void program(final AsyncRequestWindow<InstanceIdentifier<?>> window,
+                         final Map<InstanceIdentifier<?>, PendingChange> batch) {
+        final long start = System.nanoTime();
+        for (final Map.Entry<InstanceIdentifier<?>, PendingChange> entry : batch.entrySet()) {
+            final IpAddDelRoute request = entry.getValue().request;
+            LOG.trace("Programming route {}: {}", entry.getKey(), request);
+            window.submit(entry.getKey(), () -> vppApi.ipAddDelRoute(request));
+        }
+        final Map<InstanceIdentifier<?>, Throwable> batchFailures = window.awaitAll();
+        inFlightBatchSize = 0;
+        batchFailures.forEach((id, failure) -> fail(id, batch.get(id), failure));
+
+        final int programmed = batch.size() - batchFailures.size();
+        programmedRoutes.addAndGet(programmed);
+        final long elapsed = Math.max(System.nanoTime() - start, 1);
+        routesPerSecond = programmed * 1_000_000_000d / elapsed;
+        LOG.debug("Programmed {} routes ({} failed) in {} ms, {} routes/s, {} routes queued",
+            programmed, batchFailures.size(), elapsed / 1_000_000, (long) routesPerSecond, getQueueDepth());
+    }
+
+    private void fail(final InstanceIdentifier<?> id, final PendingChange change, final Throwable cause) {
+        LOG.warn("Failed to program route {}", id, failure(id, change.routeBefore, change.routeAfter, cause));
+        failedRoutes.incrementAndGet();
+    }
+
+    /**
+     * Converts failure of asynchronously programmed route change to exception of respective write operation.
+     *
+     * @param routeBefore route present in FIB before the change, null if the route was added
+     * @param routeAfter  route expected in FIB after the change, null if the route was removed
+     */
+    static WriteFailedException failure(@Nonnull final InstanceIdentifier<?> id,
+                                        @Nullable final DataObject routeBefore,
+                                        @Nullable final DataObject routeAfter,
+                                        @Nonnull final Throwable cause) {
+        if (routeBefore == null) {
+            return new WriteFailedException.CreateFailedException(id, routeAfter, cause);
+        } else if (routeAfter == null) {
+            return new WriteFailedException.DeleteFailedException(id, cause);
+        }
+        return new WriteFailedException.UpdateFailedException(id, routeBefore, routeAfter, cause);
+    }
+
+    private void unregisterMBean() {
+        final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            final ObjectName name = new ObjectName(OBJECT_NAME);
+            if (server.isRegistered(name)) {
+                server.unregisterMBean(name);
+            }
+        } catch (JMException e) {
+            LOG.warn("Unable to unregister FIB pipeline MBean", e);
+        }
+    }
+
+    private static final class PendingChange {
+        /**
+         * Route present in FIB before the change was queued, null if not present.
+         */
+        private final DataObject routeBefore;
+        /**
+         * Route expected in FIB after the change, null if removed.
+         */
+        private DataObject routeAfter;
+        private IpAddDelRoute request;
+
+        private PendingChange(final DataObject routeBefore, final DataObject routeAfter, final IpAddDelRoute request) {
+            this.routeBefore = routeBefore;
+            this.routeAfter = routeAfter;
+            this.request = request;
+        }
+
+        private void set(final DataObject routeAfter, final IpAddDelRoute request) {
+            this.routeAfter = routeAfter;
+            this.request = request;
+        }
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2017 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.bgp.inet;
+
+/**
+ * JMX view of {@link FibProgrammingPipeline}.
+ */
+public interface FibProgrammingPipelineMXBean {
+
+    /**
+     * @return number of routes successfully programmed since start
+     */
+    long getProgrammedRoutes();
+
+    /**
+     * @return number of routes that failed to be programmed since start
+     */
+    long getFailedRoutes();
+
+    /**
+     * @return number of route changes merged with already queued changes since start
+     */
+    long getCoalescedChanges();
+
+    /**
+     * @return number of routes waiting to be programmed, including routes being programmed
+     */
+    int getQueueDepth();
+
+    /**
+     * @return convergence rate measured while programming last batch of routes
+     */
+    double getRoutesPerSecond();
+}
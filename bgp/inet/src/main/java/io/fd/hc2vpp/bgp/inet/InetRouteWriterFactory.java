@@ -17,6 +17,7 @@
 package io.fd.hc2vpp.bgp.inet;
 
 import com.google.inject.Inject;
+import io.fd.honeycomb.data.init.ShutdownHandler;
 import io.fd.honeycomb.translate.bgp.RibWriter;
 import io.fd.honeycomb.translate.bgp.RouteWriterFactory;
 import io.fd.vpp.jvpp.core.future.FutureJVppCore;
@@ -26,9 +27,21 @@ final class InetRouteWriterFactory implements RouteWriterFactory {
     @Inject
     private FutureJVppCore vppApi;
 
+    @Inject
+    private BgpInetConfiguration configuration;
+
+    @Inject
+    private ShutdownHandler shutdownHandler;
+
     @Override
     public void init(@Nonnull final RibWriter registry) {
-        registry.register(new Ipv4Writer(vppApi));
-        registry.register(new Ipv6Writer(vppApi));
+        FibProgrammingPipeline pipeline = null;
+        if (configuration.isFibPipelineEnabled()) {
+            pipeline = new FibProgrammingPipeline(vppApi, configuration.getFibPipelineWindow());
+            pipeline.start();
+            shutdownHandler.register("bgp-fib-pipeline", pipeline);
+        }
+        registry.register(new Ipv4Writer(vppApi, pipeline));
+        registry.register(new Ipv6Writer(vppApi, pipeline));
     }
 }
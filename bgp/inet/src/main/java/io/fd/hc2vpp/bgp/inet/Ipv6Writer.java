@@ -19,14 +19,15 @@ package io.fd.hc2vpp.bgp.inet;
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 
-import com.sun.istack.internal.Nullable;
 import io.fd.hc2vpp.common.translate.util.Ipv6Translator;
 import io.fd.hc2vpp.common.translate.util.JvppReplyConsumer;
 import io.fd.honeycomb.translate.bgp.RouteWriter;
 import io.fd.honeycomb.translate.write.WriteFailedException;
 import io.fd.vpp.jvpp.core.dto.IpAddDelRoute;
 import io.fd.vpp.jvpp.core.future.FutureJVppCore;
+import java.util.Arrays;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.Ipv6Address;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.Ipv6Prefix;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.bgp.inet.rev150305.ipv6.routes.Ipv6Routes;
@@ -51,9 +52,18 @@ final class Ipv6Writer implements RouteWriter<Ipv6Route>, Ipv6Translator, JvppRe
         .child(Ipv6Route.class);
 
     private final FutureJVppCore vppApi;
+    private final FibProgrammingPipeline pipeline;
 
     Ipv6Writer(@Nonnull final FutureJVppCore vppApi) {
+        this(vppApi, null);
+    }
+
+    /**
+     * @param pipeline if present, routes are programmed asynchronously using the pipeline
+     */
+    Ipv6Writer(@Nonnull final FutureJVppCore vppApi, @Nullable final FibProgrammingPipeline pipeline) {
         this.vppApi = checkNotNull(vppApi, "vppApi should not be null");
+        this.pipeline = pipeline;
     }
 
     @Override
@@ -62,6 +72,10 @@ final class Ipv6Writer implements RouteWriter<Ipv6Route>, Ipv6Translator, JvppRe
         throws WriteFailedException.CreateFailedException {
         final IpAddDelRoute request = request(route, true);
         LOG.debug("Translating id={}, route={} to {}", id, route, request);
+        if (pipeline != null) {
+            pipeline.add(id, route, request);
+            return;
+        }
         getReplyForCreate(vppApi.ipAddDelRoute(request).toCompletableFuture(), id, route);
         LOG.debug("VPP FIB updated successfully (added id={}).", id);
     }
@@ -71,6 +85,10 @@ final class Ipv6Writer implements RouteWriter<Ipv6Route>, Ipv6Translator, JvppRe
                        @Nullable final Ipv6Route route)
         throws WriteFailedException.DeleteFailedException {
         LOG.debug("Removing id={}, route={}", id, route);
+        if (pipeline != null) {
+            pipeline.delete(id, route, request(route, false));
+            return;
+        }
         getReplyForDelete(vppApi.ipAddDelRoute(request(route, false)).toCompletableFuture(), id);
         LOG.debug("VPP FIB updated successfully (removed id={}).", id);
     }
@@ -80,8 +98,21 @@ final class Ipv6Writer implements RouteWriter<Ipv6Route>, Ipv6Translator, JvppRe
                        @Nullable final Ipv6Route routeBefore,
                        @Nullable final Ipv6Route routeAfter)
         throws WriteFailedException.UpdateFailedException {
-        throw new WriteFailedException.UpdateFailedException(id, routeBefore, routeAfter,
-            new UnsupportedOperationException("Operation not supported"));
+        final IpAddDelRoute deleteRequest = request(routeBefore, false);
+        final IpAddDelRoute addRequest = request(routeAfter, true);
+        LOG.debug("Replacing id={}, routeBefore={}, routeAfter={}", id, routeBefore, routeAfter);
+        if (Arrays.equals(deleteRequest.nextHopAddress, addRequest.nextHopAddress)) {
+            LOG.debug("Next hop not changed, skipping FIB update (id={}).", id);
+            return;
+        }
+        // Add request of single path route replaces paths of the prefix, so no delete is needed.
+        // Deleting old path (isMultipath=0) after the add would remove the whole prefix.
+        if (pipeline != null) {
+            pipeline.replace(id, routeBefore, routeAfter, addRequest);
+            return;
+        }
+        getReplyForUpdate(vppApi.ipAddDelRoute(addRequest).toCompletableFuture(), id, routeBefore, routeAfter);
+        LOG.debug("VPP FIB updated successfully (replaced id={}).", id);
     }
 
     private IpAddDelRoute request(final Ipv6Route dataAfter, boolean isAdd) {
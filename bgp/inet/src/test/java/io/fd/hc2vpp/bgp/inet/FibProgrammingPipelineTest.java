@@ -0,0 +1,186 @@
+/*
+ * Copyright (c) 2017 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.bgp.inet;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.MockitoAnnotations.initMocks;
+
+import io.fd.hc2vpp.common.test.util.FutureProducer;
+import io.fd.honeycomb.translate.write.WriteFailedException;
+import io.fd.vpp.jvpp.VppCallbackException;
+import io.fd.vpp.jvpp.core.dto.IpAddDelRoute;
+import io.fd.vpp.jvpp.core.dto.IpAddDelRouteReply;
+import io.fd.vpp.jvpp.core.future.FutureJVppCore;
+import java.util.concurrent.CompletableFuture;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.Ipv4Prefix;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.bgp.inet.rev150305.ipv4.routes.ipv4.routes.Ipv4Route;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.bgp.inet.rev150305.ipv4.routes.ipv4.routes.Ipv4RouteBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.bgp.inet.rev150305.ipv4.routes.ipv4.routes.Ipv4RouteKey;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.bgp.message.rev130919.PathId;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+
+public class FibProgrammingPipelineTest implements FutureProducer {
+
+    private static final long TIMEOUT_MS = 5000;
+    private static final Ipv4Prefix PREFIX = new Ipv4Prefix("1.2.3.0/24");
+
+    @Mock
+    private FutureJVppCore vppApi;
+    private CompletableFuture<IpAddDelRouteReply> blockingReply;
+    private FibProgrammingPipeline pipeline;
+
+    @Before
+    public void setUp() {
+        initMocks(this);
+        blockingReply = new CompletableFuture<>();
+        pipeline = new FibProgrammingPipeline(vppApi, 4);
+        pipeline.start();
+    }
+
+    @After
+    public void tearDown() {
+        pipeline.close();
+    }
+
+    @Test
+    public void testCoalescing() throws InterruptedException {
+        when(vppApi.ipAddDelRoute(any())).thenReturn(blockingReply, future(new IpAddDelRouteReply()));
+
+        // keep worker busy, so that following changes are queued
+        pipeline.add(id(1), route(1), request(true, 1));
+        verify(vppApi, timeout(TIMEOUT_MS)).ipAddDelRoute(request(true, 1));
+
+        // added and removed before being programmed
+        pipeline.add(id(2), route(2), request(true, 2));
+        pipeline.delete(id(2), route(2), request(false, 2));
+        // removed and added again
+        pipeline.delete(id(3), route(3), request(false, 3));
+        pipeline.add(id(3), route(3), request(true, 4));
+        // replaced twice
+        pipeline.replace(id(4), route(4), route(5), request(true, 5));
+        pipeline.replace(id(4), route(4), route(6), request(true, 6));
+
+        assertEquals(3, pipeline.getCoalescedChanges());
+        assertEquals(3, pipeline.getQueueDepth());
+
+        blockingReply.complete(new IpAddDelRouteReply());
+        verify(vppApi, timeout(TIMEOUT_MS)).ipAddDelRoute(request(true, 4));
+        verify(vppApi, timeout(TIMEOUT_MS)).ipAddDelRoute(request(true, 6));
+        awaitProgrammed(3);
+
+        verify(vppApi, never()).ipAddDelRoute(request(true, 2));
+        verify(vppApi, never()).ipAddDelRoute(request(false, 2));
+        verify(vppApi, never()).ipAddDelRoute(request(false, 3));
+        verify(vppApi, never()).ipAddDelRoute(request(true, 5));
+        assertEquals(0, pipeline.getQueueDepth());
+        assertEquals(0, pipeline.getFailedRoutes());
+    }
+
+    @Test
+    public void testReplaceSendsNoDelete() throws InterruptedException {
+        when(vppApi.ipAddDelRoute(any())).thenReturn(future(new IpAddDelRouteReply()));
+
+        pipeline.replace(id(1), route(1), route(2), request(true, 2));
+        awaitProgrammed(1);
+        verify(vppApi).ipAddDelRoute(request(true, 2));
+        verify(vppApi, never()).ipAddDelRoute(request(false, 1));
+    }
+
+    @Test
+    public void testFailureCounted() throws InterruptedException {
+        when(vppApi.ipAddDelRoute(any())).thenReturn(failedFuture(), future(new IpAddDelRouteReply()));
+
+        pipeline.add(id(1), route(1), request(true, 1));
+        pipeline.add(id(2), route(2), request(true, 2));
+        awaitProgrammed(1);
+        assertEquals(1, pipeline.getFailedRoutes());
+
+        // failure does not affect following writes
+        when(vppApi.ipAddDelRoute(any())).thenReturn(future(new IpAddDelRouteReply()));
+        pipeline.add(id(3), route(3), request(true, 3));
+        awaitProgrammed(2);
+        assertEquals(1, pipeline.getFailedRoutes());
+    }
+
+    @Test
+    public void testCreateFailure() {
+        final VppCallbackException cause = new VppCallbackException("ipAddDelRoute", "test error msg", 1, -1);
+        final WriteFailedException failure = FibProgrammingPipeline.failure(id(1), null, route(1), cause);
+        assertThat(failure, instanceOf(WriteFailedException.CreateFailedException.class));
+        assertEquals(route(1), ((WriteFailedException.CreateFailedException) failure).getData());
+        assertEquals(cause, failure.getCause());
+    }
+
+    @Test
+    public void testUpdateFailure() {
+        final VppCallbackException cause = new VppCallbackException("ipAddDelRoute", "test error msg", 1, -1);
+        final WriteFailedException failure = FibProgrammingPipeline.failure(id(1), route(1), route(2), cause);
+        assertThat(failure, instanceOf(WriteFailedException.UpdateFailedException.class));
+        assertEquals(route(1), ((WriteFailedException.UpdateFailedException) failure).getDataBefore());
+        assertEquals(route(2), ((WriteFailedException.UpdateFailedException) failure).getDataAfter());
+    }
+
+    @Test
+    public void testDeleteFailure() {
+        final VppCallbackException cause = new VppCallbackException("ipAddDelRoute", "test error msg", 1, -1);
+        final WriteFailedException failure = FibProgrammingPipeline.failure(id(1), route(1), null, cause);
+        assertThat(failure, instanceOf(WriteFailedException.DeleteFailedException.class));
+        assertEquals(id(1), failure.getFailedId());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testAddAfterClose() {
+        pipeline.close();
+        pipeline.add(id(1), route(1), request(true, 1));
+    }
+
+    private void awaitProgrammed(final long routes) throws InterruptedException {
+        final long deadline = System.currentTimeMillis() + TIMEOUT_MS;
+        while (pipeline.getProgrammedRoutes() < routes && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(routes, pipeline.getProgrammedRoutes());
+    }
+
+    private static InstanceIdentifier<Ipv4Route> id(final long pathId) {
+        return InstanceIdentifier.create(Ipv4Route.class, new Ipv4RouteKey(new PathId(pathId), PREFIX));
+    }
+
+    private static Ipv4Route route(final long pathId) {
+        return new Ipv4RouteBuilder().setPathId(new PathId(pathId)).setPrefix(PREFIX).build();
+    }
+
+    private static IpAddDelRoute request(final boolean isAdd, final int nextHop) {
+        final IpAddDelRoute request = new IpAddDelRoute();
+        request.isAdd = (byte) (isAdd ? 1 : 0);
+        request.nextHopAddress = new byte[] {10, 0, 0, (byte) nextHop};
+        request.dstAddress = new byte[] {1, 2, 3, 0};
+        request.dstAddressLength = 24;
+        return request;
+    }
+}
@@ -17,7 +17,7 @@
 package io.fd.hc2vpp.bgp.inet;
 
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.mockito.MockitoAnnotations.initMocks;
@@ -115,23 +115,42 @@ public class Ipv4WriterTest implements FutureProducer, ByteDataTranslator {
         verifyRequest(false);
     }
 
-    @Test(expected = WriteFailedException.UpdateFailedException.class)
+    @Test
     public void testUpdate() throws WriteFailedException.UpdateFailedException {
-        final Ipv4Prefix destination = new Ipv4Prefix("10.1.0.1/28");
+        final Ipv4Prefix destination = new Ipv4Prefix("1.2.3.4/24");
         final PathId pathId = new PathId(456L);
 
-        // update is not supported
-        writer.update(id(destination, pathId), mock(Ipv4Route.class), mock(Ipv4Route.class));
+        writer.update(id(destination, pathId),
+            route(destination, pathId, new Ipv4AddressNoZone("5.6.7.9")),
+            route(destination, pathId, new Ipv4AddressNoZone("5.6.7.8")));
+        // add replaces paths of the prefix, deleting old path would remove the whole prefix
+        verify(vppApi).ipAddDelRoute(request(true, new byte[] {5, 6, 7, 8}));
+        verify(vppApi, never()).ipAddDelRoute(request(false, new byte[] {5, 6, 7, 9}));
+    }
+
+    @Test
+    public void testUpdateSameNextHop() throws WriteFailedException.UpdateFailedException {
+        final Ipv4Prefix destination = new Ipv4Prefix("1.2.3.4/24");
+        final PathId pathId = new PathId(456L);
+        final Ipv4Address nextHopAddress = new Ipv4AddressNoZone("5.6.7.8");
+
+        writer.update(id(destination, pathId), route(destination, pathId, nextHopAddress),
+            route(destination, pathId, nextHopAddress));
+        verify(vppApi, never()).ipAddDelRoute(any());
     }
 
     private void verifyRequest(boolean isAdd) {
+        verify(vppApi).ipAddDelRoute(request(isAdd, new byte[] {5, 6, 7, 8}));
+    }
+
+    private IpAddDelRoute request(boolean isAdd, final byte[] nextHopAddress) {
         final IpAddDelRoute request = new IpAddDelRoute();
         request.isAdd = booleanToByte(isAdd);
         request.nextHopSwIfIndex = -1;
         request.nextHopViaLabel = MPLS_LABEL_INVALID;
-        request.nextHopAddress = new byte[] {5, 6, 7, 8};
+        request.nextHopAddress = nextHopAddress;
         request.dstAddress = new byte[] {1, 2, 3, 4};
         request.dstAddressLength = 24;
-        verify(vppApi).ipAddDelRoute(request);
+        return request;
     }
 }
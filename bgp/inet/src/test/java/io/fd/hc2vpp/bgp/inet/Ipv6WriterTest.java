@@ -18,7 +18,7 @@ package io.fd.hc2vpp.bgp.inet;
 
 import static io.fd.hc2vpp.bgp.inet.RouteRequestProducer.MPLS_LABEL_INVALID;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.mockito.MockitoAnnotations.initMocks;
@@ -115,16 +115,35 @@ public class Ipv6WriterTest implements FutureProducer, ByteDataTranslator {
         verifyRequest(false);
     }
 
-    @Test(expected = WriteFailedException.UpdateFailedException.class)
+    @Test
     public void testUpdate() throws WriteFailedException.UpdateFailedException {
         final Ipv6Prefix destination = new Ipv6Prefix("2001:db8:a0b:12f0:0:0:0:1/64");
         final PathId pathId = new PathId(456L);
 
-        // update is not supported
-        writer.update(id(destination, pathId), mock(Ipv6Route.class), mock(Ipv6Route.class));
+        writer.update(id(destination, pathId),
+            route(destination, pathId, new Ipv6AddressNoZone("2001:db8:a0b:12f0:0:0:0:3")),
+            route(destination, pathId, new Ipv6AddressNoZone("2001:db8:a0b:12f0:0:0:0:2")));
+        // add replaces paths of the prefix, deleting old path would remove the whole prefix
+        verify(vppApi).ipAddDelRoute(request(true, 2));
+        verify(vppApi, never()).ipAddDelRoute(request(false, 3));
+    }
+
+    @Test
+    public void testUpdateSameNextHop() throws WriteFailedException.UpdateFailedException {
+        final Ipv6Prefix destination = new Ipv6Prefix("2001:db8:a0b:12f0:0:0:0:1/64");
+        final PathId pathId = new PathId(456L);
+        final Ipv6Address nextHopAddress = new Ipv6AddressNoZone("2001:db8:a0b:12f0:0:0:0:2");
+
+        writer.update(id(destination, pathId), route(destination, pathId, nextHopAddress),
+            route(destination, pathId, nextHopAddress));
+        verify(vppApi, never()).ipAddDelRoute(any());
     }
 
     private void verifyRequest(boolean isAdd) {
+        verify(vppApi).ipAddDelRoute(request(isAdd, 2));
+    }
+
+    private IpAddDelRoute request(boolean isAdd, final int nextHopLastByte) {
         final IpAddDelRoute request = new IpAddDelRoute();
         request.isAdd = booleanToByte(isAdd);
         request.isIpv6 = 1;
@@ -132,11 +151,11 @@ public class Ipv6WriterTest implements FutureProducer, ByteDataTranslator {
         request.nextHopViaLabel = MPLS_LABEL_INVALID;
         request.nextHopAddress = new byte[] {
             0x20, 0x01, 0x0d, (byte) 0xb8, 0x0a, 0x0b, 0x12, (byte) 0xf0,
-            0, 0, 0, 0, 0, 0, 0, 2};
+            0, 0, 0, 0, 0, 0, 0, (byte) nextHopLastByte};
         request.dstAddress = new byte[] {
             0x20, 0x01, 0x0d, (byte) 0xb8, 0x0a, 0x0b, 0x12, (byte) 0xf0,
             0, 0, 0, 0, 0, 0, 0, 1};
         request.dstAddressLength = 64;
-        verify(vppApi).ipAddDelRoute(request);
+        return request;
     }
 }
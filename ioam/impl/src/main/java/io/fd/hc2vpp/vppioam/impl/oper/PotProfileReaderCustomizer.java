@@ -92,7 +92,7 @@ public class PotProfileReaderCustomizer extends FutureJVppIoampotCustomizer impl
         request.id = key.getIndex().getValue().byteValue();
         final PotProfileShowConfigDetailsReplyDump reply = getReplyForRead(getFutureJVppIoampot()
                 .potProfileShowConfigDump(request)
-                .toCompletableFuture(), instanceIdentifier);
+                .toCompletableFuture(), instanceIdentifier, PotProfileShowConfigDump.class);
 
         if (reply == null || reply.potProfileShowConfigDetails == null || reply.potProfileShowConfigDetails.isEmpty()) {
             LOG.debug("Vpp returned no pot profiles");
@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) 2017 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.it.benchmark;
+
+import io.fd.hc2vpp.acl.util.AclContextManagerImpl;
+import io.fd.hc2vpp.acl.util.acl.AclWriter;
+import io.fd.hc2vpp.acl.write.VppAclCustomizer;
+import io.fd.honeycomb.translate.write.WriteFailedException;
+import io.fd.vpp.jvpp.JVpp;
+import io.fd.vpp.jvpp.JVppRegistry;
+import io.fd.vpp.jvpp.acl.dto.AclAddReplace;
+import io.fd.vpp.jvpp.acl.dto.AclAddReplaceReply;
+import io.fd.vpp.jvpp.acl.future.FutureJVppAclFacade;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.Ipv4Prefix;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.access.control.list.rev160708.AccessLists;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.access.control.list.rev160708.access.lists.Acl;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.access.control.list.rev160708.access.lists.AclBuilder;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.access.control.list.rev160708.access.lists.AclKey;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.access.control.list.rev160708.access.lists.acl.AccessListEntriesBuilder;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.access.control.list.rev160708.access.lists.acl.access.list.entries.Ace;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.access.control.list.rev160708.access.lists.acl.access.list.entries.AceBuilder;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.access.control.list.rev160708.access.lists.acl.access.list.entries.ace.ActionsBuilder;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.access.control.list.rev160708.access.lists.acl.access.list.entries.ace.MatchesBuilder;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.access.control.list.rev160708.access.lists.acl.access.list.entries.ace.actions.packet.handling.PermitBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.vpp.acl.rev170615.VppAcl;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.vpp.acl.rev170615.access.lists.acl.access.list.entries.ace.matches.ace.type.VppAceBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.vpp.acl.rev170615.access.lists.acl.access.list.entries.ace.matches.ace.type.vpp.ace.VppAceNodesBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.vpp.acl.rev170615.access.lists.acl.access.list.entries.ace.matches.ace.type.vpp.ace.vpp.ace.nodes.ace.ip.version.AceIpv4Builder;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures translation of standard ACLs to vpp requests by {@link VppAclCustomizer}, depending on number of ACEs.
+ * {@link #updateSingleAce} alternates between two versions of the ACL that differ in a single ACE, which is
+ * the case rules compiled for previous version of the ACL are reused in.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AclWriteBenchmark {
+
+    private static final String ACL_NAME = "benchmark-acl";
+
+    @Param({"10", "100", "1000", "10000"})
+    private int aceCount;
+
+    private VppAclCustomizer customizer;
+    private FakeMappingContext mappingContext;
+    private InstanceIdentifier<Acl> id;
+    private Acl acl;
+    private Acl aclWithChangedAce;
+    private boolean changed;
+
+    @Setup
+    public void setUp() throws IOException, WriteFailedException {
+        customizer = new VppAclCustomizer(new FakeFutureJVppAclFacade(),
+                new AclContextManagerImpl("standard-learned-acl-", "acl-context"),
+                new AclContextManagerImpl("macip-learned-acl-", "macip-acl-context"));
+        mappingContext = new FakeMappingContext();
+
+        final List<Ace> aces = new ArrayList<>(aceCount);
+        for (int i = 0; i < aceCount; i++) {
+            aces.add(ace(i, "192.168.2.0/24"));
+        }
+        acl = acl(aces);
+        // last ace changes destination
+        final List<Ace> changedAces = new ArrayList<>(aces);
+        changedAces.set(aceCount - 1, ace(aceCount - 1, "192.168.3.0/24"));
+        aclWithChangedAce = acl(changedAces);
+        id = InstanceIdentifier.create(AccessLists.class).child(Acl.class, new AclKey(ACL_NAME, VppAcl.class));
+        // updates require acl to be mapped
+        writeAcl();
+    }
+
+    @Benchmark
+    public void writeAcl() throws WriteFailedException {
+        customizer.writeCurrentAttributes(id, acl, new FakeTransactionContext(mappingContext));
+    }
+
+    @Benchmark
+    public void updateAcl() throws WriteFailedException {
+        customizer.updateCurrentAttributes(id, acl, acl, new FakeTransactionContext(mappingContext));
+    }
+
+    @Benchmark
+    public void updateSingleAce() throws WriteFailedException {
+        final Acl before = changed ? aclWithChangedAce : acl;
+        final Acl after = changed ? acl : aclWithChangedAce;
+        changed = !changed;
+        customizer.updateCurrentAttributes(id, before, after, new FakeTransactionContext(mappingContext));
+    }
+
+    private static Ace ace(final int i, final String destination) {
+        return new AceBuilder()
+                .setRuleName("rule-" + i)
+                .setMatches(new MatchesBuilder()
+                        .setAceType(new VppAceBuilder()
+                                .setVppAceNodes(new VppAceNodesBuilder()
+                                        .setAceIpVersion(new AceIpv4Builder()
+                                                .setSourceIpv4Network(new Ipv4Prefix(
+                                                        "10." + (i >> 8 & 0xFF) + "." + (i & 0xFF) + ".0/24"))
+                                                .setDestinationIpv4Network(new Ipv4Prefix(destination))
+                                                .build())
+                                        .build())
+                                .build())
+                        .build())
+                .setActions(new ActionsBuilder().setPacketHandling(new PermitBuilder().build()).build())
+                .build();
+    }
+
+    private static Acl acl(final List<Ace> aces) {
+        return new AclBuilder()
+                .setAclName(ACL_NAME)
+                .setAclType(VppAcl.class)
+                .setAccessListEntries(new AccessListEntriesBuilder().setAce(aces).build())
+                .build();
+    }
+
+    /**
+     * Acl facade not connected to vpp, answering acl writes immediately.
+     */
+    private static final class FakeFutureJVppAclFacade extends FutureJVppAclFacade {
+
+        private FakeFutureJVppAclFacade() throws IOException {
+            super(FakeJVpp.noOpProxy(JVppRegistry.class), FakeJVpp.noOpProxy(JVpp.class));
+        }
+
+        @Override
+        public CompletionStage<AclAddReplaceReply> aclAddReplace(final AclAddReplace request) {
+            final AclAddReplaceReply reply = new AclAddReplaceReply();
+            reply.aclIndex = request.aclIndex == AclWriter.ACL_INDEX_CREATE_NEW ? 0 : request.aclIndex;
+            return CompletableFuture.completedFuture(reply);
+        }
+    }
+}
@@ -0,0 +1,206 @@
+/*
+ * Copyright (c) 2017 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.it.benchmark;
+
+import com.google.common.net.InetAddresses;
+import io.fd.hc2vpp.common.translate.util.AddressTranslator;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.apache.commons.codec.binary.Hex;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.Ipv4Prefix;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.Ipv6AddressNoZone;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.Ipv6Prefix;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares address conversions of {@link AddressTranslator} with their previous
+ * implementations based on {@link InetAddress}, {@link String#split(String)} and string concatenation.
+ * Run with {@code -prof gc} to compare allocation rates.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AddressTranslationBenchmark implements AddressTranslator {
+
+    private static final int SAMPLES = 1024;
+
+    private final byte[][] ipv4Bytes = new byte[SAMPLES][];
+    private final byte[][] ipv6Bytes = new byte[SAMPLES][];
+    private final byte[][] macBytes = new byte[SAMPLES][];
+    private final Ipv4Prefix[] ipv4Prefixes = new Ipv4Prefix[SAMPLES];
+    private final Ipv6Prefix[] ipv6Prefixes = new Ipv6Prefix[SAMPLES];
+    private final String[] macs = new String[SAMPLES];
+
+    @Setup
+    public void setUp() {
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = 0; i < SAMPLES; i++) {
+            ipv4Bytes[i] = new byte[4];
+            random.nextBytes(ipv4Bytes[i]);
+            ipv6Bytes[i] = new byte[16];
+            random.nextBytes(ipv6Bytes[i]);
+            // typical prefixes have zeroed host part
+            Arrays.fill(ipv6Bytes[i], 8, 15, (byte) 0);
+            macBytes[i] = new byte[6];
+            random.nextBytes(macBytes[i]);
+
+            ipv4Prefixes[i] = arrayToIpv4Prefix(ipv4Bytes[i], (byte) 24);
+            ipv6Prefixes[i] = arrayToIpv6Prefix(ipv6Bytes[i], 64);
+            macs[i] = byteArrayToMacSeparated(macBytes[i]);
+        }
+    }
+
+    @Benchmark
+    public byte[] ipv4PrefixToArray() {
+        return ipv4AddressPrefixToArray(ipv4Prefixes[next()]);
+    }
+
+    @Benchmark
+    public byte[] ipv4PrefixToArrayLegacy() {
+        return legacyIpv4PrefixToArray(ipv4Prefixes[next()]);
+    }
+
+    @Benchmark
+    public Ipv4Prefix arrayToIpv4Prefix() {
+        return arrayToIpv4Prefix(ipv4Bytes[next()], (byte) 24);
+    }
+
+    @Benchmark
+    public Ipv4Prefix arrayToIpv4PrefixLegacy() {
+        return legacyArrayToIpv4Prefix(ipv4Bytes[next()], (byte) 24);
+    }
+
+    @Benchmark
+    public byte[] ipv6PrefixToArray() {
+        return ipv6AddressPrefixToArray(ipv6Prefixes[next()]);
+    }
+
+    @Benchmark
+    public byte[] ipv6PrefixToArrayLegacy() {
+        return legacyIpv6PrefixToArray(ipv6Prefixes[next()]);
+    }
+
+    @Benchmark
+    public Ipv6Prefix arrayToIpv6Prefix() {
+        return arrayToIpv6Prefix(ipv6Bytes[next()], 64);
+    }
+
+    @Benchmark
+    public Ipv6Prefix arrayToIpv6PrefixLegacy() {
+        return legacyArrayToIpv6Prefix(ipv6Bytes[next()], 64);
+    }
+
+    @Benchmark
+    public byte[] parseMac() {
+        return parseMac(macs[next()]);
+    }
+
+    @Benchmark
+    public byte[] parseMacLegacy() {
+        return legacyParseMac(macs[next()]);
+    }
+
+    @Benchmark
+    public String macToString() {
+        return byteArrayToMacSeparated(macBytes[next()]);
+    }
+
+    @Benchmark
+    public String macToStringLegacy() {
+        return legacyByteArrayToMacSeparated(macBytes[next()]);
+    }
+
+    private static int next() {
+        return ThreadLocalRandom.current().nextInt(SAMPLES);
+    }
+
+    private static byte[] legacyIpv4PrefixToArray(final Ipv4Prefix ipv4Prefix) {
+        byte[] retval = new byte[4];
+        String[] address = ipv4Prefix.getValue().substring(0, ipv4Prefix.getValue().indexOf('/')).split("\\.");
+
+        for (int d = 0; d < 4; d++) {
+            retval[d] = (byte) (Short.parseShort(address[d]) & 0xff);
+        }
+        return retval;
+    }
+
+    private static Ipv4Prefix legacyArrayToIpv4Prefix(final byte[] address, final byte prefixLength) {
+        try {
+            final String addressPart = InetAddresses.toAddrString(InetAddress.getByAddress(address));
+            return new Ipv4Prefix(addressPart.concat("/").concat(String.valueOf(prefixLength)));
+        } catch (UnknownHostException e) {
+            throw new IllegalArgumentException("Unable to parse ipv4", e);
+        }
+    }
+
+    private static byte[] legacyIpv6PrefixToArray(final Ipv6Prefix ipv6Prefix) {
+        final Ipv6AddressNoZone address = new Ipv6AddressNoZone(
+                ipv6Prefix.getValue().substring(0, ipv6Prefix.getValue().indexOf('/')));
+        try {
+            return InetAddress.getByName(address.getValue()).getAddress();
+        } catch (UnknownHostException e) {
+            throw new IllegalArgumentException("Invalid address supplied", e);
+        }
+    }
+
+    private static Ipv6Prefix legacyArrayToIpv6Prefix(final byte[] address, final int prefixLength) {
+        try {
+            final String addressPart = InetAddresses.toAddrString(InetAddress.getByAddress(address));
+            return new Ipv6Prefix(addressPart.concat("/").concat(String.valueOf(prefixLength)));
+        } catch (UnknownHostException e) {
+            throw new IllegalArgumentException("Unable to parse ipv6", e);
+        }
+    }
+
+    private static byte[] legacyParseMac(final String macAddress) {
+        final String[] parts = macAddress.split(":");
+        final byte[] result = new byte[6];
+        for (int i = 0; i < 6; i++) {
+            result[i] = (byte) Integer.parseInt(parts[i], 16);
+        }
+        return result;
+    }
+
+    private static String legacyByteArrayToMacSeparated(final byte[] address) {
+        String unseparatedAddress = Hex.encodeHexString(Arrays.copyOf(address, 6));
+        String separated = "";
+
+        for (int i = 0; i < unseparatedAddress.length(); i = i + 2) {
+            if (i == (unseparatedAddress.length() - 2)) {
+                separated = separated + unseparatedAddress.substring(i, 2 + i);
+            } else {
+                separated = separated + unseparatedAddress.substring(i, 2 + i) + ":";
+            }
+        }
+        return separated;
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2017 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.it.benchmark;
+
+import io.fd.hc2vpp.lisp.context.util.EidMappingContext;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.opendaylight.yang.gen.v1.urn.honeycomb.params.xml.ns.yang.eid.mapping.context.rev160801.Contexts;
+import org.opendaylight.yang.gen.v1.urn.honeycomb.params.xml.ns.yang.eid.mapping.context.rev160801.contexts.EidMappingContextKey;
+import org.opendaylight.yang.gen.v1.urn.honeycomb.params.xml.ns.yang.eid.mapping.context.rev160801.contexts.eid.mapping.context.Mappings;
+import org.opendaylight.yang.gen.v1.urn.honeycomb.params.xml.ns.yang.eid.mapping.context.rev160801.contexts.eid.mapping.context.MappingsBuilder;
+import org.opendaylight.yang.gen.v1.urn.honeycomb.params.xml.ns.yang.eid.mapping.context.rev160801.contexts.eid.mapping.context.mappings.Mapping;
+import org.opendaylight.yang.gen.v1.urn.honeycomb.params.xml.ns.yang.eid.mapping.context.rev160801.contexts.eid.mapping.context.mappings.MappingBuilder;
+import org.opendaylight.yang.gen.v1.urn.honeycomb.params.xml.ns.yang.eid.mapping.context.rev160801.contexts.eid.mapping.context.mappings.MappingKey;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.Ipv4Address;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.lisp.address.types.rev151105.InstanceIdType;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.lisp.address.types.rev151105.Ipv4Afi;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.lisp.address.types.rev151105.lisp.address.address.Ipv4;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.lisp.address.types.rev151105.lisp.address.address.Ipv4Builder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.lisp.rev170911.MappingId;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.lisp.rev170911.dp.subtable.grouping.remote.mappings.remote.mapping.Eid;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.lisp.rev170911.dp.subtable.grouping.remote.mappings.remote.mapping.EidBuilder;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures eid lookups of {@link EidMappingContext} depending on number of stored mappings.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EidMappingContextBenchmark {
+
+    private static final String CONTEXT_NAME = "benchmark-eid-context";
+    private static final String ID_PREFIX = "mapping-";
+
+    @Param({"1000", "10000"})
+    private int mappingCount;
+
+    private EidMappingContext eidMappingContext;
+    private FakeMappingContext mappingContext;
+    private Eid[] eids;
+    private MappingId[] ids;
+
+    @Setup
+    public void setUp() {
+        eidMappingContext = new EidMappingContext(CONTEXT_NAME, "eid-");
+        mappingContext = new FakeMappingContext();
+
+        final InstanceIdentifier<Mappings> mappingsIid = InstanceIdentifier.create(Contexts.class)
+                .child(org.opendaylight.yang.gen.v1.urn.honeycomb.params.xml.ns.yang.eid.mapping.context.rev160801.contexts.EidMappingContext.class,
+                        new EidMappingContextKey(CONTEXT_NAME))
+                .child(Mappings.class);
+        final List<Mapping> mappings = new ArrayList<>(mappingCount);
+        eids = new Eid[mappingCount];
+        ids = new MappingId[mappingCount];
+        for (int i = 0; i < mappingCount; i++) {
+            final Ipv4 address = new Ipv4Builder().setIpv4(new Ipv4Address(
+                    "10." + (i >> 16 & 0xFF) + "." + (i >> 8 & 0xFF) + "." + (i & 0xFF))).build();
+            eids[i] = new EidBuilder()
+                    .setAddress(address)
+                    .setAddressType(Ipv4Afi.class)
+                    .setVirtualNetworkId(new InstanceIdType(0L))
+                    .build();
+            ids[i] = new MappingId(ID_PREFIX + i);
+
+            final Mapping mapping = new MappingBuilder()
+                    .setId(ids[i])
+                    .setEid(new org.opendaylight.yang.gen.v1.urn.honeycomb.params.xml.ns.yang.eid.mapping.context.rev160801.contexts.eid.mapping.context.mappings.mapping.EidBuilder()
+                            .setAddress(address)
+                            .setAddressType(Ipv4Afi.class)
+                            .setVirtualNetworkId(new InstanceIdType(0L))
+                            .build())
+                    .build();
+            mappings.add(mapping);
+            mappingContext.put(mappingsIid.child(Mapping.class, new MappingKey(ids[i])), mapping);
+        }
+        mappingContext.put(mappingsIid, new MappingsBuilder().setMapping(mappings).build());
+    }
+
+    @Benchmark
+    public MappingId getId() {
+        return eidMappingContext.getId(eids[ThreadLocalRandom.current().nextInt(mappingCount)], mappingContext);
+    }
+
+    @Benchmark
+    public boolean containsId() {
+        return eidMappingContext.containsId(eids[ThreadLocalRandom.current().nextInt(mappingCount)], mappingContext);
+    }
+
+    @Benchmark
+    public org.opendaylight.yang.gen.v1.urn.honeycomb.params.xml.ns.yang.eid.mapping.context.rev160801.contexts.eid.mapping.context.mappings.mapping.Eid getEid() {
+        return eidMappingContext.getEid(ids[ThreadLocalRandom.current().nextInt(mappingCount)], mappingContext);
+    }
+}
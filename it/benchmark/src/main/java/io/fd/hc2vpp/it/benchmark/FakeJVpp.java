@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2017 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.it.benchmark;
+
+import com.google.common.collect.ImmutableMap;
+import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import javax.annotation.Nonnull;
+
+/**
+ * In-memory implementations of jvpp APIs. Every request completes immediately, so benchmarks measure only the
+ * translation layer.
+ */
+final class FakeJVpp {
+
+    private FakeJVpp() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    /**
+     * Creates proxy of jvpp API that answers every request by empty reply.
+     */
+    static <T> T noOpProxy(@Nonnull final Class<T> api) {
+        return replyingProxy(api, ImmutableMap.of());
+    }
+
+    /**
+     * Creates proxy of future jvpp API (e.g. FutureJVppCore). Requests with name present in {@code replies} are
+     * answered by provided function, other requests are answered by empty reply of the type declared by the API.
+     */
+    @SuppressWarnings("unchecked")
+    static <T> T replyingProxy(@Nonnull final Class<T> api,
+                               @Nonnull final Map<String, Function<Object, ?>> replies) {
+        final Map<Method, Class<?>> replyTypes = new ConcurrentHashMap<>();
+        return (T) Proxy.newProxyInstance(FakeJVpp.class.getClassLoader(), new Class[]{api},
+                (proxy, method, args) -> {
+                    if (method.getDeclaringClass() == Object.class) {
+                        return objectMethod(proxy, method, args);
+                    }
+                    if (!CompletionStage.class.isAssignableFrom(method.getReturnType())) {
+                        return defaultValue(method.getReturnType());
+                    }
+                    final Function<Object, ?> reply = replies.get(method.getName());
+                    if (reply != null) {
+                        return CompletableFuture.completedFuture(reply.apply(args[0]));
+                    }
+                    return CompletableFuture.completedFuture(
+                            replyTypes.computeIfAbsent(method, FakeJVpp::replyType).newInstance());
+                });
+    }
+
+    private static Class<?> replyType(final Method method) {
+        // CompletionStage<ReplyType>
+        return (Class<?>) ((ParameterizedType) method.getGenericReturnType()).getActualTypeArguments()[0];
+    }
+
+    private static Object objectMethod(final Object proxy, final Method method, final Object[] args) {
+        switch (method.getName()) {
+            case "equals":
+                return proxy == args[0];
+            case "hashCode":
+                return System.identityHashCode(proxy);
+            default:
+                return proxy.getClass().getName();
+        }
+    }
+
+    private static Object defaultValue(final Class<?> type) {
+        if (!type.isPrimitive() || type == void.class) {
+            return null;
+        } else if (type == boolean.class) {
+            return false;
+        } else if (type == long.class) {
+            return 0L;
+        } else if (type == float.class) {
+            return 0f;
+        } else if (type == double.class) {
+            return 0d;
+        } else if (type == char.class) {
+            return (char) 0;
+        } else if (type == byte.class) {
+            return (byte) 0;
+        } else if (type == short.class) {
+            return (short) 0;
+        }
+        return 0;
+    }
+}
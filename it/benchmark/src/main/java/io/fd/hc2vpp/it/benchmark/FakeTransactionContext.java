@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2017 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.it.benchmark;
+
+import com.google.common.base.Optional;
+import io.fd.honeycomb.translate.MappingContext;
+import io.fd.honeycomb.translate.ModificationCache;
+import io.fd.honeycomb.translate.read.ReadContext;
+import io.fd.honeycomb.translate.write.WriteContext;
+import javax.annotation.Nonnull;
+import org.opendaylight.yangtools.yang.binding.DataObject;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+
+/**
+ * Transaction context backed by {@link FakeMappingContext}. New instance should be created for every simulated
+ * transaction, to start with empty {@link ModificationCache}. Data tree reads always return absent data.
+ */
+final class FakeTransactionContext implements ReadContext, WriteContext {
+
+    private final ModificationCache modificationCache = new ModificationCache();
+    private final MappingContext mappingContext;
+
+    FakeTransactionContext(@Nonnull final MappingContext mappingContext) {
+        this.mappingContext = mappingContext;
+    }
+
+    @Nonnull
+    @Override
+    public <T extends DataObject> Optional<T> readBefore(@Nonnull final InstanceIdentifier<T> currentId) {
+        return Optional.absent();
+    }
+
+    @Nonnull
+    @Override
+    public <T extends DataObject> Optional<T> readAfter(@Nonnull final InstanceIdentifier<T> currentId) {
+        return Optional.absent();
+    }
+
+    @Nonnull
+    @Override
+    public ModificationCache getModificationCache() {
+        return modificationCache;
+    }
+
+    @Nonnull
+    @Override
+    public MappingContext getMappingContext() {
+        return mappingContext;
+    }
+
+    @Override
+    public void close() {
+        // cache is dropped together with the context
+    }
+}
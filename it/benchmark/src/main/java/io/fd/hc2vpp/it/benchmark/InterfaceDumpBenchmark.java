@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2017 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.it.benchmark;
+
+import static io.fd.hc2vpp.it.benchmark.NamingContextContentionBenchmark.populate;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.inject.Guice;
+import com.google.inject.name.Names;
+import io.fd.hc2vpp.common.translate.util.NamingContext;
+import io.fd.hc2vpp.v3po.interfacesstate.cache.InterfaceCacheDumpManager;
+import io.fd.hc2vpp.v3po.interfacesstate.cache.InterfaceCacheDumpManagerProvider;
+import io.fd.hc2vpp.v3po.interfacesstate.cache.InterfaceDumpCache;
+import io.fd.honeycomb.translate.read.ReadFailedException;
+import io.fd.vpp.jvpp.core.dto.SwInterfaceDetails;
+import io.fd.vpp.jvpp.core.dto.SwInterfaceDetailsReplyDump;
+import io.fd.vpp.jvpp.core.future.FutureJVppCore;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.interfaces.rev140508.InterfacesState;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.interfaces.rev140508.interfaces.state.Interface;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures reads of {@link InterfaceCacheDumpManager} in fresh transactions, with and without shared dump cache.
+ * Every invocation simulates new transaction, so per transaction caches are always empty.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class InterfaceDumpBenchmark {
+
+    private static final String CONTEXT_NAME = "interface-context";
+    private static final String NAME_PREFIX = "eth";
+    // longer than whole benchmark run, so that shared dump does not expire
+    private static final int SHARED_CACHE_TTL_SECONDS = 3600;
+    private static final InstanceIdentifier<Interface> IDENTIFIER =
+            InstanceIdentifier.create(InterfacesState.class).child(Interface.class);
+
+    @Param({"100", "1000", "10000"})
+    private int interfaceCount;
+
+    @Param({"false", "true"})
+    private boolean sharedCacheEnabled;
+
+    private InterfaceCacheDumpManager dumpManager;
+    private FakeMappingContext mappingContext;
+
+    @Setup
+    public void setUp() {
+        final SwInterfaceDetailsReplyDump dump = new SwInterfaceDetailsReplyDump();
+        for (int i = 0; i < interfaceCount; i++) {
+            final SwInterfaceDetails detail = new SwInterfaceDetails();
+            detail.swIfIndex = i;
+            detail.interfaceName = (NAME_PREFIX + i).getBytes(StandardCharsets.UTF_8);
+            dump.swInterfaceDetails.add(detail);
+        }
+        final FutureJVppCore jvpp = FakeJVpp.replyingProxy(FutureJVppCore.class,
+                ImmutableMap.of("swInterfaceDump", request -> dump));
+        final NamingContext namingContext = new NamingContext(NAME_PREFIX, CONTEXT_NAME);
+        final InterfaceDumpCache sharedCache = sharedCacheEnabled
+                ? new InterfaceDumpCache(true, SHARED_CACHE_TTL_SECONDS)
+                : InterfaceDumpCache.disabled();
+
+        dumpManager = Guice.createInjector(binder -> {
+            binder.bind(FutureJVppCore.class).toInstance(jvpp);
+            binder.bind(NamingContext.class).annotatedWith(Names.named(CONTEXT_NAME)).toInstance(namingContext);
+            binder.bind(InterfaceDumpCache.class).toInstance(sharedCache);
+        }).getInstance(InterfaceCacheDumpManagerProvider.class).get();
+
+        // interfaces are already mapped, as after first read
+        mappingContext = new FakeMappingContext();
+        populate(mappingContext, CONTEXT_NAME, NAME_PREFIX, interfaceCount);
+    }
+
+    @Benchmark
+    public long getInterfaces() throws ReadFailedException {
+        return dumpManager.getInterfaces(IDENTIFIER, new FakeTransactionContext(mappingContext)).count();
+    }
+
+    @Benchmark
+    public SwInterfaceDetails getInterfaceDetail() throws ReadFailedException {
+        final FakeTransactionContext ctx = new FakeTransactionContext(mappingContext);
+        // interface list is read first, then details of each interface
+        dumpManager.getInterfaces(IDENTIFIER, ctx);
+        return dumpManager.getInterfaceDetail(IDENTIFIER, ctx,
+                NAME_PREFIX + ThreadLocalRandom.current().nextInt(interfaceCount));
+    }
+}
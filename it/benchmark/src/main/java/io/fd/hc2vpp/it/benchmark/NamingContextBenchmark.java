@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2017 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.it.benchmark;
+
+import static io.fd.hc2vpp.it.benchmark.NamingContextContentionBenchmark.populate;
+
+import io.fd.hc2vpp.common.translate.util.NamingContext;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures single threaded lookups of {@link NamingContext} depending on number of stored mappings.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class NamingContextBenchmark {
+
+    private static final String CONTEXT_NAME = "benchmark-context";
+    private static final String NAME_PREFIX = "interface-";
+
+    @Param({"1000", "10000", "100000"})
+    private int mappingCount;
+
+    private NamingContext namingContext;
+    private FakeMappingContext mappingContext;
+    private String[] names;
+
+    @Setup
+    public void setUp() {
+        namingContext = new NamingContext(NAME_PREFIX, CONTEXT_NAME);
+        mappingContext = new FakeMappingContext();
+        populate(mappingContext, CONTEXT_NAME, NAME_PREFIX, mappingCount);
+        names = new String[mappingCount];
+        for (int i = 0; i < mappingCount; i++) {
+            names[i] = NAME_PREFIX + i;
+        }
+        // builds lookup index, so that only lookups are measured
+        namingContext.getName(0, mappingContext);
+    }
+
+    @Benchmark
+    public String getName() {
+        return namingContext.getName(ThreadLocalRandom.current().nextInt(mappingCount), mappingContext);
+    }
+
+    @Benchmark
+    public int getIndex() {
+        return namingContext.getIndex(names[ThreadLocalRandom.current().nextInt(mappingCount)], mappingContext);
+    }
+
+    @Benchmark
+    public boolean containsName() {
+        return namingContext.containsName(ThreadLocalRandom.current().nextInt(mappingCount), mappingContext);
+    }
+
+    @Benchmark
+    public boolean containsNameMissing() {
+        return namingContext.containsName(mappingCount + ThreadLocalRandom.current().nextInt(mappingCount),
+                mappingContext);
+    }
+}
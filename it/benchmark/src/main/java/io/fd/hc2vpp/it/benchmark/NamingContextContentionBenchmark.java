@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2017 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.it.benchmark;
+
+import io.fd.hc2vpp.common.translate.util.NamingContext;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.opendaylight.yang.gen.v1.urn.honeycomb.params.xml.ns.yang.naming.context.rev160513.Contexts;
+import org.opendaylight.yang.gen.v1.urn.honeycomb.params.xml.ns.yang.naming.context.rev160513.contexts.NamingContextKey;
+import org.opendaylight.yang.gen.v1.urn.honeycomb.params.xml.ns.yang.naming.context.rev160513.contexts.naming.context.Mappings;
+import org.opendaylight.yang.gen.v1.urn.honeycomb.params.xml.ns.yang.naming.context.rev160513.contexts.naming.context.MappingsBuilder;
+import org.opendaylight.yang.gen.v1.urn.honeycomb.params.xml.ns.yang.naming.context.rev160513.contexts.naming.context.mappings.Mapping;
+import org.opendaylight.yang.gen.v1.urn.honeycomb.params.xml.ns.yang.naming.context.rev160513.contexts.naming.context.mappings.MappingBuilder;
+import org.opendaylight.yang.gen.v1.urn.honeycomb.params.xml.ns.yang.naming.context.rev160513.contexts.naming.context.mappings.MappingKey;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures read throughput of {@link NamingContext} shared by multiple threads. Read methods differ only in number
+ * of threads, so comparing their scores shows how lookups scale under contention.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class NamingContextContentionBenchmark {
+
+    private static final String CONTEXT_NAME = "benchmark-context";
+    private static final String NAME_PREFIX = "interface-";
+
+    @Param({"10000"})
+    private int mappingCount;
+
+    private NamingContext namingContext;
+    private FakeMappingContext mappingContext;
+
+    @Setup
+    public void setUp() {
+        namingContext = new NamingContext(NAME_PREFIX, CONTEXT_NAME);
+        mappingContext = new FakeMappingContext();
+        populate(mappingContext, CONTEXT_NAME, NAME_PREFIX, mappingCount);
+        // builds lookup index, so that only lookups are measured
+        namingContext.getName(0, mappingContext);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public String getName1Thread() {
+        return getRandomName();
+    }
+
+    @Benchmark
+    @Threads(2)
+    public String getName2Threads() {
+        return getRandomName();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public String getName4Threads() {
+        return getRandomName();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public String getName8Threads() {
+        return getRandomName();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public boolean containsName4Threads() {
+        return namingContext.containsName(ThreadLocalRandom.current().nextInt(mappingCount), mappingContext);
+    }
+
+    private String getRandomName() {
+        return namingContext.getName(ThreadLocalRandom.current().nextInt(mappingCount), mappingContext);
+    }
+
+    /**
+     * Stores {@code count} mappings named {@code prefix + index} to naming context of provided name.
+     */
+    static void populate(final FakeMappingContext mappingContext, final String contextName, final String prefix,
+                         final int count) {
+        final InstanceIdentifier<Mappings> mappingsIid = InstanceIdentifier.create(Contexts.class)
+                .child(org.opendaylight.yang.gen.v1.urn.honeycomb.params.xml.ns.yang.naming.context.rev160513.contexts.NamingContext.class,
+                        new NamingContextKey(contextName))
+                .child(Mappings.class);
+
+        final List<Mapping> mappings = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            final Mapping mapping = new MappingBuilder().setIndex(i).setName(prefix + i).build();
+            mappings.add(mapping);
+            mappingContext.put(mappingsIid.child(Mapping.class, new MappingKey(mapping.getName())), mapping);
+        }
+        mappingContext.put(mappingsIid, new MappingsBuilder().setMapping(mappings).build());
+    }
+}
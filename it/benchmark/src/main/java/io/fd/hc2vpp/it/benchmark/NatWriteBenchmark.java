@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2017 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.it.benchmark;
+
+import io.fd.hc2vpp.nat.util.MappingEntryContext;
+import io.fd.honeycomb.translate.spi.write.ListWriterCustomizer;
+import io.fd.honeycomb.translate.write.WriteFailedException;
+import io.fd.vpp.jvpp.JVpp;
+import io.fd.vpp.jvpp.JVppRegistry;
+import io.fd.vpp.jvpp.nat.dto.Nat44AddDelStaticMapping;
+import io.fd.vpp.jvpp.nat.dto.Nat44AddDelStaticMappingReply;
+import io.fd.vpp.jvpp.nat.future.FutureJVppNatFacade;
+import java.io.IOException;
+import java.lang.reflect.Constructor;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.IpAddress;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.Ipv4Address;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.nat.rev150908.NatConfig;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.nat.rev150908.nat.config.NatInstances;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.nat.rev150908.nat.config.nat.instances.NatInstance;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.nat.rev150908.nat.config.nat.instances.NatInstanceKey;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.nat.rev150908.nat.config.nat.instances.nat.instance.MappingTable;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.nat.rev150908.nat.config.nat.instances.nat.instance.mapping.table.MappingEntry;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.nat.rev150908.nat.config.nat.instances.nat.instance.mapping.table.MappingEntryBuilder;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.nat.rev150908.nat.config.nat.instances.nat.instance.mapping.table.MappingEntryKey;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures translation of NAT44 static mappings to vpp requests by mapping entry writer. Each invocation
+ * deletes and writes back one of stored mappings.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class NatWriteBenchmark {
+
+    private static final long NAT_INSTANCE_ID = 0;
+    // customizers of nat2vpp are package private, they are normally created only by NatWriterFactory
+    private static final String CUSTOMIZER_CLASS = "io.fd.hc2vpp.nat.write.MappingEntryCustomizer";
+
+    @Param({"1000", "10000"})
+    private int mappingCount;
+
+    private ListWriterCustomizer<MappingEntry, MappingEntryKey> customizer;
+    private FakeMappingContext mappingContext;
+    private InstanceIdentifier<MappingEntry>[] ids;
+    private MappingEntry[] entries;
+    private int next;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setUp() throws ReflectiveOperationException, IOException, WriteFailedException {
+        final Constructor<?> constructor = Class.forName(CUSTOMIZER_CLASS)
+                .getDeclaredConstructor(FutureJVppNatFacade.class, MappingEntryContext.class);
+        constructor.setAccessible(true);
+        customizer = (ListWriterCustomizer<MappingEntry, MappingEntryKey>) constructor
+                .newInstance(new FakeFutureJVppNatFacade(), new MappingEntryContext());
+        mappingContext = new FakeMappingContext();
+
+        final InstanceIdentifier<MappingTable> tableId = InstanceIdentifier.create(NatConfig.class)
+                .child(NatInstances.class).child(NatInstance.class, new NatInstanceKey(NAT_INSTANCE_ID))
+                .child(MappingTable.class);
+        ids = new InstanceIdentifier[mappingCount];
+        entries = new MappingEntry[mappingCount];
+        for (int i = 0; i < mappingCount; i++) {
+            entries[i] = new MappingEntryBuilder()
+                    .setKey(new MappingEntryKey((long) i))
+                    .setType(org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.nat.rev150908.MappingEntry.Type.Static)
+                    .setInternalSrcAddress(new IpAddress(new Ipv4Address(address(10, i))))
+                    .setExternalSrcAddress(new Ipv4Address(address(172, i)))
+                    .build();
+            ids[i] = tableId.child(MappingEntry.class, entries[i].getKey());
+            customizer.writeCurrentAttributes(ids[i], entries[i], new FakeTransactionContext(mappingContext));
+        }
+    }
+
+    @Benchmark
+    public void deleteAndWriteMapping() throws WriteFailedException {
+        final int i = next++ % mappingCount;
+        final FakeTransactionContext ctx = new FakeTransactionContext(mappingContext);
+        customizer.deleteCurrentAttributes(ids[i], entries[i], ctx);
+        customizer.writeCurrentAttributes(ids[i], entries[i], ctx);
+    }
+
+    private static String address(final int firstOctet, final int index) {
+        return firstOctet + "." + (index >> 16 & 0xFF) + "." + (index >> 8 & 0xFF) + "." + (index & 0xFF);
+    }
+
+    /**
+     * Nat facade not connected to vpp, answering static mapping writes immediately.
+     */
+    private static final class FakeFutureJVppNatFacade extends FutureJVppNatFacade {
+
+        private FakeFutureJVppNatFacade() throws IOException {
+            super(FakeJVpp.noOpProxy(JVppRegistry.class), FakeJVpp.noOpProxy(JVpp.class));
+        }
+
+        @Override
+        public CompletionStage<Nat44AddDelStaticMappingReply> nat44AddDelStaticMapping(
+                final Nat44AddDelStaticMapping request) {
+            return CompletableFuture.completedFuture(new Nat44AddDelStaticMappingReply());
+        }
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2017 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.it.benchmark;
+
+import static io.fd.hc2vpp.it.benchmark.NamingContextContentionBenchmark.populate;
+
+import io.fd.hc2vpp.common.translate.util.MultiNamingContext;
+import io.fd.hc2vpp.common.translate.util.NamingContext;
+import io.fd.hc2vpp.routing.RoutingConfiguration;
+import io.fd.hc2vpp.routing.write.Ipv4RouteCustomizer;
+import io.fd.hc2vpp.vpp.classifier.context.VppClassifierContextManagerImpl;
+import io.fd.honeycomb.translate.write.WriteFailedException;
+import io.fd.vpp.jvpp.core.future.FutureJVppCore;
+import java.util.concurrent.TimeUnit;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.Ipv4Address;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.Ipv4Prefix;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.ipv4.unicast.routing.rev170917.StaticRoutes1;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.ipv4.unicast.routing.rev170917.routing.routing.instance.routing.protocols.routing.protocol._static.routes.Ipv4;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.ipv4.unicast.routing.rev170917.routing.routing.instance.routing.protocols.routing.protocol._static.routes.ipv4.Route;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.ipv4.unicast.routing.rev170917.routing.routing.instance.routing.protocols.routing.protocol._static.routes.ipv4.RouteBuilder;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.ipv4.unicast.routing.rev170917.routing.routing.instance.routing.protocols.routing.protocol._static.routes.ipv4.RouteKey;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.ipv4.unicast.routing.rev170917.routing.routing.instance.routing.protocols.routing.protocol._static.routes.ipv4.route.next.hop.options.SimpleNextHopBuilder;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.routing.rev140524.routing.routing.instance.RoutingProtocols;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.routing.rev140524.routing.routing.instance.routing.protocols.RoutingProtocol;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.routing.rev140524.routing.routing.instance.routing.protocols.RoutingProtocolKey;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.routing.rev140524.routing.routing.instance.routing.protocols.routing.protocol.StaticRoutes;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures translation of static ipv4 routes to vpp requests by {@link Ipv4RouteCustomizer}. Each invocation
+ * writes and deletes one route, so amount of mapped routes stays the same.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RouteWriteBenchmark {
+
+    private static final String INTERFACE_PREFIX = "eth";
+    private static final String PROTOCOL_PREFIX = "protocol-";
+    private static final String PROTOCOL_NAME = PROTOCOL_PREFIX + 0;
+
+    @Param({"1000"})
+    private int routeCount;
+
+    private Ipv4RouteCustomizer customizer;
+    private FakeMappingContext mappingContext;
+    private InstanceIdentifier<Route>[] ids;
+    private Route[] routes;
+    private int next;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        customizer = new Ipv4RouteCustomizer(FakeJVpp.noOpProxy(FutureJVppCore.class),
+                new NamingContext(INTERFACE_PREFIX, "interface-context"),
+                new NamingContext("route-", RoutingConfiguration.ROUTE_CONTEXT),
+                new NamingContext(PROTOCOL_PREFIX, RoutingConfiguration.ROUTING_PROTOCOL_CONTEXT),
+                new MultiNamingContext(RoutingConfiguration.ROUTE_HOP_CONTEXT,
+                        RoutingConfiguration.MULTI_MAPPING_START_INDEX),
+                new VppClassifierContextManagerImpl("classify-table-"));
+
+        mappingContext = new FakeMappingContext();
+        populate(mappingContext, "interface-context", INTERFACE_PREFIX, 1);
+        populate(mappingContext, RoutingConfiguration.ROUTING_PROTOCOL_CONTEXT, PROTOCOL_PREFIX, 1);
+
+        final InstanceIdentifier<Ipv4> routesId = InstanceIdentifier.create(RoutingProtocols.class)
+                .child(RoutingProtocol.class, new RoutingProtocolKey(PROTOCOL_NAME))
+                .child(StaticRoutes.class)
+                .augmentation(StaticRoutes1.class)
+                .child(Ipv4.class);
+        ids = new InstanceIdentifier[routeCount];
+        routes = new Route[routeCount];
+        for (int i = 0; i < routeCount; i++) {
+            routes[i] = new RouteBuilder()
+                    .setKey(new RouteKey((long) i))
+                    .setDestinationPrefix(new Ipv4Prefix("10." + (i >> 8 & 0xFF) + "." + (i & 0xFF) + ".0/24"))
+                    .setNextHopOptions(new SimpleNextHopBuilder()
+                            .setOutgoingInterface(INTERFACE_PREFIX + 0)
+                            .setNextHop(new Ipv4Address("192.168.2.1"))
+                            .build())
+                    .build();
+            ids[i] = routesId.child(Route.class, routes[i].getKey());
+        }
+    }
+
+    @Benchmark
+    public void writeAndDeleteRoute() throws WriteFailedException {
+        final int i = next++ % routeCount;
+        final FakeTransactionContext ctx = new FakeTransactionContext(mappingContext);
+        customizer.writeCurrentAttributes(ids[i], routes[i], ctx);
+        customizer.deleteCurrentAttributes(ids[i], routes[i], ctx);
+    }
+}
@@ -67,7 +67,7 @@ public final class NdProxyCustomizer extends FutureJVppCustomizer
         this.interfaceContext = checkNotNull(interfaceContext, "interfaceContext should not be null");
         dumpManager = new DumpCacheManager.DumpCacheManagerBuilder<Ip6NdProxyDetailsReplyDump, Void>()
             .withExecutor((id, param) -> getReplyForRead(
-                getFutureJVpp().ip6NdProxyDump(new Ip6NdProxyDump()).toCompletableFuture(), id))
+                getFutureJVpp().ip6NdProxyDump(new Ip6NdProxyDump()).toCompletableFuture(), id, Ip6NdProxyDump.class))
             .acceptOnly(Ip6NdProxyDetailsReplyDump.class)
             .build();
     }
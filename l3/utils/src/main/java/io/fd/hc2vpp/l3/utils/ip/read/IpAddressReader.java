@@ -141,7 +141,8 @@ public abstract class IpAddressReader extends IpReader {
             dumpRequest.isIpv6 = ByteDataTranslator.INSTANCE.booleanToByte(params.isIpv6());
             dumpRequest.swIfIndex = params.getInterfaceIndex();
 
-            return JvppReplyConsumer.INSTANCE.getReplyForRead(vppApi.ipAddressDump(dumpRequest).toCompletableFuture(), identifier);
+            return JvppReplyConsumer.INSTANCE.getReplyForRead(vppApi.ipAddressDump(dumpRequest).toCompletableFuture(),
+                    identifier, IpAddressDump.class);
         };
     }
 }
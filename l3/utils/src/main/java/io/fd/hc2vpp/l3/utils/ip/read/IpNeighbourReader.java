@@ -80,7 +80,8 @@ public abstract class IpNeighbourReader extends IpReader {
             dumpRequest.isIpv6 = ByteDataTranslator.INSTANCE.booleanToByte(params.isIpv6());
             dumpRequest.swIfIndex = params.getInterfaceIndex();
 
-            return JvppReplyConsumer.INSTANCE.getReplyForRead(vppApi.ipNeighborDump(dumpRequest).toCompletableFuture(), identifier);
+            return JvppReplyConsumer.INSTANCE.getReplyForRead(vppApi.ipNeighborDump(dumpRequest).toCompletableFuture(),
+                    identifier, IpNeighborDump.class);
         };
     }
 
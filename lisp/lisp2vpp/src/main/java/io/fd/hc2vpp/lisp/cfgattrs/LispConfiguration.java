@@ -17,6 +17,7 @@
 package io.fd.hc2vpp.lisp.cfgattrs;
 
 import net.jmob.guice.conf.core.BindConfig;
+import net.jmob.guice.conf.core.InjectConfig;
 import net.jmob.guice.conf.core.Syntax;
 
 /**
@@ -56,4 +57,15 @@ public class LispConfiguration {
      * Adjacency id to eid pair mapping
      * */
     public static final String ADJACENCIES_IDENTIFICATION_CONTEXT = "adjacencies-identification-context";
+
+    @InjectConfig("batched-mapping-read-enabled")
+    private boolean batchedMappingReadEnabled;
+
+    /**
+     * If enabled, local and remote mappings are read using single dump of all mappings of each kind per transaction,
+     * instead of dump per mapping.
+     */
+    public boolean isBatchedMappingReadEnabled() {
+        return batchedMappingReadEnabled;
+    }
 }
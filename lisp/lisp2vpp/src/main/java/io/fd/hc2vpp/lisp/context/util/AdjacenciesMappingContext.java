@@ -20,10 +20,12 @@ import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkState;
 
 import com.google.common.base.Optional;
+import io.fd.hc2vpp.common.translate.util.ContextIndex;
+import io.fd.hc2vpp.common.translate.util.MappingContextIndex;
 import io.fd.honeycomb.translate.MappingContext;
-import io.fd.honeycomb.translate.util.RWUtils;
-import java.util.stream.Collector;
+import java.util.Objects;
 import javax.annotation.Nonnull;
+import javax.annotation.concurrent.ThreadSafe;
 import org.opendaylight.yang.gen.v1.urn.honeycomb.params.xml.ns.yang.adjacencies.identification.context.rev160801.AdjacenciesIdentificationCtxAugmentation;
 import org.opendaylight.yang.gen.v1.urn.honeycomb.params.xml.ns.yang.adjacencies.identification.context.rev160801.adjacencies.identification.context.attributes.AdjacenciesIdentificationContexts;
 import org.opendaylight.yang.gen.v1.urn.honeycomb.params.xml.ns.yang.adjacencies.identification.context.rev160801.adjacencies.identification.context.attributes.adjacencies.identification.contexts.AdjacenciesIdentification;
@@ -39,13 +41,21 @@ import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.lisp.rev
 import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
 import org.opendaylight.yangtools.yang.binding.KeyedInstanceIdentifier;
 
+/**
+ * Utility class allowing adjacency id to {@link EidIdentificatorPair} mapping.
+ * <p/>
+ * Eid pair to adjacency id lookups are served from an in-memory index, built from context data the first time
+ * a {@link MappingContext} instance is used and kept up to date by {@link #addEidPair} and {@link #removeForIndex}
+ * afterwards, so it assumes the mapping context is transaction scoped. Lookups never block.
+ */
+@ThreadSafe
 public class AdjacenciesMappingContext {
 
-    private static final Collector<Mapping, ?, Mapping> SINGLE_ITEM_COLLECTOR = RWUtils.singleItemCollector();
-
     private final KeyedInstanceIdentifier<AdjacenciesIdentification, AdjacenciesIdentificationKey>
             namingContextIid;
 
+    private final MappingContextIndex<ContextIndex<PairKey, String>> indexes;
+
     /**
      * Create new naming context
      *
@@ -56,6 +66,7 @@ public class AdjacenciesMappingContext {
                 .augmentation(AdjacenciesIdentificationCtxAugmentation.class)
                 .child(AdjacenciesIdentificationContexts.class)
                 .child(AdjacenciesIdentification.class, new AdjacenciesIdentificationKey(instanceName));
+        indexes = new MappingContextIndex<>(this::buildIndex);
     }
 
     /**
@@ -67,24 +78,15 @@ public class AdjacenciesMappingContext {
      * @return name mapped to provided index
      */
     @Nonnull
-    public synchronized String getAdjacencyId(
+    public String getAdjacencyId(
             @Nonnull final String localEidId,
             @Nonnull final String remoteEidId,
             @Nonnull final MappingContext mappingContext) {
 
-        final Optional<Mappings> read = mappingContext.read(namingContextIid.child(Mappings.class));
-        checkState(read.isPresent(), "No adjacencies mappings stored");
-
-        return read.get().getMapping().stream()
-                .filter(mapping -> isSame(pairForCombination(localEidId, remoteEidId), mapping))
-                .collect(SINGLE_ITEM_COLLECTOR).getId();
-    }
-
-    private boolean isSame(final EidIdentificatorPair currentPair, final Mapping mapping) {
-        // EidIdentificatorPair is container so it needs to be compared like this
-        final EidIdentificatorPair mappingPair = mapping.getEidIdentificatorPair();
-        return currentPair.getLocalEidId().equals(mappingPair.getLocalEidId())
-                && currentPair.getRemoteEidId().equals(mappingPair.getRemoteEidId());
+        final String id = indexes.get(mappingContext).get(new PairKey(localEidId, remoteEidId));
+        checkState(id != null, "No adjacency mapping stored for local eid %s and remote eid %s", localEidId,
+                remoteEidId);
+        return id;
     }
 
     private EidIdentificatorPair pairForCombination(final @Nonnull String localEidId,
@@ -103,16 +105,11 @@ public class AdjacenciesMappingContext {
      * @param mappingContext mapping context providing context data for current transaction
      * @return true if present, false otherwise
      */
-    public synchronized boolean containsId(
+    public boolean containsId(
             @Nonnull final String localEidId,
             @Nonnull final String remoteEidId,
             @Nonnull final MappingContext mappingContext) {
-        final Optional<Mappings> read = mappingContext.read(namingContextIid.child(Mappings.class));
-
-        return read.isPresent() &&
-                read.get().getMapping()
-                        .stream()
-                        .anyMatch(mapping -> isSame(pairForCombination(localEidId, remoteEidId), mapping));
+        return indexes.get(mappingContext).containsKey(new PairKey(localEidId, remoteEidId));
     }
 
     /**
@@ -123,15 +120,19 @@ public class AdjacenciesMappingContext {
      * @param remoteEidId    {@code MappingId} for remote eid
      * @param mappingContext mapping context providing context data for current transaction
      */
-    public synchronized void addEidPair(
+    public void addEidPair(
             @Nonnull final String index,
             @Nonnull final String localEidId,
             @Nonnull final String remoteEidId,
             final MappingContext mappingContext) {
 
         final KeyedInstanceIdentifier<Mapping, MappingKey> mappingIid = getMappingIid(index);
-        mappingContext.put(mappingIid, new MappingBuilder().setId(index).setEidIdentificatorPair(
-                pairForCombination(localEidId, remoteEidId)).build());
+        final Mapping mapping = new MappingBuilder().setId(index).setEidIdentificatorPair(
+                pairForCombination(localEidId, remoteEidId)).build();
+        indexes.update(mappingContext, () -> mappingContext.put(mappingIid, mapping), adjacencyIndex -> {
+            adjacencyIndex.put(index, new PairKey(localEidId, remoteEidId));
+            return true;
+        });
     }
 
     private KeyedInstanceIdentifier<Mapping, MappingKey> getMappingIid(final String index) {
@@ -145,8 +146,9 @@ public class AdjacenciesMappingContext {
      * @param index          identificator of a mapped item
      * @param mappingContext mapping context providing context data for current transaction
      */
-    public synchronized void removeForIndex(@Nonnull final String index, final MappingContext mappingContext) {
-        mappingContext.delete(getMappingIid(index));
+    public void removeForIndex(@Nonnull final String index, final MappingContext mappingContext) {
+        indexes.update(mappingContext, () -> mappingContext.delete(getMappingIid(index)),
+                adjacencyIndex -> adjacencyIndex.remove(index));
     }
 
     /**
@@ -157,8 +159,8 @@ public class AdjacenciesMappingContext {
      * @return integer index value matching supplied name
      * @throws IllegalArgumentException if name was not found
      */
-    public synchronized EidIdentificatorPair getEidPair(@Nonnull final String index,
-                                                        final MappingContext mappingContext) {
+    public EidIdentificatorPair getEidPair(@Nonnull final String index,
+                                           final MappingContext mappingContext) {
         final Optional<Mapping> read = mappingContext.read(getMappingIid(index));
         checkArgument(read.isPresent(), "No mapping stored for index: %s", index);
         return read.get().getEidIdentificatorPair();
@@ -171,8 +173,58 @@ public class AdjacenciesMappingContext {
      * @param mappingContext mapping context providing context data for current transaction
      * @return true if present, false otherwise
      */
-    public synchronized boolean containsEidPairForIndex(@Nonnull final String index,
-                                                        @Nonnull final MappingContext mappingContext) {
+    public boolean containsEidPairForIndex(@Nonnull final String index,
+                                          @Nonnull final MappingContext mappingContext) {
         return mappingContext.read(getMappingIid(index)).isPresent();
     }
+
+    private ContextIndex<PairKey, String> buildIndex(final MappingContext mappingContext) {
+        final ContextIndex<PairKey, String> index = new ContextIndex<>();
+        final Optional<Mappings> mappings = mappingContext.read(namingContextIid.child(Mappings.class));
+        if (mappings.isPresent() && mappings.get().getMapping() != null) {
+            mappings.get().getMapping()
+                    .forEach(mapping -> index.put(mapping.getId(), PairKey.of(mapping.getEidIdentificatorPair())));
+        }
+        return index;
+    }
+
+    /**
+     * Pair of local and remote eid ids. {@link EidIdentificatorPair} is not used directly, as binding objects
+     * are not suitable as hash keys.
+     */
+    private static final class PairKey {
+        private final String localEidId;
+        private final String remoteEidId;
+
+        private PairKey(@Nonnull final String localEidId, @Nonnull final String remoteEidId) {
+            this.localEidId = localEidId;
+            this.remoteEidId = remoteEidId;
+        }
+
+        private static PairKey of(@Nonnull final EidIdentificatorPair pair) {
+            return new PairKey(pair.getLocalEidId().getValue(), pair.getRemoteEidId().getValue());
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            final PairKey that = (PairKey) o;
+            return localEidId.equals(that.localEidId) && remoteEidId.equals(that.remoteEidId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(localEidId, remoteEidId);
+        }
+
+        @Override
+        public String toString() {
+            return "[" + localEidId + ", " + remoteEidId + "]";
+        }
+    }
 }
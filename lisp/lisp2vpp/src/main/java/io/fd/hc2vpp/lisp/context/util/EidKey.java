@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2017 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.fd.hc2vpp.lisp.context.util;
+
+import io.fd.hc2vpp.lisp.translate.read.dump.executor.params.MappingsDumpParams.EidType;
+import java.util.Arrays;
+import java.util.Objects;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * Canonical form of eid used as lookup key in {@link EidMappingContext}. Address is kept in binary form, prefix based
+ * addresses with host bits cleared, so that different textual representations of the same eid produce equal keys.
+ */
+final class EidKey {
+
+    private final EidType type;
+    private final Long vni;
+    private final byte[] address;
+    private final byte prefixLength;
+
+    EidKey(@Nonnull final EidType type, @Nullable final Long vni, @Nonnull final byte[] address,
+           final byte prefixLength) {
+        this.type = type;
+        this.vni = vni;
+        this.address = address;
+        this.prefixLength = prefixLength;
+    }
+
+    /**
+     * Returns key of the same address, without virtual network id.
+     */
+    EidKey withoutVni() {
+        return vni == null
+                ? this
+                : new EidKey(type, null, address, prefixLength);
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final EidKey that = (EidKey) o;
+        return prefixLength == that.prefixLength
+                && type == that.type
+                && Objects.equals(vni, that.vni)
+                && Arrays.equals(address, that.address);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Objects.hash(type, vni, prefixLength) + Arrays.hashCode(address);
+    }
+
+    @Override
+    public String toString() {
+        return "EidKey{type=" + type + ", vni=" + vni + ", address=" + Arrays.toString(address)
+                + ", prefixLength=" + prefixLength + "}";
+    }
+}
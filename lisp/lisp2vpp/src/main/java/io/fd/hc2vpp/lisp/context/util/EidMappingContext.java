@@ -19,13 +19,17 @@ package io.fd.hc2vpp.lisp.context.util;
 import static com.google.common.base.Preconditions.checkArgument;
 
 import com.google.common.base.Optional;
+import io.fd.hc2vpp.common.translate.util.ContextIndex;
+import io.fd.hc2vpp.common.translate.util.MappingContextIndex;
+import io.fd.hc2vpp.lisp.translate.read.dump.executor.params.MappingsDumpParams.EidType;
 import io.fd.hc2vpp.lisp.translate.util.EidTranslator;
 import io.fd.honeycomb.translate.MappingContext;
-import io.fd.honeycomb.translate.util.RWUtils;
-
-import java.util.stream.Collector;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import javax.annotation.Nonnull;
-
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
 import org.opendaylight.yang.gen.v1.urn.honeycomb.params.xml.ns.yang.eid.mapping.context.rev160801.Contexts;
 import org.opendaylight.yang.gen.v1.urn.honeycomb.params.xml.ns.yang.eid.mapping.context.rev160801.contexts.EidMappingContextKey;
 import org.opendaylight.yang.gen.v1.urn.honeycomb.params.xml.ns.yang.eid.mapping.context.rev160801.contexts.eid.mapping.context.Mappings;
@@ -34,21 +38,37 @@ import org.opendaylight.yang.gen.v1.urn.honeycomb.params.xml.ns.yang.eid.mapping
 import org.opendaylight.yang.gen.v1.urn.honeycomb.params.xml.ns.yang.eid.mapping.context.rev160801.contexts.eid.mapping.context.mappings.MappingKey;
 import org.opendaylight.yang.gen.v1.urn.honeycomb.params.xml.ns.yang.eid.mapping.context.rev160801.contexts.eid.mapping.context.mappings.mapping.Eid;
 import org.opendaylight.yang.gen.v1.urn.honeycomb.params.xml.ns.yang.eid.mapping.context.rev160801.contexts.eid.mapping.context.mappings.mapping.EidBuilder;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.lisp.address.types.rev151105.LispAddress;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.lisp.address.types.rev151105.lisp.address.Address;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.lisp.address.types.rev151105.lisp.address.address.Ipv4;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.lisp.address.types.rev151105.lisp.address.address.Ipv4Prefix;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.lisp.address.types.rev151105.lisp.address.address.Ipv6;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.lisp.address.types.rev151105.lisp.address.address.Ipv6Prefix;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.lisp.address.types.rev151105.lisp.address.address.Mac;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.lisp.rev170911.MappingId;
 import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
 import org.opendaylight.yangtools.yang.binding.KeyedInstanceIdentifier;
 
 /**
- * Utility class allowing {@link MappingId} to {@link Eid} mapping
+ * Utility class allowing {@link MappingId} to {@link Eid} mapping.
+ * <p/>
+ * Eid to {@link MappingId} lookups are served from an in-memory index keyed by canonical form of eid (address family,
+ * virtual network id, normalized address and prefix length). The index is built from context data the first time
+ * a {@link MappingContext} instance is used and is kept up to date by {@link #addEid} and {@link #removeEid}
+ * afterwards, so it assumes the mapping context is transaction scoped.
+ * <p/>
+ * Lookups never block. Artificial mappings are derived from eid itself, therefore concurrent creation of the same
+ * artificial mapping is idempotent.
  */
+@ThreadSafe
 public class EidMappingContext implements EidTranslator {
 
-    private static final Collector<Mapping, ?, Mapping> SINGLE_ITEM_COLLECTOR = RWUtils.singleItemCollector();
-
     private final KeyedInstanceIdentifier<org.opendaylight.yang.gen.v1.urn.honeycomb.params.xml.ns.yang.eid.mapping.context.rev160801.contexts.EidMappingContext, EidMappingContextKey>
             namingContextIid;
     private final String artificialPrefix;
 
+    private final MappingContextIndex<EidIndex> indexes;
+
     /**
      * Create new naming context
      *
@@ -59,6 +79,7 @@ public class EidMappingContext implements EidTranslator {
                 org.opendaylight.yang.gen.v1.urn.honeycomb.params.xml.ns.yang.eid.mapping.context.rev160801.contexts.EidMappingContext.class,
                 new EidMappingContextKey(instanceName));
         this.artificialPrefix = artificialPrefix;
+        this.indexes = new MappingContextIndex<>(this::buildIndex);
     }
 
     /**
@@ -69,28 +90,22 @@ public class EidMappingContext implements EidTranslator {
      * @return name mapped to provided index
      */
     @Nonnull
-    public synchronized MappingId getId(
+    public MappingId getId(
             @Nonnull final org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.lisp.rev170911.dp.subtable.grouping.remote.mappings.remote.mapping.Eid remoteEid,
             @Nonnull final MappingContext mappingContext) {
-
-        final Optional<Mappings> read = mappingContext.read(namingContextIid.child(Mappings.class));
-        // create artificial mapping if no mapping present or does not contain key
-        // !read.isPresent() - no mappings are present,
-        // for example after restart and clean of persistence
-        // !containsId() - can happen with case described above after first mapping is
-        // created or if trying to find mapping for some eid that was created by vpp as
-        // byproduct of other call, or while trying to find mapping for default data
-        if (!read.isPresent() || !containsId(remoteEid, mappingContext)) {
-            final MappingId artificialMappingId = getMappingId(remoteEid.toString(), artificialPrefix);
-            addEid(artificialMappingId, remoteEid, mappingContext);
-            return artificialMappingId;
+        final MappingId id = findId(remoteEid, mappingContext);
+        if (id != null) {
+            return id;
         }
 
-        return read.get().getMapping()
-                .stream()
-                //cannot split to map + filtering,because its collecting mappings,not eid's
-                .filter(mapping -> compareEids(mapping.getEid(), remoteEid))
-                .collect(SINGLE_ITEM_COLLECTOR).getId();
+        // create artificial mapping if no mapping present or does not contain key
+        // - no mappings are present, for example after restart and clean of persistence
+        // - can happen with case described above after first mapping is created or if trying to find mapping
+        // for some eid that was created by vpp as byproduct of other call, or while trying to find mapping
+        // for default data
+        final MappingId artificialMappingId = getMappingId(remoteEid.toString(), artificialPrefix);
+        addEid(artificialMappingId, remoteEid, mappingContext);
+        return artificialMappingId;
     }
 
     private static MappingId getMappingId(final String eidValue, final String artificialPrefix) {
@@ -105,26 +120,18 @@ public class EidMappingContext implements EidTranslator {
      * @return name mapped to provided index
      */
     @Nonnull
-    public synchronized MappingId getId(
+    public MappingId getId(
             @Nonnull final org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.lisp.rev170911.dp.subtable.grouping.local.mappings.local.mapping.Eid eid,
             @Nonnull final MappingContext mappingContext) {
-
-        final Optional<Mappings> read = mappingContext.read(namingContextIid.child(Mappings.class));
-        // create artificial mapping if no mapping present or does not contain key
-        // !read.isPresent() - no mappings are present,
-        // for example after restart and clean of persistence
-        // !containsId() - can happen with case described above after first mapping is
-        // created or if trying to find mapping for some eid that was created by vpp as
-        // byproduct of other call, or while trying to find mapping for default data
-        if (!read.isPresent() || !containsId(eid, mappingContext)) {
-            final MappingId artificialMappingId = getMappingId(eid.toString(), artificialPrefix);
-            addEid(artificialMappingId, eid, mappingContext);
-            return artificialMappingId;
+        final MappingId id = findId(eid, mappingContext);
+        if (id != null) {
+            return id;
         }
 
-        return read.get().getMapping().stream()
-                .filter(mapping -> compareEids(mapping.getEid(), eid))
-                .collect(SINGLE_ITEM_COLLECTOR).getId();
+        // create artificial mapping, same cases as for remote eid apply
+        final MappingId artificialMappingId = getMappingId(eid.toString(), artificialPrefix);
+        addEid(artificialMappingId, eid, mappingContext);
+        return artificialMappingId;
     }
 
     /**
@@ -134,15 +141,10 @@ public class EidMappingContext implements EidTranslator {
      * @param mappingContext mapping context providing context data for current transaction
      * @return true if present, false otherwise
      */
-    public synchronized boolean containsId(
+    public boolean containsId(
             @Nonnull final org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.lisp.rev170911.dp.subtable.grouping.local.mappings.local.mapping.Eid eid,
             @Nonnull final MappingContext mappingContext) {
-        final Optional<Mappings> read = mappingContext.read(namingContextIid.child(Mappings.class));
-
-        return read.isPresent() &&
-                read.get().getMapping()
-                        .stream()
-                        .anyMatch(mapping -> compareEids(mapping.getEid(), eid));
+        return containsKey(eid, mappingContext);
     }
 
     /**
@@ -152,17 +154,24 @@ public class EidMappingContext implements EidTranslator {
      * @param mappingContext mapping context providing context data for current transaction
      * @return true if present, false otherwise
      */
-    public synchronized boolean containsId(
+    public boolean containsId(
             @Nonnull final org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.lisp.rev170911.dp.subtable.grouping.remote.mappings.remote.mapping.Eid eid,
             @Nonnull final MappingContext mappingContext) {
-        final Optional<Mappings> read = mappingContext.read(namingContextIid.child(Mappings.class));
+        return containsKey(eid, mappingContext);
+    }
 
-        return read.isPresent() &&
-                read.get().getMapping()
-                        .stream()
-                        .anyMatch(mapping -> compareEids(mapping.getEid(), eid));
+    @Nullable
+    private MappingId findId(final LispAddress eid, final MappingContext mappingContext) {
+        final EidKey key = toKey(eid);
+        return key == null
+                ? null
+                : indexes.get(mappingContext).getId(key);
     }
 
+    private boolean containsKey(final LispAddress eid, final MappingContext mappingContext) {
+        final EidKey key = toKey(eid);
+        return key != null && indexes.get(mappingContext).containsKey(key);
+    }
 
     /**
      * Add mapping to current context
@@ -171,13 +180,11 @@ public class EidMappingContext implements EidTranslator {
      * @param eid            eid data
      * @param mappingContext mapping context providing context data for current transaction
      */
-    public synchronized void addEid(
+    public void addEid(
             @Nonnull final MappingId index,
             @Nonnull final org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.lisp.rev170911.dp.subtable.grouping.local.mappings.local.mapping.Eid eid,
             final MappingContext mappingContext) {
-
-        final KeyedInstanceIdentifier<Mapping, MappingKey> mappingIid = getMappingIid(index);
-        mappingContext.put(mappingIid, new MappingBuilder().setId(index).setEid(copyEid(eid)).build());
+        addMapping(index, copyEid(eid), mappingContext);
     }
 
     /**
@@ -187,13 +194,21 @@ public class EidMappingContext implements EidTranslator {
      * @param eid            eid data
      * @param mappingContext mapping context providing context data for current transaction
      */
-    public synchronized void addEid(
+    public void addEid(
             @Nonnull final MappingId index,
             @Nonnull final org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.lisp.rev170911.dp.subtable.grouping.remote.mappings.remote.mapping.Eid eid,
             final MappingContext mappingContext) {
+        addMapping(index, copyEid(eid), mappingContext);
+    }
 
+    private void addMapping(final MappingId index, final Eid eid, final MappingContext mappingContext) {
         final KeyedInstanceIdentifier<Mapping, MappingKey> mappingIid = getMappingIid(index);
-        mappingContext.put(mappingIid, new MappingBuilder().setId(index).setEid(copyEid(eid)).build());
+        indexes.update(mappingContext,
+                () -> mappingContext.put(mappingIid, new MappingBuilder().setId(index).setEid(eid).build()),
+                eidIndex -> {
+                    eidIndex.put(index, toKey(eid));
+                    return true;
+                });
     }
 
     private KeyedInstanceIdentifier<Mapping, MappingKey> getMappingIid(final MappingId index) {
@@ -218,8 +233,9 @@ public class EidMappingContext implements EidTranslator {
      * @param index          identificator of a mapped item
      * @param mappingContext mapping context providing context data for current transaction
      */
-    public synchronized void removeEid(@Nonnull final MappingId index, final MappingContext mappingContext) {
-        mappingContext.delete(getMappingIid(index));
+    public void removeEid(@Nonnull final MappingId index, final MappingContext mappingContext) {
+        indexes.update(mappingContext, () -> mappingContext.delete(getMappingIid(index)),
+                eidIndex -> eidIndex.remove(index));
     }
 
     /**
@@ -230,7 +246,7 @@ public class EidMappingContext implements EidTranslator {
      * @return integer index value matching supplied name
      * @throws IllegalArgumentException if name was not found
      */
-    public synchronized Eid getEid(@Nonnull final MappingId index, final MappingContext mappingContext) {
+    public Eid getEid(@Nonnull final MappingId index, final MappingContext mappingContext) {
         final Optional<Mapping> read = mappingContext.read(getMappingIid(index));
         checkArgument(read.isPresent(), "No mapping stored for index: %s", index);
         return read.get().getEid();
@@ -243,8 +259,120 @@ public class EidMappingContext implements EidTranslator {
      * @param mappingContext mapping context providing context data for current transaction
      * @return true if present, false otherwise
      */
-    public synchronized boolean containsEid(@Nonnull final MappingId index,
-                                            @Nonnull final MappingContext mappingContext) {
+    public boolean containsEid(@Nonnull final MappingId index,
+                               @Nonnull final MappingContext mappingContext) {
         return mappingContext.read(getMappingIid(index)).isPresent();
     }
+
+    /**
+     * Returns canonical key for provided eid, or null for address types that are not matched by
+     * {@link #compareEids}.
+     */
+    @Nullable
+    private EidKey toKey(@Nullable final LispAddress eid) {
+        final Address address = eid == null
+                ? null
+                : eid.getAddress();
+        if (!(address instanceof Ipv4 || address instanceof Ipv6 || address instanceof Mac
+                || address instanceof Ipv4Prefix || address instanceof Ipv6Prefix)) {
+            return null;
+        }
+
+        final EidType type = EidTranslator.resolveType(address);
+        final Address normalized = normalizeIfPrefixBased(address);
+        final Long vni = eid.getVirtualNetworkId() == null
+                ? null
+                : eid.getVirtualNetworkId().getValue();
+        return new EidKey(type, vni, resolveByteArray(type, normalized), EidTranslator.resolverPrefixLength(normalized));
+    }
+
+    private EidIndex buildIndex(final MappingContext mappingContext) {
+        final EidIndex index = new EidIndex();
+        final Optional<Mappings> read = mappingContext.read(namingContextIid.child(Mappings.class));
+        if (read.isPresent() && read.get().getMapping() != null) {
+            read.get().getMapping().forEach(mapping -> index.put(mapping.getId(), toKey(mapping.getEid())));
+        }
+        return index;
+    }
+
+    /**
+     * Index of {@link EidKey} to {@link MappingId} mappings, together with eids indexed by address only.
+     * Modifications need to hold the lock of {@link MappingContextIndex}.
+     */
+    private static final class EidIndex {
+        private final ContextIndex<EidKey, MappingId> ids = new ContextIndex<>();
+
+        /**
+         * Keys of all stored eids per address, regardless of virtual network id. Mappings can be stored and looked up
+         * with or without virtual network id, such mappings are matched by address if it is not ambiguous.
+         */
+        private final ConcurrentMap<EidKey, Set<EidKey>> addressToKeys = new ConcurrentHashMap<>();
+
+        @Nullable
+        private MappingId getId(@Nonnull final EidKey key) {
+            final MappingId id = ids.get(key);
+            if (id != null) {
+                return id;
+            }
+
+            final Set<EidKey> candidates = addressToKeys.get(key.withoutVni());
+            if (candidates == null) {
+                return null;
+            }
+            final EidKey[] keys = candidates.toArray(new EidKey[0]);
+            if (keys.length > 1) {
+                throw new IllegalStateException("Multiple mappings defined for eid " + key);
+            }
+            if (keys.length == 0) {
+                return null;
+            }
+            return ids.get(keys[0]);
+        }
+
+        private boolean containsKey(@Nonnull final EidKey key) {
+            final Set<EidKey> candidates = addressToKeys.get(key.withoutVni());
+            return ids.containsKey(key) || (candidates != null && !candidates.isEmpty());
+        }
+
+        private void put(@Nonnull final MappingId id, @Nullable final EidKey key) {
+            final EidKey previousKey = ids.put(id, key);
+            if (previousKey != null && !previousKey.equals(key)) {
+                removeAddress(previousKey);
+            }
+            if (key != null) {
+                addressToKeys.computeIfAbsent(key.withoutVni(), address -> ConcurrentHashMap.newKeySet()).add(key);
+            }
+        }
+
+        /**
+         * Removes mapping for provided id.
+         *
+         * @return false if index can't be updated and needs to be rebuilt
+         */
+        private boolean remove(@Nonnull final MappingId id) {
+            final EidKey key = ids.getKey(id);
+            if (!ids.remove(id)) {
+                return false;
+            }
+            if (key != null) {
+                removeAddress(key);
+            }
+            return true;
+        }
+
+        private void removeAddress(final EidKey key) {
+            if (ids.containsKey(key)) {
+                // still mapped to other id
+                return;
+            }
+            final EidKey address = key.withoutVni();
+            final Set<EidKey> keys = addressToKeys.get(address);
+            if (keys != null) {
+                keys.remove(key);
+                if (keys.isEmpty()) {
+                    addressToKeys.remove(address);
+                }
+            }
+        }
+    }
 }
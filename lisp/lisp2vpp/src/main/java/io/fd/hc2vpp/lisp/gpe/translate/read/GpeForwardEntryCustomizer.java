@@ -91,7 +91,7 @@ public class GpeForwardEntryCustomizer extends FutureJVppCustomizer
                             GpeFwdEntryPathDump request = new GpeFwdEntryPathDump();
                             request.fwdEntryIndex = fwdEntryIndex;
                             return getReplyForRead(getFutureJVpp().gpeFwdEntryPathDump(request).toCompletableFuture(),
-                                    identifier);
+                                    identifier, GpeFwdEntryPathDump.class);
                         }).build();
         activeVnisDumpManager = new DumpCacheManager.DumpCacheManagerBuilder<GpeFwdEntryVnisGetReply, Void>()
                 .acceptOnly(GpeFwdEntryVnisGetReply.class)
@@ -66,13 +66,13 @@ public class NativeForwardPathsTableCustomizer extends FutureJVppCustomizer impl
                 .acceptOnly(IpFibDetailsReplyDump.class)
                 .withExecutor((identifier, params) -> getReplyForRead(
                         getFutureJVpp().ipFibDump(REQUEST_V4).toCompletableFuture(),
-                        identifier)).build();
+                        identifier, IpFibDump.class)).build();
 
         dumpCacheManagerV6 = new DumpCacheManagerBuilder<Ip6FibDetailsReplyDump, Void>()
                 .acceptOnly(Ip6FibDetailsReplyDump.class)
                 .withExecutor((identifier, params) -> getReplyForRead(
                         getFutureJVpp().ip6FibDump(REQUEST_V6).toCompletableFuture(),
-                        identifier)).build();
+                        identifier, Ip6FibDump.class)).build();
     }
 
     @Nonnull
@@ -0,0 +1,233 @@
+/*
+ * Copyright (c) 2017 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.fd.hc2vpp.lisp.translate.read;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static io.fd.hc2vpp.lisp.translate.read.dump.executor.params.MappingsDumpParams.EidType;
+import static io.fd.hc2vpp.lisp.translate.read.dump.executor.params.MappingsDumpParams.FilterType;
+import static io.fd.hc2vpp.lisp.translate.read.dump.executor.params.MappingsDumpParams.MappingsDumpParamsBuilder;
+import static io.fd.hc2vpp.lisp.translate.read.dump.executor.params.MappingsDumpParams.QuantityType;
+
+import com.google.common.base.Optional;
+import io.fd.hc2vpp.lisp.translate.read.dump.executor.params.MappingsDumpParams;
+import io.fd.hc2vpp.lisp.translate.read.trait.MappingReader;
+import io.fd.hc2vpp.lisp.translate.util.EidTranslator;
+import io.fd.honeycomb.translate.ModificationCache;
+import io.fd.honeycomb.translate.read.ReadFailedException;
+import io.fd.honeycomb.translate.util.read.cache.DumpCacheManager;
+import io.fd.honeycomb.translate.util.read.cache.StaticCacheKeyFactory;
+import io.fd.vpp.jvpp.core.dto.OneEidTableDetails;
+import io.fd.vpp.jvpp.core.dto.OneEidTableDetailsReplyDump;
+import io.fd.vpp.jvpp.core.future.FutureJVppCore;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.lisp.address.types.rev151105.lisp.address.Address;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Serves local and remote mappings of all eid tables from single dump of each kind per transaction, instead of dump
+ * per mapping. Dumped details are indexed by vni and eid (type, address and prefix length). Both dumps and indexes
+ * are stored in modification cache under static keys, so they are shared by all readers using this class and
+ * destroyed together with the transaction.
+ */
+public final class EidTableDumpIndex implements MappingReader, EidTranslator {
+
+    private static final Logger LOG = LoggerFactory.getLogger(EidTableDumpIndex.class);
+
+    private static final String LOCAL_INDEX_KEY = EidTableDumpIndex.class.getName() + "_localMappings";
+    private static final String REMOTE_INDEX_KEY = EidTableDumpIndex.class.getName() + "_remoteMappings";
+
+    private final DumpCacheManager<OneEidTableDetailsReplyDump, MappingsDumpParams> localDumpManager;
+    private final DumpCacheManager<OneEidTableDetailsReplyDump, MappingsDumpParams> remoteDumpManager;
+
+    public EidTableDumpIndex(@Nonnull final FutureJVppCore vppApi) {
+        checkNotNull(vppApi, "VPP api should not be null");
+        localDumpManager = dumpManager(vppApi, LOCAL_INDEX_KEY);
+        remoteDumpManager = dumpManager(vppApi, REMOTE_INDEX_KEY);
+    }
+
+    private DumpCacheManager<OneEidTableDetailsReplyDump, MappingsDumpParams> dumpManager(
+            final FutureJVppCore vppApi, final String indexKey) {
+        return new DumpCacheManager.DumpCacheManagerBuilder<OneEidTableDetailsReplyDump, MappingsDumpParams>()
+                .withCacheKeyFactory(new StaticCacheKeyFactory(indexKey + "_dump", OneEidTableDetailsReplyDump.class))
+                .withExecutor(createMappingDumpExecutor(vppApi))
+                .acceptOnly(OneEidTableDetailsReplyDump.class)
+                .build();
+    }
+
+    /**
+     * @return details of local mapping with provided eid in provided vni, or null if there is no such mapping in VPP
+     */
+    @Nullable
+    public OneEidTableDetails getLocalMapping(@Nonnull final InstanceIdentifier<?> id,
+                                              @Nonnull final ModificationCache cache,
+                                              final long vni,
+                                              @Nonnull final Address eid) throws ReadFailedException {
+        return getIndex(id, cache, FilterType.LOCAL).byEid.get(key(vni, eid));
+    }
+
+    /**
+     * @return details of all local mappings in provided vni, in order returned by VPP
+     */
+    @Nonnull
+    public List<OneEidTableDetails> getLocalMappings(@Nonnull final InstanceIdentifier<?> id,
+                                                     @Nonnull final ModificationCache cache,
+                                                     final long vni) throws ReadFailedException {
+        return getIndex(id, cache, FilterType.LOCAL).byVni.getOrDefault(vni, Collections.emptyList());
+    }
+
+    /**
+     * @return details of remote mapping with provided eid in provided vni, or null if there is no such mapping in VPP
+     */
+    @Nullable
+    public OneEidTableDetails getRemoteMapping(@Nonnull final InstanceIdentifier<?> id,
+                                               @Nonnull final ModificationCache cache,
+                                               final long vni,
+                                               @Nonnull final Address eid) throws ReadFailedException {
+        return getIndex(id, cache, FilterType.REMOTE).byEid.get(key(vni, eid));
+    }
+
+    /**
+     * @return details of all remote mappings in provided vni, in order returned by VPP
+     */
+    @Nonnull
+    public List<OneEidTableDetails> getRemoteMappings(@Nonnull final InstanceIdentifier<?> id,
+                                                      @Nonnull final ModificationCache cache,
+                                                      final long vni) throws ReadFailedException {
+        return getIndex(id, cache, FilterType.REMOTE).byVni.getOrDefault(vni, Collections.emptyList());
+    }
+
+    private MappingIndex getIndex(final InstanceIdentifier<?> id, final ModificationCache cache,
+                                  final FilterType filter) throws ReadFailedException {
+        final String indexKey = filter == FilterType.LOCAL
+                ? LOCAL_INDEX_KEY
+                : REMOTE_INDEX_KEY;
+        final MappingIndex index = (MappingIndex) cache.get(indexKey);
+        if (index != null) {
+            return index;
+        }
+
+        // eid set ALL dumps mappings of all vnis, so one dump serves all eid tables
+        final MappingsDumpParams params = new MappingsDumpParamsBuilder()
+                .setEidSet(QuantityType.ALL)
+                .setFilter(filter)
+                .build();
+        final DumpCacheManager<OneEidTableDetailsReplyDump, MappingsDumpParams> dumpManager =
+                filter == FilterType.LOCAL
+                        ? localDumpManager
+                        : remoteDumpManager;
+        final Optional<OneEidTableDetailsReplyDump> dump = dumpManager.getDump(id, cache, params);
+        final MappingIndex newIndex = new MappingIndex(dump.isPresent()
+                ? dump.get().oneEidTableDetails
+                : null);
+        LOG.debug("Indexed {} mappings under {}", newIndex.byEid.size(), indexKey);
+        cache.put(indexKey, newIndex);
+        return newIndex;
+    }
+
+    private MappingKey key(final long vni, final Address eid) {
+        final EidType type = EidTranslator.resolveType(eid);
+        return new MappingKey(vni, type.getVppTypeBinding(), resolveByteArray(type, eid),
+                EidTranslator.resolverPrefixLength(eid));
+    }
+
+    private static final class MappingIndex {
+        private final Map<MappingKey, OneEidTableDetails> byEid;
+        private final Map<Long, List<OneEidTableDetails>> byVni = new HashMap<>();
+
+        private MappingIndex(@Nullable final List<OneEidTableDetails> details) {
+            final List<OneEidTableDetails> nonNullDetails = details == null
+                    ? Collections.emptyList()
+                    : details;
+            byEid = new HashMap<>(nonNullDetails.size() * 2);
+            for (final OneEidTableDetails detail : nonNullDetails) {
+                final long vni = Integer.toUnsignedLong(detail.vni);
+                byEid.put(new MappingKey(vni, detail.eidType, detail.eid, detail.eidPrefixLen), detail);
+                byVni.computeIfAbsent(vni, key -> new ArrayList<>()).add(detail);
+            }
+        }
+    }
+
+    /**
+     * Eid of a mapping as used by VPP. Address is trimmed to length of its type and host bits of prefix based
+     * addresses are cleared, so that keys created from dumped details and from eid of the mapping are equal.
+     */
+    private static final class MappingKey {
+        private static final int MAC_LENGTH = 6;
+
+        private final long vni;
+        private final int type;
+        private final byte[] address;
+        private final int prefixLength;
+
+        private MappingKey(final long vni, final int type, final byte[] address, final byte prefixLength) {
+            this.vni = vni;
+            this.type = type;
+            if (type == EidType.MAC.getVppTypeBinding()) {
+                // prefix length is not relevant for mac
+                this.address = Arrays.copyOf(address, MAC_LENGTH);
+                this.prefixLength = 0;
+            } else {
+                final int length = type == EidType.IPV4.getVppTypeBinding()
+                        ? 4
+                        : 16;
+                this.prefixLength = Byte.toUnsignedInt(prefixLength);
+                this.address = mask(Arrays.copyOf(address, length), this.prefixLength);
+            }
+        }
+
+        private static byte[] mask(final byte[] address, final int prefixLength) {
+            for (int i = 0; i < address.length; i++) {
+                final int bits = prefixLength - i * Byte.SIZE;
+                if (bits <= 0) {
+                    address[i] = 0;
+                } else if (bits < Byte.SIZE) {
+                    address[i] &= (byte) (0xff << (Byte.SIZE - bits));
+                }
+            }
+            return address;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            final MappingKey that = (MappingKey) o;
+            return vni == that.vni && type == that.type && prefixLength == that.prefixLength
+                    && Arrays.equals(address, that.address);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * Objects.hash(vni, type, prefixLength) + Arrays.hashCode(address);
+        }
+    }
+}
@@ -44,6 +44,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import org.opendaylight.yang.gen.v1.urn.honeycomb.params.xml.ns.yang.eid.mapping.context.rev160801.contexts.eid.mapping.context.mappings.mapping.Eid;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.lisp.address.types.rev151105.lisp.address.Address;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.lisp.rev170911.HmacKeyType;
@@ -75,12 +76,23 @@ public class LocalMappingCustomizer
     private final DumpCacheManager<OneEidTableDetailsReplyDump, MappingsDumpParams> dumpManager;
     private final NamingContext locatorSetContext;
     private final EidMappingContext localMappingContext;
+    private final EidTableDumpIndex mappingIndex;
 
     public LocalMappingCustomizer(@Nonnull FutureJVppCore futureJvpp, @Nonnull NamingContext locatorSetContext,
                                   @Nonnull EidMappingContext localMappingsContext) {
+        this(futureJvpp, locatorSetContext, localMappingsContext, null);
+    }
+
+    /**
+     * @param mappingIndex if present, mappings are read from single dump of all local mappings per transaction
+     */
+    public LocalMappingCustomizer(@Nonnull FutureJVppCore futureJvpp, @Nonnull NamingContext locatorSetContext,
+                                  @Nonnull EidMappingContext localMappingsContext,
+                                  @Nullable EidTableDumpIndex mappingIndex) {
         super(futureJvpp);
         this.locatorSetContext = checkNotNull(locatorSetContext, "Locator Set Mapping Context cannot be null");
         this.localMappingContext = checkNotNull(localMappingsContext, "Local mappings context cannot be null");
+        this.mappingIndex = mappingIndex;
         this.dumpManager =
                 new DumpCacheManager.DumpCacheManagerBuilder<OneEidTableDetailsReplyDump, MappingsDumpParams>()
                         .withExecutor(createMappingDumpExecutor(futureJvpp))
@@ -106,7 +118,20 @@ public class LocalMappingCustomizer
         final long vni = id.firstKeyOf(VniTable.class).getVirtualNetworkIdentifier();
 
         final Eid eid = localMappingContext.getEid(mappingId, ctx.getMappingContext());
+        final OneEidTableDetails details = mappingIndex != null
+                ? mappingIndex.getLocalMapping(id, ctx.getModificationCache(), vni, eid.getAddress())
+                : dumpLocalMapping(id, ctx, vni, eid);
+
+        if (details == null || !subtableFilterForLocalMappings(id).test(details)) {
+            return;
+        }
+
+        bindDetails(id, builder, ctx, details);
+    }
 
+    @Nullable
+    private OneEidTableDetails dumpLocalMapping(final InstanceIdentifier<LocalMapping> id, final ReadContext ctx,
+                                                final long vni, final Eid eid) throws ReadFailedException {
         //Requesting for specific mapping dump,only from local mappings with specified eid/vni/eid type
         final MappingsDumpParams dumpParams = new MappingsDumpParams.MappingsDumpParamsBuilder()
                 .setEidSet(QuantityType.SPECIFIC)
@@ -121,14 +146,17 @@ public class LocalMappingCustomizer
                 dumpManager.getDump(id, ctx.getModificationCache(), dumpParams);
 
         if (!replyOptional.isPresent() || replyOptional.get().oneEidTableDetails.isEmpty()) {
-            return;
+            return null;
         }
 
-        OneEidTableDetails details = replyOptional.get().oneEidTableDetails.stream()
+        return replyOptional.get().oneEidTableDetails.stream()
                 .filter(subtableFilterForLocalMappings(id))
                 .filter(detail -> compareAddresses(eid.getAddress(), getAddressFromDumpDetail(detail)))
                 .collect(RWUtils.singleItemCollector());
+    }
 
+    private void bindDetails(final InstanceIdentifier<LocalMapping> id, final LocalMappingBuilder builder,
+                             final ReadContext ctx, final OneEidTableDetails details) {
         //in case of local mappings,locator_set_index stands for interface index
         checkState(locatorSetContext.containsName(details.locatorSetIndex, ctx.getMappingContext()),
                 "No Locator Set name found for index %s", details.locatorSetIndex);
@@ -165,6 +193,10 @@ public class LocalMappingCustomizer
             return Collections.emptyList();
         }
 
+        if (mappingIndex != null) {
+            return toKeys(id, mappingIndex.getLocalMappings(id, context.getModificationCache(), vni), context);
+        }
+
         //request for all local mappings
         final MappingsDumpParams dumpParams = new MappingsDumpParamsBuilder()
                 .setFilter(FilterType.LOCAL)
@@ -180,8 +212,15 @@ public class LocalMappingCustomizer
         }
 
 
-        return replyOptional.get().oneEidTableDetails.stream()
+        return toKeys(id, replyOptional.get().oneEidTableDetails.stream()
                 .filter(a -> a.vni == vni)
+                .collect(Collectors.toList()), context);
+    }
+
+    private List<LocalMappingKey> toKeys(final InstanceIdentifier<LocalMapping> id,
+                                         final List<OneEidTableDetails> details,
+                                         final ReadContext context) {
+        return details.stream()
                 .filter(subtableFilterForLocalMappings(id))
                 .map(detail -> getArrayAsEidLocal(valueOf(detail.eidType), detail.eid, detail.eidPrefixLen, detail.vni))
                 .map(localEid -> localMappingContext.getId(localEid, context.getMappingContext()))
@@ -62,7 +62,7 @@ public class MapResolverCustomizer extends CheckedLispCustomizer
                 new DumpCacheManager.DumpCacheManagerBuilder<OneMapResolverDetailsReplyDump, Void>()
                         .withExecutor((identifier, params) -> getReplyForRead(
                                 futureJvpp.oneMapResolverDump(new OneMapResolverDump()).toCompletableFuture(),
-                                identifier))
+                                identifier, OneMapResolverDump.class))
                         .acceptOnly(OneMapResolverDetailsReplyDump.class)
                         .build();
     }
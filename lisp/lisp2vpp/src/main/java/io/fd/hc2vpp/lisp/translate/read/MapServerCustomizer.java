@@ -66,7 +66,8 @@ public class MapServerCustomizer extends CheckedLispCustomizer
                 .acceptOnly(OneMapServerDetailsReplyDump.class)
                 .withExecutor((instanceIdentifier, aVoid) ->
                         getReplyForRead(getFutureJVpp()
-                                .oneMapServerDump(new OneMapServerDump()).toCompletableFuture(), instanceIdentifier))
+                                .oneMapServerDump(new OneMapServerDump()).toCompletableFuture(),
+                                instanceIdentifier, OneMapServerDump.class))
                 .build();
     }
 
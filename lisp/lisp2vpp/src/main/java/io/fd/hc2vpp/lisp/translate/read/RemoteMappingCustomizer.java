@@ -55,6 +55,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.IpAddress;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.lisp.rev170911.MapReplyAction;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.lisp.rev170911.MappingId;
@@ -95,13 +96,25 @@ public class RemoteMappingCustomizer extends FutureJVppCustomizer
     private final DumpCacheManager<OneLocatorDetailsReplyDump, LocatorDumpParams> locatorsDumpManager;
     private final NamingContext locatorSetContext;
     private final EidMappingContext remoteMappingContext;
+    private final EidTableDumpIndex mappingIndex;
 
     public RemoteMappingCustomizer(@Nonnull final FutureJVppCore futureJvpp,
                                    @Nonnull final NamingContext locatorSetContext,
                                    @Nonnull final EidMappingContext remoteMappingContext) {
+        this(futureJvpp, locatorSetContext, remoteMappingContext, null);
+    }
+
+    /**
+     * @param mappingIndex if present, mappings are read from single dump of all remote mappings per transaction
+     */
+    public RemoteMappingCustomizer(@Nonnull final FutureJVppCore futureJvpp,
+                                   @Nonnull final NamingContext locatorSetContext,
+                                   @Nonnull final EidMappingContext remoteMappingContext,
+                                   @Nullable final EidTableDumpIndex mappingIndex) {
         super(futureJvpp);
         this.locatorSetContext = checkNotNull(locatorSetContext, "Locator sets context not present");
         this.remoteMappingContext = checkNotNull(remoteMappingContext, "Remote mappings not present");
+        this.mappingIndex = mappingIndex;
         // this one should have default scope == RemoteMapping
         this.dumpManager =
                 new DumpCacheManager.DumpCacheManagerBuilder<OneEidTableDetailsReplyDump, MappingsDumpParams>()
@@ -149,6 +162,25 @@ public class RemoteMappingCustomizer extends FutureJVppCustomizer
 
         final long vni = id.firstKeyOf(VniTable.class).getVirtualNetworkIdentifier();
         final Eid eid = copyEid(remoteMappingContext.getEid(mappingId, ctx.getMappingContext()));
+        final OneEidTableDetails details = mappingIndex != null
+                ? mappingIndex.getRemoteMapping(id, ctx.getModificationCache(), vni, eid.getAddress())
+                : dumpRemoteMapping(id, ctx, vni, eid);
+
+        if (details == null || !subtableFilterForRemoteMappings(id).test(details)) {
+            return;
+        }
+
+        builder.setEid(getArrayAsEidRemote(valueOf(details.eidType), details.eid, details.eidPrefixLen, details.vni));
+        builder.setKey(new RemoteMappingKey(new MappingId(id.firstKeyOf(RemoteMapping.class).getId())));
+        builder.setTtl(resolveTtl(details.ttl));
+        builder.setAuthoritative(
+                new RemoteMapping.Authoritative(byteToBoolean(details.authoritative)));
+        resolveMappings(id, builder, details, ctx.getModificationCache(), ctx.getMappingContext());
+    }
+
+    @Nullable
+    private OneEidTableDetails dumpRemoteMapping(final InstanceIdentifier<RemoteMapping> id, final ReadContext ctx,
+                                                 final long vni, final Eid eid) throws ReadFailedException {
         final MappingsDumpParams dumpParams = new MappingsDumpParamsBuilder()
                 .setVni(Long.valueOf(vni).intValue())
                 .setEidSet(QuantityType.SPECIFIC)
@@ -163,24 +195,17 @@ public class RemoteMappingCustomizer extends FutureJVppCustomizer
                 dumpManager.getDump(id, ctx.getModificationCache(), dumpParams);
 
         if (!replyOptional.isPresent() || replyOptional.get().oneEidTableDetails.isEmpty()) {
-            return;
+            return null;
         }
 
         LOG.debug("Valid dump loaded");
 
-        OneEidTableDetails details = replyOptional.get().oneEidTableDetails.stream()
+        return replyOptional.get().oneEidTableDetails.stream()
                 .filter(subtableFilterForRemoteMappings(id))
                 .filter(a -> compareAddresses(eid.getAddress(),
                         getArrayAsEidLocal(valueOf(a.eidType), a.eid, a.eidPrefixLen, a.vni).getAddress()))
                 .collect(
                         RWUtils.singleItemCollector());
-
-        builder.setEid(getArrayAsEidRemote(valueOf(details.eidType), details.eid, details.eidPrefixLen, details.vni));
-        builder.setKey(new RemoteMappingKey(new MappingId(id.firstKeyOf(RemoteMapping.class).getId())));
-        builder.setTtl(resolveTtl(details.ttl));
-        builder.setAuthoritative(
-                new RemoteMapping.Authoritative(byteToBoolean(details.authoritative)));
-        resolveMappings(id, builder, details, ctx.getModificationCache(), ctx.getMappingContext());
     }
 
     @Override
@@ -197,6 +222,10 @@ public class RemoteMappingCustomizer extends FutureJVppCustomizer
             return Collections.emptyList();
         }
 
+        if (mappingIndex != null) {
+            return toKeys(id, mappingIndex.getRemoteMappings(id, context.getModificationCache(), vni), context);
+        }
+
         //requesting all remote with specific vni
         final MappingsDumpParams dumpParams = new MappingsDumpParamsBuilder()
                 .setEidSet(QuantityType.ALL)
@@ -211,10 +240,17 @@ public class RemoteMappingCustomizer extends FutureJVppCustomizer
             return Collections.emptyList();
         }
 
-        return replyOptional.get()
+        return toKeys(id, replyOptional.get()
                 .oneEidTableDetails
                 .stream()
                 .filter(a -> a.vni == vni)
+                .collect(Collectors.toList()), context);
+    }
+
+    private List<RemoteMappingKey> toKeys(final InstanceIdentifier<RemoteMapping> id,
+                                          final List<OneEidTableDetails> details,
+                                          final ReadContext context) {
+        return details.stream()
                 .filter(subtableFilterForRemoteMappings(id))
                 .map(detail -> getArrayAsEidRemote(valueOf(detail.eidType), detail.eid, detail.eidPrefixLen, detail.vni))
                 .map(remoteEid -> remoteMappingContext.getId(remoteEid, context.getMappingContext()))
@@ -65,7 +65,8 @@ public class VniTableCustomizer extends CheckedLispCustomizer
         super(futureJvpp, lispStateCheckService);
         this.dumpManager = new DumpCacheManager.DumpCacheManagerBuilder<OneEidTableVniDetailsReplyDump, Void>()
                 .withExecutor(((identifier, params) -> getReplyForRead(
-                        futureJvpp.oneEidTableVniDump(new OneEidTableVniDump()).toCompletableFuture(), identifier)))
+                        futureJvpp.oneEidTableVniDump(new OneEidTableVniDump()).toCompletableFuture(),
+                                identifier, OneEidTableVniDump.class)))
                 .acceptOnly(OneEidTableVniDetailsReplyDump.class)
                 .build();
     }
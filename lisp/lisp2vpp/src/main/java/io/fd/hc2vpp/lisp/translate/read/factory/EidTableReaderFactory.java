@@ -18,9 +18,12 @@ package io.fd.hc2vpp.lisp.translate.read.factory;
 
 
 import com.google.common.collect.ImmutableSet;
+import com.google.inject.Inject;
+import io.fd.hc2vpp.lisp.cfgattrs.LispConfiguration;
 import io.fd.hc2vpp.lisp.translate.AbstractLispInfraFactoryBase;
 import io.fd.hc2vpp.lisp.translate.read.AdjacencyCustomizer;
 import io.fd.hc2vpp.lisp.translate.read.BridgeDomainSubtableCustomizer;
+import io.fd.hc2vpp.lisp.translate.read.EidTableDumpIndex;
 import io.fd.hc2vpp.lisp.translate.read.LocalMappingCustomizer;
 import io.fd.hc2vpp.lisp.translate.read.RemoteMappingCustomizer;
 import io.fd.hc2vpp.lisp.translate.read.VniTableCustomizer;
@@ -70,8 +73,15 @@ public final class EidTableReaderFactory extends AbstractLispInfraFactoryBase im
     private static final InstanceIdentifier<BridgeDomainSubtable> BRIDGE_DOMAIN_SUBTABLE_IID =
             VNI_TABLE_IID.child(BridgeDomainSubtable.class);
 
+    @Inject
+    private LispConfiguration configuration;
+
     @Override
     public void init(@Nonnull final ModifiableReaderRegistryBuilder registry) {
+        // if present, mappings of all eid tables are read using single dump per transaction
+        final EidTableDumpIndex mappingIndex = configuration.isBatchedMappingReadEnabled()
+                ? new EidTableDumpIndex(vppApi)
+                : null;
 
         //EidTable
         registry.addStructuralReader(EID_TABLE_IID, EidTableBuilder.class);
@@ -85,8 +95,8 @@ public final class EidTableReaderFactory extends AbstractLispInfraFactoryBase im
         registry.add(new GenericInitReader<>(BRIDGE_DOMAIN_SUBTABLE_IID,
                 new BridgeDomainSubtableCustomizer(vppApi, bridgeDomainContext)));
 
-        addLocalMappingSubtree(registry);
-        addRemoteMappingSubtree(registry);
+        addLocalMappingSubtree(registry, mappingIndex);
+        addRemoteMappingSubtree(registry, mappingIndex);
         addAdjacenciesSubtree(registry);
     }
 
@@ -96,7 +106,8 @@ public final class EidTableReaderFactory extends AbstractLispInfraFactoryBase im
      * EidTable -> VniTable -> VrfSubtable -> LocalMappings -> LocalMapping
      * EidTable -> VniTable -> BridgeDomainSubtable -> LocalMappings -> LocalMapping
      */
-    private void addLocalMappingSubtree(final @Nonnull ModifiableReaderRegistryBuilder registry) {
+    private void addLocalMappingSubtree(final @Nonnull ModifiableReaderRegistryBuilder registry,
+                                        final EidTableDumpIndex mappingIndex) {
         final InstanceIdentifier<LocalMappings> vrfTableLocalMappingsId = VRF_SUBTABLE_IID.child(LocalMappings.class);
 
         final InstanceIdentifier<LocalMappings> bridgeDomainLocalMappingsId =
@@ -111,18 +122,21 @@ public final class EidTableReaderFactory extends AbstractLispInfraFactoryBase im
 
         registry.subtreeAdd(localMappingHandledChildren,
                 new GenericInitListReader<>(vrfTableLocalMappingsId.child(LocalMapping.class),
-                        new LocalMappingCustomizer(vppApi, locatorSetContext, localMappingContext)));
+                        new LocalMappingCustomizer(vppApi, locatorSetContext, localMappingContext,
+                                mappingIndex)));
 
         registry.subtreeAdd(localMappingHandledChildren,
                 new GenericInitListReader<>(bridgeDomainLocalMappingsId.child(LocalMapping.class),
-                        new LocalMappingCustomizer(vppApi, locatorSetContext, localMappingContext)));
+                        new LocalMappingCustomizer(vppApi, locatorSetContext, localMappingContext,
+                                mappingIndex)));
     }
 
     /**
      * EidTable -> VniTable -> VrfSubtable -> RemoteMappings
      * EidTable -> VniTable -> BridgeDomainSubtable -> RemoteMappings
      */
-    private void addRemoteMappingSubtree(final @Nonnull ModifiableReaderRegistryBuilder registry) {
+    private void addRemoteMappingSubtree(final @Nonnull ModifiableReaderRegistryBuilder registry,
+                                         final EidTableDumpIndex mappingIndex) {
         final InstanceIdentifier<RemoteMappings> vrfTableRemoteMappingsId =
                 VRF_SUBTABLE_IID.child(RemoteMappings.class);
         final InstanceIdentifier<RemoteMappings> bridgeDomainRemoteMappingsId =
@@ -142,10 +156,12 @@ public final class EidTableReaderFactory extends AbstractLispInfraFactoryBase im
 
         registry.subtreeAdd(remoteMappingHandledChildren,
                 new GenericInitListReader<>(vrfTableRemoteMappingsId.child(RemoteMapping.class),
-                        new RemoteMappingCustomizer(vppApi, locatorSetContext, remoteMappingContext)));
+                        new RemoteMappingCustomizer(vppApi, locatorSetContext, remoteMappingContext,
+                                mappingIndex)));
         registry.subtreeAdd(remoteMappingHandledChildren,
                 new GenericInitListReader<>(bridgeDomainRemoteMappingsId.child(RemoteMapping.class),
-                        new RemoteMappingCustomizer(vppApi, locatorSetContext, remoteMappingContext)));
+                        new RemoteMappingCustomizer(vppApi, locatorSetContext, remoteMappingContext,
+                                mappingIndex)));
     }
 
     /**
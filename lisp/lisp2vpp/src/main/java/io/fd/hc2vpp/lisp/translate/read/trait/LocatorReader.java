@@ -40,7 +40,8 @@ public interface LocatorReader extends JvppReplyConsumer {
             //flag that lsIndex is set
             request.isIndexSet = (byte) 1;
 
-            return getReplyForRead(vppApi.oneLocatorDump(request).toCompletableFuture(), identifier);
+            return getReplyForRead(vppApi.oneLocatorDump(request).toCompletableFuture(),
+                    identifier, OneLocatorDump.class);
         };
     }
 }
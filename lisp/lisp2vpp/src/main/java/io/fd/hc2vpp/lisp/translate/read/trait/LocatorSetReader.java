@@ -35,7 +35,8 @@ public interface LocatorSetReader extends JvppReplyConsumer {
             final OneLocatorSetDump request = new OneLocatorSetDump();
             //only local
             request.filter = 1;
-            return getReplyForRead(vppApi.oneLocatorSetDump(request).toCompletableFuture(), identifier);
+            return getReplyForRead(vppApi.oneLocatorSetDump(request).toCompletableFuture(),
+                    identifier, OneLocatorSetDump.class);
         };
     }
 }
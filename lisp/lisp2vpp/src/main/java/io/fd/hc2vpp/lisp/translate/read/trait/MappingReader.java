@@ -84,7 +84,8 @@ public interface MappingReader extends JvppReplyConsumer {
             request.vni = params.getVni();
             request.filter = params.getFilter();
 
-            return getReplyForRead(vppApi.oneEidTableDump(request).toCompletableFuture(), identifier);
+            return getReplyForRead(vppApi.oneEidTableDump(request).toCompletableFuture(),
+                    identifier, OneEidTableDump.class);
         };
     }
 }
@@ -43,7 +43,8 @@ public interface SubtableReader extends JvppReplyConsumer {
         return (identifier, params) -> {
             final OneEidTableMapDump request = new OneEidTableMapDump();
             request.isL2 = checkNotNull(params, "Cannot bind null params").isL2();
-            return getReplyForRead(vppApi.oneEidTableMapDump(request).toCompletableFuture(), identifier);
+            return getReplyForRead(vppApi.oneEidTableMapDump(request).toCompletableFuture(),
+                    identifier, OneEidTableMapDump.class);
         };
     }
 }
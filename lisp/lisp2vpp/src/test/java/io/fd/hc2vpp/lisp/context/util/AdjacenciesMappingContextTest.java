@@ -17,6 +17,7 @@
 package io.fd.hc2vpp.lisp.context.util;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -136,6 +137,32 @@ public class AdjacenciesMappingContextTest implements InjectablesProcessor {
         assertTrue(adjacenciesMappingContext.containsId(LOCAL_EID_ID_3, REMOTE_EID_ID_3, mappingContext));
     }
 
+    @Test
+    public void lookupsReadMappingsOnce() throws Exception {
+        adjacenciesMappingContext.getAdjacencyId(LOCAL_EID_ID_1, REMOTE_EID_ID_1, mappingContext);
+        adjacenciesMappingContext.getAdjacencyId(LOCAL_EID_ID_2, REMOTE_EID_ID_2, mappingContext);
+        adjacenciesMappingContext.containsId(LOCAL_EID_ID_3, REMOTE_EID_ID_3, mappingContext);
+        verify(mappingContext, times(1)).read(adjacenciesMappingContextId.child(Mappings.class));
+    }
+
+    @Test
+    public void containsIdAfterAddAndRemove() throws Exception {
+        assertFalse(adjacenciesMappingContext.containsId(LOCAL_EID_ID_1, REMOTE_EID_ID_3, mappingContext));
+
+        adjacenciesMappingContext.addEidPair(PARENT_4, LOCAL_EID_ID_1, REMOTE_EID_ID_3, mappingContext);
+        assertTrue(adjacenciesMappingContext.containsId(LOCAL_EID_ID_1, REMOTE_EID_ID_3, mappingContext));
+        assertEquals(PARENT_4,
+                adjacenciesMappingContext.getAdjacencyId(LOCAL_EID_ID_1, REMOTE_EID_ID_3, mappingContext));
+
+        adjacenciesMappingContext.removeForIndex(PARENT_1, mappingContext);
+        assertFalse(adjacenciesMappingContext.containsId(LOCAL_EID_ID_1, REMOTE_EID_ID_1, mappingContext));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void getAdjacencyIdNotPresent() throws Exception {
+        adjacenciesMappingContext.getAdjacencyId(LOCAL_EID_ID_1, REMOTE_EID_ID_2, mappingContext);
+    }
+
     @Test
     public void addEidPair() throws Exception {
         adjacenciesMappingContext.addEidPair(PARENT_4, LOCAL_EID_ID_1, REMOTE_EID_ID_3, mappingContext);
@@ -18,15 +18,26 @@ package io.fd.hc2vpp.lisp.context.util;
 
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
+import com.google.common.base.Optional;
+import com.google.common.collect.Lists;
 import io.fd.hc2vpp.lisp.util.EidMappingContextHelper;
 import io.fd.honeycomb.translate.MappingContext;
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.opendaylight.yang.gen.v1.urn.honeycomb.params.xml.ns.yang.eid.mapping.context.rev160801.contexts.eid.mapping.context.Mappings;
+import org.opendaylight.yang.gen.v1.urn.honeycomb.params.xml.ns.yang.eid.mapping.context.rev160801.contexts.eid.mapping.context.MappingsBuilder;
+import org.opendaylight.yang.gen.v1.urn.honeycomb.params.xml.ns.yang.eid.mapping.context.rev160801.contexts.eid.mapping.context.mappings.MappingBuilder;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.Ipv4Address;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.lisp.address.types.rev151105.InstanceIdType;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.lisp.address.types.rev151105.lisp.address.address.Ipv4;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.lisp.address.types.rev151105.lisp.address.address.Ipv4Builder;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.lisp.address.types.rev151105.lisp.address.address.Ipv4Prefix;
@@ -34,6 +45,7 @@ import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.lisp.addres
 import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.lisp.rev170911.MappingId;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.lisp.rev170911.dp.subtable.grouping.local.mappings.local.mapping.Eid;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.lisp.rev170911.dp.subtable.grouping.local.mappings.local.mapping.EidBuilder;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
 
 public class EidMappingContextTest implements EidMappingContextHelper {
 
@@ -168,6 +180,65 @@ public class EidMappingContextTest implements EidMappingContextHelper {
         assertEquals(remoteEid.getVirtualNetworkId(), eid.getVirtualNetworkId());
     }
 
+    @Test
+    public void testLookupsReadMappingsOnce() {
+        final MappingContext ctx = mock(MappingContext.class);
+        final InstanceIdentifier<Mappings> mappingsIid =
+                mappingIid(mappingId, EID_MAPPING_CONTEXT_NAME).firstIdentifierOf(Mappings.class);
+        when(ctx.read(mappingsIid)).thenReturn(Optional.of(new MappingsBuilder().setMapping(Lists.newArrayList(
+                new MappingBuilder().setId(mappingId).setEid(mappingEid).build(),
+                new MappingBuilder().setId(mappingIdPrefixBased).setEid(mappingEidPrefixBased).build())).build()));
+
+        assertEquals(mappingId, eidMappingContext.getId(localEid, ctx));
+        assertEquals(mappingId, eidMappingContext.getId(remoteEid, ctx));
+        assertEquals(mappingIdPrefixBased, eidMappingContext.getId(localPrefixBasedEid, ctx));
+        assertTrue(eidMappingContext.containsId(remoteEidPrefixBasedNormalized, ctx));
+        verify(ctx, times(1)).read(mappingsIid);
+    }
+
+    @Test
+    public void testGetIdByVirtualNetworkId() {
+        final MappingId vni10MappingId = new MappingId("vni-10");
+        final MappingId vni20MappingId = new MappingId("vni-20");
+        final Eid vni10Eid = new EidBuilder(localEid).setVirtualNetworkId(new InstanceIdType(10L)).build();
+        final Eid vni20Eid = new EidBuilder(localEid).setVirtualNetworkId(new InstanceIdType(20L)).build();
+        final MappingContext ctx = mock(MappingContext.class);
+        when(ctx.read(mappingIid(vni10MappingId, EID_MAPPING_CONTEXT_NAME).firstIdentifierOf(Mappings.class)))
+                .thenReturn(Optional.of(new MappingsBuilder().setMapping(Lists.newArrayList(
+                        new MappingBuilder().setId(vni10MappingId).setEid(fromLocalToMappingEid(vni10Eid)).build(),
+                        new MappingBuilder().setId(vni20MappingId).setEid(fromLocalToMappingEid(vni20Eid)).build()))
+                        .build()));
+
+        // same address in different virtual networks is mapped separately
+        assertEquals(vni10MappingId, eidMappingContext.getId(vni10Eid, ctx));
+        assertEquals(vni20MappingId, eidMappingContext.getId(vni20Eid, ctx));
+    }
+
+    @Test
+    public void testGetIdWithoutStoredVirtualNetworkId() {
+        // mapping stored without virtual network id is matched by address
+        final Eid vniEid = new EidBuilder(localEid).setVirtualNetworkId(new InstanceIdType(10L)).build();
+        assertEquals(mappingId, eidMappingContext.getId(vniEid, mappingContext));
+    }
+
+    @Test
+    public void testGetIdAfterAddAndRemove() {
+        final MappingId addedMappingId = new MappingId("added");
+        final Eid addedEid =
+                new EidBuilder().setAddress(new Ipv4Builder().setIpv4(new Ipv4Address("10.0.0.1")).build()).build();
+        // builds the index
+        assertFalse(eidMappingContext.containsId(addedEid, mappingContext));
+
+        eidMappingContext.addEid(addedMappingId, addedEid, mappingContext);
+        assertTrue(eidMappingContext.containsId(addedEid, mappingContext));
+        assertEquals(addedMappingId, eidMappingContext.getId(addedEid, mappingContext));
+
+        eidMappingContext.removeEid(mappingId, mappingContext);
+        assertFalse(eidMappingContext.containsId(localEid, mappingContext));
+        // artificial mapping is created for eids without mapping
+        assertEquals(new MappingId("eid-ctx-" + localEid.toString()), eidMappingContext.getId(localEid, mappingContext));
+    }
+
     private org.opendaylight.yang.gen.v1.urn.honeycomb.params.xml.ns.yang.eid.mapping.context.rev160801.contexts.eid.mapping.context.mappings.mapping.Eid fromLocalToMappingEid(
             Eid eid) {
         return new org.opendaylight.yang.gen.v1.urn.honeycomb.params.xml.ns.yang.eid.mapping.context.rev160801.contexts.eid.mapping.context.mappings.mapping.EidBuilder()
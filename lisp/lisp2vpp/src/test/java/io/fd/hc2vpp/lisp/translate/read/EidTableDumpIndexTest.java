@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2017 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.fd.hc2vpp.lisp.translate.read;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.MockitoAnnotations.initMocks;
+
+import com.google.common.collect.ImmutableList;
+import io.fd.hc2vpp.common.test.util.FutureProducer;
+import io.fd.hc2vpp.lisp.translate.read.dump.executor.params.MappingsDumpParams.FilterType;
+import io.fd.hc2vpp.lisp.translate.read.dump.executor.params.MappingsDumpParams.QuantityType;
+import io.fd.honeycomb.translate.ModificationCache;
+import io.fd.honeycomb.translate.read.ReadFailedException;
+import io.fd.vpp.jvpp.core.dto.OneEidTableDetails;
+import io.fd.vpp.jvpp.core.dto.OneEidTableDetailsReplyDump;
+import io.fd.vpp.jvpp.core.dto.OneEidTableDump;
+import io.fd.vpp.jvpp.core.future.FutureJVppCore;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.Ipv4Address;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.Ipv4Prefix;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.lisp.address.types.rev151105.lisp.address.Address;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.lisp.address.types.rev151105.lisp.address.address.Ipv4Builder;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.lisp.address.types.rev151105.lisp.address.address.Ipv4PrefixBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.lisp.rev170911.eid.table.grouping.EidTable;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+
+public class EidTableDumpIndexTest implements FutureProducer {
+
+    private static final InstanceIdentifier<EidTable> ID = InstanceIdentifier.create(EidTable.class);
+
+    private static final Address HOST = new Ipv4Builder().setIpv4(new Ipv4Address("192.168.2.1")).build();
+    private static final Address PREFIX =
+            new Ipv4PrefixBuilder().setIpv4Prefix(new Ipv4Prefix("10.0.0.7/24")).build();
+
+    @Mock
+    private FutureJVppCore api;
+
+    private ModificationCache cache;
+    private EidTableDumpIndex index;
+
+    @Before
+    public void setUp() {
+        initMocks(this);
+        cache = new ModificationCache();
+        index = new EidTableDumpIndex(api);
+    }
+
+    @Test
+    public void testRemoteMappingsDumpedOnce() throws ReadFailedException {
+        final OneEidTableDetails host = mapping(12, new byte[]{-64, -88, 2, 1}, 32);
+        final OneEidTableDetails prefix = mapping(12, new byte[]{10, 0, 0, 0}, 24);
+        final OneEidTableDetails otherVni = mapping(13, new byte[]{-64, -88, 2, 1}, 32);
+        final OneEidTableDetailsReplyDump reply = new OneEidTableDetailsReplyDump();
+        reply.oneEidTableDetails = ImmutableList.of(host, prefix, otherVni);
+        when(api.oneEidTableDump(any())).thenReturn(future(reply));
+
+        assertSame(host, index.getRemoteMapping(ID, cache, 12, HOST));
+        // host bits of prefix are not relevant
+        assertSame(prefix, index.getRemoteMapping(ID, cache, 12, PREFIX));
+        assertSame(otherVni, index.getRemoteMapping(ID, cache, 13, HOST));
+        assertNull(index.getRemoteMapping(ID, cache, 14, HOST));
+        // order of VPP is kept
+        assertEquals(ImmutableList.of(host, prefix), index.getRemoteMappings(ID, cache, 12));
+        assertTrue(index.getRemoteMappings(ID, cache, 14).isEmpty());
+        // other instances share the index through the cache
+        assertSame(host, new EidTableDumpIndex(api).getRemoteMapping(ID, cache, 12, HOST));
+
+        final ArgumentCaptor<OneEidTableDump> request = ArgumentCaptor.forClass(OneEidTableDump.class);
+        verify(api, times(1)).oneEidTableDump(request.capture());
+        assertEquals(QuantityType.ALL.getValue(), request.getValue().eidSet);
+        assertEquals(FilterType.REMOTE.getValue(), request.getValue().filter);
+    }
+
+    @Test
+    public void testLocalAndRemoteMappingsDumpedSeparately() throws ReadFailedException {
+        final OneEidTableDetails local = mapping(12, new byte[]{-64, -88, 2, 1}, 32);
+        final OneEidTableDetailsReplyDump reply = new OneEidTableDetailsReplyDump();
+        reply.oneEidTableDetails = ImmutableList.of(local);
+        when(api.oneEidTableDump(any())).thenReturn(future(reply));
+
+        assertSame(local, index.getLocalMapping(ID, cache, 12, HOST));
+        assertEquals(ImmutableList.of(local), index.getLocalMappings(ID, cache, 12));
+        index.getRemoteMappings(ID, cache, 12);
+
+        final ArgumentCaptor<OneEidTableDump> request = ArgumentCaptor.forClass(OneEidTableDump.class);
+        verify(api, times(2)).oneEidTableDump(request.capture());
+        assertEquals(FilterType.LOCAL.getValue(), request.getAllValues().get(0).filter);
+        assertEquals(FilterType.REMOTE.getValue(), request.getAllValues().get(1).filter);
+    }
+
+    private static OneEidTableDetails mapping(final int vni, final byte[] eid, final int prefixLength) {
+        final OneEidTableDetails details = new OneEidTableDetails();
+        details.vni = vni;
+        details.eidType = 0;
+        details.eid = eid;
+        details.eidPrefixLen = (byte) prefixLength;
+        return details;
+    }
+}
@@ -20,6 +20,8 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.google.common.collect.ImmutableList;
@@ -288,6 +290,28 @@ public class RemoteMappingCustomizerTest
         assertEquals("remote-mapping", keys.get(0).getId().getValue());
     }
 
+    @Test
+    public void readBatchedDumpsOnce() throws Exception {
+        mockAddressMappings();
+        mockDumpDataActionZeroWithRemotes();
+        final RemoteMappingCustomizer customizer = new RemoteMappingCustomizer(api,
+                new NamingContext("loc-set", "loc-set-context"), eidMappingContext, new EidTableDumpIndex(api));
+
+        final List<RemoteMappingKey> keys = customizer.getAllIds(validId, ctx);
+        assertEquals(1, keys.size());
+        assertEquals("remote-mapping", keys.get(0).getId().getValue());
+
+        final RemoteMappingBuilder builder = new RemoteMappingBuilder();
+        customizer.readCurrentAttributes(validId, builder, ctx);
+        final RemoteMapping mapping = builder.build();
+        assertEquals(true, compareAddresses(EID_ADDRESS, mapping.getEid().getAddress()));
+        assertEquals(7L, mapping.getTtl().longValue());
+        assertTrue(mapping.getLocatorList() instanceof PositiveMapping);
+
+        // ids and attributes are served by the same dump
+        verify(api, times(1)).oneEidTableDump(any());
+    }
+
     @Override
     protected ReaderCustomizer<RemoteMapping, RemoteMappingBuilder> initCustomizer() {
         return new RemoteMappingCustomizer(api, new NamingContext("loc-set", "loc-set-context"), eidMappingContext);
@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2017 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.fd.hc2vpp.nat;
+
+import net.jmob.guice.conf.core.BindConfig;
+import net.jmob.guice.conf.core.InjectConfig;
+import net.jmob.guice.conf.core.Syntax;
+
+@BindConfig(value = "nat", syntax = Syntax.JSON)
+public class NatConfiguration {
+
+    @InjectConfig("bulk-static-mapping-write-enabled")
+    private boolean bulkStaticMappingWriteEnabled;
+
+    @InjectConfig("dynamic-mapping-entries-read-limit")
+    private int dynamicMappingEntriesReadLimit;
+
+    /**
+     * If enabled, static mapping entries of nat instance are written by single writer,
+     * keeping multiple requests in flight. Number of requests in flight is configured by jvpp-bulk-write-window.
+     */
+    public boolean isBulkStaticMappingWriteEnabled() {
+        return bulkStaticMappingWriteEnabled;
+    }
+
+    /**
+     * Maximum number of dynamic NAT64 BIB entries listed by single read of nat instance mapping table, 0 for no limit.
+     * Consecutive reads continue with following entries.
+     */
+    public int getDynamicMappingEntriesReadLimit() {
+        return dynamicMappingEntriesReadLimit;
+    }
+}
@@ -32,6 +32,7 @@ import io.fd.hc2vpp.nat.write.ifc.SubIfcNatWriterFactory;
 import io.fd.honeycomb.translate.read.ReaderFactory;
 import io.fd.honeycomb.translate.write.WriterFactory;
 import io.fd.vpp.jvpp.nat.future.FutureJVppNatFacade;
+import net.jmob.guice.conf.core.ConfigurationModule;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -54,6 +55,9 @@ public class NatModule extends AbstractModule {
 
     @Override
     protected void configure() {
+        install(ConfigurationModule.create());
+        requestInjection(NatConfiguration.class);
+
         // Mapping entry context util
         bind(MappingEntryContext.class).toInstance(new MappingEntryContext());
 
@@ -66,11 +66,13 @@ final class ExternalIpPoolCustomizer implements
     ExternalIpPoolCustomizer(@Nonnull final FutureJVppNatFacade jvppNat) {
         checkNotNull(jvppNat, "jvppNat should not be null");
         this.nat44DumpMgr = new DumpCacheManager.DumpCacheManagerBuilder<Nat44AddressDetailsReplyDump, Void>()
-                .withExecutor((id, params) -> getReplyForRead(jvppNat.nat44AddressDump(new Nat44AddressDump()).toCompletableFuture(), id))
+                .withExecutor((id, params) -> getReplyForRead(
+                        jvppNat.nat44AddressDump(new Nat44AddressDump()).toCompletableFuture(), id, Nat44AddressDump.class))
                 .acceptOnly(Nat44AddressDetailsReplyDump.class)
                 .build();
         this.nat64DumpMgr = new DumpCacheManager.DumpCacheManagerBuilder<Nat64PoolAddrDetailsReplyDump, Void>()
-                .withExecutor((id, params) -> getReplyForRead(jvppNat.nat64PoolAddrDump(new Nat64PoolAddrDump()).toCompletableFuture(), id))
+                .withExecutor((id, params) -> getReplyForRead(
+                        jvppNat.nat64PoolAddrDump(new Nat64PoolAddrDump()).toCompletableFuture(), id, Nat64PoolAddrDump.class))
                 .acceptOnly(Nat64PoolAddrDetailsReplyDump.class)
                 .build();
     }
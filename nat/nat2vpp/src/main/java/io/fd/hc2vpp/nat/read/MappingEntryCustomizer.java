@@ -16,10 +16,13 @@
 
 package io.fd.hc2vpp.nat.read;
 
+import static com.google.common.base.Preconditions.checkArgument;
+
 import io.fd.hc2vpp.common.translate.util.Ipv4Translator;
 import io.fd.hc2vpp.common.translate.util.Ipv6Translator;
 import io.fd.hc2vpp.common.translate.util.JvppReplyConsumer;
 import io.fd.hc2vpp.nat.util.MappingEntryContext;
+import io.fd.honeycomb.translate.MappingContext;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.fd.honeycomb.translate.spi.read.Initialized;
@@ -36,6 +39,8 @@ import io.fd.vpp.jvpp.nat.dto.Nat64BibDump;
 import io.fd.vpp.jvpp.nat.future.FutureJVppNatFacade;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.IpAddress;
@@ -63,14 +68,35 @@ final class MappingEntryCustomizer implements Ipv4Translator, Ipv6Translator,
     private final DumpCacheManager<Nat44StaticMappingDetailsReplyDump, Void> nat44DumpManager;
     private final DumpCacheManager<Nat64BibDetailsReplyDump, Void> nat64DumpManager;
     private final MappingEntryContext mappingEntryContext;
+    private final int dynamicEntriesReadLimit;
+
+    /**
+     * Position in dynamic NAT64 BIB entries of nat instance, where next read continues.
+     */
+    private final ConcurrentMap<Long, Integer> dynamicEntriesOffsets = new ConcurrentHashMap<>();
 
     MappingEntryCustomizer(
             final DumpCacheManager<Nat44StaticMappingDetailsReplyDump, Void> nat44DumpManager,
             final DumpCacheManager<Nat64BibDetailsReplyDump, Void> nat64DumpManager,
             final MappingEntryContext mappingEntryContext) {
+        this(nat44DumpManager, nat64DumpManager, mappingEntryContext, 0);
+    }
+
+    /**
+     * @param dynamicEntriesReadLimit maximum number of dynamic NAT64 BIB entries listed per read of nat instance,
+     *                                0 for no limit
+     */
+    MappingEntryCustomizer(
+            final DumpCacheManager<Nat44StaticMappingDetailsReplyDump, Void> nat44DumpManager,
+            final DumpCacheManager<Nat64BibDetailsReplyDump, Void> nat64DumpManager,
+            final MappingEntryContext mappingEntryContext,
+            final int dynamicEntriesReadLimit) {
+        checkArgument(dynamicEntriesReadLimit >= 0,
+                "Dynamic mapping entries read limit has to be non-negative, but was %s", dynamicEntriesReadLimit);
         this.nat44DumpManager = nat44DumpManager;
         this.nat64DumpManager = nat64DumpManager;
         this.mappingEntryContext = mappingEntryContext;
+        this.dynamicEntriesReadLimit = dynamicEntriesReadLimit;
     }
 
     @Nonnull
@@ -178,20 +204,73 @@ final class MappingEntryCustomizer implements Ipv4Translator, Ipv6Translator,
                         .collect(Collectors.toList());
 
 
-        final List<MappingEntryKey> nat64Keys =
-                nat64DumpManager.getDump(id, context.getModificationCache())
-                        .or(new Nat64BibDetailsReplyDump()).nat64BibDetails.stream()
-                        .filter(detail -> natInstanceId == detail.vrfId)
-                        .map(detail -> mappingEntryContext
-                                .getStoredOrArtificialIndex(natInstanceId, detail, context.getMappingContext()))
-                        .map(MappingEntryKey::new)
-                        .collect(Collectors.toList());
-        entryKeys.addAll(nat64Keys);
+        final List<Nat64BibDetails> nat64Details = nat64DumpManager.getDump(id, context.getModificationCache())
+                .or(new Nat64BibDetailsReplyDump()).nat64BibDetails;
+        addNat64Keys(entryKeys, nat64Details, natInstanceId, context.getMappingContext());
         LOG.debug("List of mapping-entry keys within nat-instance(vrf):{} : {}", natInstanceId, entryKeys);
 
         return entryKeys;
     }
 
+    /**
+     * Static BIB entries are listed all. Dynamic entries, that grow with traffic, are listed at most
+     * {@link #dynamicEntriesReadLimit} per read, starting where previous read of the nat instance stopped. Context
+     * mappings (artificial indexes) are created only for listed entries. All dynamic entries are therefore listed by
+     * consecutive reads and can be read by their index afterwards.
+     */
+    private void addNat64Keys(@Nonnull final List<MappingEntryKey> entryKeys,
+                              @Nonnull final List<Nat64BibDetails> nat64Details,
+                              @Nonnull final Long natInstanceId,
+                              @Nonnull final MappingContext mappingContext) {
+        if (dynamicEntriesReadLimit == 0) {
+            nat64Details.stream()
+                    .filter(detail -> natInstanceId == detail.vrfId)
+                    .forEach(detail -> addKey(entryKeys, natInstanceId, detail, mappingContext));
+            return;
+        }
+
+        int dynamicCount = 0;
+        for (final Nat64BibDetails detail : nat64Details) {
+            if (natInstanceId == detail.vrfId) {
+                if (detail.isStatic == 1) {
+                    addKey(entryKeys, natInstanceId, detail, mappingContext);
+                } else {
+                    dynamicCount++;
+                }
+            }
+        }
+
+        // entries might have expired since previous read, start from the beginning then
+        int offset = dynamicEntriesOffsets.getOrDefault(natInstanceId, 0);
+        if (offset >= dynamicCount) {
+            offset = 0;
+        }
+        final int end = Math.min(offset + dynamicEntriesReadLimit, dynamicCount);
+        int position = 0;
+        for (final Nat64BibDetails detail : nat64Details) {
+            if (position >= end) {
+                break;
+            }
+            if (natInstanceId == detail.vrfId && detail.isStatic != 1) {
+                if (position >= offset) {
+                    addKey(entryKeys, natInstanceId, detail, mappingContext);
+                }
+                position++;
+            }
+        }
+        dynamicEntriesOffsets.put(natInstanceId, end < dynamicCount
+                ? end
+                : 0);
+        LOG.debug("Dynamic mapping-entries {}-{} of {} listed for nat-instance(vrf):{}", offset, end, dynamicCount,
+                natInstanceId);
+    }
+
+    private void addKey(@Nonnull final List<MappingEntryKey> entryKeys, @Nonnull final Long natInstanceId,
+                        @Nonnull final Nat64BibDetails detail, @Nonnull final MappingContext mappingContext) {
+        entryKeys.add(new MappingEntryKey(
+                mappingEntryContext.getStoredOrArtificialIndex(natInstanceId, detail, mappingContext)));
+    }
+
     @Override
     public void merge(@Nonnull final Builder<? extends DataObject> builder,
                       @Nonnull final List<MappingEntry> readData) {
@@ -232,7 +311,7 @@ final class MappingEntryCustomizer implements Ipv4Translator, Ipv6Translator,
         public Nat44StaticMappingDetailsReplyDump executeDump(final InstanceIdentifier<?> identifier, final Void params)
                 throws ReadFailedException {
             return getReplyForRead(jvppNat.nat44StaticMappingDump(new Nat44StaticMappingDump()).toCompletableFuture(),
-                    identifier);
+                    identifier, Nat44StaticMappingDump.class);
         }
     }
 
@@ -251,7 +330,7 @@ final class MappingEntryCustomizer implements Ipv4Translator, Ipv6Translator,
                 throws ReadFailedException {
             final Nat64BibDump dump = new Nat64BibDump();
             dump.proto = -1; // dump entries for all protocols
-            return getReplyForRead(jvppNat.nat64BibDump(dump).toCompletableFuture(), identifier);
+            return getReplyForRead(jvppNat.nat64BibDump(dump).toCompletableFuture(), identifier, Nat64BibDump.class);
         }
     }
 }
@@ -129,7 +129,8 @@ final class Nat64PrefixesCustomizer
         public Map<Long, Nat64PrefixDetails> executeDump(final InstanceIdentifier<?> id, final Void params)
                 throws ReadFailedException {
             final Nat64PrefixDetailsReplyDump dump =
-                    getReplyForRead(jvppNat.nat64PrefixDump(new Nat64PrefixDump()).toCompletableFuture(), id);
+                    getReplyForRead(jvppNat.nat64PrefixDump(new Nat64PrefixDump()).toCompletableFuture(),
+                            id, Nat64PrefixDump.class);
             // To improve read performance (if multiple nat instances are defined),
             // we store map instead of list of prefixes.
 
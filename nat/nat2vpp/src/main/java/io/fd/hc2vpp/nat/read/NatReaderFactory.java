@@ -18,6 +18,7 @@ package io.fd.hc2vpp.nat.read;
 
 import com.google.common.collect.Sets;
 import com.google.inject.Inject;
+import io.fd.hc2vpp.nat.NatConfiguration;
 import io.fd.hc2vpp.nat.util.MappingEntryContext;
 import io.fd.honeycomb.translate.impl.read.GenericInitListReader;
 import io.fd.honeycomb.translate.impl.read.GenericListReader;
@@ -60,6 +61,8 @@ public class NatReaderFactory implements ReaderFactory {
     private final DumpCacheManager<Nat44StaticMappingDetailsReplyDump, Void> mapEntryNat44DumpMgr;
     private final DumpCacheManager<Nat64BibDetailsReplyDump, Void> mapEntryNat64DumpMgr;
 
+    @Inject
+    private NatConfiguration configuration;
 
     @Inject
     public NatReaderFactory(final FutureJVppNatFacade jvppNat,
@@ -88,7 +91,8 @@ public class NatReaderFactory implements ReaderFactory {
         registry.subtreeAdd(Sets.newHashSet(InstanceIdentifier.create(MappingEntry.class).child(ExternalSrcPort.class),
                 InstanceIdentifier.create(MappingEntry.class).child(InternalSrcPort.class)),
                 new GenericInitListReader<>(MAP_ENTRY_ID,
-                        new MappingEntryCustomizer(mapEntryNat44DumpMgr, mapEntryNat64DumpMgr, mappingEntryContext)));
+                        new MappingEntryCustomizer(mapEntryNat44DumpMgr, mapEntryNat64DumpMgr, mappingEntryContext,
+                                configuration.getDynamicMappingEntriesReadLimit())));
 
         registry.addStructuralReader(CURRENT_CONFIG, NatCurrentConfigBuilder.class);
         registry.add(new GenericInitListReader<>(CURRENT_CONFIG.child(ExternalIpAddressPool.class),
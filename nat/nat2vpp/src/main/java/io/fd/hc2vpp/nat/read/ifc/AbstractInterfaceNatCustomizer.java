@@ -57,20 +57,22 @@ abstract class AbstractInterfaceNatCustomizer<C extends DataObject, B extends Bu
         this.preRoutingNat44DumpMgr =
                 new DumpCacheManager.DumpCacheManagerBuilder<Nat44InterfaceDetailsReplyDump, Void>()
                         .withExecutor((id, params) -> getReplyForRead(
-                                jvppNat.nat44InterfaceDump(new Nat44InterfaceDump()).toCompletableFuture(), id))
+                                jvppNat.nat44InterfaceDump(new Nat44InterfaceDump()).toCompletableFuture(),
+                                id, Nat44InterfaceDump.class))
                         .acceptOnly(Nat44InterfaceDetailsReplyDump.class)
                         .build();
         this.preRoutingNat64DumpMgr =
                 new DumpCacheManager.DumpCacheManagerBuilder<Nat64InterfaceDetailsReplyDump, Void>()
                         .withExecutor((id, params) -> getReplyForRead(
-                                jvppNat.nat64InterfaceDump(new Nat64InterfaceDump()).toCompletableFuture(), id))
+                                jvppNat.nat64InterfaceDump(new Nat64InterfaceDump()).toCompletableFuture(),
+                                id, Nat64InterfaceDump.class))
                         .acceptOnly(Nat64InterfaceDetailsReplyDump.class)
                         .build();
         this.postRoutingNat44DumpMgr =
                 new DumpCacheManager.DumpCacheManagerBuilder<Nat44InterfaceOutputFeatureDetailsReplyDump, Void>()
                         .withExecutor((id, params) -> getReplyForRead(
                                 jvppNat.nat44InterfaceOutputFeatureDump(new Nat44InterfaceOutputFeatureDump())
-                                        .toCompletableFuture(), id))
+                                        .toCompletableFuture(), id, Nat44InterfaceOutputFeatureDump.class))
                         .acceptOnly(Nat44InterfaceOutputFeatureDetailsReplyDump.class)
                         .build();
     }
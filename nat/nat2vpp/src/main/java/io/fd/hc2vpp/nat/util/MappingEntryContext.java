@@ -20,15 +20,26 @@ import static com.google.common.base.Preconditions.checkArgument;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Optional;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.fd.hc2vpp.common.translate.util.ContextIndex;
 import io.fd.hc2vpp.common.translate.util.Ipv4Translator;
 import io.fd.hc2vpp.common.translate.util.Ipv6Translator;
+import io.fd.hc2vpp.common.translate.util.MappingContextIndex;
 import io.fd.honeycomb.translate.MappingContext;
 import io.fd.vpp.jvpp.nat.dto.Nat44StaticMappingDetails;
 import io.fd.vpp.jvpp.nat.dto.Nat64BibDetails;
+import java.util.Arrays;
 import java.util.Collections;
-import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Function;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import javax.annotation.concurrent.ThreadSafe;
 import org.opendaylight.yang.gen.v1.urn.honeycomb.params.xml.ns.yang.naming.context.rev160513.Contexts;
 import org.opendaylight.yang.gen.v1.urn.honeycomb.params.xml.ns.yang.nat.context.rev161214.NatMappingEntryCtxAugmentation;
@@ -47,31 +58,57 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * Context tracker for Nat Mapping entries.
+ * Context tracker for Nat Mapping entries. Lookups do not lock, modifications are serialized per nat instance and
+ * {@link MappingContext} instance.
+ * <p/>
+ * Index to entry lookups and artificial index allocation use index of context mappings, built once per
+ * {@link MappingContext} instance (transaction) and nat instance. Artificial indexes continue from the highest
+ * assigned index, indexes freed below it are not reused. Details of each dump are indexed by address pair
+ * once as well.
  */
 @ThreadSafe
 public class MappingEntryContext implements Ipv4Translator, Ipv6Translator {
 
     private static final Logger LOG = LoggerFactory.getLogger(MappingEntryContext.class);
 
+    /**
+     * Indexes of context mappings per nat instance.
+     */
+    private final ConcurrentMap<Long, MappingContextIndex<MappingTableIndex>> indexes = new ConcurrentHashMap<>();
+
+    /**
+     * Details indexed by address pair, per dumped list of details. Dumps are cached for single transaction,
+     * so are the indexes.
+     */
+    private final Cache<List<Nat44StaticMappingDetails>, Map<AddressPair, Nat44StaticMappingDetails>>
+            nat44DetailsIndexes = CacheBuilder.newBuilder().weakKeys().build();
+    private final Cache<List<Nat64BibDetails>, Map<AddressPair, Nat64BibDetails>> nat64DetailsIndexes =
+            CacheBuilder.newBuilder().weakKeys().build();
+
     /**
      * Add mapping entry to index mapping to context.
      */
-    public synchronized void addEntry(final long natInstanceId,
-                                      final long entryId,
-                                      @Nonnull final org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.nat.rev150908.nat.config.nat.instances.nat.instance.mapping.table.MappingEntry entry,
-                                      @Nonnull final MappingContext mappingContext) {
-        final InstanceIdentifier<MappingEntry> id = getId(natInstanceId, entryToKey(entry));
-        checkArgument(!containsEntry(natInstanceId, entry, mappingContext), "Mapping for %s already present", id);
-        mappingContext.put(id, toCtxMapEntry(entry, entryId));
+    public void addEntry(final long natInstanceId,
+                         final long entryId,
+                         @Nonnull final org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.nat.rev150908.nat.config.nat.instances.nat.instance.mapping.table.MappingEntry entry,
+                         @Nonnull final MappingContext mappingContext) {
+        final MappingEntryKey key = entryToKey(entry);
+        final InstanceIdentifier<MappingEntry> id = getId(natInstanceId, key);
+        getIndexes(natInstanceId).update(mappingContext, () -> {
+            checkArgument(!containsEntry(natInstanceId, entry, mappingContext), "Mapping for %s already present", id);
+            mappingContext.put(id, toCtxMapEntry(key, entryId));
+        }, index -> {
+            index.put(entryId, key);
+            return true;
+        });
     }
 
     /**
      * Check whether mapping entry to index mapping already exists in context.
      */
-    public synchronized boolean containsEntry(final long natInstanceId,
-                                              @Nonnull final org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.nat.rev150908.nat.config.nat.instances.nat.instance.mapping.table.MappingEntry entry,
-                                              @Nonnull final MappingContext mappingContext) {
+    public boolean containsEntry(final long natInstanceId,
+                                 @Nonnull final org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.nat.rev150908.nat.config.nat.instances.nat.instance.mapping.table.MappingEntry entry,
+                                 @Nonnull final MappingContext mappingContext) {
         final InstanceIdentifier<MappingEntry> id = getId(natInstanceId, entryToKey(entry));
         return mappingContext.read(id).isPresent();
     }
@@ -110,58 +147,39 @@ public class MappingEntryContext implements Ipv4Translator, Ipv6Translator {
                 new IpAddress(new Ipv6Address(arrayToIpv6AddressNoZone(entry.iAddr))));
     }
 
-    private boolean equalEntries(final Nat44StaticMappingDetails detail, final MappingEntry ctxMappingEntry) {
-        final IpAddress internalAddrFromDetails =
-                new IpAddress(new Ipv4Address(arrayToIpv4AddressNoZone(detail.localIpAddress)));
-        // Only IPv4
-        if (!ctxMappingEntry.getInternal().equals(internalAddrFromDetails)) {
-            return false;
-        }
+    private static AddressPair detailsKey(final Nat44StaticMappingDetails detail) {
         // Only IPv4
-        final IpAddress externalAddrFromDetails =
-                new IpAddress(new Ipv4Address(arrayToIpv4AddressNoZone(detail.externalIpAddress)));
-        if (!ctxMappingEntry.getExternal().equals(externalAddrFromDetails)) {
-            return false;
-        }
-        return true;
+        return new AddressPair(Arrays.copyOf(detail.externalIpAddress, 4), Arrays.copyOf(detail.localIpAddress, 4));
     }
 
-    private boolean equalEntries(final Nat64BibDetails detail, final MappingEntry ctxMappingEntry) {
-        final IpAddress internalAddrFromDetails =
-                new IpAddress(new Ipv6Address(arrayToIpv6AddressNoZone(detail.iAddr)));
-        // Only IPv6
-        if (!ctxMappingEntry.getInternal().equals(internalAddrFromDetails)) {
-            return false;
-        }
-        // Only IPv4
-        final IpAddress externalAddrFromDetails =
-                new IpAddress(new Ipv4Address(arrayToIpv4AddressNoZone(detail.oAddr)));
-        if (!ctxMappingEntry.getExternal().equals(externalAddrFromDetails)) {
-            return false;
+    private static AddressPair detailsKey(final Nat64BibDetails detail) {
+        // external IPv4, internal IPv6
+        return new AddressPair(Arrays.copyOf(detail.oAddr, 4), Arrays.copyOf(detail.iAddr, 16));
+    }
+
+    private AddressPair ctxEntryKey(final MappingEntryKey ctxMappingEntry) {
+        return new AddressPair(addressToArray(ctxMappingEntry.getExternal()),
+                addressToArray(ctxMappingEntry.getInternal()));
+    }
+
+    private byte[] addressToArray(final IpAddress address) {
+        final Ipv4Address ipv4Address = address.getIpv4Address();
+        if (ipv4Address != null) {
+            return ipv4AddressNoZoneToArray(ipv4Address.getValue());
         }
-        return true;
+        return ipv6AddressNoZoneToArray(address.getIpv6Address());
     }
 
     @VisibleForTesting
     static MappingEntry toCtxMapEntry(
             @Nonnull final org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.nat.rev150908.nat.config.nat.instances.nat.instance.mapping.table.MappingEntry entry,
             final long entryId) {
-        return new MappingEntryBuilder()
-                .setKey(entryToKey(entry))
-                .setIndex(entryId)
-                .build();
-    }
-
-    private MappingEntry toCtxMapEntry(@Nonnull final Nat44StaticMappingDetails details, final long entryId) {
-        return new MappingEntryBuilder()
-                .setKey(entryToKey(details))
-                .setIndex(entryId)
-                .build();
+        return toCtxMapEntry(entryToKey(entry), entryId);
     }
 
-    private MappingEntry toCtxMapEntry(@Nonnull final Nat64BibDetails details, final long entryId) {
+    private static MappingEntry toCtxMapEntry(@Nonnull final MappingEntryKey key, final long entryId) {
         return new MappingEntryBuilder()
-                .setKey(entryToKey(details))
+                .setKey(key)
                 .setIndex(entryId)
                 .build();
     }
@@ -169,114 +187,225 @@ public class MappingEntryContext implements Ipv4Translator, Ipv6Translator {
     /**
      * Delete mapping of mapping entry to index from context.
      */
-    public synchronized void removeEntry(final long natInstanceId,
-                                         @Nonnull final org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.nat.rev150908.nat.config.nat.instances.nat.instance.mapping.table.MappingEntry entry,
-                                         @Nonnull final MappingContext mappingContext) {
-        mappingContext.delete(getId(natInstanceId, entryToKey(entry)));
+    public void removeEntry(final long natInstanceId,
+                            @Nonnull final org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.nat.rev150908.nat.config.nat.instances.nat.instance.mapping.table.MappingEntry entry,
+                            @Nonnull final MappingContext mappingContext) {
+        final MappingEntryKey key = entryToKey(entry);
+        getIndexes(natInstanceId).update(mappingContext, () -> mappingContext.delete(getId(natInstanceId, key)),
+                index -> index.remove(key));
     }
 
     /**
      * Find specific details in provided collection identified with provided index.
      */
-    public synchronized java.util.Optional<Nat44StaticMappingDetails> findDetailsNat44(@Nonnull final List<Nat44StaticMappingDetails> details,
-                                                                                       final long natInstanceId, final long idx,
-                                                                                       @Nonnull final MappingContext mappingContext) {
+    public java.util.Optional<Nat44StaticMappingDetails> findDetailsNat44(@Nonnull final List<Nat44StaticMappingDetails> details,
+                                                                          final long natInstanceId, final long idx,
+                                                                          @Nonnull final MappingContext mappingContext) {
         // Find mapping entry for Index
-        final MappingEntry ctxMappingEntry = mappingContext.read(getTableId(natInstanceId))
-                .transform(MappingTable::getMappingEntry)
-                .or(Collections.emptyList())
-                .stream()
-                .filter(entry -> entry.getIndex() == idx)
-                .findFirst()
-                .orElseThrow(() -> new IllegalStateException("Unable to find context mapping for nat-instance: "
-                        + natInstanceId + " and ID: " + idx));
+        final MappingEntryKey ctxMappingEntry = getCtxEntry(natInstanceId, idx, mappingContext);
 
         // Find which details matches the context stored entry under index
-        return details.stream()
-                .filter(detail -> equalEntries(detail, ctxMappingEntry))
-                .findFirst();
+        return java.util.Optional.ofNullable(
+                getDetailsIndex(nat44DetailsIndexes, details, MappingEntryContext::detailsKey)
+                        .get(ctxEntryKey(ctxMappingEntry)));
     }
 
     /**
      * Find specific details in provided collection identified with provided index.
      */
-    public synchronized java.util.Optional<Nat64BibDetails> findDetailsNat64(@Nonnull final List<Nat64BibDetails> details,
-                                                                             final long natInstanceId, final long idx,
-                                                                             @Nonnull final MappingContext mappingContext) {
+    public java.util.Optional<Nat64BibDetails> findDetailsNat64(@Nonnull final List<Nat64BibDetails> details,
+                                                                final long natInstanceId, final long idx,
+                                                                @Nonnull final MappingContext mappingContext) {
         // Find mapping entry for Index
-        final MappingEntry ctxMappingEntry = mappingContext.read(getTableId(natInstanceId))
-                .transform(MappingTable::getMappingEntry)
-                .or(Collections.emptyList())
-                .stream()
-                .filter(entry -> entry.getIndex() == idx)
-                .findFirst()
-                .orElseThrow(() -> new IllegalStateException("Unable to find context mapping for nat-instance: "
-                        + natInstanceId + " and ID: " + idx));
+        final MappingEntryKey ctxMappingEntry = getCtxEntry(natInstanceId, idx, mappingContext);
 
         // Find which details matches the context stored entry under index
-        return details.stream()
-                .filter(detail -> equalEntries(detail, ctxMappingEntry))
-                .findFirst();
+        return java.util.Optional.ofNullable(
+                getDetailsIndex(nat64DetailsIndexes, details, MappingEntryContext::detailsKey)
+                        .get(ctxEntryKey(ctxMappingEntry)));
+    }
+
+    private MappingEntryKey getCtxEntry(final long natInstanceId, final long idx,
+                                        @Nonnull final MappingContext mappingContext) {
+        final MappingEntryKey ctxMappingEntry = getIndexes(natInstanceId).get(mappingContext).get(idx);
+        if (ctxMappingEntry == null) {
+            throw new IllegalStateException("Unable to find context mapping for nat-instance: "
+                    + natInstanceId + " and ID: " + idx);
+        }
+        return ctxMappingEntry;
+    }
+
+    private static <T> Map<AddressPair, T> getDetailsIndex(@Nonnull final Cache<List<T>, Map<AddressPair, T>> cache,
+                                                           @Nonnull final List<T> details,
+                                                           @Nonnull final Function<T, AddressPair> keyFunction) {
+        try {
+            return cache.get(details, () -> {
+                final Map<AddressPair, T> index = new HashMap<>(details.size() * 2);
+                // first matching details win, the same as with sequential search
+                details.forEach(detail -> index.putIfAbsent(keyFunction.apply(detail), detail));
+                return index;
+            });
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Unable to index mapping entry details", e);
+        }
     }
 
     /**
      * Get index for a mapping entry details or create an artificial one.
      */
-    public synchronized long getStoredOrArtificialIndex(final Long natInstanceId,
-                                                        @Nonnull final Nat44StaticMappingDetails details,
-                                                        @Nonnull final MappingContext mappingContext) {
-        return mappingContext.read(getId(natInstanceId, entryToKey(details)))
-                .transform(MappingEntry::getIndex)
-                .or(() -> getArtificialId(details, natInstanceId, mappingContext));
+    public long getStoredOrArtificialIndex(final Long natInstanceId,
+                                           @Nonnull final Nat44StaticMappingDetails details,
+                                           @Nonnull final MappingContext mappingContext) {
+        return getStoredOrArtificialIndex(natInstanceId, entryToKey(details), mappingContext);
     }
 
     /**
      * Get index for a mapping entry details or create an artificial one.
      */
-    public synchronized long getStoredOrArtificialIndex(final Long natInstanceId,
-                                                        @Nonnull final Nat64BibDetails details,
-                                                        @Nonnull final MappingContext mappingContext) {
-        return mappingContext.read(getId(natInstanceId, entryToKey(details)))
+    public long getStoredOrArtificialIndex(final Long natInstanceId,
+                                           @Nonnull final Nat64BibDetails details,
+                                           @Nonnull final MappingContext mappingContext) {
+        return getStoredOrArtificialIndex(natInstanceId, entryToKey(details), mappingContext);
+    }
+
+    private long getStoredOrArtificialIndex(final Long natInstanceId, final MappingEntryKey key,
+                                            final MappingContext mappingContext) {
+        return mappingContext.read(getId(natInstanceId, key))
                 .transform(MappingEntry::getIndex)
-                .or(() -> getArtificialId(details, natInstanceId, mappingContext));
+                .or(() -> getArtificialId(key, natInstanceId, mappingContext));
     }
 
     /**
      * Get index for a stored mapping entry.
      */
-    public synchronized Optional<Long> getStoredIndex(final long natInstanceId,
-                                                      @Nonnull final org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.nat.rev150908.nat.config.nat.instances.nat.instance.mapping.table.MappingEntry entry,
-                                                      @Nonnull final MappingContext mappingContext) {
+    public Optional<Long> getStoredIndex(final long natInstanceId,
+                                         @Nonnull final org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.nat.rev150908.nat.config.nat.instances.nat.instance.mapping.table.MappingEntry entry,
+                                         @Nonnull final MappingContext mappingContext) {
         return mappingContext.read(getId(natInstanceId, entryToKey(entry)))
                 .transform(MappingEntry::getIndex);
     }
 
-    private long getArtificialId(final Nat44StaticMappingDetails details, final Long natInstanceId,
+    /**
+     * Assigns next free index to provided entry. Indexes freed below the highest assigned index are not reused.
+     */
+    private long getArtificialId(final MappingEntryKey key, final Long natInstanceId,
                                  final MappingContext mappingContext) {
-        LOG.trace("Assigning artificial ID for {}", details);
-        final long artificialIdx = findFreeIndex(natInstanceId, mappingContext);
-        LOG.debug("Artificial ID for {} assigned as: {}", details, artificialIdx);
-        mappingContext.put(getId(natInstanceId, entryToKey(details)), toCtxMapEntry(details, artificialIdx));
-        return artificialIdx;
+        final MappingContextIndex<MappingTableIndex> indexes = getIndexes(natInstanceId);
+        return indexes.locked(mappingContext, index -> {
+            // check again, the entry might have been assigned an ID meanwhile
+            final InstanceIdentifier<MappingEntry> id = getId(natInstanceId, key);
+            final Optional<MappingEntry> stored = mappingContext.read(id);
+            if (stored.isPresent()) {
+                return stored.get().getIndex();
+            }
+            final long artificialIdx = index.getNextFreeIndex();
+            LOG.debug("Artificial ID for {} assigned as: {}", key, artificialIdx);
+            indexes.update(mappingContext, () -> mappingContext.put(id, toCtxMapEntry(key, artificialIdx)),
+                    tableIndex -> {
+                        tableIndex.put(artificialIdx, key);
+                        return true;
+                    });
+            return artificialIdx;
+        });
     }
 
-    private long getArtificialId(final Nat64BibDetails details, final Long natInstanceId,
-                                 final MappingContext mappingContext) {
-        LOG.trace("Assigning artificial ID for {}", details);
-        final long artificialIdx = findFreeIndex(natInstanceId, mappingContext);
-        LOG.debug("Artificial ID for {} assigned as: {}", details, artificialIdx);
-        mappingContext.put(getId(natInstanceId, entryToKey(details)), toCtxMapEntry(details, artificialIdx));
-        return artificialIdx;
+    /**
+     * Returns index of context mappings for provided nat instance.
+     */
+    private MappingContextIndex<MappingTableIndex> getIndexes(final long natInstanceId) {
+        return indexes.computeIfAbsent(natInstanceId, instanceId -> new MappingContextIndex<>(
+                mappingContext -> new MappingTableIndex(mappingContext.read(getTableId(instanceId))
+                        .transform(MappingTable::getMappingEntry)
+                        .or(Collections.emptyList()))));
+    }
+
+    /**
+     * Index of context mappings of single nat instance, together with next free index. Modifications and next free
+     * index lookups need to hold the lock of {@link MappingContextIndex}.
+     */
+    private static final class MappingTableIndex {
+        private final ContextIndex<Long, MappingEntryKey> entries = new ContextIndex<>();
+        private long nextFreeIndex;
+        private boolean nextFreeIndexValid = true;
+
+        private MappingTableIndex(@Nonnull final List<MappingEntry> entries) {
+            entries.forEach(entry -> put(entry.getIndex(), entry.getKey()));
+        }
+
+        /**
+         * Returns first entry mapped to provided index, the same as sequential search of context data would.
+         */
+        @Nullable
+        private MappingEntryKey get(final long index) {
+            return entries.getFirst(index);
+        }
+
+        private void put(final long index, @Nonnull final MappingEntryKey key) {
+            final Long previousIndex = entries.put(key, index);
+            if (previousIndex != null && previousIndex != index) {
+                nextFreeIndexValid = false;
+            }
+            if (nextFreeIndexValid) {
+                nextFreeIndex = Math.max(nextFreeIndex, index + 1);
+            }
+        }
+
+        /**
+         * Removes entry.
+         *
+         * @return false if index can't be updated and needs to be rebuilt
+         */
+        private boolean remove(@Nonnull final MappingEntryKey key) {
+            final Long index = entries.getKey(key);
+            if (index != null && index + 1 == nextFreeIndex) {
+                // recomputed lazily, only when the highest index was removed
+                nextFreeIndexValid = false;
+            }
+            return entries.remove(key);
+        }
+
+        /**
+         * Returns index following the highest assigned index.
+         */
+        private long getNextFreeIndex() {
+            if (!nextFreeIndexValid) {
+                nextFreeIndex = entries.keys().stream()
+                        .mapToLong(i -> i + 1)
+                        .max()
+                        .orElse(0);
+                nextFreeIndexValid = true;
+            }
+            return nextFreeIndex;
+        }
     }
 
-    private long findFreeIndex(final long natInstanceId, final MappingContext mappingContext) {
-        return mappingContext.read(getTableId(natInstanceId))
-                .transform(MappingTable::getMappingEntry)
-                .or(Collections.emptyList())
-                .stream()
-                .map(MappingEntry::getIndex)
-                .max(Comparator.naturalOrder())
-                .map(i -> i + 1)
-                .orElse(0L);
+    /**
+     * Pair of external and internal address in binary form, as used in dumps.
+     */
+    private static final class AddressPair {
+        private final byte[] external;
+        private final byte[] internal;
+
+        private AddressPair(@Nonnull final byte[] external, @Nonnull final byte[] internal) {
+            this.external = external;
+            this.internal = internal;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            final AddressPair that = (AddressPair) o;
+            return Arrays.equals(external, that.external) && Arrays.equals(internal, that.internal);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * Arrays.hashCode(external) + Arrays.hashCode(internal);
+        }
     }
 }
@@ -20,11 +20,13 @@ import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkState;
 
 import com.google.common.base.Optional;
+import io.fd.hc2vpp.common.translate.util.BulkRequestWriter;
 import io.fd.hc2vpp.common.translate.util.ByteDataTranslator;
 import io.fd.hc2vpp.common.translate.util.Ipv4Translator;
 import io.fd.hc2vpp.common.translate.util.Ipv6Translator;
 import io.fd.hc2vpp.common.translate.util.JvppReplyConsumer;
 import io.fd.hc2vpp.nat.util.MappingEntryContext;
+import io.fd.honeycomb.translate.MappingContext;
 import io.fd.honeycomb.translate.spi.write.ListWriterCustomizer;
 import io.fd.honeycomb.translate.write.WriteContext;
 import io.fd.honeycomb.translate.write.WriteFailedException;
@@ -63,26 +65,23 @@ final class MappingEntryCustomizer implements ListWriterCustomizer<MappingEntry,
                                        @Nonnull final MappingEntry dataAfter,
                                        @Nonnull final WriteContext writeContext)
             throws WriteFailedException {
-        // Only static mapping supported by SNAT for now
-        checkArgument(dataAfter.getType() ==
-                        org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.nat.rev150908.MappingEntry.Type.Static,
-                "Only static NAT entries are supported currently. Trying to write: %s entry", dataAfter.getType());
+        checkStaticEntry(dataAfter);
         final Long natInstanceId = id.firstKeyOf(NatInstance.class).getId();
         final Long mappingEntryId = id.firstKeyOf(MappingEntry.class).getIndex();
         LOG.debug("Writing mapping entry: {} for nat-instance(vrf): {}", natInstanceId, mappingEntryId);
 
         configureMapping(id, dataAfter, natInstanceId, true);
-
-        // Store context mapping only if not already present under the same exact mapping
-        synchronized (mappingEntryContext) {
-            if (shouldStoreContextMapping(natInstanceId, mappingEntryId, dataAfter, writeContext)) {
-                mappingEntryContext
-                        .addEntry(natInstanceId, mappingEntryId, dataAfter, writeContext.getMappingContext());
-            }
-        }
+        addMapping(natInstanceId, mappingEntryId, dataAfter, writeContext.getMappingContext());
         LOG.trace("Mapping entry: {} for nat-instance(vrf): {} written successfully", natInstanceId, id);
     }
 
+    static void checkStaticEntry(@Nonnull final MappingEntry entry) {
+        // Only static mapping supported by SNAT for now
+        checkArgument(entry.getType() ==
+                        org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.nat.rev150908.MappingEntry.Type.Static,
+                "Only static NAT entries are supported currently. Trying to write: %s entry", entry.getType());
+    }
+
     private void configureMapping(@Nonnull final InstanceIdentifier<MappingEntry> id,
                                   @Nonnull final MappingEntry entry,
                                   @Nonnull final Long natInstanceId,
@@ -101,6 +100,54 @@ final class MappingEntryCustomizer implements ListWriterCustomizer<MappingEntry,
         }
     }
 
+    /**
+     * Adds request adding or removing provided mapping entry to the change, together with request reverting it.
+     * Requests are validated and built eagerly.
+     */
+    void addMappingRequest(@Nonnull final BulkRequestWriter.Change change,
+                           @Nonnull final InstanceIdentifier<MappingEntry> id,
+                           @Nonnull final MappingEntry entry,
+                           @Nonnull final Long natInstanceId,
+                           final boolean isAdd) throws WriteFailedException {
+        final IpAddress internalSrcAddress = entry.getInternalSrcAddress();
+        final Ipv4Address internalV4SrcAddress = internalSrcAddress.getIpv4Address();
+        final Ipv6Address internalV6SrcAddress = internalSrcAddress.getIpv6Address();
+        if (internalV4SrcAddress != null) {
+            final Nat44AddDelStaticMapping request = getNat44Request(id, entry, natInstanceId, isAdd);
+            final Nat44AddDelStaticMapping inverseRequest = getNat44Request(id, entry, natInstanceId, !isAdd);
+            change.request(() -> jvppNat.nat44AddDelStaticMapping(request),
+                    () -> jvppNat.nat44AddDelStaticMapping(inverseRequest));
+        } else {
+            checkState(internalV6SrcAddress != null,
+                    "internalSrcAddress.getIpv6Address() should not return null if v4 address is not given");
+            final Nat64AddDelStaticBib request = getNat64Request(id, entry, natInstanceId, isAdd);
+            final Nat64AddDelStaticBib inverseRequest = getNat64Request(id, entry, natInstanceId, !isAdd);
+            change.request(() -> jvppNat.nat64AddDelStaticBib(request),
+                    () -> jvppNat.nat64AddDelStaticBib(inverseRequest));
+        }
+    }
+
+    /**
+     * Stores context mapping of written entry.
+     */
+    void addMapping(final long natInstanceId, final long mappingEntryId, @Nonnull final MappingEntry dataAfter,
+                    @Nonnull final MappingContext mappingContext) {
+        // Store context mapping only if not already present under the same exact mapping
+        synchronized (mappingEntryContext) {
+            if (shouldStoreContextMapping(natInstanceId, mappingEntryId, dataAfter, mappingContext)) {
+                mappingEntryContext.addEntry(natInstanceId, mappingEntryId, dataAfter, mappingContext);
+            }
+        }
+    }
+
+    /**
+     * Removes context mapping of deleted entry.
+     */
+    void removeMapping(final long natInstanceId, @Nonnull final MappingEntry dataBefore,
+                       @Nonnull final MappingContext mappingContext) {
+        mappingEntryContext.removeEntry(natInstanceId, dataBefore, mappingContext);
+    }
+
     /**
      * Check whether entry is already stored in context under the same index.
      *
@@ -108,13 +155,13 @@ final class MappingEntryCustomizer implements ListWriterCustomizer<MappingEntry,
      */
     private boolean shouldStoreContextMapping(final long natInstanceId, final long mappingEntryId,
                                               final MappingEntry dataAfter,
-                                              final WriteContext writeCtx) {
-        if (!mappingEntryContext.containsEntry(natInstanceId, dataAfter, writeCtx.getMappingContext())) {
+                                              final MappingContext mappingContext) {
+        if (!mappingEntryContext.containsEntry(natInstanceId, dataAfter, mappingContext)) {
             return true;
         }
 
         final Optional<Long> storedIndex =
-                mappingEntryContext.getStoredIndex(natInstanceId, dataAfter, writeCtx.getMappingContext());
+                mappingEntryContext.getStoredIndex(natInstanceId, dataAfter, mappingContext);
         if (!storedIndex.isPresent()) {
             return true;
         }
@@ -135,7 +182,7 @@ final class MappingEntryCustomizer implements ListWriterCustomizer<MappingEntry,
         LOG.debug("Deleting mapping entry: {} for nat-instance(vrf): {}", natInstanceId, mappingEntryKey);
 
         configureMapping(id, dataBefore, natInstanceId, false);
-        mappingEntryContext.removeEntry(natInstanceId, dataBefore, writeContext.getMappingContext());
+        removeMapping(natInstanceId, dataBefore, writeContext.getMappingContext());
         LOG.trace("Mapping entry: {} for nat-instance(vrf): {} deleted successfully", natInstanceId, id);
     }
 
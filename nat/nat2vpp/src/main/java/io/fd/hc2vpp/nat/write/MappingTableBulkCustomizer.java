@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2017 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.fd.hc2vpp.nat.write;
+
+import io.fd.hc2vpp.common.translate.util.BulkRequestWriter;
+import io.fd.hc2vpp.common.translate.util.JvppRequestDeadline;
+import io.fd.honeycomb.translate.MappingContext;
+import io.fd.honeycomb.translate.spi.write.WriterCustomizer;
+import io.fd.honeycomb.translate.write.WriteContext;
+import io.fd.honeycomb.translate.write.WriteFailedException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import javax.annotation.Nonnull;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.nat.rev150908.nat.config.nat.instances.NatInstance;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.nat.rev150908.nat.config.nat.instances.nat.instance.MappingTable;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.nat.rev150908.nat.config.nat.instances.nat.instance.mapping.table.MappingEntry;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.nat.rev150908.nat.config.nat.instances.nat.instance.mapping.table.MappingEntryKey;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Customizer for handling write operations for whole {@link MappingTable} container. Mapping entries are programmed
+ * using {@link BulkRequestWriter}, requests are prepared by {@link MappingEntryCustomizer}.
+ */
+final class MappingTableBulkCustomizer implements WriterCustomizer<MappingTable> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(MappingTableBulkCustomizer.class);
+
+    private final MappingEntryCustomizer entryCustomizer;
+    private final BulkRequestWriter writer;
+
+    MappingTableBulkCustomizer(@Nonnull final MappingEntryCustomizer entryCustomizer,
+                               @Nonnull final BulkRequestWriter writer) {
+        this.entryCustomizer = entryCustomizer;
+        this.writer = writer;
+    }
+
+    @Override
+    public void writeCurrentAttributes(@Nonnull final InstanceIdentifier<MappingTable> id,
+                                       @Nonnull final MappingTable dataAfter,
+                                       @Nonnull final WriteContext writeContext) throws WriteFailedException {
+        LOG.debug("Writing {} mapping entries for {}", entries(dataAfter).size(), id);
+        apply(writeContext, Collections.emptyList(), changes(id, entries(dataAfter).values(), writeContext, true));
+    }
+
+    @Override
+    public void updateCurrentAttributes(@Nonnull final InstanceIdentifier<MappingTable> id,
+                                        @Nonnull final MappingTable dataBefore,
+                                        @Nonnull final MappingTable dataAfter,
+                                        @Nonnull final WriteContext writeContext) throws WriteFailedException {
+        final Map<MappingEntryKey, MappingEntry> before = entries(dataBefore);
+        final Map<MappingEntryKey, MappingEntry> after = entries(dataAfter);
+        final List<MappingEntry> removed = new ArrayList<>();
+        final List<MappingEntry> added = new ArrayList<>();
+        for (final MappingEntry entryBefore : before.values()) {
+            final MappingEntry entryAfter = after.get(entryBefore.getKey());
+            if (entryAfter == null) {
+                removed.add(entryBefore);
+            } else if (!entryAfter.equals(entryBefore)) {
+                throw new WriteFailedException.UpdateFailedException(
+                        id.child(MappingEntry.class, entryBefore.getKey()), entryBefore, entryAfter,
+                        new UnsupportedOperationException("Operation not supported"));
+            }
+        }
+        after.values().stream()
+                .filter(entry -> !before.containsKey(entry.getKey()))
+                .forEach(added::add);
+
+        LOG.debug("Updating mapping entries for {}, removing {}, adding {}", id, removed.size(), added.size());
+        apply(writeContext, changes(id, removed, writeContext, false), changes(id, added, writeContext, true));
+    }
+
+    @Override
+    public void deleteCurrentAttributes(@Nonnull final InstanceIdentifier<MappingTable> id,
+                                        @Nonnull final MappingTable dataBefore,
+                                        @Nonnull final WriteContext writeContext) throws WriteFailedException {
+        LOG.debug("Removing {} mapping entries for {}", entries(dataBefore).size(), id);
+        apply(writeContext, changes(id, entries(dataBefore).values(), writeContext, false), Collections.emptyList());
+    }
+
+    private void apply(final WriteContext writeContext, final List<BulkRequestWriter.Change> removed,
+                       final List<BulkRequestWriter.Change> added) throws WriteFailedException {
+        try (JvppRequestDeadline deadline = JvppRequestDeadline.forTransaction(writeContext.getModificationCache())) {
+            writer.write(removed, added);
+        }
+    }
+
+    private List<BulkRequestWriter.Change> changes(final InstanceIdentifier<MappingTable> id,
+                                                   final Iterable<MappingEntry> entries,
+                                                   final WriteContext writeContext,
+                                                   final boolean isAdd) throws WriteFailedException {
+        final MappingContext mappingContext = writeContext.getMappingContext();
+        final Long natInstanceId = id.firstKeyOf(NatInstance.class).getId();
+        final List<BulkRequestWriter.Change> changes = new ArrayList<>();
+        for (final MappingEntry entry : entries) {
+            final InstanceIdentifier<MappingEntry> entryId = id.child(MappingEntry.class, entry.getKey());
+            final BulkRequestWriter.Change change;
+            if (isAdd) {
+                MappingEntryCustomizer.checkStaticEntry(entry);
+                change = BulkRequestWriter.Change.create(entryId, entry).onSuccess(
+                        () -> entryCustomizer.addMapping(natInstanceId, entry.getIndex(), entry, mappingContext));
+            } else {
+                change = BulkRequestWriter.Change.delete(entryId, entry).onSuccess(
+                        () -> entryCustomizer.removeMapping(natInstanceId, entry, mappingContext));
+            }
+            entryCustomizer.addMappingRequest(change, entryId, entry, natInstanceId, isAdd);
+            changes.add(change);
+        }
+        return changes;
+    }
+
+    private static Map<MappingEntryKey, MappingEntry> entries(final MappingTable data) {
+        return Optional.ofNullable(data.getMappingEntry())
+                .orElse(Collections.emptyList())
+                .stream()
+                .collect(Collectors.toMap(MappingEntry::getKey, Function.identity(), (left, right) -> left,
+                        LinkedHashMap::new));
+    }
+}
@@ -18,8 +18,11 @@ package io.fd.hc2vpp.nat.write;
 
 import com.google.common.collect.Sets;
 import com.google.inject.Inject;
+import io.fd.hc2vpp.common.translate.util.BulkRequestWriter;
+import io.fd.hc2vpp.nat.NatConfiguration;
 import io.fd.hc2vpp.nat.util.MappingEntryContext;
 import io.fd.honeycomb.translate.impl.write.GenericListWriter;
+import io.fd.honeycomb.translate.impl.write.GenericWriter;
 import io.fd.honeycomb.translate.write.WriterFactory;
 import io.fd.honeycomb.translate.write.registry.ModifiableWriterRegistryBuilder;
 import io.fd.vpp.jvpp.nat.future.FutureJVppNatFacade;
@@ -45,14 +48,20 @@ public final class NatWriterFactory implements WriterFactory {
     private static final InstanceIdentifier<NatConfig> NAT_CFG_ID = InstanceIdentifier.create(NatConfig.class);
     private static final InstanceIdentifier<NatInstance> NAT_INSTANCE_ID =
             NAT_CFG_ID.child(NatInstances.class).child(NatInstance.class);
-    private static final InstanceIdentifier<MappingEntry> MAP_ENTRY_ID =
-            NAT_INSTANCE_ID.child(MappingTable.class).child(MappingEntry.class);
+    private static final InstanceIdentifier<MappingTable> MAP_TABLE_ID = NAT_INSTANCE_ID.child(MappingTable.class);
+    private static final InstanceIdentifier<MappingEntry> MAP_ENTRY_ID = MAP_TABLE_ID.child(MappingEntry.class);
     private static final InstanceIdentifier<Nat64Prefixes> NAT64_PREFIXES =
             NAT_INSTANCE_ID.child(Nat64Prefixes.class);
 
     private final FutureJVppNatFacade jvppNat;
     private final MappingEntryContext mappingEntryContext;
 
+    @Inject
+    private NatConfiguration configuration;
+
+    @Inject
+    private BulkRequestWriter bulkRequestWriter;
+
     @Inject
     public NatWriterFactory(final FutureJVppNatFacade jvppNat,
                             final MappingEntryContext mappingEntryContext) {
@@ -65,9 +74,24 @@ public final class NatWriterFactory implements WriterFactory {
         // Nat-instance
         registry.add(new GenericListWriter<>(NAT_INSTANCE_ID, new NatInstaceCustomizer()));
         //  Mapping-entry
-        registry.subtreeAdd(Sets.newHashSet(InstanceIdentifier.create(MappingEntry.class).child(ExternalSrcPort.class),
-                InstanceIdentifier.create(MappingEntry.class).child(InternalSrcPort.class)),
-                new GenericListWriter<>(MAP_ENTRY_ID, new MappingEntryCustomizer(jvppNat, mappingEntryContext)));
+        final MappingEntryCustomizer mappingEntryCustomizer = new MappingEntryCustomizer(jvppNat, mappingEntryContext);
+        final InstanceIdentifier<?> mappingEntryWriterId;
+        if (configuration.isBulkStaticMappingWriteEnabled()) {
+            // whole mapping table is written at once, keeping multiple requests in flight
+            final InstanceIdentifier<MappingEntry> mappingEntry =
+                    InstanceIdentifier.create(MappingTable.class).child(MappingEntry.class);
+            registry.subtreeAdd(Sets.newHashSet(mappingEntry, mappingEntry.child(ExternalSrcPort.class),
+                    mappingEntry.child(InternalSrcPort.class)),
+                    new GenericWriter<>(MAP_TABLE_ID, new MappingTableBulkCustomizer(mappingEntryCustomizer,
+                            bulkRequestWriter)));
+            mappingEntryWriterId = MAP_TABLE_ID;
+        } else {
+            registry.subtreeAdd(
+                    Sets.newHashSet(InstanceIdentifier.create(MappingEntry.class).child(ExternalSrcPort.class),
+                            InstanceIdentifier.create(MappingEntry.class).child(InternalSrcPort.class)),
+                    new GenericListWriter<>(MAP_ENTRY_ID, mappingEntryCustomizer));
+            mappingEntryWriterId = MAP_ENTRY_ID;
+        }
 
         // External address pool has to be executed before mapping entry. Because adding mapping entries requires to
         //  already have an IP range predefined ... in some cases
@@ -76,7 +100,7 @@ public final class NatWriterFactory implements WriterFactory {
                                 .augmentation(ExternalIpAddressPoolConfigAugmentation.class)),
                         new GenericListWriter<>(NAT_INSTANCE_ID.child(ExternalIpAddressPool.class),
                 new ExternalIpPoolCustomizer(jvppNat)),
-                MAP_ENTRY_ID);
+                mappingEntryWriterId);
 
         // nat64-prefixes
         registry.subtreeAdd(
@@ -20,6 +20,8 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.core.IsCollectionContaining.hasItems;
 import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import io.fd.hc2vpp.common.test.read.InitializingListReaderCustomizerTest;
@@ -192,6 +194,39 @@ public class MappingEntryCustomizerTest
                 new MappingEntryKey(5L)));
     }
 
+    @Test
+    public void testReadAllDynamicWithLimit() throws Exception {
+        final long vrfId = NatInstanceCustomizer.DEFAULT_VRF_ID.getId();
+        final Nat64BibDetailsReplyDump dumpNat64 = dumpReplyNat64Dynamic();
+        when(nat44DumpExecutor.executeDump(mappingEntryWildcarded, null))
+                .thenReturn(new Nat44StaticMappingDetailsReplyDump());
+        when(nat64DumpExecutor.executeDump(mappingEntryWildcarded, null)).thenReturn(dumpNat64);
+        for (int i = 0; i < dumpNat64.nat64BibDetails.size(); i++) {
+            when(mappingContext.getStoredOrArtificialIndex(vrfId, dumpNat64.nat64BibDetails.get(i),
+                    ctx.getMappingContext())).thenReturn((long) i);
+        }
+        final MappingEntryCustomizer customizer =
+                new MappingEntryCustomizer(nat44DumpManager, nat64DumpManager, mappingContext, 2);
+
+        // static entry listed always, dynamic entries page by page
+        assertEquals(Arrays.asList(new MappingEntryKey(0L), new MappingEntryKey(1L), new MappingEntryKey(3L)),
+                customizer.getAllIds(mappingEntryWildcarded, ctx));
+        // context mappings are not created for entries not listed yet
+        verify(mappingContext, never()).getStoredOrArtificialIndex(vrfId, dumpNat64.nat64BibDetails.get(4),
+                ctx.getMappingContext());
+
+        assertEquals(Arrays.asList(new MappingEntryKey(0L), new MappingEntryKey(4L)),
+                customizer.getAllIds(mappingEntryWildcarded, ctx));
+        // starts from the beginning, once all entries were listed
+        assertEquals(Arrays.asList(new MappingEntryKey(0L), new MappingEntryKey(1L), new MappingEntryKey(3L)),
+                customizer.getAllIds(mappingEntryWildcarded, ctx));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidDynamicReadLimit() {
+        new MappingEntryCustomizer(nat44DumpManager, nat64DumpManager, mappingContext, -1);
+    }
+
     @Override
     protected ReaderCustomizer<MappingEntry, MappingEntryBuilder> initCustomizer() {
         return new MappingEntryCustomizer(nat44DumpManager, nat64DumpManager, mappingContext);
@@ -264,4 +299,29 @@ public class MappingEntryCustomizerTest
         replyDump.nat64BibDetails = Arrays.asList(detailsOne, detailsTwo, detailsThree);
         return replyDump;
     }
-}
\ No newline at end of file
+
+    /**
+     * Static entry, followed by dynamic entries. Third entry belongs to another nat instance.
+     */
+    private static Nat64BibDetailsReplyDump dumpReplyNat64Dynamic() {
+        final Nat64BibDetailsReplyDump replyDump = new Nat64BibDetailsReplyDump();
+        replyDump.nat64BibDetails = Arrays.asList(
+                nat64Details(1, 1, NatInstanceCustomizer.DEFAULT_VRF_ID.getId().byteValue()),
+                nat64Details(0, 2, NatInstanceCustomizer.DEFAULT_VRF_ID.getId().byteValue()),
+                nat64Details(0, 3, 2),
+                nat64Details(0, 4, NatInstanceCustomizer.DEFAULT_VRF_ID.getId().byteValue()),
+                nat64Details(0, 5, NatInstanceCustomizer.DEFAULT_VRF_ID.getId().byteValue()));
+        return replyDump;
+    }
+
+    private static Nat64BibDetails nat64Details(final int isStatic, final int host, final int vrfId) {
+        final Nat64BibDetails details = new Nat64BibDetails();
+        details.isStatic = (byte) isStatic;
+        details.iAddr = new byte[]{0x20, 0x01, 0x0d, (byte) 0xb8, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, (byte) host};
+        details.iPort = 1234;
+        details.oAddr = new byte[]{-64, -88, 64, (byte) host};
+        details.oPort = 5874;
+        details.vrfId = vrfId;
+        return details;
+    }
+}
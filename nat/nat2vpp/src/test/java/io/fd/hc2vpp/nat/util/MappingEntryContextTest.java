@@ -20,6 +20,7 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertSame;
 import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.mockito.MockitoAnnotations.initMocks;
@@ -165,6 +166,90 @@ public class MappingEntryContextTest implements Ipv4Translator {
         assertEquals(newEntryId, ctx.getStoredOrArtificialIndex(natId, newDetails, mappingCtx));
     }
 
+    @Test
+    public void testFindDetailsReadsTableOnce() throws Exception {
+        final long natId = 0;
+        final MappingEntry entry = getEntry(0, "192.168.1.5", "17.14.4.6");
+        final Nat44StaticMappingDetails details = getDetails(0, "192.168.1.5", "17.14.4.6");
+        final MappingEntry entry2 = getEntry(1, "192.168.1.8", "17.14.4.10");
+        final Nat44StaticMappingDetails details2 = getDetails(1, "192.168.1.8", "17.14.4.10");
+
+        final List<Nat44StaticMappingDetails> someDetails = Lists.newArrayList(details, details2);
+
+        when(mappingCtx.read(MappingEntryContext.getTableId(natId)))
+                .thenReturn(Optional.of(new MappingTableBuilder()
+                        .setMappingEntry(Lists.newArrayList(
+                                MappingEntryContext.toCtxMapEntry(entry, 0),
+                                MappingEntryContext.toCtxMapEntry(entry2, 1)))
+                        .build()));
+
+        assertSame(details2, ctx.findDetailsNat44(someDetails, natId, 1, mappingCtx).get());
+        assertSame(details, ctx.findDetailsNat44(someDetails, natId, 0, mappingCtx).get());
+        verify(mappingCtx, times(1)).read(MappingEntryContext.getTableId(natId));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testFindDetailsAfterRemove() throws Exception {
+        final long natId = 0;
+        final MappingEntry entry = getEntry(0, "192.168.1.5", "17.14.4.6");
+        final Nat44StaticMappingDetails details = getDetails(0, "192.168.1.5", "17.14.4.6");
+        final List<Nat44StaticMappingDetails> someDetails = Lists.newArrayList(details);
+
+        when(mappingCtx.read(MappingEntryContext.getTableId(natId)))
+                .thenReturn(Optional.of(new MappingTableBuilder()
+                        .setMappingEntry(Lists.newArrayList(MappingEntryContext.toCtxMapEntry(entry, 0)))
+                        .build()));
+        when(mappingCtx.read(MappingEntryContext.getId(natId, MappingEntryContext.entryToKey(entry))))
+                .thenReturn(Optional.of(MappingEntryContext.toCtxMapEntry(entry, 0)));
+        assertSame(details, ctx.findDetailsNat44(someDetails, natId, 0, mappingCtx).get());
+
+        ctx.removeEntry(natId, entry, mappingCtx);
+        ctx.findDetailsNat44(someDetails, natId, 0, mappingCtx);
+    }
+
+    @Test
+    public void testGetArtificialIndexAfterAdd() throws Exception {
+        final long natId = 0;
+        final long entryId = 5;
+        final MappingEntry entry = getEntry(entryId, "192.168.1.5", "17.14.4.6");
+        final MappingEntry addedEntry = getEntry(20, "192.168.1.20", "17.14.4.20");
+
+        when(mappingCtx.read(any(InstanceIdentifier.class))).thenReturn(Optional.absent());
+        when(mappingCtx.read(MappingEntryContext.getTableId(natId)))
+                .thenReturn(Optional.of(new MappingTableBuilder()
+                        .setMappingEntry(Lists.newArrayList(MappingEntryContext.toCtxMapEntry(entry, entryId)))
+                        .build()));
+
+        assertEquals(6, ctx.getStoredOrArtificialIndex(natId, getDetails(0, "192.168.1.6", "17.14.4.7"), mappingCtx));
+        ctx.addEntry(natId, 20, addedEntry, mappingCtx);
+        assertEquals(21, ctx.getStoredOrArtificialIndex(natId, getDetails(0, "192.168.1.7", "17.14.4.8"), mappingCtx));
+        verify(mappingCtx, times(1)).read(MappingEntryContext.getTableId(natId));
+    }
+
+    @Test
+    public void testGetArtificialIndexAfterRemove() throws Exception {
+        final long natId = 0;
+        final long entryId = 5;
+        final MappingEntry entry = getEntry(entryId, "192.168.1.5", "17.14.4.6");
+        final MappingEntry addedEntry = getEntry(20, "192.168.1.20", "17.14.4.20");
+
+        when(mappingCtx.read(any(InstanceIdentifier.class))).thenReturn(Optional.absent());
+        when(mappingCtx.read(MappingEntryContext.getTableId(natId)))
+                .thenReturn(Optional.of(new MappingTableBuilder()
+                        .setMappingEntry(Lists.newArrayList(MappingEntryContext.toCtxMapEntry(entry, entryId)))
+                        .build()));
+
+        ctx.addEntry(natId, 20, addedEntry, mappingCtx);
+        ctx.removeEntry(natId, addedEntry, mappingCtx);
+        // the highest index is reused
+        assertEquals(6, ctx.getStoredOrArtificialIndex(natId, getDetails(0, "192.168.1.6", "17.14.4.7"), mappingCtx));
+
+        ctx.addEntry(natId, 20, addedEntry, mappingCtx);
+        ctx.removeEntry(natId, getEntry(6, "192.168.1.6", "17.14.4.7"), mappingCtx);
+        // gaps below the highest index are not
+        assertEquals(21, ctx.getStoredOrArtificialIndex(natId, getDetails(0, "192.168.1.7", "17.14.4.8"), mappingCtx));
+    }
+
     private Nat44StaticMappingDetails getDetails(final long vrfId, final String localIp, final String externIp) {
         final Nat44StaticMappingDetails nat44StaticMappingDetails = new Nat44StaticMappingDetails();
         nat44StaticMappingDetails.vrfId = (int) vrfId;
@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2017 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.fd.hc2vpp.nat.write;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.google.common.collect.ImmutableList;
+import io.fd.hc2vpp.common.test.write.WriterCustomizerTest;
+import io.fd.hc2vpp.common.translate.util.BulkRequestWriter;
+import io.fd.hc2vpp.nat.NatTestSchemaContext;
+import io.fd.hc2vpp.nat.util.MappingEntryContext;
+import io.fd.honeycomb.translate.write.WriteFailedException;
+import io.fd.vpp.jvpp.nat.dto.Nat44AddDelStaticMapping;
+import io.fd.vpp.jvpp.nat.dto.Nat44AddDelStaticMappingReply;
+import io.fd.vpp.jvpp.nat.future.FutureJVppNatFacade;
+import java.util.Arrays;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.IpAddress;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.Ipv4Address;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.nat.rev150908.NatConfig;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.nat.rev150908.nat.config.NatInstances;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.nat.rev150908.nat.config.nat.instances.NatInstance;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.nat.rev150908.nat.config.nat.instances.NatInstanceKey;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.nat.rev150908.nat.config.nat.instances.nat.instance.MappingTable;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.nat.rev150908.nat.config.nat.instances.nat.instance.MappingTableBuilder;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.nat.rev150908.nat.config.nat.instances.nat.instance.mapping.table.MappingEntry;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.nat.rev150908.nat.config.nat.instances.nat.instance.mapping.table.MappingEntryBuilder;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.nat.rev150908.nat.config.nat.instances.nat.instance.mapping.table.MappingEntryKey;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+
+public class MappingTableBulkCustomizerTest extends WriterCustomizerTest implements NatTestSchemaContext {
+
+    private static final long NAT_INSTANCE_ID = 1;
+    private static final InstanceIdentifier<MappingTable> IID = InstanceIdentifier.create(NatConfig.class)
+            .child(NatInstances.class).child(NatInstance.class, new NatInstanceKey(NAT_INSTANCE_ID))
+            .child(MappingTable.class);
+
+    @Captor
+    private ArgumentCaptor<Nat44AddDelStaticMapping> requestCaptor;
+    @Mock
+    private FutureJVppNatFacade jvppNat;
+    @Mock
+    private MappingEntryContext mappingEntryContext;
+    private MappingTableBulkCustomizer customizer;
+
+    @Override
+    public void setUpTest() {
+        customizer = new MappingTableBulkCustomizer(new MappingEntryCustomizer(jvppNat, mappingEntryContext),
+                new BulkRequestWriter(2));
+        when(jvppNat.nat44AddDelStaticMapping(any())).thenReturn(future(new Nat44AddDelStaticMappingReply()));
+    }
+
+    @Test
+    public void testWrite() throws WriteFailedException {
+        final MappingEntry entry1 = entry(1, "192.168.1.1", "45.1.5.1");
+        final MappingEntry entry2 = entry(2, "192.168.1.2", "45.1.5.2");
+        final MappingEntry entry3 = entry(3, "192.168.1.3", "45.1.5.3");
+        customizer.writeCurrentAttributes(IID, table(entry1, entry2, entry3), writeContext);
+
+        verifyRequests(request(true, 1, 1), request(true, 2, 2), request(true, 3, 3));
+        verify(mappingEntryContext).addEntry(NAT_INSTANCE_ID, 1, entry1, mappingContext);
+        verify(mappingEntryContext).addEntry(NAT_INSTANCE_ID, 2, entry2, mappingContext);
+        verify(mappingEntryContext).addEntry(NAT_INSTANCE_ID, 3, entry3, mappingContext);
+    }
+
+    @Test
+    public void testUpdate() throws WriteFailedException {
+        final MappingEntry entry1 = entry(1, "192.168.1.1", "45.1.5.1");
+        final MappingEntry entry2 = entry(2, "192.168.1.2", "45.1.5.2");
+        final MappingEntry entry3 = entry(3, "192.168.1.3", "45.1.5.3");
+        customizer.updateCurrentAttributes(IID, table(entry1, entry2), table(entry2, entry3), writeContext);
+
+        // unchanged entry is skipped, removed entries are processed first
+        verifyRequests(request(false, 1, 1), request(true, 3, 3));
+        verify(mappingEntryContext).removeEntry(NAT_INSTANCE_ID, entry1, mappingContext);
+        verify(mappingEntryContext).addEntry(NAT_INSTANCE_ID, 3, entry3, mappingContext);
+    }
+
+    @Test(expected = WriteFailedException.UpdateFailedException.class)
+    public void testUpdateEntry() throws WriteFailedException {
+        customizer.updateCurrentAttributes(IID, table(entry(1, "192.168.1.1", "45.1.5.1")),
+                table(entry(1, "192.168.1.1", "45.1.5.2")), writeContext);
+    }
+
+    @Test
+    public void testDelete() throws WriteFailedException {
+        final MappingEntry entry1 = entry(1, "192.168.1.1", "45.1.5.1");
+        final MappingEntry entry2 = entry(2, "192.168.1.2", "45.1.5.2");
+        customizer.deleteCurrentAttributes(IID, table(entry1, entry2), writeContext);
+
+        verifyRequests(request(false, 1, 1), request(false, 2, 2));
+        verify(mappingEntryContext).removeEntry(NAT_INSTANCE_ID, entry1, mappingContext);
+        verify(mappingEntryContext).removeEntry(NAT_INSTANCE_ID, entry2, mappingContext);
+    }
+
+    @Test
+    public void testWriteUnsupportedProtocol() {
+        final MappingEntry invalid = new MappingEntryBuilder(entry(2, "192.168.1.2", "45.1.5.2"))
+                .setTransportProtocol((short) 2)
+                .build();
+        try {
+            customizer.writeCurrentAttributes(IID, table(entry(1, "192.168.1.1", "45.1.5.1"), invalid),
+                    writeContext);
+        } catch (IllegalArgumentException e) {
+            // nothing is sent, if any request cannot be prepared
+            verify(jvppNat, never()).nat44AddDelStaticMapping(any());
+            return;
+        } catch (WriteFailedException e) {
+            fail("IllegalArgumentException expected");
+        }
+        fail("IllegalArgumentException expected");
+    }
+
+    private void verifyRequests(final Nat44AddDelStaticMapping... requests) {
+        verify(jvppNat, times(requests.length)).nat44AddDelStaticMapping(requestCaptor.capture());
+        assertEquals(Arrays.asList(requests), requestCaptor.getAllValues());
+    }
+
+    private static Nat44AddDelStaticMapping request(final boolean isAdd, final int internalHost,
+                                                    final int externalHost) {
+        final Nat44AddDelStaticMapping request = new Nat44AddDelStaticMapping();
+        request.isAdd = (byte) (isAdd ? 1 : 0);
+        request.addrOnly = 1;
+        request.protocol = -1;
+        request.vrfId = (int) NAT_INSTANCE_ID;
+        request.externalSwIfIndex = -1;
+        request.localIpAddress = new byte[] {(byte) 192, (byte) 168, 1, (byte) internalHost};
+        request.externalIpAddress = new byte[] {45, 1, 5, (byte) externalHost};
+        return request;
+    }
+
+    private static MappingTable table(final MappingEntry... entries) {
+        return new MappingTableBuilder().setMappingEntry(ImmutableList.copyOf(entries)).build();
+    }
+
+    private static MappingEntry entry(final long index, final String internalAddress, final String externalAddress) {
+        return new MappingEntryBuilder()
+                .setKey(new MappingEntryKey(index))
+                .setIndex(index)
+                .setType(
+                        org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.nat.rev150908.MappingEntry.Type.Static)
+                .setInternalSrcAddress(new IpAddress(new Ipv4Address(internalAddress)))
+                .setExternalSrcAddress(new Ipv4Address(externalAddress))
+                .build();
+    }
+}
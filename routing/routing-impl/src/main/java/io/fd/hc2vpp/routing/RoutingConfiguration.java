@@ -50,6 +50,9 @@ public class RoutingConfiguration {
     @InjectConfig("learned-route-name-prefix")
     private String learnedRouteNamePrefix;
 
+    @InjectConfig("bulk-route-write-enabled")
+    private boolean bulkRouteWriteEnabled;
+
     public String getDefaultRoutingInstanceName() {
         return defaultRoutingInstanceName;
     }
@@ -57,4 +60,13 @@ public class RoutingConfiguration {
     public String getLearnedRouteNamePrefix() {
         return learnedRouteNamePrefix;
     }
+
+    /**
+     * If enabled, all static routes of routing protocol are written by single writer,
+     * keeping multiple route requests in flight. Number of requests in flight is configured by
+     * jvpp-bulk-write-window.
+     */
+    public boolean isBulkRouteWriteEnabled() {
+        return bulkRouteWriteEnabled;
+    }
 }
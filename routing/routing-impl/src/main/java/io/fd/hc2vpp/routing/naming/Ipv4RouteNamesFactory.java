@@ -17,15 +17,14 @@
 package io.fd.hc2vpp.routing.naming;
 
 
+import static com.google.common.base.Preconditions.checkArgument;
+
 import io.fd.hc2vpp.common.translate.util.NamingContext;
 import io.fd.hc2vpp.routing.trait.RouteMapper;
 import io.fd.hc2vpp.routing.write.trait.RouteRequestProducer;
 import io.fd.honeycomb.translate.MappingContext;
 import io.fd.vpp.jvpp.core.dto.IpFibDetails;
 import io.fd.vpp.jvpp.core.types.FibPath;
-import java.net.InetAddress;
-import java.net.UnknownHostException;
-import java.util.Arrays;
 import javax.annotation.Nonnull;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.Ipv4Address;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.Ipv4Prefix;
@@ -59,9 +58,14 @@ public final class Ipv4RouteNamesFactory implements RouteMapper, RouteRequestPro
      * Construct unique name from provided {@code IpFibDetails}
      */
     public String uniqueRouteName(@Nonnull final IpFibDetails details, @Nonnull final MappingContext mappingContext) {
-        return bindName(routingProtocolContext.getName(details.tableId, mappingContext),
-                dotlessAddress(details.address),
-                String.valueOf(details.addressLength));
+        return uniqueRouteName(routingProtocolContext.getName(details.tableId, mappingContext), details);
+    }
+
+    /**
+     * Construct unique name from provided {@code IpFibDetails}, for already resolved routing protocol name
+     */
+    public String uniqueRouteName(@Nonnull final String protocolName, @Nonnull final IpFibDetails details) {
+        return bindName(protocolName, dotlessAddress(details.address), String.valueOf(details.addressLength));
     }
 
 
@@ -78,19 +82,16 @@ public final class Ipv4RouteNamesFactory implements RouteMapper, RouteRequestPro
                 dotlessAddress(path.nextHop), String.valueOf(path.weight));
     }
 
-    private String dotlessAddress(final byte[] address) {
-        // trimming in case of ipv4 address beeing sent as 16 byte array
-        byte[] trimmed = address;
-        if (trimmed.length > 4) {
-            trimmed = Arrays.copyOfRange(trimmed, 0, 4);
-        }
+    private static String dotlessAddress(final byte[] address) {
+        // only first 4 bytes are used in case of ipv4 address beeing sent as 16 byte array
+        checkArgument(address.length >= 4, "Invalid ipv4 address length %s", address.length);
 
         //no reverting, just takes address as it is and converts it
-        try {
-            return dotless(InetAddress.getByAddress(trimmed).getHostAddress());
-        } catch (UnknownHostException e) {
-            throw new IllegalArgumentException(e);
+        final StringBuilder builder = new StringBuilder(12);
+        for (int i = 0; i < 4; i++) {
+            builder.append(address[i] & 0xFF);
         }
+        return builder.toString();
     }
 
     private String dotlessAddress(@Nonnull final Ipv4Prefix address) {
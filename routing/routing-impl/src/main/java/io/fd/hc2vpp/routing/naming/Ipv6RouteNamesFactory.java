@@ -16,14 +16,15 @@
 
 package io.fd.hc2vpp.routing.naming;
 
+import static com.google.common.base.Preconditions.checkArgument;
+
 import com.google.common.net.InetAddresses;
+import io.fd.hc2vpp.common.translate.util.AddressCodec;
 import io.fd.hc2vpp.common.translate.util.NamingContext;
 import io.fd.hc2vpp.routing.trait.RouteMapper;
 import io.fd.honeycomb.translate.MappingContext;
 import io.fd.vpp.jvpp.core.dto.Ip6FibDetails;
 import io.fd.vpp.jvpp.core.types.FibPath;
-import java.net.InetAddress;
-import java.net.UnknownHostException;
 import javax.annotation.Nonnull;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.Ipv6Address;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.Ipv6Prefix;
@@ -58,9 +59,14 @@ public final class Ipv6RouteNamesFactory implements RouteMapper {
      * Construct unique name from provided {@code IpFibDetails}
      */
     public String uniqueRouteName(@Nonnull final Ip6FibDetails details, @Nonnull final MappingContext mappingContext) {
-        return bindName(routingProtocolContext.getName(details.tableId, mappingContext),
-                doubleDotlessAddress(details.address),
-                String.valueOf(details.addressLength));
+        return uniqueRouteName(routingProtocolContext.getName(details.tableId, mappingContext), details);
+    }
+
+    /**
+     * Construct unique name from provided {@code Ip6FibDetails}, for already resolved routing protocol name
+     */
+    public String uniqueRouteName(@Nonnull final String protocolName, @Nonnull final Ip6FibDetails details) {
+        return bindName(protocolName, doubleDotlessAddress(details.address), String.valueOf(details.addressLength));
     }
 
     public String uniqueRouteHopName(
@@ -77,46 +83,60 @@ public final class Ipv6RouteNamesFactory implements RouteMapper {
     }
 
     /**
-     * Uses combination of standard java.net.InetAddress and com.google.common.net.InetAddresses for following reasons
+     * Produces the same output as {@link InetAddresses#toAddrString} of address created by
+     * {@link java.net.InetAddress#getByAddress(byte[])}, without colons.
      * <ul>
      * <li>
-     * InetAddresses.toAddrString uses maximal ipv6 compression - eliminate possibility of mismatch between same
-     * addresses with different compression
+     * maximal ipv6 compression is used(longest run of zero hextets is omitted) - eliminates possibility of mismatch
+     * between same addresses with different compression
+     * </li>
+     * <li>
+     * bytes are taken as they are(no reverting)
      * </li>
      * <li>
-     * InetAddress.getByAddress just converts byte array to address, that's
-     * why InetAddresses.fromLittleEndianByteArray is not used, because it internaly reverts order of address
-     * bytes,which is something that is not needed here
+     * ipv4 and ipv4-mapped addresses are printed in dotted form
      * </li>
      * </ul>
      */
-    private String doubleDotlessAddress(final byte[] address) {
-        try {
-            return doubleDotless(InetAddresses.toAddrString(InetAddress.getByAddress(address)));
-        } catch (UnknownHostException e) {
-            throw new IllegalArgumentException(e);
+    private static String doubleDotlessAddress(final byte[] address) {
+        if (address.length == 4) {
+            return AddressCodec.formatIpv4(address, 0);
+        }
+        checkArgument(address.length == 16, "Invalid ipv6 address length %s", address.length);
+        if (AddressCodec.isIpv4Mapped(address)) {
+            return AddressCodec.formatIpv4(address, 12);
         }
+        return doubleDotless(AddressCodec.formatIpv6(address, true));
     }
 
     private String doubleDotlessAddress(@Nonnull final Ipv6Prefix address) {
         final String addressValue = address.getValue();
-        return doubleDotless(compressedIpv6(addressValue.substring(0, addressValue.indexOf("/"))));
+        return doubleDotlessAddress(addressValue, addressValue.indexOf('/'));
     }
 
     private String doubleDotlessAddress(@Nonnull final Ipv6Address address) {
-        // converted to use maximal compression
+        final String addressValue = address.getValue();
+        return doubleDotlessAddress(addressValue, addressValue.length());
+    }
+
+    private static String doubleDotlessAddress(@Nonnull final String value, final int end) {
+        final byte[] address = new byte[16];
+        if (AddressCodec.parseIpv6(value, 0, end, address)) {
+            return doubleDotlessAddress(address);
+        }
+        // embedded ipv4 or zone, converted to use maximal compression
         // for details - https://google.github.io/guava/releases/snapshot/api/docs/com/google/common/net/InetAddresses.html#toAddrString-java.net.InetAddress
-        return doubleDotless(compressedIpv6(address.getValue()));
+        return doubleDotless(compressedIpv6(value.substring(0, end)));
     }
 
     /**
      * Use maximal compresion of ipv6 address string
      */
-    private String compressedIpv6(@Nonnull final String input) {
+    private static String compressedIpv6(@Nonnull final String input) {
         return InetAddresses.toAddrString(InetAddresses.forString(input));
     }
 
-    private String doubleDotless(@Nonnull final String input) {
+    private static String doubleDotless(@Nonnull final String input) {
         return input.replace(DOUBLE_DOT, EMPTY);
     }
 }
@@ -60,7 +60,7 @@ interface Ipv4ReadRoutingNodes extends JvppReplyConsumer {
         return new DumpCacheManager.DumpCacheManagerBuilder<IpFibDetailsReplyDump, Void>()
                 .withExecutor(
                         (identifier, params) -> getReplyForRead(vppApi.ipFibDump(new IpFibDump()).toCompletableFuture(),
-                                identifier))
+                                identifier, IpFibDump.class))
                 .acceptOnly(IpFibDetailsReplyDump.class)
                 .build();
     }
@@ -33,6 +33,7 @@ import io.fd.vpp.jvpp.core.dto.IpFibDetailsReplyDump;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.ipv4.unicast.routing.rev170917.routing.state.routing.instance.routing.protocols.routing.protocol._static.routes.Ipv4Builder;
@@ -49,6 +50,8 @@ public class Ipv4RouteCustomizer
         implements ListReaderCustomizer<Route, RouteKey, RouteBuilder>, RouteMapper, Ipv4RoutePathParser {
 
 
+    private static final String ROUTE_INDEX_KEY = Ipv4RouteCustomizer.class.getName() + "_routeIndex";
+
     private final DumpCacheManager<IpFibDetailsReplyDump, Void> ipv4RoutesDumpManager;
     private final RoutingConfiguration configuration;
     private final MultiNamingContext routeHopContext;
@@ -78,26 +81,32 @@ public class Ipv4RouteCustomizer
     public List<RouteKey> getAllIds(@Nonnull final InstanceIdentifier<Route> instanceIdentifier,
                                     @Nonnull final ReadContext readContext) throws ReadFailedException {
 
-        final Optional<IpFibDetailsReplyDump> ipv4RoutesDump =
-                ipv4RoutesDumpManager.getDump(instanceIdentifier, readContext.getModificationCache());
-
         final String protocolName = instanceIdentifier.firstKeyOf(RoutingProtocol.class).getName();
         final int protocolTableId = routingProtocolContext.getIndex(protocolName, readContext.getMappingContext());
 
-        return ipv4RoutesDump.isPresent()
-                ? ipv4RoutesDump.get().ipFibDetails.stream()
-                .filter(details -> protocolTableId == details.tableId)
-                .map(ipFibDetails -> toKey(ipFibDetails, readContext.getMappingContext()))
-                .collect(Collectors.toList())
-                : Collections.emptyList();
+        return routeIndex(instanceIdentifier, readContext)
+                .byName(protocolTableId, details -> namesFactory.uniqueRouteName(protocolName, details))
+                .keySet().stream()
+                .map(routeName -> toKey(routeName, readContext.getMappingContext()))
+                .collect(Collectors.toList());
+    }
+
+    private RouteIndex<IpFibDetails> routeIndex(@Nonnull final InstanceIdentifier<Route> instanceIdentifier,
+                                        @Nonnull final ReadContext readContext) throws ReadFailedException {
+        final Optional<IpFibDetailsReplyDump> ipv4RoutesDump =
+                ipv4RoutesDumpManager.getDump(instanceIdentifier, readContext.getModificationCache());
+        return RouteIndex.getOrCreate(readContext.getModificationCache(), ROUTE_INDEX_KEY,
+                () -> ipv4RoutesDump.isPresent()
+                        ? ipv4RoutesDump.get().ipFibDetails
+                        : Collections.emptyList(),
+                details -> details.tableId);
     }
 
     /**
      * route id is represented as number, but there's no index in dumped data,
      * so index is assigned to name formatted as tableId_address_addressLength(should be unique combination)
      */
-    private RouteKey toKey(final IpFibDetails details, final MappingContext mappingContext) {
-        String routeName = namesFactory.uniqueRouteName(details, mappingContext);
+    private RouteKey toKey(final String routeName, final MappingContext mappingContext) {
         // first condition excludes data written manually, second one data that has been already learned
         if (!routesContext.containsIndex(routeName, mappingContext)) {
             String learnedRouteName = nameWithPrefix(configuration.getLearnedRouteNamePrefix(), routeName);
@@ -133,28 +142,24 @@ public class Ipv4RouteCustomizer
         final String mappedName = routesContext.getName(key.getId().intValue(), readContext.getMappingContext());
         final String protocolName = instanceIdentifier.firstKeyOf(RoutingProtocol.class).getName();
         final int protocolTableId = routingProtocolContext.getIndex(protocolName, readContext.getMappingContext());
-        final Optional<IpFibDetailsReplyDump> ipv4RoutesDump =
-                ipv4RoutesDumpManager.getDump(instanceIdentifier, readContext.getModificationCache());
-
-        if (ipv4RoutesDump.isPresent() && !ipv4RoutesDump.get().ipFibDetails.isEmpty()) {
-
-            final java.util.Optional<IpFibDetails> opDetail = ipv4RoutesDump.get().ipFibDetails.stream()
-                    .filter(details -> protocolTableId == details.tableId)
-                    .filter(details -> equalsWithConfigOrLearned(configuration.getLearnedRouteNamePrefix(), mappedName,
-                            namesFactory.uniqueRouteName(details, readContext.getMappingContext())))
-                    .findAny();
-
-            if (opDetail.isPresent()) {
-                final IpFibDetails detail = opDetail.get();
+        final Map<String, IpFibDetails> routes = routeIndex(instanceIdentifier, readContext)
+                .byName(protocolTableId, details -> namesFactory.uniqueRouteName(protocolName, details));
+
+        // mapped name is either name of configured route, or name of learned route
+        final String learnedPrefix = nameWithPrefix(configuration.getLearnedRouteNamePrefix(), "");
+        IpFibDetails detail = routes.get(mappedName);
+        if (detail == null && mappedName.startsWith(learnedPrefix)) {
+            detail = routes.get(mappedName.substring(learnedPrefix.length()));
+        }
 
-                routeBuilder.setNextHopOptions(
-                        resolveHopType(mappedName, Arrays.asList(detail.path), interfaceContext, routeHopContext,
-                                readContext.getMappingContext(), namesFactory))
-                        .setKey(key)
-                        .setId(key.getId())
-                        .setDestinationPrefix(toIpv4Prefix(detail.address, toJavaByte(detail.addressLength)))
-                        .setVppIpv4RouteState(new VppIpv4RouteStateBuilder().build());
-            }
+        if (detail != null) {
+            routeBuilder.setNextHopOptions(
+                    resolveHopType(mappedName, Arrays.asList(detail.path), interfaceContext, routeHopContext,
+                            readContext.getMappingContext(), namesFactory))
+                    .setKey(key)
+                    .setId(key.getId())
+                    .setDestinationPrefix(toIpv4Prefix(detail.address, toJavaByte(detail.addressLength)))
+                    .setVppIpv4RouteState(new VppIpv4RouteStateBuilder().build());
         }
     }
 }
@@ -58,7 +58,8 @@ interface Ipv6ReadRoutingNodes extends JvppReplyConsumer {
         return new DumpCacheManager.DumpCacheManagerBuilder<Ip6FibDetailsReplyDump, Void>()
                 .withExecutor(
                         (identifier, params) -> getReplyForRead(
-                                vppApi.ip6FibDump(new Ip6FibDump()).toCompletableFuture(), identifier))
+                                vppApi.ip6FibDump(new Ip6FibDump()).toCompletableFuture(), identifier,
+                                Ip6FibDump.class))
                 .acceptOnly(Ip6FibDetailsReplyDump.class)
                 .build();
     }
@@ -33,6 +33,7 @@ import io.fd.vpp.jvpp.core.dto.Ip6FibDetailsReplyDump;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.ipv6.unicast.routing.rev170917.routing.state.routing.instance.routing.protocols.routing.protocol._static.routes.Ipv6Builder;
@@ -48,6 +49,8 @@ import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
 public class Ipv6RouteCustomizer
         implements ListReaderCustomizer<Route, RouteKey, RouteBuilder>, RouteMapper, Ipv6RoutePathParser {
 
+    private static final String ROUTE_INDEX_KEY = Ipv6RouteCustomizer.class.getName() + "_routeIndex";
+
     private final DumpCacheManager<Ip6FibDetailsReplyDump, Void> ipv6RoutesDumpManager;
     private final RoutingConfiguration configuration;
     private final MultiNamingContext routeHopContext;
@@ -76,26 +79,32 @@ public class Ipv6RouteCustomizer
     public List<RouteKey> getAllIds(@Nonnull final InstanceIdentifier<Route> instanceIdentifier,
                                     @Nonnull final ReadContext readContext) throws ReadFailedException {
 
-        final Optional<Ip6FibDetailsReplyDump> ipv6RoutesDump =
-                ipv6RoutesDumpManager.getDump(instanceIdentifier, readContext.getModificationCache());
-
         final String protocolName = instanceIdentifier.firstKeyOf(RoutingProtocol.class).getName();
         final int protocolTableId = routingProtocolContext.getIndex(protocolName, readContext.getMappingContext());
 
-        return ipv6RoutesDump.isPresent()
-                ? ipv6RoutesDump.get().ip6FibDetails.stream()
-                .filter(details -> protocolTableId == details.tableId)
-                .map(ip6FibDetails -> toKey(ip6FibDetails, readContext.getMappingContext()))
-                .collect(Collectors.toList())
-                : Collections.emptyList();
+        return routeIndex(instanceIdentifier, readContext)
+                .byName(protocolTableId, details -> namesFactory.uniqueRouteName(protocolName, details))
+                .keySet().stream()
+                .map(routeName -> toKey(routeName, readContext.getMappingContext()))
+                .collect(Collectors.toList());
+    }
+
+    private RouteIndex<Ip6FibDetails> routeIndex(@Nonnull final InstanceIdentifier<Route> instanceIdentifier,
+                                         @Nonnull final ReadContext readContext) throws ReadFailedException {
+        final Optional<Ip6FibDetailsReplyDump> ipv6RoutesDump =
+                ipv6RoutesDumpManager.getDump(instanceIdentifier, readContext.getModificationCache());
+        return RouteIndex.getOrCreate(readContext.getModificationCache(), ROUTE_INDEX_KEY,
+                () -> ipv6RoutesDump.isPresent()
+                        ? ipv6RoutesDump.get().ip6FibDetails
+                        : Collections.emptyList(),
+                details -> details.tableId);
     }
 
     /**
      * route id is represented as number, but there's no index in dumped data,
      * so index is assigned to name formatted as tableId_address_addressLength(should be unique combination)
      */
-    private RouteKey toKey(final Ip6FibDetails details, final MappingContext mappingContext) {
-        String routeName = namesFactory.uniqueRouteName(details, mappingContext);
+    private RouteKey toKey(final String routeName, final MappingContext mappingContext) {
         // first condition excludes data written manually, second one data that has been already learned
         if (!routesContext.containsIndex(routeName, mappingContext)) {
             String learnedRouteName = nameWithPrefix(configuration.getLearnedRouteNamePrefix(), routeName);
@@ -130,28 +139,24 @@ public class Ipv6RouteCustomizer
         final String mappedName = routesContext.getName(key.getId().intValue(), readContext.getMappingContext());
         final String protocolName = instanceIdentifier.firstKeyOf(RoutingProtocol.class).getName();
         final int protocolTableId = routingProtocolContext.getIndex(protocolName, readContext.getMappingContext());
-        final Optional<Ip6FibDetailsReplyDump> ipv6RoutesDump =
-                ipv6RoutesDumpManager.getDump(instanceIdentifier, readContext.getModificationCache());
-
-        if (ipv6RoutesDump.isPresent() && !ipv6RoutesDump.get().ip6FibDetails.isEmpty()) {
-
-            final java.util.Optional<Ip6FibDetails> opDetail = ipv6RoutesDump.get().ip6FibDetails.stream()
-                    .filter(details -> protocolTableId == details.tableId)
-                    .filter(details -> equalsWithConfigOrLearned(configuration.getLearnedRouteNamePrefix(), mappedName,
-                            namesFactory.uniqueRouteName(details, readContext.getMappingContext())))
-                    .findAny();
-
-            if (opDetail.isPresent()) {
-                final Ip6FibDetails detail = opDetail.get();
+        final Map<String, Ip6FibDetails> routes = routeIndex(instanceIdentifier, readContext)
+                .byName(protocolTableId, details -> namesFactory.uniqueRouteName(protocolName, details));
+
+        // mapped name is either name of configured route, or name of learned route
+        final String learnedPrefix = nameWithPrefix(configuration.getLearnedRouteNamePrefix(), "");
+        Ip6FibDetails detail = routes.get(mappedName);
+        if (detail == null && mappedName.startsWith(learnedPrefix)) {
+            detail = routes.get(mappedName.substring(learnedPrefix.length()));
+        }
 
-                routeBuilder.setNextHopOptions(
-                        resolveHopType(mappedName, Arrays.asList(detail.path), interfaceContext, routeHopContext,
-                                readContext.getMappingContext(), namesFactory))
-                        .setKey(key)
-                        .setId(key.getId())
-                        .setDestinationPrefix(toIpv6Prefix(detail.address, toJavaByte(detail.addressLength)))
-                        .setVppIpv6RouteState(new VppIpv6RouteStateBuilder().build());
-            }
+        if (detail != null) {
+            routeBuilder.setNextHopOptions(
+                    resolveHopType(mappedName, Arrays.asList(detail.path), interfaceContext, routeHopContext,
+                            readContext.getMappingContext(), namesFactory))
+                    .setKey(key)
+                    .setId(key.getId())
+                    .setDestinationPrefix(toIpv6Prefix(detail.address, toJavaByte(detail.addressLength)))
+                    .setVppIpv6RouteState(new VppIpv6RouteStateBuilder().build());
         }
     }
 }
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2017 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.routing.read;
+
+import io.fd.honeycomb.translate.ModificationCache;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+import java.util.stream.Collectors;
+import javax.annotation.Nonnull;
+
+/**
+ * Index of dumped routes, kept in {@link ModificationCache} for the duration of read transaction.
+ * Routes are grouped by table id and indexed by unique route name, which is derived from table id, destination
+ * address and prefix length. Names are resolved only once per dumped route and table.
+ */
+final class RouteIndex<D> {
+
+    private final Map<Integer, List<D>> routesByTable;
+    private final Map<Integer, Map<String, D>> routesByName = new HashMap<>();
+
+    private RouteIndex(@Nonnull final Map<Integer, List<D>> routesByTable) {
+        this.routesByTable = routesByTable;
+    }
+
+    /**
+     * Returns index cached under provided key, or creates one from provided routes
+     */
+    @SuppressWarnings("unchecked")
+    static <D> RouteIndex<D> getOrCreate(@Nonnull final ModificationCache cache,
+                                         @Nonnull final String cacheKey,
+                                         @Nonnull final Supplier<List<D>> routes,
+                                         @Nonnull final ToIntFunction<D> tableIdFunction) {
+        RouteIndex<D> index = (RouteIndex<D>) cache.get(cacheKey);
+        if (index == null) {
+            index = new RouteIndex<>(routes.get().stream()
+                    .collect(Collectors.groupingBy(tableIdFunction::applyAsInt, Collectors.toList())));
+            cache.put(cacheKey, index);
+        }
+        return index;
+    }
+
+    /**
+     * Returns routes of provided table by unique name, in dump order. If multiple routes have the same name, first one
+     * is used.
+     *
+     * @param nameFunction produces unique route name, invoked only on first request for given table
+     */
+    @Nonnull
+    Map<String, D> byName(final int tableId, @Nonnull final Function<D, String> nameFunction) {
+        return routesByName.computeIfAbsent(tableId, id -> {
+            final List<D> routes = routesByTable.getOrDefault(id, Collections.emptyList());
+            final Map<String, D> index = new LinkedHashMap<>(routes.size() * 2);
+            routes.forEach(route -> index.putIfAbsent(nameFunction.apply(route), route));
+            return index;
+        });
+    }
+}
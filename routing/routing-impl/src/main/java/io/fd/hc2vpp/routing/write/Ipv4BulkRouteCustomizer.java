@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2017 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.routing.write;
+
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
+import io.fd.hc2vpp.common.translate.util.BulkRequestWriter;
+import io.fd.hc2vpp.common.translate.util.JvppRequestDeadline;
+import io.fd.honeycomb.translate.MappingContext;
+import io.fd.honeycomb.translate.spi.write.WriterCustomizer;
+import io.fd.honeycomb.translate.write.WriteContext;
+import io.fd.honeycomb.translate.write.WriteFailedException;
+import io.fd.vpp.jvpp.core.dto.IpAddDelRoute;
+import io.fd.vpp.jvpp.core.future.FutureJVppCore;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import javax.annotation.Nonnull;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.ipv4.unicast.routing.rev170917.routing.routing.instance.routing.protocols.routing.protocol._static.routes.Ipv4;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.ipv4.unicast.routing.rev170917.routing.routing.instance.routing.protocols.routing.protocol._static.routes.ipv4.Route;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.ipv4.unicast.routing.rev170917.routing.routing.instance.routing.protocols.routing.protocol._static.routes.ipv4.RouteKey;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.routing.rev140524.routing.routing.instance.routing.protocols.RoutingProtocol;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Customizer for handling write operations for whole {@link Ipv4} container. Routes are programmed using
+ * {@link BulkRequestWriter}, requests are prepared by {@link Ipv4RouteCustomizer}.
+ */
+final class Ipv4BulkRouteCustomizer implements WriterCustomizer<Ipv4> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(Ipv4BulkRouteCustomizer.class);
+
+    private final Ipv4RouteCustomizer routeCustomizer;
+    private final BulkRequestWriter writer;
+
+    Ipv4BulkRouteCustomizer(@Nonnull final Ipv4RouteCustomizer routeCustomizer,
+                            @Nonnull final BulkRequestWriter writer) {
+        this.routeCustomizer = routeCustomizer;
+        this.writer = writer;
+    }
+
+    @Override
+    public void writeCurrentAttributes(@Nonnull final InstanceIdentifier<Ipv4> id, @Nonnull final Ipv4 dataAfter,
+                                       @Nonnull final WriteContext writeContext) throws WriteFailedException {
+        LOG.debug("Writing {} routes for {}", routes(dataAfter).size(), id);
+        apply(writeContext, Collections.emptyList(), changes(id, routes(dataAfter).values(), writeContext, true));
+    }
+
+    @Override
+    public void updateCurrentAttributes(@Nonnull final InstanceIdentifier<Ipv4> id, @Nonnull final Ipv4 dataBefore,
+                                        @Nonnull final Ipv4 dataAfter, @Nonnull final WriteContext writeContext)
+            throws WriteFailedException {
+        final Map<RouteKey, Route> before = routes(dataBefore);
+        final Map<RouteKey, Route> after = routes(dataAfter);
+        final List<Route> removed = new ArrayList<>();
+        final List<Route> added = new ArrayList<>();
+        for (final Route routeBefore : before.values()) {
+            final Route routeAfter = after.get(routeBefore.getKey());
+            if (routeAfter == null) {
+                removed.add(routeBefore);
+            } else if (!routeAfter.equals(routeBefore)) {
+                throw new WriteFailedException.UpdateFailedException(id.child(Route.class, routeBefore.getKey()),
+                        routeBefore, routeAfter, new UnsupportedOperationException("Operation not supported"));
+            }
+        }
+        after.values().stream()
+                .filter(route -> !before.containsKey(route.getKey()))
+                .forEach(added::add);
+
+        LOG.debug("Updating routes for {}, removing {}, adding {}", id, removed.size(), added.size());
+        apply(writeContext, changes(id, removed, writeContext, false), changes(id, added, writeContext, true));
+    }
+
+    @Override
+    public void deleteCurrentAttributes(@Nonnull final InstanceIdentifier<Ipv4> id, @Nonnull final Ipv4 dataBefore,
+                                        @Nonnull final WriteContext writeContext) throws WriteFailedException {
+        LOG.debug("Removing {} routes for {}", routes(dataBefore).size(), id);
+        apply(writeContext, changes(id, routes(dataBefore).values(), writeContext, false), Collections.emptyList());
+    }
+
+    private void apply(final WriteContext writeContext, final List<BulkRequestWriter.Change> removed,
+                       final List<BulkRequestWriter.Change> added) throws WriteFailedException {
+        try (JvppRequestDeadline deadline = JvppRequestDeadline.forTransaction(writeContext.getModificationCache())) {
+            writer.write(removed, added);
+        }
+    }
+
+    private List<BulkRequestWriter.Change> changes(final InstanceIdentifier<Ipv4> id,
+                                                   final Iterable<Route> routes,
+                                                   final WriteContext writeContext,
+                                                   final boolean isAdd) {
+        final FutureJVppCore api = routeCustomizer.getFutureJVpp();
+        final MappingContext mappingContext = writeContext.getMappingContext();
+        final String parentProtocolName = id.firstKeyOf(RoutingProtocol.class).getName();
+        final List<BulkRequestWriter.Change> changes = new ArrayList<>();
+        for (final Route route : routes) {
+            final InstanceIdentifier<Route> routeId = id.child(Route.class, route.getKey());
+            final String routeName = routeCustomizer.routeName(parentProtocolName, route);
+            final BulkRequestWriter.Change change = isAdd
+                    ? BulkRequestWriter.Change.create(routeId, route)
+                            .onSuccess(() -> routeCustomizer.addMappings(routeName, route, mappingContext))
+                    : BulkRequestWriter.Change.delete(routeId, route)
+                            .onSuccess(() -> routeCustomizer.removeMappings(routeName, route, mappingContext));
+            final List<IpAddDelRoute> requests =
+                    routeCustomizer.routeRequests(routeId, parentProtocolName, route, mappingContext, isAdd);
+            // inverse requests are needed only if the transaction fails
+            final Supplier<List<IpAddDelRoute>> inverseRequests = Suppliers.memoize(
+                    () -> routeCustomizer.routeRequests(routeId, parentProtocolName, route, mappingContext, !isAdd));
+            for (int i = 0; i < requests.size(); i++) {
+                final IpAddDelRoute request = requests.get(i);
+                final int hop = i;
+                change.request(() -> api.ipAddDelRoute(request),
+                        () -> api.ipAddDelRoute(inverseRequests.get().get(hop)));
+            }
+            changes.add(change);
+        }
+        return changes;
+    }
+
+    private static Map<RouteKey, Route> routes(final Ipv4 data) {
+        return Optional.ofNullable(data.getRoute())
+                .orElse(Collections.emptyList())
+                .stream()
+                .collect(Collectors.toMap(Route::getKey, Function.identity(), (left, right) -> left,
+                        LinkedHashMap::new));
+    }
+}
@@ -18,6 +18,7 @@ package io.fd.hc2vpp.routing.write;
 
 import io.fd.hc2vpp.common.translate.util.FutureJVppCustomizer;
 import io.fd.hc2vpp.common.translate.util.JvppReplyConsumer;
+import io.fd.hc2vpp.common.translate.util.JvppRequestDeadline;
 import io.fd.hc2vpp.common.translate.util.MultiNamingContext;
 import io.fd.hc2vpp.common.translate.util.NamingContext;
 import io.fd.hc2vpp.routing.naming.Ipv4RouteNamesFactory;
@@ -48,6 +49,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import javax.annotation.Nonnull;
+import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -100,11 +102,17 @@ public class Ipv4RouteCustomizer extends FutureJVppCustomizer
                                        @Nonnull final Route route,
                                        @Nonnull final WriteContext writeContext) throws WriteFailedException {
         final String parentProtocolName = instanceIdentifier.firstKeyOf(RoutingProtocol.class).getName();
-        final String routeName = routeNamesFactory.uniqueRouteName(parentProtocolName, route);
-        writeRoute(instanceIdentifier, parentProtocolName, routeName, route, writeContext, true);
+        final MappingContext mappingContext = writeContext.getMappingContext();
+        // all hops of the route share deadline of the transaction
+        try (JvppRequestDeadline deadline = JvppRequestDeadline.forTransaction(writeContext.getModificationCache())) {
+            for (final IpAddDelRoute request : routeRequests(instanceIdentifier, parentProtocolName, route,
+                    mappingContext, true)) {
+                writeRoute(request, instanceIdentifier);
+            }
+        }
 
-        // maps new route by next available index,
-        routesContext.addName(routeName, writeContext.getMappingContext());
+        // after all hops has been added, add mappings to preserve hop ids and map new route by next available index
+        addMappings(routeName(parentProtocolName, route), route, mappingContext);
     }
 
     @Override
@@ -121,100 +129,82 @@ public class Ipv4RouteCustomizer extends FutureJVppCustomizer
                                         @Nonnull final Route route,
                                         @Nonnull final WriteContext writeContext) throws WriteFailedException {
         final String parentProtocolName = instanceIdentifier.firstKeyOf(RoutingProtocol.class).getName();
-        final String routeName = routeNamesFactory.uniqueRouteName(parentProtocolName, route);
-        writeRoute(instanceIdentifier, parentProtocolName, routeName, route, writeContext, false);
-        routesContext.removeName(routeName, writeContext.getMappingContext());
+        final MappingContext mappingContext = writeContext.getMappingContext();
+        // all hops of the route share deadline of the transaction
+        try (JvppRequestDeadline deadline = JvppRequestDeadline.forTransaction(writeContext.getModificationCache())) {
+            for (final IpAddDelRoute request : routeRequests(instanceIdentifier, parentProtocolName, route,
+                    mappingContext, false)) {
+                writeRoute(request, instanceIdentifier);
+            }
+        }
+        removeMappings(routeName(parentProtocolName, route), route, mappingContext);
+    }
+
+    String routeName(@Nonnull final String parentProtocolName, @Nonnull final Route route) {
+        return routeNamesFactory.uniqueRouteName(parentProtocolName, route);
     }
 
-    private void writeRoute(@Nonnull final InstanceIdentifier<Route> identifier,
-                            @Nonnull final String parentProtocolName,
-                            @Nonnull final String routeName,
-                            @Nonnull final Route route,
-                            @Nonnull final WriteContext writeContext,
-                            final boolean isAdd) throws WriteFailedException {
+    /**
+     * Creates all requests needed to add/remove route. For multipath routes, one request per hop is created,
+     * ordered by hop id.
+     */
+    List<IpAddDelRoute> routeRequests(@Nonnull final InstanceIdentifier<Route> identifier,
+                                      @Nonnull final String parentProtocolName,
+                                      @Nonnull final Route route,
+                                      @Nonnull final MappingContext mappingContext,
+                                      final boolean isAdd) {
         if (route.getNextHopOptions() instanceof SimpleNextHop) {
-            writeRoute(
-                    simpleHopRequestFactory.createIpv4SimpleHopRequest(isAdd, parentProtocolName, route,
-                            writeContext.getMappingContext()),
-                    identifier);
+            return Collections.singletonList(simpleHopRequestFactory
+                    .createIpv4SimpleHopRequest(isAdd, parentProtocolName, route, mappingContext));
         } else if (route.getNextHopOptions() instanceof NextHopList) {
-            final List<NextHop> createdHops =
-                    writeMultihopRoute(identifier, parentProtocolName, route, writeContext, isAdd);
-
-            // after all hops has been added, add mappings to preserve hop ids, or remove them
-            if (isAdd) {
-                addMappingForEachHop(routeName, writeContext, createdHops);
-            } else {
-                removeMappingForEachHop(routeName, writeContext, createdHops);
-            }
+            final NextHopList hopList = NextHopList.class.cast(route.getNextHopOptions());
+            LOG.debug("Writing hop list {} for route {}", hopList, identifier);
+            return orderedHops(route).stream()
+                    .map(hop -> multipathHopRequestFactory
+                            .createIpv4MultipathHopRequest(isAdd, parentProtocolName, route, hop, mappingContext))
+                    .collect(Collectors.toList());
         } else if (route.getNextHopOptions() instanceof SpecialNextHop) {
-            writeSpecialHopRoute(identifier, route, parentProtocolName, writeContext, isAdd);
+            final SpecialNextHop hop = SpecialNextHop.class.cast(route.getNextHopOptions());
+            return Collections.singletonList(specialNextHopRequestFactory
+                    .createIpv4SpecialHopRequest(isAdd, parentProtocolName, route, mappingContext,
+                            hop.getSpecialNextHop()));
         } else if (route.getNextHopOptions() instanceof TableLookup) {
-            writeRoute(tableLookupRequestFactory.createV4TableLookupRouteRequest(isAdd, parentProtocolName, route, writeContext.getMappingContext()), identifier);
+            return Collections.singletonList(tableLookupRequestFactory
+                    .createV4TableLookupRouteRequest(isAdd, parentProtocolName, route, mappingContext));
         } else {
             throw new IllegalArgumentException("Unsupported next-hop type");
         }
     }
 
-    private void removeMappingForEachHop(final @Nonnull String routeName, final @Nonnull WriteContext writeContext,
-                                         final List<NextHop> createdHops) {
-        createdHops.forEach(nextHop -> routesHopsContext.removeChild(routeName,
-                routeNamesFactory.uniqueRouteHopName(nextHop),
-                writeContext.getMappingContext()));
+    void addMappings(@Nonnull final String routeName, @Nonnull final Route route,
+                     @Nonnull final MappingContext mappingContext) {
+        if (route.getNextHopOptions() instanceof NextHopList) {
+            orderedHops(route).forEach(nextHop -> routesHopsContext.addChild(routeName,
+                    nextHop.getId().intValue(),
+                    routeNamesFactory.uniqueRouteHopName(nextHop),
+                    mappingContext));
+        }
+        routesContext.addName(routeName, mappingContext);
     }
 
-    private void addMappingForEachHop(final @Nonnull String routeName, final @Nonnull WriteContext writeContext,
-                                      final List<NextHop> createdHops) {
-        createdHops.forEach(nextHop -> routesHopsContext.addChild(routeName,
-                nextHop.getId().intValue(),
-                routeNamesFactory.uniqueRouteHopName(nextHop),
-                writeContext.getMappingContext()));
+    void removeMappings(@Nonnull final String routeName, @Nonnull final Route route,
+                        @Nonnull final MappingContext mappingContext) {
+        if (route.getNextHopOptions() instanceof NextHopList) {
+            orderedHops(route).forEach(nextHop -> routesHopsContext.removeChild(routeName,
+                    routeNamesFactory.uniqueRouteHopName(nextHop),
+                    mappingContext));
+        }
+        routesContext.removeName(routeName, mappingContext);
     }
 
-    private List<NextHop> writeMultihopRoute(@Nonnull final InstanceIdentifier<Route> identifier,
-                                             @Nonnull final String parentProtocolName,
-                                             @Nonnull final Route route,
-                                             @Nonnull final WriteContext writeContext,
-                                             final boolean isAdd)
-            throws WriteFailedException {
-        // list of next hops
-        final NextHopList hopList = NextHopList.class.cast(route.getNextHopOptions());
-        final MappingContext mappingContext = writeContext.getMappingContext();
-        LOG.debug("Writing hop list {} for route {}", hopList, identifier);
-
+    private static List<NextHop> orderedHops(@Nonnull final Route route) {
         // order hops to preserve order by ids(even that model is not ordered)
-        final List<NextHop> orderedHops = hopList.getNextHopList().getNextHop()
+        return NextHopList.class.cast(route.getNextHopOptions()).getNextHopList().getNextHop()
                 .stream()
                 .sorted((left, right) -> (int) (left.getId() - right.getId()))
                 .collect(Collectors.toList());
-
-        for (NextHop hop : orderedHops) {
-            LOG.debug("Writing hop {} for route {}", hop, identifier);
-
-            final IpAddDelRoute request = multipathHopRequestFactory
-                    .createIpv4MultipathHopRequest(isAdd, parentProtocolName, route, hop, mappingContext);
-
-            writeRoute(request, identifier);
-        }
-
-        return orderedHops;
-    }
-
-
-    private void writeSpecialHopRoute(final @Nonnull InstanceIdentifier<Route> identifier, final @Nonnull Route route,
-                                      final @Nonnull String parentProtocolName, final @Nonnull WriteContext writeContext,
-                                      final boolean isAdd)
-            throws WriteFailedException {
-        final SpecialNextHop hop = SpecialNextHop.class.cast(route.getNextHopOptions());
-        final MappingContext mappingContext = writeContext.getMappingContext();
-
-        final IpAddDelRoute request = specialNextHopRequestFactory
-                .createIpv4SpecialHopRequest(isAdd, parentProtocolName, route, mappingContext, hop.getSpecialNextHop());
-
-        writeRoute(request, identifier);
     }
 
-
     private void writeRoute(final IpAddDelRoute request, final InstanceIdentifier<Route> identifier)
             throws WriteFailedException {
         LOG.debug("Writing request {} for path {}", request, identifier);
@@ -164,6 +164,23 @@ public interface Ipv4WriteRoutingNodes {
                 parent.child(VppIpv4Route.class));
     }
 
+    default InstanceIdentifier<Ipv4> ipv4Identifier(final InstanceIdentifier<StaticRoutes> staticRoutesIdentifier) {
+        return staticRoutesIdentifier
+                .augmentation(StaticRoutes1.class)
+                .child(Ipv4.class);
+    }
+
+    /**
+     * Children handled by writer of whole {@link Ipv4} container, used when routes are programmed in bulk.
+     */
+    default Set<InstanceIdentifier<?>> ipv4BulkRoutingHandledChildren() {
+        final InstanceIdentifier<Route> routeSubtree = InstanceIdentifier.create(Ipv4.class).child(Route.class);
+        return ImmutableSet.<InstanceIdentifier<?>>builder()
+                .add(routeSubtree)
+                .addAll(ipv4RoutingHandledChildren(routeSubtree))
+                .build();
+    }
+
     default InstanceIdentifier<Route> ipv4RouteSubtree() {
         return InstanceIdentifier.create(Route.class);
     }
@@ -154,6 +154,23 @@ public interface Ipv6WriteRoutingNodes {
                 .child(Route.class);
     }
 
+    default InstanceIdentifier<Ipv6> ipv6Identifier(final InstanceIdentifier<StaticRoutes> staticRoutesIdentifier) {
+        return staticRoutesIdentifier
+                .augmentation(StaticRoutes1.class)
+                .child(Ipv6.class);
+    }
+
+    /**
+     * Children handled by writer of whole {@link Ipv6} container, used when routes are programmed in bulk.
+     */
+    default Set<InstanceIdentifier<?>> ipv6BulkRoutingHandledChildren() {
+        final InstanceIdentifier<Route> routeSubtree = InstanceIdentifier.create(Ipv6.class).child(Route.class);
+        return ImmutableSet.<InstanceIdentifier<?>>builder()
+                .add(routeSubtree)
+                .addAll(ipv6RoutingHandledChildren(routeSubtree))
+                .build();
+    }
+
     default InstanceIdentifier<Route> ipv6RouteSubtree() {
         return InstanceIdentifier
                 .create(Route.class);
@@ -23,6 +23,7 @@ import static io.fd.hc2vpp.routing.RoutingConfiguration.ROUTING_PROTOCOL_CONTEXT
 import com.google.common.collect.ImmutableSet;
 import com.google.inject.Inject;
 import com.google.inject.name.Named;
+import io.fd.hc2vpp.common.translate.util.BulkRequestWriter;
 import io.fd.hc2vpp.common.translate.util.MultiNamingContext;
 import io.fd.hc2vpp.common.translate.util.NamingContext;
 import io.fd.hc2vpp.routing.RoutingConfiguration;
@@ -75,6 +76,9 @@ public final class RoutingWriterFactory implements WriterFactory, Ipv4WriteRouti
     @Inject
     private RoutingConfiguration configuration;
 
+    @Inject
+    private BulkRequestWriter bulkRequestWriter;
+
     @Inject
     @Named("interface-context")
     private NamingContext interfaceContext;
@@ -110,12 +114,25 @@ public final class RoutingWriterFactory implements WriterFactory, Ipv4WriteRouti
         final InstanceIdentifier<Route> ipv4RouteIdentifier = ipv4RouteIdentifier(staticRoutesInstanceIdentifier);
         final InstanceIdentifier<org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.ipv6.unicast.routing.rev170917.routing.routing.instance.routing.protocols.routing.protocol._static.routes.ipv6.Route>
                 ipv6RouteIdentifier = ipv6RouteIdentifier(staticRoutesInstanceIdentifier);
-        registry.subtreeAddAfter(ipv4RoutingHandledChildren(ipv4RouteSubtree()), new GenericWriter<>(ipv4RouteIdentifier,
+        final Ipv4RouteCustomizer ipv4RouteCustomizer =
                 new Ipv4RouteCustomizer(vppApi, interfaceContext, routeContext, routingProtocolContext, routHopContext,
-                        vppClassifierContextManager)), IFACE_ID);
-        registry.subtreeAddAfter(ipv6RoutingHandledChildren(ipv6RouteSubtree()), new GenericWriter<>(ipv6RouteIdentifier,
+                        vppClassifierContextManager);
+        final Ipv6RouteCustomizer ipv6RouteCustomizer =
                 new Ipv6RouteCustomizer(vppApi, interfaceContext, routeContext, routingProtocolContext, routHopContext,
-                        vppClassifierContextManager)), IFACE_ID);
+                        vppClassifierContextManager);
+        if (configuration.isBulkRouteWriteEnabled()) {
+            registry.subtreeAddAfter(ipv4BulkRoutingHandledChildren(),
+                    new GenericWriter<>(ipv4Identifier(staticRoutesInstanceIdentifier),
+                            new Ipv4BulkRouteCustomizer(ipv4RouteCustomizer, bulkRequestWriter)), IFACE_ID);
+            registry.subtreeAddAfter(ipv6BulkRoutingHandledChildren(),
+                    new GenericWriter<>(ipv6Identifier(staticRoutesInstanceIdentifier),
+                            new Ipv6BulkRouteCustomizer(ipv6RouteCustomizer, bulkRequestWriter)), IFACE_ID);
+        } else {
+            registry.subtreeAddAfter(ipv4RoutingHandledChildren(ipv4RouteSubtree()),
+                    new GenericWriter<>(ipv4RouteIdentifier, ipv4RouteCustomizer), IFACE_ID);
+            registry.subtreeAddAfter(ipv6RoutingHandledChildren(ipv6RouteSubtree()),
+                    new GenericWriter<>(ipv6RouteIdentifier, ipv6RouteCustomizer), IFACE_ID);
+        }
         registry.add(new GenericWriter<>(ROUTING_INTERFACE_ID, new RoutingInterfaceCustomizer()));
         registry.subtreeAdd(raHandledChildren(),
             new GenericWriter<>(ROUTING_ADVERTISMENT_ID, new RouterAdvertisementsCustomizer(vppApi, interfaceContext)));
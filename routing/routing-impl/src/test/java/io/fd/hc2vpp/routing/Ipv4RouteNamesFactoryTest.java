@@ -79,6 +79,15 @@ public class Ipv4RouteNamesFactoryTest
         assertEquals("tst-protocol_19216821_24", factory.uniqueRouteName(vppRoute, mappingContext));
     }
 
+    @Test
+    public void testUniqueRouteNameFromLongArray() {
+        final IpFibDetails route = new IpFibDetails();
+        // ipv4 address sent as 16 byte array
+        route.address = new byte[]{(byte) 192, (byte) 168, 2, 1, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0};
+        route.addressLength = 24;
+        assertEquals("tst-protocol_19216821_24", factory.uniqueRouteName(ROUTE_PROTOCOL_NAME, route));
+    }
+
     @Test
     public void testUniqueRouteHopName() {
         assertEquals("iface_19216821_3", factory.uniqueRouteHopName(new NextHopBuilder()
@@ -79,6 +79,27 @@ public class Ipv6RouteNamesFactoryTest implements RoutingRequestTestHelper, Sche
         assertEquals("tst-protocol_2001db8a0b12f01_64", factory.uniqueRouteName(vppRoute, mappingContext));
     }
 
+    @Test
+    public void testUniqueRouteNameCompression() {
+        // longest run of zeroes is compressed, first one in case of equal length
+        assertEquals("tst-protocol_10023_64", uniqueRouteName(0, 1, 0, 0, 0, 0, 0, 2, 0, 0, 0, 0, 0, 0, 0, 3));
+        assertEquals("tst-protocol_120034_64", uniqueRouteName(0, 1, 0, 0, 0, 0, 0, 2, 0, 0, 0, 0, 0, 3, 0, 4));
+        assertEquals("tst-protocol_fe80_64", uniqueRouteName(0xfe, 0x80));
+        assertEquals("tst-protocol__64", uniqueRouteName());
+        // ipv4 mapped address
+        assertEquals("tst-protocol_1.2.3.4_64", uniqueRouteName(0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0xff, 0xff, 1, 2, 3, 4));
+    }
+
+    private String uniqueRouteName(final int... addressBytes) {
+        final Ip6FibDetails route = new Ip6FibDetails();
+        route.address = new byte[16];
+        for (int i = 0; i < addressBytes.length; i++) {
+            route.address[i] = (byte) addressBytes[i];
+        }
+        route.addressLength = 64;
+        return factory.uniqueRouteName(ROUTE_PROTOCOL_NAME, route);
+    }
+
     @Test
     public void testUniqueRouteHopName() {
         assertEquals("iface_2001db8a0b12f01_3", factory.uniqueRouteHopName(new NextHopBuilder()
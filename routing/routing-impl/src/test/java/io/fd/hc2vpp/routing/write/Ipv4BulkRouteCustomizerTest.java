@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2017 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.routing.write;
+
+import static io.fd.hc2vpp.routing.Ipv4RouteData.FIRST_ADDRESS_AS_ARRAY;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.google.common.collect.ImmutableList;
+import io.fd.hc2vpp.common.test.write.WriterCustomizerTest;
+import io.fd.hc2vpp.common.translate.util.BulkRequestWriter;
+import io.fd.hc2vpp.common.translate.util.MultiNamingContext;
+import io.fd.hc2vpp.common.translate.util.NamingContext;
+import io.fd.hc2vpp.routing.helpers.RoutingRequestTestHelper;
+import io.fd.hc2vpp.routing.naming.Ipv4RouteNamesFactory;
+import io.fd.hc2vpp.vpp.classifier.context.VppClassifierContextManager;
+import io.fd.honeycomb.translate.write.WriteFailedException;
+import io.fd.vpp.jvpp.core.dto.IpAddDelRoute;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.Ipv4Prefix;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.ipv4.unicast.routing.rev170917.StaticRoutes1;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.ipv4.unicast.routing.rev170917.routing.routing.instance.routing.protocols.routing.protocol._static.routes.Ipv4;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.ipv4.unicast.routing.rev170917.routing.routing.instance.routing.protocols.routing.protocol._static.routes.Ipv4Builder;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.ipv4.unicast.routing.rev170917.routing.routing.instance.routing.protocols.routing.protocol._static.routes.ipv4.Route;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.ipv4.unicast.routing.rev170917.routing.routing.instance.routing.protocols.routing.protocol._static.routes.ipv4.RouteBuilder;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.ipv4.unicast.routing.rev170917.routing.routing.instance.routing.protocols.routing.protocol._static.routes.ipv4.RouteKey;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.ipv4.unicast.routing.rev170917.routing.routing.instance.routing.protocols.routing.protocol._static.routes.ipv4.route.next.hop.options.TableLookupBuilder;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.ipv4.unicast.routing.rev170917.routing.routing.instance.routing.protocols.routing.protocol._static.routes.ipv4.route.next.hop.options.table.lookup.TableLookupParamsBuilder;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.routing.rev140524.routing.routing.instance.RoutingProtocols;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.routing.rev140524.routing.routing.instance.routing.protocols.RoutingProtocol;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.routing.rev140524.routing.routing.instance.routing.protocols.RoutingProtocolKey;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.routing.rev140524.routing.routing.instance.routing.protocols.routing.protocol.StaticRoutes;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.vpp.routing.rev170917.VniReference;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+
+public class Ipv4BulkRouteCustomizerTest extends WriterCustomizerTest implements RoutingRequestTestHelper {
+
+    private static final int ROUTE_PROTOCOL_INDEX = 1;
+    private static final byte[] SECOND_PREFIX_AS_ARRAY = {-64, -88, 3, 1};
+
+    @Captor
+    private ArgumentCaptor<IpAddDelRoute> requestCaptor;
+
+    @Mock
+    private VppClassifierContextManager classifyManager;
+
+    @Mock
+    private MultiNamingContext routeHopContext;
+
+    private Ipv4BulkRouteCustomizer customizer;
+    private InstanceIdentifier<Ipv4> validId;
+    private Ipv4RouteNamesFactory namesFactory;
+    private Route firstRoute;
+    private Route secondRoute;
+
+    @Override
+    protected void setUpTest() throws Exception {
+        final NamingContext interfaceContext = new NamingContext("interface", "interface-context");
+        final NamingContext routingProtocolContext =
+                new NamingContext("routing-protocol", "routing-protocol-context");
+        final Ipv4RouteCustomizer routeCustomizer = new Ipv4RouteCustomizer(api, interfaceContext,
+                new NamingContext("route", "route-context"), routingProtocolContext, routeHopContext,
+                classifyManager);
+        customizer = new Ipv4BulkRouteCustomizer(routeCustomizer, new BulkRequestWriter(2));
+
+        validId = InstanceIdentifier.create(RoutingProtocols.class)
+                .child(RoutingProtocol.class, new RoutingProtocolKey(ROUTE_PROTOCOL_NAME))
+                .child(StaticRoutes.class)
+                .augmentation(StaticRoutes1.class)
+                .child(Ipv4.class);
+
+        namesFactory = new Ipv4RouteNamesFactory(interfaceContext, routingProtocolContext);
+        firstRoute = tableLookupRoute(2L, "192.168.2.1/24");
+        secondRoute = tableLookupRoute(3L, "192.168.3.1/24");
+
+        defineMapping(mappingContext, ROUTE_PROTOCOL_NAME, ROUTE_PROTOCOL_INDEX, "routing-protocol-context");
+        noMappingDefined(mappingContext, namesFactory.uniqueRouteName(ROUTE_PROTOCOL_NAME, firstRoute),
+                "route-context");
+        noMappingDefined(mappingContext, namesFactory.uniqueRouteName(ROUTE_PROTOCOL_NAME, secondRoute),
+                "route-context");
+    }
+
+    @Test
+    public void testWrite() throws WriteFailedException {
+        whenAddRouteThenSuccess(api);
+        customizer.writeCurrentAttributes(validId, routes(firstRoute, secondRoute), writeContext);
+        verifyInvocation(2, ImmutableList.of(
+                tableLookupRequest(1, FIRST_ADDRESS_AS_ARRAY),
+                tableLookupRequest(1, SECOND_PREFIX_AS_ARRAY)),
+                api, requestCaptor);
+        verify(mappingContext, times(2)).put(any(), any());
+    }
+
+    @Test
+    public void testUpdate() throws WriteFailedException {
+        whenAddRouteThenSuccess(api);
+        customizer.updateCurrentAttributes(validId, routes(firstRoute), routes(secondRoute), writeContext);
+        verifyInvocation(2, ImmutableList.of(
+                tableLookupRequest(0, FIRST_ADDRESS_AS_ARRAY),
+                tableLookupRequest(1, SECOND_PREFIX_AS_ARRAY)),
+                api, requestCaptor);
+    }
+
+    @Test(expected = WriteFailedException.UpdateFailedException.class)
+    public void testUpdateRoute() throws WriteFailedException {
+        customizer.updateCurrentAttributes(validId, routes(firstRoute),
+                routes(new RouteBuilder(firstRoute).setDescription("changed").build()), writeContext);
+    }
+
+    @Test
+    public void testDelete() throws WriteFailedException {
+        whenAddRouteThenSuccess(api);
+        customizer.deleteCurrentAttributes(validId, routes(firstRoute, secondRoute), writeContext);
+        verifyInvocation(2, ImmutableList.of(
+                tableLookupRequest(0, FIRST_ADDRESS_AS_ARRAY),
+                tableLookupRequest(0, SECOND_PREFIX_AS_ARRAY)),
+                api, requestCaptor);
+    }
+
+    private IpAddDelRoute tableLookupRequest(final int add, final byte[] prefix) {
+        return desiredFlaglessResult(add, 0, 0, prefix, 24, new byte[4], ~0, 0, ROUTE_PROTOCOL_INDEX, 1, 4, 0, 0);
+    }
+
+    private static Ipv4 routes(final Route... routes) {
+        return new Ipv4Builder().setRoute(ImmutableList.copyOf(routes)).build();
+    }
+
+    private static Route tableLookupRoute(final long id, final String prefix) {
+        return new RouteBuilder()
+                .setKey(new RouteKey(id))
+                .setDestinationPrefix(new Ipv4Prefix(prefix))
+                .setNextHopOptions(new TableLookupBuilder()
+                        .setTableLookupParams(new TableLookupParamsBuilder()
+                                .setSecondaryVrf(new VniReference(4L))
+                                .build())
+                        .build())
+                .build();
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2017 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.routing.write;
+
+import static io.fd.hc2vpp.routing.Ipv6RouteData.FIRST_ADDRESS_AS_ARRAY;
+import static io.fd.hc2vpp.routing.Ipv6RouteData.SECOND_ADDRESS_AS_ARRAY;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.google.common.collect.ImmutableList;
+import io.fd.hc2vpp.common.test.write.WriterCustomizerTest;
+import io.fd.hc2vpp.common.translate.util.BulkRequestWriter;
+import io.fd.hc2vpp.common.translate.util.MultiNamingContext;
+import io.fd.hc2vpp.common.translate.util.NamingContext;
+import io.fd.hc2vpp.routing.helpers.RoutingRequestTestHelper;
+import io.fd.hc2vpp.routing.naming.Ipv6RouteNamesFactory;
+import io.fd.hc2vpp.vpp.classifier.context.VppClassifierContextManager;
+import io.fd.honeycomb.translate.write.WriteFailedException;
+import io.fd.vpp.jvpp.core.dto.IpAddDelRoute;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.Ipv6Prefix;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.ipv6.unicast.routing.rev170917.StaticRoutes1;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.ipv6.unicast.routing.rev170917.routing.routing.instance.routing.protocols.routing.protocol._static.routes.Ipv6;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.ipv6.unicast.routing.rev170917.routing.routing.instance.routing.protocols.routing.protocol._static.routes.Ipv6Builder;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.ipv6.unicast.routing.rev170917.routing.routing.instance.routing.protocols.routing.protocol._static.routes.ipv6.Route;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.ipv6.unicast.routing.rev170917.routing.routing.instance.routing.protocols.routing.protocol._static.routes.ipv6.RouteBuilder;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.ipv6.unicast.routing.rev170917.routing.routing.instance.routing.protocols.routing.protocol._static.routes.ipv6.RouteKey;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.ipv6.unicast.routing.rev170917.routing.routing.instance.routing.protocols.routing.protocol._static.routes.ipv6.route.next.hop.options.TableLookupBuilder;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.ipv6.unicast.routing.rev170917.routing.routing.instance.routing.protocols.routing.protocol._static.routes.ipv6.route.next.hop.options.table.lookup.TableLookupParamsBuilder;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.routing.rev140524.routing.routing.instance.RoutingProtocols;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.routing.rev140524.routing.routing.instance.routing.protocols.RoutingProtocol;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.routing.rev140524.routing.routing.instance.routing.protocols.RoutingProtocolKey;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.routing.rev140524.routing.routing.instance.routing.protocols.routing.protocol.StaticRoutes;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.vpp.routing.rev170917.VniReference;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+
+public class Ipv6BulkRouteCustomizerTest extends WriterCustomizerTest implements RoutingRequestTestHelper {
+
+    private static final int ROUTE_PROTOCOL_INDEX = 1;
+
+    @Captor
+    private ArgumentCaptor<IpAddDelRoute> requestCaptor;
+
+    @Mock
+    private VppClassifierContextManager classifyManager;
+
+    @Mock
+    private MultiNamingContext routeHopContext;
+
+    private Ipv6BulkRouteCustomizer customizer;
+    private InstanceIdentifier<Ipv6> validId;
+    private Ipv6RouteNamesFactory namesFactory;
+    private Route firstRoute;
+    private Route secondRoute;
+
+    @Override
+    protected void setUpTest() throws Exception {
+        final NamingContext interfaceContext = new NamingContext("interface", "interface-context");
+        final NamingContext routingProtocolContext =
+                new NamingContext("routing-protocol", "routing-protocol-context");
+        final Ipv6RouteCustomizer routeCustomizer = new Ipv6RouteCustomizer(api, interfaceContext,
+                new NamingContext("route", "route-context"), routingProtocolContext, routeHopContext,
+                classifyManager);
+        customizer = new Ipv6BulkRouteCustomizer(routeCustomizer, new BulkRequestWriter(2));
+
+        validId = InstanceIdentifier.create(RoutingProtocols.class)
+                .child(RoutingProtocol.class, new RoutingProtocolKey(ROUTE_PROTOCOL_NAME))
+                .child(StaticRoutes.class)
+                .augmentation(StaticRoutes1.class)
+                .child(Ipv6.class);
+
+        namesFactory = new Ipv6RouteNamesFactory(interfaceContext, routingProtocolContext);
+        firstRoute = tableLookupRoute(2L, "2001:0db8:0a0b:12f0:0000:0000:0000:0001/24");
+        secondRoute = tableLookupRoute(3L, "2001:0db8:0a0b:12f0:0000:0000:0000:0002/24");
+
+        defineMapping(mappingContext, ROUTE_PROTOCOL_NAME, ROUTE_PROTOCOL_INDEX, "routing-protocol-context");
+        noMappingDefined(mappingContext, namesFactory.uniqueRouteName(ROUTE_PROTOCOL_NAME, firstRoute),
+                "route-context");
+        noMappingDefined(mappingContext, namesFactory.uniqueRouteName(ROUTE_PROTOCOL_NAME, secondRoute),
+                "route-context");
+    }
+
+    @Test
+    public void testWrite() throws WriteFailedException {
+        whenAddRouteThenSuccess(api);
+        customizer.writeCurrentAttributes(validId, routes(firstRoute, secondRoute), writeContext);
+        verifyInvocation(2, ImmutableList.of(
+                tableLookupRequest(1, FIRST_ADDRESS_AS_ARRAY),
+                tableLookupRequest(1, SECOND_ADDRESS_AS_ARRAY)),
+                api, requestCaptor);
+        verify(mappingContext, times(2)).put(any(), any());
+    }
+
+    @Test
+    public void testUpdate() throws WriteFailedException {
+        whenAddRouteThenSuccess(api);
+        customizer.updateCurrentAttributes(validId, routes(firstRoute), routes(secondRoute), writeContext);
+        verifyInvocation(2, ImmutableList.of(
+                tableLookupRequest(0, FIRST_ADDRESS_AS_ARRAY),
+                tableLookupRequest(1, SECOND_ADDRESS_AS_ARRAY)),
+                api, requestCaptor);
+    }
+
+    @Test(expected = WriteFailedException.UpdateFailedException.class)
+    public void testUpdateRoute() throws WriteFailedException {
+        customizer.updateCurrentAttributes(validId, routes(firstRoute),
+                routes(new RouteBuilder(firstRoute).setDescription("changed").build()), writeContext);
+    }
+
+    @Test
+    public void testDelete() throws WriteFailedException {
+        whenAddRouteThenSuccess(api);
+        customizer.deleteCurrentAttributes(validId, routes(firstRoute, secondRoute), writeContext);
+        verifyInvocation(2, ImmutableList.of(
+                tableLookupRequest(0, FIRST_ADDRESS_AS_ARRAY),
+                tableLookupRequest(0, SECOND_ADDRESS_AS_ARRAY)),
+                api, requestCaptor);
+    }
+
+    private IpAddDelRoute tableLookupRequest(final int add, final byte[] prefix) {
+        return desiredFlaglessResult(add, 1, 0, prefix, 24, new byte[4], ~0, 0, ROUTE_PROTOCOL_INDEX, 1, 4, 0, 0);
+    }
+
+    private static Ipv6 routes(final Route... routes) {
+        return new Ipv6Builder().setRoute(ImmutableList.copyOf(routes)).build();
+    }
+
+    private static Route tableLookupRoute(final long id, final String prefix) {
+        return new RouteBuilder()
+                .setKey(new RouteKey(id))
+                .setDestinationPrefix(new Ipv6Prefix(prefix))
+                .setNextHopOptions(new TableLookupBuilder()
+                        .setTableLookupParams(new TableLookupParamsBuilder()
+                                .setSecondaryVrf(new VniReference(4L))
+                                .build())
+                        .build())
+                .build();
+    }
+}
@@ -90,7 +90,8 @@ public final class VxlanReadCustomizer implements
                     vxlanTunnelDump.swIfIndex = param;
                     // perform dump action with default timeout and either return result or throw ReadFailedException
                     // identified by provided instanceIdentifier
-                    return getReplyForRead(jVppCore.vxlanTunnelDump(vxlanTunnelDump).toCompletableFuture(), instanceIdentifier);
+                    return getReplyForRead(jVppCore.vxlanTunnelDump(vxlanTunnelDump).toCompletableFuture(),
+                            instanceIdentifier, VxlanTunnelDump.class);
                 })
                 // this provides type-awareness for caching, so multiple DumpManagers can be used withing the same
                 // customizer, using same instance identifiers, as long as they handle different data types
@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2017 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.v3po;
+
+import io.fd.hc2vpp.common.translate.util.ByteDataTranslator;
+import io.fd.hc2vpp.common.translate.util.JvppReplyConsumer;
+import io.fd.hc2vpp.common.translate.util.NamingContext;
+import io.fd.hc2vpp.common.translate.util.VppStatusListener;
+import io.fd.honeycomb.translate.MappingContext;
+import io.fd.vpp.jvpp.VppBaseCallException;
+import io.fd.vpp.jvpp.core.dto.SwInterfaceDetails;
+import io.fd.vpp.jvpp.core.dto.SwInterfaceDetailsReplyDump;
+import io.fd.vpp.jvpp.core.dto.SwInterfaceDump;
+import io.fd.vpp.jvpp.core.future.FutureJVppCore;
+import java.util.concurrent.TimeoutException;
+import javax.annotation.Nonnull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Restores interface-context mappings of interfaces present in restarted VPP, before configuration is replayed to it.
+ * <p/>
+ * Naming contexts are removed when VPP restarts, but interfaces created by VPP itself (local0, physical interfaces)
+ * are never created by writers, so their configuration could not be replayed without the mappings. Such interfaces
+ * are mapped under their VPP names, the same way as when they are read for the first time.
+ */
+public final class InterfaceContextRestorer
+        implements VppStatusListener.VppRestartListener, JvppReplyConsumer, ByteDataTranslator {
+
+    private static final Logger LOG = LoggerFactory.getLogger(InterfaceContextRestorer.class);
+
+    private final FutureJVppCore jvpp;
+    private final NamingContext interfaceContext;
+    private final MappingContext mappingContext;
+
+    /**
+     * @param mappingContext realtime mapping context, changes have to be visible to configuration replay
+     */
+    public InterfaceContextRestorer(@Nonnull final FutureJVppCore jvpp,
+                                    @Nonnull final NamingContext interfaceContext,
+                                    @Nonnull final MappingContext mappingContext) {
+        this.jvpp = jvpp;
+        this.interfaceContext = interfaceContext;
+        this.mappingContext = mappingContext;
+    }
+
+    @Override
+    public void onVppRestarted() {
+        final SwInterfaceDump request = new SwInterfaceDump();
+        request.nameFilter = "".getBytes();
+        request.nameFilterValid = 0;
+        final SwInterfaceDetailsReplyDump reply;
+        try {
+            reply = getReply(jvpp.swInterfaceDump(request).toCompletableFuture(), timeoutFor(SwInterfaceDump.class));
+        } catch (VppBaseCallException | TimeoutException e) {
+            throw new IllegalStateException("Unable to dump interfaces of restarted VPP", e);
+        }
+        for (final SwInterfaceDetails details : reply.swInterfaceDetails) {
+            final String name = toString(details.interfaceName);
+            LOG.debug("Restoring mapping of interface {} to index {}", name, details.swIfIndex);
+            interfaceContext.addName(details.swIfIndex, name, mappingContext);
+        }
+        LOG.info("Mappings of {} interfaces present in restarted VPP restored", reply.swInterfaceDetails.size());
+    }
+}
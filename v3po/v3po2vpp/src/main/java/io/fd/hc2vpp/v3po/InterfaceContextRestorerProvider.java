@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2017 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.v3po;
+
+import com.google.inject.Inject;
+import com.google.inject.Provider;
+import com.google.inject.name.Named;
+import io.fd.hc2vpp.common.translate.util.NamingContext;
+import io.fd.hc2vpp.common.translate.util.VppStatusListener;
+import io.fd.honeycomb.translate.MappingContext;
+import io.fd.vpp.jvpp.core.future.FutureJVppCore;
+
+public class InterfaceContextRestorerProvider implements Provider<InterfaceContextRestorer> {
+
+    @Inject
+    private FutureJVppCore jvpp;
+
+    @Inject
+    @Named("interface-context")
+    private NamingContext interfaceContext;
+
+    @Inject
+    @Named("honeycomb-context")
+    private MappingContext mappingContext;
+
+    @Inject
+    private VppStatusListener vppStatusListener;
+
+    @Override
+    public InterfaceContextRestorer get() {
+        final InterfaceContextRestorer restorer = new InterfaceContextRestorer(jvpp, interfaceContext, mappingContext);
+        vppStatusListener.addRestartListener(restorer);
+        return restorer;
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2017 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.v3po;
+
+import net.jmob.guice.conf.core.BindConfig;
+import net.jmob.guice.conf.core.InjectConfig;
+import net.jmob.guice.conf.core.Syntax;
+
+@BindConfig(value = "v3po", syntax = Syntax.JSON)
+public class V3poConfiguration {
+
+    @InjectConfig("interface-cache-enabled")
+    private boolean interfaceCacheEnabled;
+
+    @InjectConfig("interface-cache-ttl-seconds")
+    private int interfaceCacheTtlSeconds;
+
+    @InjectConfig("interface-statistics-enabled")
+    private boolean interfaceStatisticsEnabled;
+
+    @InjectConfig("interface-statistics-capacity")
+    private int interfaceStatisticsCapacity;
+
+    @InjectConfig("interface-notification-queue-capacity")
+    private int interfaceNotificationQueueCapacity;
+
+    /**
+     * If enabled, dump of all interfaces is shared between read transactions.
+     */
+    public boolean isInterfaceCacheEnabled() {
+        return interfaceCacheEnabled;
+    }
+
+    /**
+     * Maximal age of shared interface dump, used if interface cache is enabled.
+     */
+    public int getInterfaceCacheTtlSeconds() {
+        return interfaceCacheTtlSeconds;
+    }
+
+    /**
+     * If enabled, interface counters periodically sent by VPP are collected and exposed as interface statistics.
+     */
+    public boolean isInterfaceStatisticsEnabled() {
+        return interfaceStatisticsEnabled;
+    }
+
+    /**
+     * Initial number of interfaces preallocated in statistics store. Store grows if VPP reports more interfaces.
+     */
+    public int getInterfaceStatisticsCapacity() {
+        return interfaceStatisticsCapacity;
+    }
+
+    /**
+     * Maximal number of interfaces with interface event waiting to be published as notification.
+     */
+    public int getInterfaceNotificationQueueCapacity() {
+        return interfaceNotificationQueueCapacity;
+    }
+}
@@ -29,10 +29,17 @@ import io.fd.hc2vpp.v3po.factory.SubinterfaceAugmentationWriterFactory;
 import io.fd.hc2vpp.v3po.factory.SubinterfaceStateAugmentationReaderFactory;
 import io.fd.hc2vpp.v3po.interfacesstate.cache.InterfaceCacheDumpManager;
 import io.fd.hc2vpp.v3po.interfacesstate.cache.InterfaceCacheDumpManagerProvider;
+import io.fd.hc2vpp.v3po.interfacesstate.cache.InterfaceDumpCache;
+import io.fd.hc2vpp.v3po.interfacesstate.cache.InterfaceDumpCacheProvider;
+import io.fd.hc2vpp.v3po.interfacesstate.statistics.InterfaceStatisticsCollector;
+import io.fd.hc2vpp.v3po.interfacesstate.statistics.InterfaceStatisticsCollectorProvider;
+import io.fd.hc2vpp.v3po.interfacesstate.statistics.InterfaceStatisticsStore;
+import io.fd.hc2vpp.v3po.interfacesstate.statistics.InterfaceStatisticsStoreProvider;
 import io.fd.hc2vpp.v3po.notification.InterfaceChangeNotificationProducerProvider;
 import io.fd.honeycomb.notification.ManagedNotificationProducer;
 import io.fd.honeycomb.translate.read.ReaderFactory;
 import io.fd.honeycomb.translate.write.WriterFactory;
+import net.jmob.guice.conf.core.ConfigurationModule;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -44,6 +51,9 @@ public class V3poModule extends AbstractModule {
     protected void configure() {
         LOG.debug("Installing V3PO module");
 
+        install(ConfigurationModule.create());
+        requestInjection(V3poConfiguration.class);
+
         // TODO HONEYCOMB-173 put into constants
         // Naming contexts
         bind(NamingContext.class)
@@ -53,8 +63,18 @@ public class V3poModule extends AbstractModule {
                 .annotatedWith(Names.named("bridge-domain-context"))
                 .toInstance(new NamingContext("bridge-domain-", "bridge-domain-context"));
 
+        // Dump of all interfaces shared between transactions (noop unless enabled)
+        bind(InterfaceDumpCache.class).toProvider(InterfaceDumpCacheProvider.class).in(Singleton.class);
         bind(InterfaceCacheDumpManager.class).toProvider(InterfaceCacheDumpManagerProvider.class).in(Singleton.class);
 
+        // Interface counters periodically sent by VPP (collection is started only if enabled)
+        bind(InterfaceStatisticsStore.class).toProvider(InterfaceStatisticsStoreProvider.class).in(Singleton.class);
+        bind(InterfaceStatisticsCollector.class).toProvider(InterfaceStatisticsCollectorProvider.class)
+                .asEagerSingleton();
+
+        // Restores mappings of interfaces created by VPP itself after VPP restart (used only by in-process recovery)
+        bind(InterfaceContextRestorer.class).toProvider(InterfaceContextRestorerProvider.class).asEagerSingleton();
+
         // Context utility for deleted interfaces
         bind(DisabledInterfacesManager.class).toInstance(new DisabledInterfacesManager());
 
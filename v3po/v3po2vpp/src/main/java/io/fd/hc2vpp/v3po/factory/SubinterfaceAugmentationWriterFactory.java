@@ -22,6 +22,7 @@ import com.google.inject.name.Named;
 import io.fd.hc2vpp.common.translate.util.NamingContext;
 import io.fd.hc2vpp.v3po.interfaces.RewriteCustomizer;
 import io.fd.hc2vpp.v3po.interfaces.SubInterfaceCustomizer;
+import io.fd.hc2vpp.v3po.interfacesstate.cache.InterfaceDumpCache;
 import io.fd.hc2vpp.v3po.interfaces.SubInterfaceL2Customizer;
 import io.fd.hc2vpp.v3po.interfaces.SubInterfaceRoutingCustomizer;
 import io.fd.hc2vpp.v3po.interfaces.SubInterfaceUnnumberedCustomizer;
@@ -37,8 +38,8 @@ import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.subinter
 import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.subinterface.span.rev170607.interfaces._interface.sub.interfaces.sub._interface.Span;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.unnumbered.interfaces.rev170510.SubinterfaceUnnumberedAugmentation;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.unnumbered.interfaces.rev170510.unnumbered.config.attributes.Unnumbered;
-import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.v3po.rev170607.span.attributes.MirroredInterfaces;
-import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.v3po.rev170607.span.attributes.mirrored.interfaces.MirroredInterface;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.v3po.rev171205.span.attributes.MirroredInterfaces;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.v3po.rev171205.span.attributes.mirrored.interfaces.MirroredInterface;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.vpp.vlan.rev170607.SubinterfaceAugmentation;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.vpp.vlan.rev170607.interfaces._interface.SubInterfaces;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.vpp.vlan.rev170607.interfaces._interface.sub.interfaces.SubInterface;
@@ -57,6 +58,7 @@ public final class SubinterfaceAugmentationWriterFactory implements WriterFactor
     private final FutureJVppCore jvpp;
     private final NamingContext ifcContext;
     private final NamingContext bdContext;
+    private final InterfaceDumpCache ifcDumpCache;
 
     public static final InstanceIdentifier<SubinterfaceAugmentation> SUB_IFC_AUG_ID =
         InterfacesWriterFactory.IFC_ID.augmentation(SubinterfaceAugmentation.class);
@@ -68,10 +70,12 @@ public final class SubinterfaceAugmentationWriterFactory implements WriterFactor
     @Inject
     public SubinterfaceAugmentationWriterFactory(final FutureJVppCore jvpp,
                                                  @Named("interface-context") final NamingContext ifcContext,
-                                                 @Named("bridge-domain-context") final NamingContext bdContext) {
+                                                 @Named("bridge-domain-context") final NamingContext bdContext,
+                                                 final InterfaceDumpCache ifcDumpCache) {
         this.jvpp = jvpp;
         this.ifcContext = ifcContext;
         this.bdContext = bdContext;
+        this.ifcDumpCache = ifcDumpCache;
     }
 
     @Override
@@ -87,7 +91,7 @@ public final class SubinterfaceAugmentationWriterFactory implements WriterFactor
                     Dot1qTag.class),
                 InstanceIdentifier.create(SubInterface.class).child(Match.class),
                 InstanceIdentifier.create(SubInterface.class).child(Match.class).child(VlanTagged.class)),
-            new GenericListWriter<>(SUB_IFC_ID, new SubInterfaceCustomizer(jvpp, ifcContext)),
+            new GenericListWriter<>(SUB_IFC_ID, new SubInterfaceCustomizer(jvpp, ifcContext, ifcDumpCache)),
             InterfacesWriterFactory.IFC_ID);
         //   L2 =
         registry.addAfter(new GenericWriter<>(L2_ID, new SubInterfaceL2Customizer(jvpp, ifcContext, bdContext)),
@@ -100,7 +104,7 @@ public final class SubinterfaceAugmentationWriterFactory implements WriterFactor
                 InstanceIdentifier.create(Rewrite.class).child(PushTags.class)
                     .child(
                         org.opendaylight.yang.gen.v1.urn.ieee.params.xml.ns.yang.dot1q.types.rev150626.dot1q.tag.Dot1qTag.class)),
-            new GenericWriter<>(rewriteId, new RewriteCustomizer(jvpp, ifcContext)),
+            new GenericWriter<>(rewriteId, new RewriteCustomizer(jvpp, ifcContext, ifcDumpCache)),
             L2_ID);
         final InstanceIdentifier<Routing> routingId = SUB_IFC_ID.child(Routing.class);
         registry.add(new GenericWriter<>(routingId, new SubInterfaceRoutingCustomizer(jvpp, ifcContext)));
@@ -19,6 +19,7 @@ package io.fd.hc2vpp.v3po.interfaces;
 import io.fd.hc2vpp.common.translate.util.AbstractInterfaceTypeCustomizer;
 import io.fd.hc2vpp.common.translate.util.JvppReplyConsumer;
 import io.fd.hc2vpp.common.translate.util.NamingContext;
+import io.fd.hc2vpp.v3po.interfacesstate.cache.InterfaceDumpCache;
 import io.fd.honeycomb.translate.write.WriteContext;
 import io.fd.honeycomb.translate.write.WriteFailedException;
 import io.fd.vpp.jvpp.core.dto.SwInterfaceSetMtu;
@@ -27,7 +28,7 @@ import javax.annotation.Nonnull;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.iana._if.type.rev140508.EthernetCsmacd;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.interfaces.rev140508.InterfaceType;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.interfaces.rev140508.interfaces.Interface;
-import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.v3po.rev170607.interfaces._interface.Ethernet;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.v3po.rev171205.interfaces._interface.Ethernet;
 import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -36,10 +37,17 @@ public class EthernetCustomizer extends AbstractInterfaceTypeCustomizer<Ethernet
 
     private static final Logger LOG = LoggerFactory.getLogger(EthernetCustomizer.class);
     private final NamingContext interfaceContext;
+    private final InterfaceDumpCache dumpCache;
 
     public EthernetCustomizer(final FutureJVppCore vppApi, final NamingContext interfaceContext) {
+        this(vppApi, interfaceContext, InterfaceDumpCache.disabled());
+    }
+
+    public EthernetCustomizer(final FutureJVppCore vppApi, final NamingContext interfaceContext,
+                              final InterfaceDumpCache dumpCache) {
         super(vppApi);
         this.interfaceContext = interfaceContext;
+        this.dumpCache = dumpCache;
     }
 
     @Override
@@ -78,7 +86,12 @@ public class EthernetCustomizer extends AbstractInterfaceTypeCustomizer<Ethernet
         final SwInterfaceSetMtu request = new SwInterfaceSetMtu();
         request.swIfIndex = index;
         request.mtu = dataAfter.getMtu().shortValue();
-        getReplyForWrite(getFutureJVpp().swInterfaceSetMtu(request).toCompletableFuture(), id);
+        try {
+            getReplyForWrite(getFutureJVpp().swInterfaceSetMtu(request).toCompletableFuture(), id);
+        } finally {
+            // after VPP was modified, so that dump read concurrently with the write is not kept
+            dumpCache.invalidate();
+        }
         LOG.debug("Ethernet attributes set successfully for: {}, {}. Ethernet: {}", name, index, dataAfter);
     }
 }
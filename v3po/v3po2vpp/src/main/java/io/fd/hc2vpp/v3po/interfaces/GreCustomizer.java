@@ -22,6 +22,7 @@ import com.google.common.net.InetAddresses;
 import io.fd.hc2vpp.common.translate.util.AbstractInterfaceTypeCustomizer;
 import io.fd.hc2vpp.common.translate.util.JvppReplyConsumer;
 import io.fd.hc2vpp.common.translate.util.NamingContext;
+import io.fd.hc2vpp.v3po.interfacesstate.cache.InterfaceDumpCache;
 import io.fd.honeycomb.translate.write.WriteContext;
 import io.fd.honeycomb.translate.write.WriteFailedException;
 import io.fd.vpp.jvpp.core.dto.GreAddDelTunnel;
@@ -33,8 +34,8 @@ import javax.annotation.Nonnull;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.IpAddress;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.interfaces.rev140508.InterfaceType;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.interfaces.rev140508.interfaces.Interface;
-import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.v3po.rev170607.GreTunnel;
-import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.v3po.rev170607.interfaces._interface.Gre;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.v3po.rev171205.GreTunnel;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.v3po.rev171205.interfaces._interface.Gre;
 import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -43,10 +44,17 @@ public class GreCustomizer extends AbstractInterfaceTypeCustomizer<Gre> implemen
 
     private static final Logger LOG = LoggerFactory.getLogger(GreCustomizer.class);
     private final NamingContext interfaceContext;
+    private final InterfaceDumpCache dumpCache;
 
     public GreCustomizer(final FutureJVppCore vppApi, final NamingContext interfaceContext) {
+        this(vppApi, interfaceContext, InterfaceDumpCache.disabled());
+    }
+
+    public GreCustomizer(final FutureJVppCore vppApi, final NamingContext interfaceContext,
+                         final InterfaceDumpCache dumpCache) {
         super(vppApi);
         this.interfaceContext = interfaceContext;
+        this.dumpCache = dumpCache;
     }
 
     private static GreAddDelTunnel getGreTunnelRequest(final byte isAdd, final byte[] srcAddr, final byte[] dstAddr,
@@ -79,7 +87,12 @@ public class GreCustomizer extends AbstractInterfaceTypeCustomizer<Gre> implemen
                                         @Nonnull final WriteContext writeContext)
             throws WriteFailedException {
         final String swIfName = id.firstKeyOf(Interface.class).getName();
-        deleteGreTunnel(id, swIfName, dataBefore, writeContext);
+        try {
+            deleteGreTunnel(id, swIfName, dataBefore, writeContext);
+        } finally {
+            // after VPP was modified, so that dump read concurrently with the delete is not kept
+            dumpCache.invalidate();
+        }
     }
 
     private void createGreTunnel(final InstanceIdentifier<Gre> id, final String swIfName, final Gre gre,
@@ -20,6 +20,7 @@ import io.fd.honeycomb.translate.spi.write.ListWriterCustomizer;
 import io.fd.hc2vpp.common.translate.util.FutureJVppCustomizer;
 import io.fd.hc2vpp.common.translate.util.JvppReplyConsumer;
 import io.fd.hc2vpp.common.translate.util.NamingContext;
+import io.fd.hc2vpp.v3po.interfacesstate.cache.InterfaceDumpCache;
 import io.fd.honeycomb.translate.write.WriteContext;
 import io.fd.honeycomb.translate.write.WriteFailedException;
 import io.fd.vpp.jvpp.core.dto.SwInterfaceSetFlags;
@@ -41,10 +42,17 @@ public class InterfaceCustomizer extends FutureJVppCustomizer
 
     private static final Logger LOG = LoggerFactory.getLogger(InterfaceCustomizer.class);
     private final NamingContext interfaceContext;
+    private final InterfaceDumpCache dumpCache;
 
     public InterfaceCustomizer(final FutureJVppCore vppApi, final NamingContext interfaceContext) {
+        this(vppApi, interfaceContext, InterfaceDumpCache.disabled());
+    }
+
+    public InterfaceCustomizer(final FutureJVppCore vppApi, final NamingContext interfaceContext,
+                               final InterfaceDumpCache dumpCache) {
         super(vppApi);
         this.interfaceContext = interfaceContext;
+        this.dumpCache = dumpCache;
     }
 
     @Override
@@ -52,8 +60,13 @@ public class InterfaceCustomizer extends FutureJVppCustomizer
                                        @Nonnull final Interface dataAfter,
                                        @Nonnull final WriteContext writeContext)
             throws WriteFailedException {
-
-        setInterface(id, dataAfter, writeContext);
+        // type specific customizers(executed before this one) have already created the interface
+        try {
+            setInterface(id, dataAfter, writeContext);
+        } finally {
+            // after VPP was modified, so that dump read concurrently with the write is not kept
+            dumpCache.invalidate();
+        }
     }
 
     @Override
@@ -62,7 +75,11 @@ public class InterfaceCustomizer extends FutureJVppCustomizer
                                         @Nonnull final Interface dataAfter,
                                         @Nonnull final WriteContext writeContext)
             throws WriteFailedException {
-        updateInterface(id, dataBefore, dataAfter, writeContext);
+        try {
+            updateInterface(id, dataBefore, dataAfter, writeContext);
+        } finally {
+            dumpCache.invalidate();
+        }
     }
 
     @Override
@@ -70,6 +87,8 @@ public class InterfaceCustomizer extends FutureJVppCustomizer
                                         @Nonnull final Interface dataBefore,
                                         @Nonnull final WriteContext writeContext) {
         // Nothing to be done here, customizers for specific interface types e.g. vxlan handle the delete
+        // (and invalidate the dump cache once the interface is deleted). Interfaces of types handled by other plugins
+        // are removed from the cache by interface notifications or when the cached dump expires.
     }
 
     private void setInterface(final InstanceIdentifier<Interface> id, final Interface swIf,
@@ -20,6 +20,7 @@ import io.fd.hc2vpp.common.translate.util.AbstractInterfaceTypeCustomizer;
 import io.fd.hc2vpp.common.translate.util.JvppReplyConsumer;
 import io.fd.hc2vpp.common.translate.util.MacTranslator;
 import io.fd.hc2vpp.common.translate.util.NamingContext;
+import io.fd.hc2vpp.v3po.interfacesstate.cache.InterfaceDumpCache;
 import io.fd.honeycomb.translate.write.WriteContext;
 import io.fd.honeycomb.translate.write.WriteFailedException;
 import io.fd.vpp.jvpp.core.dto.CreateLoopback;
@@ -29,7 +30,7 @@ import io.fd.vpp.jvpp.core.future.FutureJVppCore;
 import javax.annotation.Nonnull;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.interfaces.rev140508.InterfaceType;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.interfaces.rev140508.interfaces.Interface;
-import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.v3po.rev170607.interfaces._interface.Loopback;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.v3po.rev171205.interfaces._interface.Loopback;
 import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -39,15 +40,22 @@ public final class LoopbackCustomizer extends AbstractInterfaceTypeCustomizer<Lo
 
     private static final Logger LOG = LoggerFactory.getLogger(LoopbackCustomizer.class);
     private final NamingContext interfaceContext;
+    private final InterfaceDumpCache dumpCache;
 
     public LoopbackCustomizer(final FutureJVppCore vppApi, final NamingContext interfaceContext) {
+        this(vppApi, interfaceContext, InterfaceDumpCache.disabled());
+    }
+
+    public LoopbackCustomizer(final FutureJVppCore vppApi, final NamingContext interfaceContext,
+                              final InterfaceDumpCache dumpCache) {
         super(vppApi);
         this.interfaceContext = interfaceContext;
+        this.dumpCache = dumpCache;
     }
 
     @Override
     protected Class<? extends InterfaceType> getExpectedInterfaceType() {
-        return org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.v3po.rev170607.Loopback.class;
+        return org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.v3po.rev171205.Loopback.class;
     }
 
     @Override
@@ -71,7 +79,12 @@ public final class LoopbackCustomizer extends AbstractInterfaceTypeCustomizer<Lo
             throw new WriteFailedException.DeleteFailedException(id, e);
         }
 
-        deleteLoopback(id, ifcName, index, dataBefore, writeContext);
+        try {
+            deleteLoopback(id, ifcName, index, dataBefore, writeContext);
+        } finally {
+            // after VPP was modified, so that dump read concurrently with the delete is not kept
+            dumpCache.invalidate();
+        }
     }
 
     private void createLoopback(final InstanceIdentifier<Loopback> id, final String swIfName, final Loopback loopback,
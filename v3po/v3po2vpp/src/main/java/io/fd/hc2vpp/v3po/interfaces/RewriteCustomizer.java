@@ -22,6 +22,7 @@ import io.fd.hc2vpp.common.translate.util.FutureJVppCustomizer;
 import io.fd.hc2vpp.common.translate.util.JvppReplyConsumer;
 import io.fd.hc2vpp.common.translate.util.NamingContext;
 import io.fd.hc2vpp.common.translate.util.TagRewriteOperation;
+import io.fd.hc2vpp.v3po.interfacesstate.cache.InterfaceDumpCache;
 import io.fd.hc2vpp.v3po.util.SubInterfaceUtils;
 import io.fd.honeycomb.translate.spi.write.WriterCustomizer;
 import io.fd.honeycomb.translate.write.WriteContext;
@@ -51,11 +52,19 @@ public class RewriteCustomizer extends FutureJVppCustomizer
 
     private static final Logger LOG = LoggerFactory.getLogger(RewriteCustomizer.class);
     private final NamingContext interfaceContext;
+    private final InterfaceDumpCache dumpCache;
 
     public RewriteCustomizer(@Nonnull final FutureJVppCore futureJVppCore,
                              @Nonnull final NamingContext interfaceContext) {
+        this(futureJVppCore, interfaceContext, InterfaceDumpCache.disabled());
+    }
+
+    public RewriteCustomizer(@Nonnull final FutureJVppCore futureJVppCore,
+                             @Nonnull final NamingContext interfaceContext,
+                             @Nonnull final InterfaceDumpCache dumpCache) {
         super(futureJVppCore);
         this.interfaceContext = Preconditions.checkNotNull(interfaceContext, "interfaceContext should not be null");
+        this.dumpCache = Preconditions.checkNotNull(dumpCache, "dumpCache should not be null");
     }
 
     @Override
@@ -79,7 +88,12 @@ public class RewriteCustomizer extends FutureJVppCustomizer
         final CompletionStage<L2InterfaceVlanTagRewriteReply> replyCompletionStage =
                 getFutureJVpp().l2InterfaceVlanTagRewrite(getTagRewriteRequest(swIfIndex, rewrite));
 
-        getReplyForWrite(replyCompletionStage.toCompletableFuture(), id);
+        try {
+            getReplyForWrite(replyCompletionStage.toCompletableFuture(), id);
+        } finally {
+            // after VPP was modified, so that dump read concurrently with the write is not kept
+            dumpCache.invalidate();
+        }
         LOG.debug("Tag rewrite for interface {}(id=) set successfully: {}", ifname, swIfIndex, rewrite);
     }
 
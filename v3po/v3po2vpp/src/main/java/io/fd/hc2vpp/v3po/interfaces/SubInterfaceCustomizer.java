@@ -25,6 +25,7 @@ import io.fd.hc2vpp.common.translate.util.ByteDataTranslator;
 import io.fd.hc2vpp.common.translate.util.FutureJVppCustomizer;
 import io.fd.hc2vpp.common.translate.util.JvppReplyConsumer;
 import io.fd.hc2vpp.common.translate.util.NamingContext;
+import io.fd.hc2vpp.v3po.interfacesstate.cache.InterfaceDumpCache;
 import io.fd.honeycomb.translate.spi.write.ListWriterCustomizer;
 import io.fd.honeycomb.translate.write.WriteContext;
 import io.fd.honeycomb.translate.write.WriteFailedException;
@@ -61,11 +62,19 @@ public class SubInterfaceCustomizer extends FutureJVppCustomizer
 
     private static final Logger LOG = LoggerFactory.getLogger(SubInterfaceCustomizer.class);
     private final NamingContext interfaceContext;
+    private final InterfaceDumpCache dumpCache;
 
     public SubInterfaceCustomizer(@Nonnull final FutureJVppCore futureJVppCore,
                                   @Nonnull final NamingContext interfaceContext) {
+        this(futureJVppCore, interfaceContext, InterfaceDumpCache.disabled());
+    }
+
+    public SubInterfaceCustomizer(@Nonnull final FutureJVppCore futureJVppCore,
+                                  @Nonnull final NamingContext interfaceContext,
+                                  @Nonnull final InterfaceDumpCache dumpCache) {
         super(futureJVppCore);
         this.interfaceContext = Preconditions.checkNotNull(interfaceContext, "interfaceContext should not be null");
+        this.dumpCache = Preconditions.checkNotNull(dumpCache, "dumpCache should not be null");
     }
 
     @Override
@@ -73,7 +82,12 @@ public class SubInterfaceCustomizer extends FutureJVppCustomizer
                                        @Nonnull final SubInterface dataAfter, @Nonnull final WriteContext writeContext)
             throws WriteFailedException {
         final String superIfName = id.firstKeyOf(Interface.class).getName();
-        createSubInterface(id, superIfName, dataAfter, writeContext);
+        try {
+            createSubInterface(id, superIfName, dataAfter, writeContext);
+        } finally {
+            // after VPP was modified, so that dump read concurrently with the write is not kept
+            dumpCache.invalidate();
+        }
     }
 
     private void createSubInterface(final InstanceIdentifier<SubInterface> id, @Nonnull final String superIfName,
@@ -163,8 +177,12 @@ public class SubInterfaceCustomizer extends FutureJVppCustomizer
             throws WriteFailedException {
         final String subIfaceName = getSubInterfaceName(id.firstKeyOf(Interface.class).getName(),
                 Math.toIntExact(dataAfter.getIdentifier()));
-        setInterfaceState(id, interfaceContext.getIndex(subIfaceName, writeContext.getMappingContext()),
-                booleanToByte(dataAfter.isEnabled()));
+        try {
+            setInterfaceState(id, interfaceContext.getIndex(subIfaceName, writeContext.getMappingContext()),
+                    booleanToByte(dataAfter.isEnabled()));
+        } finally {
+            dumpCache.invalidate();
+        }
     }
 
     private void setInterfaceState(final InstanceIdentifier<SubInterface> id, final int swIfIndex, final byte enabled)
@@ -20,6 +20,7 @@ import io.fd.hc2vpp.common.translate.util.AbstractInterfaceTypeCustomizer;
 import io.fd.hc2vpp.common.translate.util.JvppReplyConsumer;
 import io.fd.hc2vpp.common.translate.util.MacTranslator;
 import io.fd.hc2vpp.common.translate.util.NamingContext;
+import io.fd.hc2vpp.v3po.interfacesstate.cache.InterfaceDumpCache;
 import io.fd.honeycomb.translate.write.WriteContext;
 import io.fd.honeycomb.translate.write.WriteFailedException;
 import io.fd.vpp.jvpp.core.dto.TapConnect;
@@ -35,7 +36,7 @@ import javax.annotation.Nonnull;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.interfaces.rev140508.InterfaceType;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.interfaces.rev140508.interfaces.Interface;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.yang.types.rev130715.PhysAddress;
-import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.v3po.rev170607.interfaces._interface.Tap;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.v3po.rev171205.interfaces._interface.Tap;
 import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -44,15 +45,22 @@ public class TapCustomizer extends AbstractInterfaceTypeCustomizer<Tap> implemen
 
     private static final Logger LOG = LoggerFactory.getLogger(TapCustomizer.class);
     private final NamingContext interfaceContext;
+    private final InterfaceDumpCache dumpCache;
 
     public TapCustomizer(final FutureJVppCore vppApi, final NamingContext interfaceContext) {
+        this(vppApi, interfaceContext, InterfaceDumpCache.disabled());
+    }
+
+    public TapCustomizer(final FutureJVppCore vppApi, final NamingContext interfaceContext,
+                         final InterfaceDumpCache dumpCache) {
         super(vppApi);
         this.interfaceContext = interfaceContext;
+        this.dumpCache = dumpCache;
     }
 
     @Override
     protected Class<? extends InterfaceType> getExpectedInterfaceType() {
-        return org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.v3po.rev170607.Tap.class;
+        return org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.v3po.rev171205.Tap.class;
     }
 
     @Override
@@ -76,7 +84,11 @@ public class TapCustomizer extends AbstractInterfaceTypeCustomizer<Tap> implemen
             throw new WriteFailedException.UpdateFailedException(id, dataBefore, dataAfter, e);
         }
 
-        modifyTap(id, ifcName, index, dataBefore, dataAfter);
+        try {
+            modifyTap(id, ifcName, index, dataBefore, dataAfter);
+        } finally {
+            dumpCache.invalidate();
+        }
     }
 
     @Override
@@ -92,7 +104,12 @@ public class TapCustomizer extends AbstractInterfaceTypeCustomizer<Tap> implemen
             throw new WriteFailedException.DeleteFailedException(id, e);
         }
 
-        deleteTap(id, ifcName, index, dataBefore, writeContext);
+        try {
+            deleteTap(id, ifcName, index, dataBefore, writeContext);
+        } finally {
+            // after VPP was modified, so that dump read concurrently with the delete is not kept
+            dumpCache.invalidate();
+        }
     }
 
     private void createTap(final InstanceIdentifier<Tap> id, final String swIfName, final Tap tap,
@@ -23,6 +23,7 @@ import io.fd.hc2vpp.common.translate.util.AbstractInterfaceTypeCustomizer;
 import io.fd.hc2vpp.common.translate.util.JvppReplyConsumer;
 import io.fd.hc2vpp.common.translate.util.NamingContext;
 import io.fd.hc2vpp.v3po.DisabledInterfacesManager;
+import io.fd.hc2vpp.v3po.interfacesstate.cache.InterfaceDumpCache;
 import io.fd.honeycomb.translate.write.WriteContext;
 import io.fd.honeycomb.translate.write.WriteFailedException;
 import io.fd.vpp.jvpp.core.dto.VxlanAddDelTunnel;
@@ -34,10 +35,10 @@ import javax.annotation.Nonnull;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.IpAddress;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.interfaces.rev140508.InterfaceType;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.interfaces.rev140508.interfaces.Interface;
-import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.v3po.rev170607.L2Input;
-import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.v3po.rev170607.NshProxy;
-import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.v3po.rev170607.VxlanTunnel;
-import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.v3po.rev170607.interfaces._interface.Vxlan;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.v3po.rev171205.L2Input;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.v3po.rev171205.NshProxy;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.v3po.rev171205.VxlanTunnel;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.v3po.rev171205.interfaces._interface.Vxlan;
 import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -48,13 +49,22 @@ public class VxlanCustomizer extends AbstractInterfaceTypeCustomizer<Vxlan> impl
 
     private final NamingContext interfaceNamingContext;
     private final DisabledInterfacesManager interfaceDisableContext;
+    private final InterfaceDumpCache dumpCache;
 
     public VxlanCustomizer(@Nonnull final FutureJVppCore vppApi,
             @Nonnull final NamingContext interfaceNamingContext,
             @Nonnull final DisabledInterfacesManager interfaceDisableContext) {
+        this(vppApi, interfaceNamingContext, interfaceDisableContext, InterfaceDumpCache.disabled());
+    }
+
+    public VxlanCustomizer(@Nonnull final FutureJVppCore vppApi,
+            @Nonnull final NamingContext interfaceNamingContext,
+            @Nonnull final DisabledInterfacesManager interfaceDisableContext,
+            @Nonnull final InterfaceDumpCache dumpCache) {
         super(vppApi);
         this.interfaceNamingContext = interfaceNamingContext;
         this.interfaceDisableContext = interfaceDisableContext;
+        this.dumpCache = dumpCache;
     }
 
     @Override
@@ -75,7 +85,12 @@ public class VxlanCustomizer extends AbstractInterfaceTypeCustomizer<Vxlan> impl
             @Nonnull final WriteContext writeContext)
                     throws WriteFailedException {
         final String swIfName = id.firstKeyOf(Interface.class).getName();
-        deleteVxlanTunnel(id, swIfName, dataBefore, writeContext);
+        try {
+            deleteVxlanTunnel(id, swIfName, dataBefore, writeContext);
+        } finally {
+            // after VPP was modified, so that dump read concurrently with the delete is not kept
+            dumpCache.invalidate();
+        }
     }
 
     private void createVxlanTunnel(final InstanceIdentifier<Vxlan> id, final String swIfName, final Vxlan vxlan,
@@ -16,11 +16,10 @@
 
 package io.fd.hc2vpp.v3po.interfacesstate;
 
-import static com.google.common.base.Preconditions.checkState;
-
 import io.fd.hc2vpp.common.translate.util.FutureJVppCustomizer;
 import io.fd.hc2vpp.common.translate.util.NamingContext;
 import io.fd.hc2vpp.v3po.interfacesstate.cache.InterfaceCacheDumpManager;
+import io.fd.hc2vpp.v3po.interfacesstate.cache.TunnelDetailsCache;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.fd.honeycomb.translate.spi.read.Initialized;
@@ -33,18 +32,17 @@ import io.fd.vpp.jvpp.core.future.FutureJVppCore;
 import java.net.InetAddress;
 import java.net.UnknownHostException;
 import java.util.Arrays;
-import java.util.concurrent.CompletionStage;
 import javax.annotation.Nonnull;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.IpAddress;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.Ipv4Address;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.Ipv6Address;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.interfaces.rev140508.interfaces.state.Interface;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.interfaces.rev140508.interfaces.state.InterfaceKey;
-import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.v3po.rev170607.GreTunnel;
-import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.v3po.rev170607.VppInterfaceAugmentation;
-import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.v3po.rev170607.VppInterfaceStateAugmentationBuilder;
-import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.v3po.rev170607.interfaces.state._interface.Gre;
-import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.v3po.rev170607.interfaces.state._interface.GreBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.v3po.rev171205.GreTunnel;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.v3po.rev171205.VppInterfaceAugmentation;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.v3po.rev171205.VppInterfaceStateAugmentationBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.v3po.rev171205.interfaces.state._interface.Gre;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.v3po.rev171205.interfaces.state._interface.GreBuilder;
 import org.opendaylight.yangtools.concepts.Builder;
 import org.opendaylight.yangtools.yang.binding.DataObject;
 import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
@@ -57,6 +55,7 @@ public class GreCustomizer extends FutureJVppCustomizer
     private static final Logger LOG = LoggerFactory.getLogger(GreCustomizer.class);
     private final NamingContext interfaceContext;
     private final InterfaceCacheDumpManager dumpManager;
+    private final TunnelDetailsCache<GreTunnelDetailsReplyDump, GreTunnelDetails> tunnelDetailsCache;
 
     public GreCustomizer(@Nonnull final FutureJVppCore jvpp,
                          @Nonnull final NamingContext interfaceContext,
@@ -64,6 +63,15 @@ public class GreCustomizer extends FutureJVppCustomizer
         super(jvpp);
         this.interfaceContext = interfaceContext;
         this.dumpManager = dumpManager;
+        this.tunnelDetailsCache = new TunnelDetailsCache<>(GreTunnelDetailsReplyDump.class, dumpManager,
+                (identifier, swIfIndex) -> {
+                    final GreTunnelDump request = new GreTunnelDump();
+                    request.swIfIndex = swIfIndex;
+                    return getReplyForRead(getFutureJVpp().greTunnelDump(request).toCompletableFuture(),
+                            identifier, GreTunnelDump.class);
+                },
+                reply -> reply.greTunnelDetails,
+                details -> details.swIfIndex);
     }
 
     @Override
@@ -89,31 +97,19 @@ public class GreCustomizer extends FutureJVppCustomizer
         }
 
         LOG.debug("Reading attributes for gre tunnel: {}", key.getName());
-        // Dump just a single
-        final GreTunnelDump request = new GreTunnelDump();
-        request.swIfIndex = index;
-
-        final CompletionStage<GreTunnelDetailsReplyDump> swInterfaceGreDetailsReplyDumpCompletionStage =
-                getFutureJVpp().greTunnelDump(request);
-        final GreTunnelDetailsReplyDump reply =
-                getReplyForRead(swInterfaceGreDetailsReplyDumpCompletionStage.toCompletableFuture(), id);
+        final GreTunnelDetails swInterfaceGreDetails = tunnelDetailsCache.getDetails(id, ctx, index);
 
         // VPP keeps gre tunnel interfaces even after they were deleted (optimization)
         // However there ar no longer any gre tunnel specific fields assigned to it and this call
         // returns nothing
-        if (reply == null || reply.greTunnelDetails == null || reply.greTunnelDetails.isEmpty()) {
+        if (swInterfaceGreDetails == null) {
             LOG.debug(
                     "Gre tunnel {}, id {} has no attributes assigned in VPP. Probably is a leftover interface placeholder" +
                             "after delete", key.getName(), index);
             return;
         }
+        LOG.trace("Gre tunnel: {} attributes returned from VPP: {}", key.getName(), swInterfaceGreDetails);
 
-        checkState(reply.greTunnelDetails.size() == 1,
-                "Unexpected number of returned gre tunnels: {} for tunnel: {}", reply.greTunnelDetails,
-                key.getName());
-        LOG.trace("Gre tunnel: {} attributes returned from VPP: {}", key.getName(), reply);
-
-        final GreTunnelDetails swInterfaceGreDetails = reply.greTunnelDetails.get(0);
         if (swInterfaceGreDetails.isIpv6 == 1) {
             final Ipv6Address dstIpv6 =
                     new Ipv6Address(parseAddress(swInterfaceGreDetails.dstAddress).getHostAddress());
@@ -143,20 +139,20 @@ public class GreCustomizer extends FutureJVppCustomizer
     }
 
     @Override
-    public Initialized<org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.v3po.rev170607.interfaces._interface.Gre> init(
+    public Initialized<org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.v3po.rev171205.interfaces._interface.Gre> init(
             @Nonnull final InstanceIdentifier<Gre> id, @Nonnull final Gre readValue, @Nonnull final ReadContext ctx) {
         return Initialized.create(getCfgId(id),
-                new org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.v3po.rev170607.interfaces._interface.GreBuilder()
+                new org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.v3po.rev171205.interfaces._interface.GreBuilder()
                         .setDst(readValue.getDst())
                         .setSrc(readValue.getSrc())
                         .setOuterFibId(readValue.getOuterFibId())
                         .build());
     }
 
-    private InstanceIdentifier<org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.v3po.rev170607.interfaces._interface.Gre> getCfgId(
+    private InstanceIdentifier<org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.v3po.rev171205.interfaces._interface.Gre> getCfgId(
             final InstanceIdentifier<Gre> id) {
         return InterfaceCustomizer.getCfgId(RWUtils.cutId(id, Interface.class))
                 .augmentation(VppInterfaceAugmentation.class)
-                .child(org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.v3po.rev170607.interfaces._interface.Gre.class);
+                .child(org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.v3po.rev171205.interfaces._interface.Gre.class);
     }
 }
@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2017 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.v3po.interfacesstate;
+
+import static io.fd.hc2vpp.v3po.interfacesstate.statistics.InterfaceCounter.DROP;
+import static io.fd.hc2vpp.v3po.interfacesstate.statistics.InterfaceCounter.RX_ERROR;
+import static io.fd.hc2vpp.v3po.interfacesstate.statistics.InterfaceCounter.RX_MISS;
+import static io.fd.hc2vpp.v3po.interfacesstate.statistics.InterfaceCounter.RX_NO_BUFFER;
+import static io.fd.hc2vpp.v3po.interfacesstate.statistics.InterfaceCounter.RX_OCTETS;
+import static io.fd.hc2vpp.v3po.interfacesstate.statistics.InterfaceCounter.RX_PACKETS;
+import static io.fd.hc2vpp.v3po.interfacesstate.statistics.InterfaceCounter.TX_ERROR;
+import static io.fd.hc2vpp.v3po.interfacesstate.statistics.InterfaceCounter.TX_OCTETS;
+import static io.fd.hc2vpp.v3po.interfacesstate.statistics.InterfaceCounter.TX_PACKETS;
+
+import io.fd.hc2vpp.common.translate.util.NamingContext;
+import io.fd.hc2vpp.v3po.interfacesstate.statistics.InterfaceCounter;
+import io.fd.hc2vpp.v3po.interfacesstate.statistics.InterfaceCounters;
+import io.fd.hc2vpp.v3po.interfacesstate.statistics.InterfaceStatisticsStore;
+import io.fd.honeycomb.translate.read.ReadContext;
+import io.fd.honeycomb.translate.read.ReadFailedException;
+import io.fd.honeycomb.translate.spi.read.ReaderCustomizer;
+import java.math.BigInteger;
+import java.time.Instant;
+import javax.annotation.Nonnull;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.interfaces.rev140508.interfaces.state.Interface;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.interfaces.rev140508.interfaces.state.InterfaceBuilder;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.interfaces.rev140508.interfaces.state.InterfaceKey;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.interfaces.rev140508.interfaces.state._interface.Statistics;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.interfaces.rev140508.interfaces.state._interface.StatisticsBuilder;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.yang.types.rev130715.Counter32;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.yang.types.rev130715.Counter64;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.yang.types.rev130715.DateAndTime;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.v3po.rev171205.VppInterfaceStatisticsAugmentation;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.v3po.rev171205.VppInterfaceStatisticsAugmentationBuilder;
+import org.opendaylight.yangtools.concepts.Builder;
+import org.opendaylight.yangtools.yang.binding.DataObject;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Reads interface statistics from {@link InterfaceStatisticsStore}, without any request to VPP.<br>
+ * VPP does not distinguish unicast, multicast and broadcast packets in interface counters, so all received/sent
+ * packets are reported as unicast.
+ */
+public class InterfaceStatisticsCustomizer implements ReaderCustomizer<Statistics, StatisticsBuilder> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(InterfaceStatisticsCustomizer.class);
+    private static final long COUNTER32_MASK = 0xFFFFFFFFL;
+
+    private final NamingContext interfaceContext;
+    private final InterfaceStatisticsStore statisticsStore;
+
+    public InterfaceStatisticsCustomizer(@Nonnull final NamingContext interfaceContext,
+                                         @Nonnull final InterfaceStatisticsStore statisticsStore) {
+        this.interfaceContext = interfaceContext;
+        this.statisticsStore = statisticsStore;
+    }
+
+    @Nonnull
+    @Override
+    public StatisticsBuilder getBuilder(@Nonnull final InstanceIdentifier<Statistics> id) {
+        return new StatisticsBuilder();
+    }
+
+    @Override
+    public void readCurrentAttributes(@Nonnull final InstanceIdentifier<Statistics> id,
+                                      @Nonnull final StatisticsBuilder builder,
+                                      @Nonnull final ReadContext ctx) throws ReadFailedException {
+        final InterfaceKey key = id.firstKeyOf(Interface.class);
+        final int index = interfaceContext.getIndex(key.getName(), ctx.getMappingContext());
+        final InterfaceCounters counters = statisticsStore.getCounters(index);
+        if (counters == null) {
+            LOG.debug("No counters collected for interface {}, id {}", key.getName(), index);
+            return;
+        }
+
+        builder.setDiscontinuityTime(new DateAndTime(Instant.ofEpochMilli(counters.getDiscontinuityTime()).toString()))
+                .setInOctets(counter64(counters, RX_OCTETS))
+                .setInUnicastPkts(counter64(counters, RX_PACKETS))
+                .setInDiscards(counter32(counters, DROP))
+                .setInErrors(counter32(counters, RX_ERROR))
+                .setOutOctets(counter64(counters, TX_OCTETS))
+                .setOutUnicastPkts(counter64(counters, TX_PACKETS))
+                .setOutErrors(counter32(counters, TX_ERROR))
+                .addAugmentation(VppInterfaceStatisticsAugmentation.class,
+                        new VppInterfaceStatisticsAugmentationBuilder()
+                                .setInErrorsNoBuf(counter64(counters, RX_NO_BUFFER))
+                                .setInErrorsMiss(counter64(counters, RX_MISS))
+                                .setInOctetsRate(rate(counters, RX_OCTETS))
+                                .setInPacketsRate(rate(counters, RX_PACKETS))
+                                .setOutOctetsRate(rate(counters, TX_OCTETS))
+                                .setOutPacketsRate(rate(counters, TX_PACKETS))
+                                .build());
+        LOG.trace("Statistics of interface {}, id {} read as: {}", key.getName(), index, builder);
+    }
+
+    @Override
+    public void merge(@Nonnull final Builder<? extends DataObject> parentBuilder,
+                      @Nonnull final Statistics readValue) {
+        ((InterfaceBuilder) parentBuilder).setStatistics(readValue);
+    }
+
+    private static Counter64 counter64(final InterfaceCounters counters, final InterfaceCounter counter) {
+        // VPP counters are u64
+        return new Counter64(new BigInteger(Long.toUnsignedString(counters.getValue(counter))));
+    }
+
+    private static Counter32 counter32(final InterfaceCounters counters, final InterfaceCounter counter) {
+        // counter32 wraps, as defined by ietf-yang-types
+        return new Counter32(counters.getValue(counter) & COUNTER32_MASK);
+    }
+
+    private static BigInteger rate(final InterfaceCounters counters, final InterfaceCounter counter) {
+        return BigInteger.valueOf(counters.getRate(counter));
+    }
+}
@@ -56,4 +56,13 @@ public interface InterfaceCacheDumpManager {
     SwInterfaceDetails getInterfaceDetail(@Nonnull final InstanceIdentifier<?> identifier,
                                           @Nonnull final ReadContext ctx,
                                           @Nonnull final String interfaceName) throws ReadFailedException;
+
+    /**
+     * Checks whether list of all interfaces was read in current transaction. Readers of interface specific data can
+     * use it to decide between dumping data of all interfaces at once and dumping data of single interface.
+     *
+     * @param ctx context of current transaction
+     * @return true if {@link #getInterfaces(InstanceIdentifier, ReadContext)} was invoked in current transaction
+     */
+    boolean isInterfaceListRead(@Nonnull final ReadContext ctx);
 }
@@ -19,7 +19,9 @@ package io.fd.hc2vpp.v3po.interfacesstate.cache;
 import static io.fd.hc2vpp.common.translate.util.JvppReplyConsumer.INSTANCE;
 import static java.util.stream.Collectors.toMap;
 
+import com.google.common.base.Optional;
 import io.fd.hc2vpp.common.translate.util.ByteDataTranslator;
+import io.fd.hc2vpp.common.translate.util.JvppRequestDeadline;
 import io.fd.hc2vpp.common.translate.util.NamingContext;
 import io.fd.honeycomb.translate.ModificationCache;
 import io.fd.honeycomb.translate.read.ReadContext;
@@ -49,13 +51,26 @@ final class InterfaceCacheDumpManagerImpl implements InterfaceCacheDumpManager {
 
     // byNameIndex must be cached, not held as reference here, to have it destroyed with cache after transaction
     static final String BY_NAME_INDEX_KEY = InterfaceCacheDumpManagerImpl.class.getName() + "_byNameIndex";
+    // marks read of all interfaces, byNameIndex can't be used as it is also created by single read from shared dump
+    static final String LIST_READ_KEY = InterfaceCacheDumpManagerImpl.class.getName() + "_listRead";
     private NamingContext namingContext;
+    private final InterfaceDumpCache sharedCache;
     private final DumpCacheManager<SwInterfaceDetailsReplyDump, String> specificDumpManager;
     private final DumpCacheManager<SwInterfaceDetailsReplyDump, Void> fullDumpManager;
 
     InterfaceCacheDumpManagerImpl(@Nonnull final FutureJVppCore jvpp,
                                   @Nonnull final NamingContext namingContext) {
+        this(jvpp, namingContext, InterfaceDumpCache.disabled());
+    }
+
+    /**
+     * @param sharedCache keeps full dump between transactions
+     */
+    InterfaceCacheDumpManagerImpl(@Nonnull final FutureJVppCore jvpp,
+                                  @Nonnull final NamingContext namingContext,
+                                  @Nonnull final InterfaceDumpCache sharedCache) {
         this.namingContext = namingContext;
+        this.sharedCache = sharedCache;
         specificDumpManager = specificInterfaceDumpManager(jvpp);
         fullDumpManager = fullInterfaceDumpManager(jvpp,
                 new StaticCacheKeyFactory(InterfaceCacheDumpManagerImpl.class.getName() + "_dump", SwInterfaceDetailsReplyDump.class));
@@ -67,7 +82,16 @@ final class InterfaceCacheDumpManagerImpl implements InterfaceCacheDumpManager {
                                                                  @Nonnull final ReadContext ctx)
             throws ReadFailedException {
         LOG.debug("Reading all interfaces[{}]", identifier);
-        return initMapAndGet(identifier, ctx).entrySet().stream().map(Map.Entry::getValue);
+        ctx.getModificationCache().put(LIST_READ_KEY, Boolean.TRUE);
+        // dumps of all interfaces read by the transaction share its deadline
+        try (JvppRequestDeadline deadline = JvppRequestDeadline.forTransaction(ctx.getModificationCache())) {
+            return initMapAndGet(identifier, ctx).entrySet().stream().map(Map.Entry::getValue);
+        }
+    }
+
+    @Override
+    public boolean isInterfaceListRead(@Nonnull final ReadContext ctx) {
+        return ctx.getModificationCache().containsKey(LIST_READ_KEY);
     }
 
     @Override
@@ -76,12 +100,36 @@ final class InterfaceCacheDumpManagerImpl implements InterfaceCacheDumpManager {
                                                               @Nonnull final ReadContext ctx,
                                                               @Nonnull final String interfaceName)
             throws ReadFailedException {
-        final Map<String, SwInterfaceDetails> interfaceIndex = getMap(ctx);
+        // dumps of all interfaces read by the transaction share its deadline
+        try (JvppRequestDeadline deadline = JvppRequestDeadline.forTransaction(ctx.getModificationCache())) {
+            return findInterfaceDetail(identifier, ctx, interfaceName, getMap(ctx));
+        }
+    }
 
+    @Nullable
+    private SwInterfaceDetails findInterfaceDetail(@Nonnull final InstanceIdentifier<?> identifier,
+                                                   @Nonnull final ReadContext ctx,
+                                                   @Nonnull final String interfaceName,
+                                                   @Nullable final Map<String, SwInterfaceDetails> interfaceIndex)
+            throws ReadFailedException {
         // does not attempt to cover cases with concurrent updates, as tx should be atomic
         if (interfaceIndex != null) {
             // tries to find interface in map
             return interfaceIndex.get(interfaceName);
+        } else if (sharedCache.get().isPresent()) {
+            // indexing of shared dump is cheap, but the dump might not contain interfaces created outside of honeycomb
+            final Map<String, SwInterfaceDetails> sharedIndex = initMapAndGet(identifier, ctx);
+            final SwInterfaceDetails detail = sharedIndex.get(interfaceName);
+            if (detail != null) {
+                return detail;
+            }
+            final SwInterfaceDetails specificDetail = dumpSpecificDetail(identifier, ctx, interfaceName);
+            if (specificDetail != null) {
+                LOG.debug("Interface {} not present in shared dump, invalidating", interfaceName);
+                sharedCache.invalidate();
+                sharedIndex.put(interfaceName, specificDetail);
+            }
+            return specificDetail;
         } else {
             // if map is not present, use specific dump(it will be cached standard way, under key constructed from IID)
             return dumpSpecificDetail(identifier, ctx, interfaceName);
@@ -110,10 +158,7 @@ final class InterfaceCacheDumpManagerImpl implements InterfaceCacheDumpManager {
 
         final ModificationCache cache = ctx.getModificationCache();
         if (!cache.containsKey(BY_NAME_INDEX_KEY)) {
-            LOG.debug("Performing dump[{}]", identifier);
-            final SwInterfaceDetailsReplyDump dump =
-                    fullDumpManager.getDump(identifier, cache)
-                            .or(new SwInterfaceDetailsReplyDump());
+            final SwInterfaceDetailsReplyDump dump = dumpAll(identifier, cache);
 
             // naming context initialization must be done here, as it is uses getName in next step, therefore it would
             // create artificial mapping for every interface, because this happens before interface dump is processed
@@ -138,6 +183,22 @@ final class InterfaceCacheDumpManagerImpl implements InterfaceCacheDumpManager {
         return getMap(ctx);
     }
 
+    private SwInterfaceDetailsReplyDump dumpAll(final InstanceIdentifier<?> identifier, final ModificationCache cache)
+            throws ReadFailedException {
+        final Optional<SwInterfaceDetailsReplyDump> sharedDump = sharedCache.get();
+        if (sharedDump.isPresent()) {
+            LOG.debug("Using shared dump[{}]", identifier);
+            return sharedDump.get();
+        }
+
+        LOG.debug("Performing dump[{}]", identifier);
+        final long version = sharedCache.getVersion();
+        final SwInterfaceDetailsReplyDump dump = fullDumpManager.getDump(identifier, cache)
+                .or(new SwInterfaceDetailsReplyDump());
+        sharedCache.put(dump, version);
+        return dump;
+    }
+
     private String getInterfaceName(final ReadContext ctx, final SwInterfaceDetails elt) {
         return namingContext.getName(elt.swIfIndex, ctx.getMappingContext());
     }
@@ -178,7 +239,8 @@ final class InterfaceCacheDumpManagerImpl implements InterfaceCacheDumpManager {
 
             final CompletableFuture<SwInterfaceDetailsReplyDump>
                     swInterfaceDetailsReplyDumpCompletableFuture = api.swInterfaceDump(request).toCompletableFuture();
-            return INSTANCE.getReplyForRead(swInterfaceDetailsReplyDumpCompletableFuture, identifier);
+            return INSTANCE.getReplyForRead(swInterfaceDetailsReplyDumpCompletableFuture, identifier,
+                    SwInterfaceDump.class);
         };
     }
 
@@ -31,8 +31,11 @@ public class InterfaceCacheDumpManagerProvider implements Provider<InterfaceCach
     @Named("interface-context")
     private NamingContext namingContext;
 
+    @Inject
+    private InterfaceDumpCache sharedCache;
+
     @Override
     public InterfaceCacheDumpManager get() {
-        return new InterfaceCacheDumpManagerImpl(jvpp, namingContext);
+        return new InterfaceCacheDumpManagerImpl(jvpp, namingContext, sharedCache);
     }
 }
@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2017 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.v3po.interfacesstate.cache;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Optional;
+import com.google.common.base.Ticker;
+import io.fd.vpp.jvpp.core.dto.SwInterfaceDetailsReplyDump;
+import io.fd.vpp.jvpp.core.dto.SwInterfaceEvent;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Keeps dump of all interfaces between read transactions.
+ * <p/>
+ * Dump is removed on interface writes and interface state change notifications. Notifications about deleted
+ * interfaces only remove the interface from the dump. Dump older than configured time to live is not used,
+ * to cover changes done outside of honeycomb.
+ */
+@ThreadSafe
+public final class InterfaceDumpCache {
+
+    private static final Logger LOG = LoggerFactory.getLogger(InterfaceDumpCache.class);
+
+    private static final InterfaceDumpCache DISABLED = new InterfaceDumpCache(false, 0, Ticker.systemTicker());
+
+    private final boolean enabled;
+    private final long ttlNanos;
+    private final Ticker ticker;
+
+    /**
+     * Incremented on every invalidation, so that dumps started before invalidation are not stored.
+     */
+    @GuardedBy("this")
+    private long version;
+    @GuardedBy("this")
+    private SwInterfaceDetailsReplyDump dump;
+    @GuardedBy("this")
+    private long dumpTimestamp;
+
+    /**
+     * @param enabled    if disabled, cache never holds any data
+     * @param ttlSeconds maximal age of cached dump
+     */
+    public InterfaceDumpCache(final boolean enabled, @Nonnegative final int ttlSeconds) {
+        this(enabled, ttlSeconds, Ticker.systemTicker());
+    }
+
+    @VisibleForTesting
+    InterfaceDumpCache(final boolean enabled, @Nonnegative final int ttlSeconds, @Nonnull final Ticker ticker) {
+        checkArgument(ttlSeconds >= 0, "Interface cache ttl cannot be negative, but was %s", ttlSeconds);
+        this.enabled = enabled;
+        this.ttlNanos = TimeUnit.SECONDS.toNanos(ttlSeconds);
+        this.ticker = ticker;
+    }
+
+    /**
+     * @return cache that never holds any data
+     */
+    public static InterfaceDumpCache disabled() {
+        return DISABLED;
+    }
+
+    /**
+     * Removes cached dump. Should be invoked whenever interfaces are modified.
+     */
+    public synchronized void invalidate() {
+        version++;
+        if (dump != null) {
+            LOG.trace("Interface dump cache invalidated");
+            dump = null;
+        }
+    }
+
+    /**
+     * Updates cached dump according to interface notification.
+     */
+    public synchronized void onInterfaceEvent(@Nonnull final SwInterfaceEvent event) {
+        if (dump == null || event.deleted != 1) {
+            // admin/link state changed, there is no way to patch cached details without copying them
+            invalidate();
+            return;
+        }
+        version++;
+        final SwInterfaceDetailsReplyDump patched = new SwInterfaceDetailsReplyDump();
+        patched.swInterfaceDetails = dump.swInterfaceDetails.stream()
+                .filter(detail -> detail.swIfIndex != event.swIfIndex)
+                .collect(Collectors.toList());
+        LOG.trace("Interface {} removed from interface dump cache", event.swIfIndex);
+        dump = patched;
+    }
+
+    /**
+     * @return version to be used while storing dump by {@link #put(SwInterfaceDetailsReplyDump, long)}
+     */
+    synchronized long getVersion() {
+        return version;
+    }
+
+    /**
+     * @return cached dump, if present and not expired
+     */
+    synchronized Optional<SwInterfaceDetailsReplyDump> get() {
+        if (dump != null && ticker.read() - dumpTimestamp > ttlNanos) {
+            LOG.trace("Interface dump cache expired");
+            dump = null;
+        }
+        return Optional.fromNullable(dump);
+    }
+
+    /**
+     * Stores dump, unless cache was invalidated since dump was requested.
+     *
+     * @param version value of {@link #getVersion()} obtained before the dump was requested
+     */
+    synchronized void put(@Nonnull final SwInterfaceDetailsReplyDump dump, final long version) {
+        if (enabled && this.version == version) {
+            this.dump = dump;
+            this.dumpTimestamp = ticker.read();
+        }
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) 2017 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.v3po.interfacesstate.cache;
+
+import com.google.inject.Inject;
+import com.google.inject.Provider;
+import io.fd.hc2vpp.common.translate.util.VppStatusListener;
+import io.fd.hc2vpp.v3po.V3poConfiguration;
+
+public class InterfaceDumpCacheProvider implements Provider<InterfaceDumpCache> {
+
+    @Inject
+    private V3poConfiguration configuration;
+
+    @Inject
+    private VppStatusListener vppStatusListener;
+
+    @Override
+    public InterfaceDumpCache get() {
+        if (!configuration.isInterfaceCacheEnabled()) {
+            return InterfaceDumpCache.disabled();
+        }
+        final InterfaceDumpCache cache = new InterfaceDumpCache(true, configuration.getInterfaceCacheTtlSeconds());
+        // cached dump describes interfaces of VPP instance it was read from
+        vppStatusListener.addRestartListener(cache::invalidate);
+        // interface events are not received while disconnected
+        vppStatusListener.addReconnectListener(cache::invalidate);
+        return cache;
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2017 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.v3po.interfacesstate.cache;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+
+import com.google.common.base.Optional;
+import io.fd.honeycomb.translate.ModificationCache;
+import io.fd.honeycomb.translate.read.ReadContext;
+import io.fd.honeycomb.translate.read.ReadFailedException;
+import io.fd.honeycomb.translate.util.read.cache.DumpCacheManager;
+import io.fd.honeycomb.translate.util.read.cache.EntityDumpExecutor;
+import io.fd.honeycomb.translate.util.read.cache.StaticCacheKeyFactory;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Provides tunnel specific details(vxlan, gre, ...) of single interface.<br>
+ * If list of all interfaces was read in current transaction, details of all tunnels are dumped at once and indexed
+ * by sw_if_index, so each tunnel is served from transaction scoped index instead of separate dump request. Otherwise
+ * only details of requested interface are dumped.
+ *
+ * @param <R> reply type of tunnel dump
+ * @param <D> tunnel details type
+ */
+public final class TunnelDetailsCache<R, D> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(TunnelDetailsCache.class);
+
+    /**
+     * sw_if_index used to request dump of all tunnels
+     */
+    public static final int ALL_TUNNELS = -1;
+
+    private final InterfaceCacheDumpManager dumpManager;
+    private final EntityDumpExecutor<R, Integer> dumpExecutor;
+    private final DumpCacheManager<R, Integer> fullDumpManager;
+    private final Function<R, List<D>> detailsExtractor;
+    private final ToIntFunction<D> swIfIndexExtractor;
+    // index must be cached, not held as reference here, to have it destroyed with cache after transaction
+    private final String indexKey;
+
+    /**
+     * @param dumpType           reply type of tunnel dump, used to create cache keys
+     * @param dumpManager        interface dump manager
+     * @param dumpExecutor       executes tunnel dump for provided sw_if_index, {@link #ALL_TUNNELS} for all tunnels
+     * @param detailsExtractor   extracts list of details from reply
+     * @param swIfIndexExtractor extracts sw_if_index from details
+     */
+    public TunnelDetailsCache(@Nonnull final Class<R> dumpType,
+                              @Nonnull final InterfaceCacheDumpManager dumpManager,
+                              @Nonnull final EntityDumpExecutor<R, Integer> dumpExecutor,
+                              @Nonnull final Function<R, List<D>> detailsExtractor,
+                              @Nonnull final ToIntFunction<D> swIfIndexExtractor) {
+        this.dumpManager = checkNotNull(dumpManager, "Interface dump manager should not be null");
+        this.dumpExecutor = checkNotNull(dumpExecutor, "Dump executor should not be null");
+        this.detailsExtractor = checkNotNull(detailsExtractor, "Details extractor should not be null");
+        this.swIfIndexExtractor = checkNotNull(swIfIndexExtractor, "Index extractor should not be null");
+        this.indexKey = dumpType.getName() + "_bySwIfIndex";
+        this.fullDumpManager = new DumpCacheManager.DumpCacheManagerBuilder<R, Integer>()
+                .withCacheKeyFactory(new StaticCacheKeyFactory(dumpType.getName() + "_dump", dumpType))
+                .withExecutor(dumpExecutor)
+                .acceptOnly(dumpType)
+                .build();
+    }
+
+    /**
+     * Returns tunnel details for provided sw_if_index.
+     *
+     * @return details of tunnel or null if VPP has no tunnel details assigned to interface (e.g. leftover interface
+     * placeholder after delete)
+     * @throws IllegalStateException if single interface dump returns more than one details
+     */
+    @Nullable
+    public D getDetails(@Nonnull final InstanceIdentifier<?> id, @Nonnull final ReadContext ctx, final int swIfIndex)
+            throws ReadFailedException {
+        final ModificationCache cache = ctx.getModificationCache();
+        Map<Integer, D> index = getIndex(cache);
+        if (index == null && dumpManager.isInterfaceListRead(ctx)) {
+            index = initIndex(id, cache);
+        }
+        if (index != null) {
+            return index.get(swIfIndex);
+        }
+
+        // Dump just a single
+        final List<D> details = extractDetails(dumpExecutor.executeDump(id, swIfIndex));
+        if (details.isEmpty()) {
+            return null;
+        }
+        checkState(details.size() == 1, "Unexpected number of returned tunnels: %s for sw_if_index: %s", details,
+                swIfIndex);
+        return details.get(0);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<Integer, D> getIndex(final ModificationCache cache) {
+        return (Map<Integer, D>) cache.get(indexKey);
+    }
+
+    private Map<Integer, D> initIndex(final InstanceIdentifier<?> id, final ModificationCache cache)
+            throws ReadFailedException {
+        final Optional<R> reply = fullDumpManager.getDump(id, cache, ALL_TUNNELS);
+        final List<D> details = reply.isPresent()
+                ? extractDetails(reply.get())
+                : Collections.emptyList();
+        final Map<Integer, D> index = new HashMap<>(details.size() * 2);
+        for (final D detail : details) {
+            index.put(swIfIndexExtractor.applyAsInt(detail), detail);
+        }
+        LOG.debug("Indexed {} tunnel details for {}", index.size(), id);
+        cache.put(indexKey, index);
+        return index;
+    }
+
+    private List<D> extractDetails(@Nullable final R reply) {
+        if (reply == null) {
+            return Collections.emptyList();
+        }
+        final List<D> details = detailsExtractor.apply(reply);
+        return details == null
+                ? Collections.emptyList()
+                : details;
+    }
+}
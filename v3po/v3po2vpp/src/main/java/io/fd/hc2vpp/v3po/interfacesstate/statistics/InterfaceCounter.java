@@ -0,0 +1,38 @@
+/*
+ * Copyright (c) 2017 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.v3po.interfacesstate.statistics;
+
+/**
+ * Interface counters collected from VPP. Combined counters are split to packets and octets.
+ */
+public enum InterfaceCounter {
+    // combined counters
+    RX_PACKETS,
+    RX_OCTETS,
+    TX_PACKETS,
+    TX_OCTETS,
+    // simple counters
+    DROP,
+    PUNT,
+    RX_IP4,
+    RX_IP6,
+    RX_NO_BUFFER,
+    RX_MISS,
+    RX_ERROR,
+    TX_ERROR,
+    RX_MPLS
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2017 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.v3po.interfacesstate.statistics;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Snapshot of counters of single interface.
+ */
+public final class InterfaceCounters {
+
+    private final long[] values;
+    private final long[] rates;
+    private final long discontinuityTime;
+
+    InterfaceCounters(@Nonnull final long[] values, @Nonnull final long[] rates, final long discontinuityTime) {
+        this.values = values;
+        this.rates = rates;
+        this.discontinuityTime = discontinuityTime;
+    }
+
+    /**
+     * @return last value of counter reported by VPP, 0 if counter was not reported yet
+     */
+    public long getValue(@Nonnull final InterfaceCounter counter) {
+        return values[counter.ordinal()];
+    }
+
+    /**
+     * @return per second rate computed from last two values of counter, 0 if less than two values were reported
+     */
+    public long getRate(@Nonnull final InterfaceCounter counter) {
+        return rates[counter.ordinal()];
+    }
+
+    /**
+     * @return time in milliseconds since epoch, when counters of interface were sampled first time or were reset
+     */
+    public long getDiscontinuityTime() {
+        return discontinuityTime;
+    }
+}
@@ -0,0 +1,221 @@
+/*
+ * Copyright (c) 2017 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.v3po.interfacesstate.statistics;
+
+import static io.fd.hc2vpp.v3po.interfacesstate.statistics.InterfaceCounter.DROP;
+import static io.fd.hc2vpp.v3po.interfacesstate.statistics.InterfaceCounter.PUNT;
+import static io.fd.hc2vpp.v3po.interfacesstate.statistics.InterfaceCounter.RX_ERROR;
+import static io.fd.hc2vpp.v3po.interfacesstate.statistics.InterfaceCounter.RX_IP4;
+import static io.fd.hc2vpp.v3po.interfacesstate.statistics.InterfaceCounter.RX_IP6;
+import static io.fd.hc2vpp.v3po.interfacesstate.statistics.InterfaceCounter.RX_MISS;
+import static io.fd.hc2vpp.v3po.interfacesstate.statistics.InterfaceCounter.RX_MPLS;
+import static io.fd.hc2vpp.v3po.interfacesstate.statistics.InterfaceCounter.RX_NO_BUFFER;
+import static io.fd.hc2vpp.v3po.interfacesstate.statistics.InterfaceCounter.RX_OCTETS;
+import static io.fd.hc2vpp.v3po.interfacesstate.statistics.InterfaceCounter.RX_PACKETS;
+import static io.fd.hc2vpp.v3po.interfacesstate.statistics.InterfaceCounter.TX_ERROR;
+import static io.fd.hc2vpp.v3po.interfacesstate.statistics.InterfaceCounter.TX_OCTETS;
+import static io.fd.hc2vpp.v3po.interfacesstate.statistics.InterfaceCounter.TX_PACKETS;
+
+import io.fd.hc2vpp.common.translate.util.JvppReplyConsumer;
+import io.fd.vpp.jvpp.VppBaseCallException;
+import io.fd.vpp.jvpp.VppCallbackException;
+import io.fd.vpp.jvpp.core.callback.VnetInterfaceCombinedCountersCallback;
+import io.fd.vpp.jvpp.core.callback.VnetInterfaceSimpleCountersCallback;
+import io.fd.vpp.jvpp.core.dto.VnetInterfaceCombinedCounters;
+import io.fd.vpp.jvpp.core.dto.VnetInterfaceSimpleCounters;
+import io.fd.vpp.jvpp.core.dto.WantInterfaceCombinedStats;
+import io.fd.vpp.jvpp.core.dto.WantInterfaceSimpleStats;
+import io.fd.vpp.jvpp.core.future.FutureJVppCore;
+import io.fd.vpp.jvpp.core.types.VlibCounter;
+import java.util.concurrent.TimeoutException;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Collects interface counters periodically sent by VPP (vnet_interface_simple_counters and
+ * vnet_interface_combined_counters events) into {@link InterfaceStatisticsStore}.<br>
+ * Each event carries values of single counter for a range of sw_if_indexes, so it is stored as a batch without any
+ * per interface allocation. Events are processed on jvpp rx thread, store reads do not wait for VPP.
+ */
+@ThreadSafe
+public final class InterfaceStatisticsCollector implements JvppReplyConsumer, AutoCloseable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(InterfaceStatisticsCollector.class);
+
+    /**
+     * Simple counters indexed by vnet_interface_counter_type_t.
+     */
+    private static final InterfaceCounter[] SIMPLE_COUNTERS =
+            {DROP, PUNT, RX_IP4, RX_IP6, RX_NO_BUFFER, RX_MISS, RX_ERROR, TX_ERROR, RX_MPLS};
+
+    /**
+     * Combined counters indexed by vnet_interface_counter_type_t, packets and octets for each type.
+     */
+    private static final InterfaceCounter[][] COMBINED_COUNTERS =
+            {{RX_PACKETS, RX_OCTETS}, {TX_PACKETS, TX_OCTETS}};
+
+    private final FutureJVppCore jvpp;
+    private final InterfaceStatisticsStore store;
+
+    // buffers reused for combined counters, accessed only by jvpp rx thread
+    private long[] packets = new long[0];
+    private long[] octets = new long[0];
+
+    @Nullable
+    private AutoCloseable simpleCountersReg;
+    @Nullable
+    private AutoCloseable combinedCountersReg;
+
+    public InterfaceStatisticsCollector(@Nonnull final FutureJVppCore jvpp,
+                                        @Nonnull final InterfaceStatisticsStore store) {
+        this.jvpp = jvpp;
+        this.store = store;
+    }
+
+    /**
+     * Registers for interface counters events and enables periodic sending of counters in VPP.
+     */
+    public synchronized void start() {
+        LOG.trace("Starting interface statistics collection");
+        simpleCountersReg = jvpp.getEventRegistry().registerVnetInterfaceSimpleCountersCallback(
+                new VnetInterfaceSimpleCountersCallback() {
+                    @Override
+                    public void onVnetInterfaceSimpleCounters(final VnetInterfaceSimpleCounters counters) {
+                        try {
+                            onSimpleCounters(counters);
+                        } catch (RuntimeException e) {
+                            // There is no need to propagate exception to jvpp rx thread
+                            LOG.warn("Failed to process interface counters {}", counters, e);
+                        }
+                    }
+
+                    @Override
+                    public void onError(final VppCallbackException e) {
+                        LOG.warn("Error received for simple interface counters", e);
+                    }
+                });
+        combinedCountersReg = jvpp.getEventRegistry().registerVnetInterfaceCombinedCountersCallback(
+                new VnetInterfaceCombinedCountersCallback() {
+                    @Override
+                    public void onVnetInterfaceCombinedCounters(final VnetInterfaceCombinedCounters counters) {
+                        try {
+                            onCombinedCounters(counters);
+                        } catch (RuntimeException e) {
+                            // There is no need to propagate exception to jvpp rx thread
+                            LOG.warn("Failed to process interface counters {}", counters, e);
+                        }
+                    }
+
+                    @Override
+                    public void onError(final VppCallbackException e) {
+                        LOG.warn("Error received for combined interface counters", e);
+                    }
+                });
+        enableDisableStats(1);
+        LOG.debug("Interface statistics collection started successfully");
+    }
+
+    void onSimpleCounters(@Nonnull final VnetInterfaceSimpleCounters counters) {
+        if (counters.vnetCounterType < 0 || counters.vnetCounterType >= SIMPLE_COUNTERS.length
+                || counters.data == null) {
+            LOG.trace("Ignoring unsupported simple counters: {}", counters);
+            return;
+        }
+        store.update(SIMPLE_COUNTERS[counters.vnetCounterType], counters.firstSwIfIndex, counters.data,
+                Math.min(counters.count, counters.data.length), System.nanoTime(), System.currentTimeMillis());
+    }
+
+    void onCombinedCounters(@Nonnull final VnetInterfaceCombinedCounters counters) {
+        if (counters.vnetCounterType < 0 || counters.vnetCounterType >= COMBINED_COUNTERS.length
+                || counters.data == null) {
+            LOG.trace("Ignoring unsupported combined counters: {}", counters);
+            return;
+        }
+        final int count = Math.min(counters.count, counters.data.length);
+        if (packets.length < count) {
+            packets = new long[count];
+            octets = new long[count];
+        }
+        for (int i = 0; i < count; i++) {
+            final VlibCounter counter = counters.data[i];
+            packets[i] = counter.packets;
+            octets[i] = counter.bytes;
+        }
+        final InterfaceCounter[] counterType = COMBINED_COUNTERS[counters.vnetCounterType];
+        final long sampleTime = System.nanoTime();
+        final long wallTime = System.currentTimeMillis();
+        store.update(counterType[0], counters.firstSwIfIndex, packets, count, sampleTime, wallTime);
+        store.update(counterType[1], counters.firstSwIfIndex, octets, count, sampleTime, wallTime);
+    }
+
+    /**
+     * Enables periodic sending of counters again, if collection is started. VPP drops the subscription together with
+     * connection it was requested on, callbacks registered in jvpp are kept.
+     */
+    public synchronized void renewSubscription() {
+        if (simpleCountersReg == null && combinedCountersReg == null) {
+            return;
+        }
+        LOG.debug("Renewing interface statistics subscription");
+        enableDisableStats(1);
+    }
+
+    private void enableDisableStats(final int enableDisable) {
+        final WantInterfaceSimpleStats wantSimpleStats = new WantInterfaceSimpleStats();
+        wantSimpleStats.pid = 1;
+        wantSimpleStats.enableDisable = enableDisable;
+        final WantInterfaceCombinedStats wantCombinedStats = new WantInterfaceCombinedStats();
+        wantCombinedStats.pid = 1;
+        wantCombinedStats.enableDisable = enableDisable;
+        try {
+            getReply(jvpp.wantInterfaceSimpleStats(wantSimpleStats).toCompletableFuture());
+            getReply(jvpp.wantInterfaceCombinedStats(wantCombinedStats).toCompletableFuture());
+        } catch (VppBaseCallException | TimeoutException e) {
+            LOG.warn("Unable to {} interface statistics", enableDisable == 1
+                    ? "enable"
+                    : "disable", e);
+            throw new IllegalStateException("Unable to control interface statistics", e);
+        }
+    }
+
+    @Override
+    public synchronized void close() throws Exception {
+        LOG.trace("Stopping interface statistics collection");
+        if (simpleCountersReg == null && combinedCountersReg == null) {
+            return;
+        }
+        enableDisableStats(0);
+        closeRegistration(simpleCountersReg);
+        closeRegistration(combinedCountersReg);
+        simpleCountersReg = null;
+        combinedCountersReg = null;
+        LOG.debug("Interface statistics collection stopped successfully");
+    }
+
+    private static void closeRegistration(@Nullable final AutoCloseable registration) {
+        try {
+            if (registration != null) {
+                registration.close();
+            }
+        } catch (Exception e) {
+            LOG.warn("Unable to properly close interface counters registration: {}", registration, e);
+        }
+    }
+}
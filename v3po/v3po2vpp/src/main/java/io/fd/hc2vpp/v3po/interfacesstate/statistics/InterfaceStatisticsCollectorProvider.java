@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2017 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.v3po.interfacesstate.statistics;
+
+import com.google.inject.Inject;
+import com.google.inject.Provider;
+import io.fd.hc2vpp.common.translate.util.VppStatusListener;
+import io.fd.hc2vpp.v3po.V3poConfiguration;
+import io.fd.honeycomb.data.init.ShutdownHandler;
+import io.fd.vpp.jvpp.core.future.FutureJVppCore;
+
+public class InterfaceStatisticsCollectorProvider implements Provider<InterfaceStatisticsCollector> {
+
+    @Inject
+    private V3poConfiguration configuration;
+
+    @Inject
+    private FutureJVppCore jvpp;
+
+    @Inject
+    private InterfaceStatisticsStore store;
+
+    @Inject
+    private ShutdownHandler shutdownHandler;
+
+    @Inject
+    private VppStatusListener vppStatusListener;
+
+    @Override
+    public InterfaceStatisticsCollector get() {
+        final InterfaceStatisticsCollector collector = new InterfaceStatisticsCollector(jvpp, store);
+        if (configuration.isInterfaceStatisticsEnabled()) {
+            collector.start();
+            shutdownHandler.register("interface-statistics-collector", collector);
+            vppStatusListener.addReconnectListener(collector::renewSubscription);
+        }
+        return collector;
+    }
+}
@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) 2017 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.v3po.interfacesstate.statistics;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import java.util.Arrays;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Store of interface counters indexed by sw_if_index.<br>
+ * Values, rates and sample times are held in preallocated primitive arrays (one per counter), so update of counters
+ * reported by VPP is a plain array write per interface and does not allocate. Arrays grow (by doubling) only if VPP
+ * reports interface above current capacity.
+ */
+@ThreadSafe
+public final class InterfaceStatisticsStore {
+
+    private static final Logger LOG = LoggerFactory.getLogger(InterfaceStatisticsStore.class);
+    private static final int COUNTERS = InterfaceCounter.values().length;
+    private static final double NANOS_PER_SECOND = 1_000_000_000d;
+
+    private final Lock readLock;
+    private final Lock writeLock;
+
+    // [counter][swIfIndex]
+    private long[][] values;
+    private long[][] rates;
+    private long[][] sampleTimes;
+    private boolean[][] sampled;
+    // [swIfIndex], 0 if interface was not sampled yet
+    private long[] discontinuityTimes;
+    private int capacity;
+
+    public InterfaceStatisticsStore(final int initialCapacity) {
+        checkArgument(initialCapacity > 0, "Capacity must be positive, was %s", initialCapacity);
+        final ReadWriteLock lock = new ReentrantReadWriteLock();
+        readLock = lock.readLock();
+        writeLock = lock.writeLock();
+        capacity = initialCapacity;
+        values = new long[COUNTERS][capacity];
+        rates = new long[COUNTERS][capacity];
+        sampleTimes = new long[COUNTERS][capacity];
+        sampled = new boolean[COUNTERS][capacity];
+        discontinuityTimes = new long[capacity];
+    }
+
+    /**
+     * Updates counter of interfaces starting with firstSwIfIndex.
+     *
+     * @param counter        updated counter
+     * @param firstSwIfIndex sw_if_index of interface, which value is first in data
+     * @param data           counter values of subsequent interfaces
+     * @param count          number of values used from data
+     * @param sampleTime     monotonic time of sample in nanoseconds, used to compute rates
+     * @param wallTime       time of sample in milliseconds since epoch, used as discontinuity time
+     */
+    public void update(@Nonnull final InterfaceCounter counter, final int firstSwIfIndex, @Nonnull final long[] data,
+                       final int count, final long sampleTime, final long wallTime) {
+        checkArgument(firstSwIfIndex >= 0, "Invalid sw_if_index %s", firstSwIfIndex);
+        checkArgument(count >= 0 && count <= data.length, "Invalid count %s for %s values", count, data.length);
+        checkArgument((long) firstSwIfIndex + count <= Integer.MAX_VALUE, "Invalid count %s for sw_if_index %s",
+                count, firstSwIfIndex);
+        final int c = counter.ordinal();
+        writeLock.lock();
+        try {
+            ensureCapacity(firstSwIfIndex + count);
+            final long[] counterValues = values[c];
+            final long[] counterRates = rates[c];
+            final long[] counterSampleTimes = sampleTimes[c];
+            final boolean[] counterSampled = sampled[c];
+            for (int i = 0; i < count; i++) {
+                final int swIfIndex = firstSwIfIndex + i;
+                final long value = data[i];
+                if (discontinuityTimes[swIfIndex] == 0) {
+                    discontinuityTimes[swIfIndex] = wallTime;
+                }
+                if (counterSampled[swIfIndex]) {
+                    final long delta = value - counterValues[swIfIndex];
+                    final long elapsed = sampleTime - counterSampleTimes[swIfIndex];
+                    if (delta < 0) {
+                        // counters were cleared or sw_if_index was reused by new interface
+                        counterRates[swIfIndex] = 0;
+                        discontinuityTimes[swIfIndex] = wallTime;
+                    } else if (elapsed > 0) {
+                        counterRates[swIfIndex] = (long) (delta * NANOS_PER_SECOND / elapsed);
+                    }
+                }
+                counterValues[swIfIndex] = value;
+                counterSampleTimes[swIfIndex] = sampleTime;
+                counterSampled[swIfIndex] = true;
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * @return snapshot of counters of interface or null if VPP did not report any counter for the interface
+     */
+    @Nullable
+    public InterfaceCounters getCounters(final int swIfIndex) {
+        readLock.lock();
+        try {
+            if (swIfIndex < 0 || swIfIndex >= capacity || discontinuityTimes[swIfIndex] == 0) {
+                return null;
+            }
+            final long[] valuesSnapshot = new long[COUNTERS];
+            final long[] ratesSnapshot = new long[COUNTERS];
+            for (int c = 0; c < COUNTERS; c++) {
+                valuesSnapshot[c] = values[c][swIfIndex];
+                ratesSnapshot[c] = rates[c][swIfIndex];
+            }
+            return new InterfaceCounters(valuesSnapshot, ratesSnapshot, discontinuityTimes[swIfIndex]);
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    /**
+     * Removes counters of all interfaces. Should be invoked when VPP was restarted, because sw_if_indexes of the
+     * previous VPP instance are not valid anymore.
+     */
+    public void clear() {
+        writeLock.lock();
+        try {
+            for (int c = 0; c < COUNTERS; c++) {
+                Arrays.fill(values[c], 0);
+                Arrays.fill(rates[c], 0);
+                Arrays.fill(sampleTimes[c], 0);
+                Arrays.fill(sampled[c], false);
+            }
+            Arrays.fill(discontinuityTimes, 0);
+            LOG.debug("Interface statistics cleared");
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    // invoked under write lock
+    private void ensureCapacity(final int required) {
+        if (required <= capacity) {
+            return;
+        }
+        final int newCapacity = (int) Math.min(Math.max(required, 2L * capacity), Integer.MAX_VALUE);
+        LOG.debug("Growing interface statistics store from {} to {} interfaces", capacity, newCapacity);
+        for (int c = 0; c < COUNTERS; c++) {
+            values[c] = Arrays.copyOf(values[c], newCapacity);
+            rates[c] = Arrays.copyOf(rates[c], newCapacity);
+            sampleTimes[c] = Arrays.copyOf(sampleTimes[c], newCapacity);
+            sampled[c] = Arrays.copyOf(sampled[c], newCapacity);
+        }
+        discontinuityTimes = Arrays.copyOf(discontinuityTimes, newCapacity);
+        capacity = newCapacity;
+    }
+}
@@ -16,37 +16,46 @@
 
 package io.fd.hc2vpp.v3po.l2state;
 
+import static io.fd.hc2vpp.common.translate.util.JvppReplyConsumer.INSTANCE;
+
 import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableSet;
 import com.google.common.primitives.Longs;
+import io.fd.hc2vpp.common.translate.util.AddressCodec;
 import io.fd.hc2vpp.common.translate.util.ByteDataTranslator;
 import io.fd.hc2vpp.common.translate.util.FutureJVppCustomizer;
 import io.fd.hc2vpp.common.translate.util.NamingContext;
 import io.fd.hc2vpp.v3po.interfacesstate.InterfaceDataTranslator;
+import io.fd.honeycomb.translate.ModificationCache;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.fd.honeycomb.translate.spi.read.Initialized;
 import io.fd.honeycomb.translate.spi.read.InitializingListReaderCustomizer;
 import io.fd.honeycomb.translate.util.RWUtils;
+import io.fd.honeycomb.translate.util.read.cache.DumpCacheManager;
+import io.fd.honeycomb.translate.util.read.cache.DumpCacheManager.DumpCacheManagerBuilder;
+import io.fd.honeycomb.translate.util.read.cache.EntityDumpExecutor;
+import io.fd.honeycomb.translate.util.read.cache.TypeAwareIdentifierCacheKeyFactory;
 import io.fd.vpp.jvpp.core.dto.L2FibTableDetails;
 import io.fd.vpp.jvpp.core.dto.L2FibTableDetailsReplyDump;
 import io.fd.vpp.jvpp.core.dto.L2FibTableDump;
 import io.fd.vpp.jvpp.core.future.FutureJVppCore;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
-import java.util.concurrent.CompletableFuture;
-import java.util.stream.Collector;
+import java.util.Map;
 import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.yang.types.rev130715.PhysAddress;
-import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.v3po.rev170607.L2FibFilter;
-import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.v3po.rev170607.L2FibForward;
-import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.v3po.rev170607.bridge.domains.state.BridgeDomain;
-import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.v3po.rev170607.bridge.domains.state.BridgeDomainKey;
-import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.v3po.rev170607.l2.fib.attributes.L2FibTable;
-import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.v3po.rev170607.l2.fib.attributes.L2FibTableBuilder;
-import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.v3po.rev170607.l2.fib.attributes.l2.fib.table.L2FibEntry;
-import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.v3po.rev170607.l2.fib.attributes.l2.fib.table.L2FibEntryBuilder;
-import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.v3po.rev170607.l2.fib.attributes.l2.fib.table.L2FibEntryKey;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.v3po.rev171205.L2FibFilter;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.v3po.rev171205.L2FibForward;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.v3po.rev171205.bridge.domains.state.BridgeDomain;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.v3po.rev171205.bridge.domains.state.BridgeDomainKey;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.v3po.rev171205.l2.fib.attributes.L2FibTable;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.v3po.rev171205.l2.fib.attributes.L2FibTableBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.v3po.rev171205.l2.fib.attributes.l2.fib.table.L2FibEntry;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.v3po.rev171205.l2.fib.attributes.l2.fib.table.L2FibEntryBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.v3po.rev171205.l2.fib.attributes.l2.fib.table.L2FibEntryKey;
 import org.opendaylight.yangtools.concepts.Builder;
 import org.opendaylight.yangtools.yang.binding.DataObject;
 import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
@@ -59,17 +68,26 @@ public final class L2FibEntryCustomizer extends FutureJVppCustomizer
 
     private static final Logger LOG = LoggerFactory.getLogger(L2FibEntryCustomizer.class);
 
-    private static final Collector<L2FibTableDetails, ?, L2FibTableDetails> SINGLE_ITEM_COLLECTOR =
-            RWUtils.singleItemCollector();
+    // VPP reports mac address in 6 least significant bytes
+    private static final long MAC_MASK = 0xFFFF_FFFF_FFFFL;
+
+    private static final String BY_MAC_INDEX_KEY = L2FibEntryCustomizer.class.getName() + "_byMacIndex_";
 
     private final NamingContext bdContext;
     private final NamingContext interfaceContext;
+    private final DumpCacheManager<L2FibTableDetailsReplyDump, Integer> dumpManager;
 
     public L2FibEntryCustomizer(@Nonnull final FutureJVppCore futureJVppCore, @Nonnull final NamingContext bdContext,
                                 @Nonnull final NamingContext interfaceContext) {
         super(futureJVppCore);
         this.bdContext = Preconditions.checkNotNull(bdContext, "bdContext should not be null");
         this.interfaceContext = Preconditions.checkNotNull(interfaceContext, "interfaceContext should not be null");
+        this.dumpManager = new DumpCacheManagerBuilder<L2FibTableDetailsReplyDump, Integer>()
+                .withExecutor(createExecutor(futureJVppCore))
+                // Key needs to contain bridge domain to distinguish dumps between bridge domains
+                .withCacheKeyFactory(new TypeAwareIdentifierCacheKeyFactory(L2FibTableDetailsReplyDump.class,
+                        ImmutableSet.of(BridgeDomain.class)))
+                .build();
     }
 
     @Override
@@ -83,10 +101,9 @@ public final class L2FibEntryCustomizer extends FutureJVppCustomizer
         LOG.debug("Reading L2 FIB entry: key={}. bridgeDomainKey={}, bdId={}", key, bridgeDomainKey, bdId);
 
         try {
-            // TODO HONEYCOMB-186 use cached l2FibTable
-            final L2FibTableDetails entry = dumpL2Fibs(id, bdId).stream().filter(e -> key.getPhysAddress()
-                    .equals(new PhysAddress(vppPhysAddrToYang(Longs.toByteArray(e.mac), 2))))
-                    .collect(SINGLE_ITEM_COLLECTOR);
+            final L2FibTableDetails entry =
+                    getByMacIndex(id, bdId, ctx).get(AddressCodec.parseMac(key.getPhysAddress().getValue()));
+            Preconditions.checkArgument(entry != null, "L2 FIB entry %s not found", key);
 
             builder.setAction(byteToBoolean(entry.filterMac)
                     ? L2FibFilter.class
@@ -104,24 +121,51 @@ public final class L2FibEntryCustomizer extends FutureJVppCustomizer
         }
     }
 
+    /**
+     * Indexes l2 fib dump of bridge domain by mac address. Index is cached, so that dump is processed only once per
+     * read transaction.
+     */
+    private Map<Long, L2FibTableDetails> getByMacIndex(final InstanceIdentifier<L2FibEntry> id, final int bdId,
+                                                       final ReadContext ctx) throws ReadFailedException {
+        final ModificationCache cache = ctx.getModificationCache();
+        final String indexKey = BY_MAC_INDEX_KEY + bdId;
+        @SuppressWarnings("unchecked")
+        Map<Long, L2FibTableDetails> index = (Map<Long, L2FibTableDetails>) cache.get(indexKey);
+        if (index == null) {
+            final List<L2FibTableDetails> entries = dumpL2Fibs(id, bdId, ctx);
+            index = new HashMap<>(entries.size() * 2);
+            for (final L2FibTableDetails entry : entries) {
+                index.put(entry.mac & MAC_MASK, entry);
+            }
+            cache.put(indexKey, index);
+        }
+        return index;
+    }
+
     @Nonnull
-    private List<L2FibTableDetails> dumpL2Fibs(final InstanceIdentifier<L2FibEntry> id, final int bdId)
+    private List<L2FibTableDetails> dumpL2Fibs(final InstanceIdentifier<L2FibEntry> id, final int bdId,
+                                               final ReadContext ctx)
             throws ReadFailedException {
-        final L2FibTableDump l2FibRequest = new L2FibTableDump();
-        l2FibRequest.bdId = bdId;
-
-        final CompletableFuture<L2FibTableDetailsReplyDump> l2FibTableDumpCompletableFuture =
-                getFutureJVpp().l2FibTableDump(l2FibRequest).toCompletableFuture();
-
-        final L2FibTableDetailsReplyDump dump = getReplyForRead(l2FibTableDumpCompletableFuture, id);
+        final L2FibTableDetailsReplyDump dump = dumpManager.getDump(id, ctx.getModificationCache(), bdId)
+                .or(new L2FibTableDetailsReplyDump());
 
-        if (null == dump || null == dump.l2FibTableDetails) {
+        if (null == dump.l2FibTableDetails) {
             return Collections.emptyList();
         } else {
             return dump.l2FibTableDetails;
         }
     }
 
+    private static EntityDumpExecutor<L2FibTableDetailsReplyDump, Integer> createExecutor(
+            @Nonnull final FutureJVppCore futureJVppCore) {
+        return (identifier, bdId) -> {
+            final L2FibTableDump l2FibRequest = new L2FibTableDump();
+            l2FibRequest.bdId = bdId;
+            return INSTANCE.getReplyForRead(futureJVppCore.l2FibTableDump(l2FibRequest).toCompletableFuture(),
+                    identifier, L2FibTableDump.class);
+        };
+    }
+
     @Nonnull
     @Override
     public List<L2FibEntryKey> getAllIds(@Nonnull final InstanceIdentifier<L2FibEntry> id,
@@ -130,7 +174,7 @@ public final class L2FibEntryCustomizer extends FutureJVppCustomizer
         final int bdId = bdContext.getIndex(bridgeDomainKey.getName(), ctx.getMappingContext());
 
         LOG.debug("Reading L2 FIB for bridge domain {} (bdId={})", bridgeDomainKey, bdId);
-        return dumpL2Fibs(id, bdId).stream()
+        return dumpL2Fibs(id, bdId, ctx).stream()
                 .map(entry -> new L2FibEntryKey(
                         new PhysAddress(vppPhysAddrToYang(Longs.toByteArray(entry.mac), 2))))
                 .collect(Collectors.toList());
@@ -16,11 +16,14 @@
 
 package io.fd.hc2vpp.v3po.notification;
 
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Optional;
 import com.google.common.collect.Lists;
 import com.google.inject.Inject;
 import io.fd.hc2vpp.common.translate.util.JvppReplyConsumer;
 import io.fd.hc2vpp.common.translate.util.NamingContext;
+import io.fd.hc2vpp.v3po.V3poConfiguration;
+import io.fd.hc2vpp.v3po.interfacesstate.cache.InterfaceDumpCache;
 import io.fd.honeycomb.notification.ManagedNotificationProducer;
 import io.fd.honeycomb.notification.NotificationCollector;
 import io.fd.honeycomb.translate.MappingContext;
@@ -38,12 +41,12 @@ import java.util.concurrent.TimeoutException;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import javax.annotation.concurrent.NotThreadSafe;
-import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.v3po.rev170607.InterfaceDeleted;
-import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.v3po.rev170607.InterfaceDeletedBuilder;
-import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.v3po.rev170607.InterfaceNameOrIndex;
-import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.v3po.rev170607.InterfaceStateChange;
-import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.v3po.rev170607.InterfaceStateChangeBuilder;
-import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.v3po.rev170607.InterfaceStatus;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.v3po.rev171205.InterfaceDeleted;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.v3po.rev171205.InterfaceDeletedBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.v3po.rev171205.InterfaceNameOrIndex;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.v3po.rev171205.InterfaceStateChange;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.v3po.rev171205.InterfaceStateChangeBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.v3po.rev171205.InterfaceStatus;
 import org.opendaylight.yangtools.yang.binding.Notification;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -51,6 +54,9 @@ import org.slf4j.LoggerFactory;
 /**
  * Notification producer for interface events. It starts interface notification stream and for every received
  * notification, it transforms it into its BA equivalent and pushes into HC's notification collector.
+ * <p/>
+ * Received events are only queued on jvpp rx thread (see {@link InterfaceEventPipeline}), transformation
+ * and publishing is done by dedicated worker for latest event of each interface.
  */
 @NotThreadSafe
 final class InterfaceChangeNotificationProducer implements ManagedNotificationProducer, JvppReplyConsumer {
@@ -60,16 +66,25 @@ final class InterfaceChangeNotificationProducer implements ManagedNotificationPr
     private final FutureJVppCore jvpp;
     private final NamingContext interfaceContext;
     private final MappingContext mappingContext;
+    private final InterfaceDumpCache dumpCache;
+    private final V3poConfiguration configuration;
     @Nullable
     private AutoCloseable notificationListenerReg;
+    // also read by renewSubscription invoked from VPP recovery
+    @Nullable
+    private volatile InterfaceEventPipeline eventPipeline;
 
     @Inject
     InterfaceChangeNotificationProducer(@Nonnull final FutureJVppCore jvpp,
                                         @Nonnull final NamingContext interfaceContext,
-                                        @Nonnull final MappingContext mappingContext) {
+                                        @Nonnull final MappingContext mappingContext,
+                                        @Nonnull final InterfaceDumpCache dumpCache,
+                                        @Nonnull final V3poConfiguration configuration) {
         this.jvpp = jvpp;
         this.interfaceContext = interfaceContext;
         this.mappingContext = mappingContext;
+        this.dumpCache = dumpCache;
+        this.configuration = configuration;
     }
 
     @Override
@@ -77,18 +92,20 @@ final class InterfaceChangeNotificationProducer implements ManagedNotificationPr
         LOG.trace("Starting interface notifications");
         enableDisableIfcNotifications(1);
         LOG.debug("Interface notifications started successfully");
+        final InterfaceEventPipeline pipeline = new InterfaceEventPipeline(
+                configuration.getInterfaceNotificationQueueCapacity(),
+                swInterfaceEvent -> collector.onNotification(transformNotification(swInterfaceEvent)));
+        eventPipeline = pipeline;
         notificationListenerReg = jvpp.getEventRegistry().registerSwInterfaceEventCallback(
                 new SwInterfaceEventCallback() {
                     @Override
                     public void onSwInterfaceEvent(SwInterfaceEvent swInterfaceEvent) {
                         LOG.trace("Interface notification received: {}", swInterfaceEvent);
-                        // TODO HONEYCOMB-166 this should be lazy
-                        try {
-                            collector.onNotification(transformNotification(swInterfaceEvent));
-                        } catch (Exception e) {
-                            // There is no need to propagate exception to jvpp rx thread in case of unexpected failures.
-                            // We can't do much about it, so lets log the exception.
-                            LOG.warn("Failed to process interface notification {}", swInterfaceEvent, e);
+                        // shared dump has to be updated before any subsequent read
+                        dumpCache.onInterfaceEvent(swInterfaceEvent);
+                        // transformation is done lazily by pipeline worker, to not block jvpp rx thread
+                        if (!pipeline.offer(swInterfaceEvent)) {
+                            LOG.debug("Interface event queue is full, dropping notification {}", swInterfaceEvent);
                         }
                     }
 
@@ -144,6 +161,31 @@ final class InterfaceChangeNotificationProducer implements ManagedNotificationPr
         } catch (Exception e) {
             LOG.warn("Unable to properly close notification registration: {}", notificationListenerReg, e);
         }
+        if (eventPipeline != null) {
+            eventPipeline.close();
+            eventPipeline = null;
+        }
+    }
+
+    /**
+     * Enables interface notifications again, if producer is started. VPP drops the subscription together with
+     * connection it was requested on, callback registered in jvpp is kept.
+     */
+    void renewSubscription() {
+        if (eventPipeline == null) {
+            return;
+        }
+        LOG.debug("Renewing interface notifications subscription");
+        enableDisableIfcNotifications(1);
+    }
+
+    /**
+     * @return pipeline processing received events, null if producer is not started
+     */
+    @Nullable
+    @VisibleForTesting
+    InterfaceEventPipeline getEventPipeline() {
+        return eventPipeline;
     }
 
     private void enableDisableIfcNotifications(int enableDisable) {
@@ -153,7 +195,8 @@ final class InterfaceChangeNotificationProducer implements ManagedNotificationPr
         final CompletionStage<WantInterfaceEventsReply> wantInterfaceEventsReplyCompletionStage;
         try {
             wantInterfaceEventsReplyCompletionStage = jvpp.wantInterfaceEvents(wantInterfaceEvents);
-            getReply(wantInterfaceEventsReplyCompletionStage.toCompletableFuture());
+            getReply(wantInterfaceEventsReplyCompletionStage.toCompletableFuture(),
+                    timeoutFor(WantInterfaceEvents.class));
         } catch (VppBaseCallException | TimeoutException e) {
             LOG.warn("Unable to {} interface notifications", enableDisable == 1
                     ? "enable"
@@ -20,6 +20,9 @@ import com.google.inject.Inject;
 import com.google.inject.Provider;
 import com.google.inject.name.Named;
 import io.fd.hc2vpp.common.translate.util.NamingContext;
+import io.fd.hc2vpp.common.translate.util.VppStatusListener;
+import io.fd.hc2vpp.v3po.V3poConfiguration;
+import io.fd.hc2vpp.v3po.interfacesstate.cache.InterfaceDumpCache;
 import io.fd.honeycomb.data.init.ShutdownHandler;
 import io.fd.honeycomb.translate.MappingContext;
 import io.fd.vpp.jvpp.core.future.FutureJVppCore;
@@ -41,16 +44,30 @@ public class InterfaceChangeNotificationProducerProvider implements Provider<Int
     @Nonnull
     private MappingContext mappingContext;
 
+    @Inject
+    @Nonnull
+    private InterfaceDumpCache dumpCache;
+
     @Inject
     @Nonnull
     private ShutdownHandler shutdownHandler;
 
+    @Inject
+    @Nonnull
+    private V3poConfiguration configuration;
+
+    @Inject
+    @Nonnull
+    private VppStatusListener vppStatusListener;
+
     @Override
     public InterfaceChangeNotificationProducer get() {
         final InterfaceChangeNotificationProducer notificationProducer =
-                new InterfaceChangeNotificationProducer(jvpp, interfaceContext, mappingContext);
+                new InterfaceChangeNotificationProducer(jvpp, interfaceContext, mappingContext, dumpCache,
+                        configuration);
         shutdownHandler.register("interface-change-notification-producer-" + notificationProducer.hashCode(),
                 notificationProducer);
+        vppStatusListener.addReconnectListener(notificationProducer::renewSubscription);
         return notificationProducer;
     }
 }
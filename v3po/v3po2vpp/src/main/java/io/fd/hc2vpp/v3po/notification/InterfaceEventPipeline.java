@@ -0,0 +1,229 @@
+/*
+ * Copyright (c) 2017 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.v3po.notification;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import io.fd.vpp.jvpp.core.dto.SwInterfaceEvent;
+import java.lang.management.ManagementFactory;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Hands interface events over from jvpp rx thread to dedicated worker.
+ * <p/>
+ * Events are queued per sw_if_index and coalesced while waiting to be processed, so only latest state of each
+ * interface is passed to the consumer. Deletion of an interface is never coalesced with events that follow it
+ * (VPP reuses sw_if_index of deleted interfaces), the delete is passed to the consumer before the latest state. Number of interfaces with pending event is bounded, events of other
+ * interfaces are dropped when the queue is full. Queuing never blocks the caller.
+ * <p/>
+ * Statistics are exposed as JMX MBean {@value #OBJECT_NAME}.
+ */
+@ThreadSafe
+final class InterfaceEventPipeline implements InterfaceEventPipelineMXBean, AutoCloseable {
+
+    static final String OBJECT_NAME = "io.fd.hc2vpp:type=InterfaceEventPipeline";
+
+    private static final Logger LOG = LoggerFactory.getLogger(InterfaceEventPipeline.class);
+
+    private final int capacity;
+    private final Consumer<SwInterfaceEvent> consumer;
+    private final Thread worker;
+    private final boolean mbeanRegistered;
+
+    @GuardedBy("this")
+    private Map<Integer, PendingEvents> pending = new LinkedHashMap<>();
+
+    private final AtomicLong receivedEvents = new AtomicLong();
+    private final AtomicLong coalescedEvents = new AtomicLong();
+    private final AtomicLong droppedEvents = new AtomicLong();
+    private final AtomicLong failedEvents = new AtomicLong();
+
+    InterfaceEventPipeline(final int capacity, @Nonnull final Consumer<SwInterfaceEvent> consumer) {
+        checkArgument(capacity > 0, "Interface event queue capacity has to be positive, but was %s", capacity);
+        this.capacity = capacity;
+        this.consumer = checkNotNull(consumer, "consumer should not be null");
+        worker = new ThreadFactoryBuilder().setNameFormat("interface-event-pipeline-%d").setDaemon(true).build()
+            .newThread(this::run);
+        worker.start();
+        mbeanRegistered = registerMBean(this);
+    }
+
+    /**
+     * Queues interface event, replacing event of the same interface that was not processed yet. Pending delete
+     * is replaced only by another delete.
+     *
+     * @return false if event was dropped, because queue is full
+     */
+    synchronized boolean offer(@Nonnull final SwInterfaceEvent event) {
+        receivedEvents.incrementAndGet();
+        final PendingEvents events = pending.get(event.swIfIndex);
+        if (events != null) {
+            // keeps position of the interface in the queue
+            coalescedEvents.incrementAndGet();
+            events.add(event);
+            return true;
+        }
+        if (pending.size() >= capacity) {
+            droppedEvents.incrementAndGet();
+            return false;
+        }
+        pending.put(event.swIfIndex, new PendingEvents(event));
+        notifyAll();
+        return true;
+    }
+
+    @Override
+    public long getReceivedEvents() {
+        return receivedEvents.get();
+    }
+
+    @Override
+    public long getCoalescedEvents() {
+        return coalescedEvents.get();
+    }
+
+    @Override
+    public long getDroppedEvents() {
+        return droppedEvents.get();
+    }
+
+    @Override
+    public long getFailedEvents() {
+        return failedEvents.get();
+    }
+
+    @Override
+    public synchronized int getQueueDepth() {
+        return pending.size();
+    }
+
+    private void run() {
+        while (!Thread.currentThread().isInterrupted()) {
+            final Map<Integer, PendingEvents> batch;
+            try {
+                batch = takeBatch();
+            } catch (InterruptedException e) {
+                LOG.debug("Interface event pipeline interrupted", e);
+                Thread.currentThread().interrupt();
+                return;
+            }
+            for (final PendingEvents events : batch.values()) {
+                if (events.delete != null) {
+                    process(events.delete);
+                }
+                if (events.state != null) {
+                    process(events.state);
+                }
+            }
+        }
+    }
+
+    private void process(final SwInterfaceEvent event) {
+        try {
+            consumer.accept(event);
+        } catch (RuntimeException e) {
+            // worker has to survive unexpected failures, log the exception
+            failedEvents.incrementAndGet();
+            LOG.warn("Failed to process interface event {}", event, e);
+        }
+    }
+
+    private synchronized Map<Integer, PendingEvents> takeBatch() throws InterruptedException {
+        while (pending.isEmpty()) {
+            wait();
+        }
+        final Map<Integer, PendingEvents> batch = pending;
+        pending = new LinkedHashMap<>();
+        return batch;
+    }
+
+    @Override
+    public void close() {
+        worker.interrupt();
+        synchronized (this) {
+            pending.clear();
+        }
+        if (mbeanRegistered) {
+            unregisterMBean();
+        }
+        LOG.debug("Interface event pipeline closed. Received: {}, coalesced: {}, dropped: {}, failed: {}",
+                receivedEvents.get(), coalescedEvents.get(), droppedEvents.get(), failedEvents.get());
+    }
+
+    private static boolean registerMBean(@Nonnull final InterfaceEventPipelineMXBean pipeline) {
+        try {
+            ManagementFactory.getPlatformMBeanServer().registerMBean(pipeline, new ObjectName(OBJECT_NAME));
+            return true;
+        } catch (JMException e) {
+            LOG.warn("Unable to register interface event pipeline MBean", e);
+            return false;
+        }
+    }
+
+    private static void unregisterMBean() {
+        final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            final ObjectName name = new ObjectName(OBJECT_NAME);
+            if (server.isRegistered(name)) {
+                server.unregisterMBean(name);
+            }
+        } catch (JMException e) {
+            LOG.warn("Unable to unregister interface event pipeline MBean", e);
+        }
+    }
+
+    /**
+     * Events of single interface waiting to be processed.
+     */
+    private static final class PendingEvents {
+        /**
+         * Latest delete of the interface, null if not deleted.
+         */
+        private SwInterfaceEvent delete;
+        /**
+         * Latest state of the interface following the delete, null if there is none.
+         */
+        private SwInterfaceEvent state;
+
+        private PendingEvents(final SwInterfaceEvent event) {
+            add(event);
+        }
+
+        private void add(final SwInterfaceEvent event) {
+            if (event.deleted == 1) {
+                // state preceding the delete is obsolete
+                delete = event;
+                state = null;
+            } else {
+                state = event;
+            }
+        }
+    }
+}
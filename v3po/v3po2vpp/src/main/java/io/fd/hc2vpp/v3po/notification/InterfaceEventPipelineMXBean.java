@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2017 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.fd.hc2vpp.v3po.notification;
+
+/**
+ * JMX view of {@link InterfaceEventPipeline}.
+ */
+public interface InterfaceEventPipelineMXBean {
+
+    /**
+     * @return number of events received since start
+     */
+    long getReceivedEvents();
+
+    /**
+     * @return number of events replaced by newer event of the same interface since start
+     */
+    long getCoalescedEvents();
+
+    /**
+     * @return number of events dropped because of queue overflow since start
+     */
+    long getDroppedEvents();
+
+    /**
+     * @return number of events that consumer failed to process since start
+     */
+    long getFailedEvents();
+
+    /**
+     * @return number of interfaces with event waiting to be processed
+     */
+    int getQueueDepth();
+}
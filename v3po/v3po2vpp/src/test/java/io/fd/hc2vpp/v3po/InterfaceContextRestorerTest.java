@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2017 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.v3po;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.google.common.base.Optional;
+import io.fd.hc2vpp.common.test.write.WriterCustomizerTest;
+import io.fd.hc2vpp.common.translate.util.ByteDataTranslator;
+import io.fd.hc2vpp.common.translate.util.NamingContext;
+import io.fd.hc2vpp.v3po.interfaces.InterfaceCustomizer;
+import io.fd.vpp.jvpp.core.dto.SwInterfaceDetails;
+import io.fd.vpp.jvpp.core.dto.SwInterfaceDetailsReplyDump;
+import io.fd.vpp.jvpp.core.dto.SwInterfaceDump;
+import io.fd.vpp.jvpp.core.dto.SwInterfaceSetFlags;
+import io.fd.vpp.jvpp.core.dto.SwInterfaceSetFlagsReply;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.Test;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.interfaces.rev140508.Interfaces;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.interfaces.rev140508.interfaces.Interface;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.interfaces.rev140508.interfaces.InterfaceBuilder;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.interfaces.rev140508.interfaces.InterfaceKey;
+import org.opendaylight.yangtools.yang.binding.DataObject;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+
+public class InterfaceContextRestorerTest extends WriterCustomizerTest implements ByteDataTranslator {
+
+    private static final String IFACE_CTX_NAME = "interface-context";
+    private static final String LOCAL0 = "local0";
+    private static final String PHYSICAL_IFC = "GigabitEthernet0/8/0";
+    private static final int PHYSICAL_IFC_INDEX = 1;
+
+    // context data, empty as after removal of naming contexts by VPP recovery
+    private final Map<InstanceIdentifier<?>, DataObject> contextData = new HashMap<>();
+    private NamingContext interfaceContext;
+    private InterfaceContextRestorer restorer;
+
+    @Override
+    protected void setUpTest() throws Exception {
+        doAnswer(invocation -> Optional.fromNullable(contextData.get(invocation.getArguments()[0])))
+                .when(mappingContext).read(any());
+        doAnswer(invocation -> contextData.put((InstanceIdentifier<?>) invocation.getArguments()[0],
+                (DataObject) invocation.getArguments()[1]))
+                .when(mappingContext).put(any(), any());
+        interfaceContext = new NamingContext("interface-", IFACE_CTX_NAME);
+        restorer = new InterfaceContextRestorer(api, interfaceContext, mappingContext);
+
+        final SwInterfaceDetailsReplyDump reply = new SwInterfaceDetailsReplyDump();
+        reply.swInterfaceDetails = Arrays.asList(details(0, LOCAL0), details(PHYSICAL_IFC_INDEX, PHYSICAL_IFC));
+        when(api.swInterfaceDump(any())).thenReturn(future(reply));
+    }
+
+    @Test
+    public void testRestoreMappings() {
+        restorer.onVppRestarted();
+
+        final SwInterfaceDump request = new SwInterfaceDump();
+        request.nameFilter = "".getBytes();
+        request.nameFilterValid = 0;
+        verify(api).swInterfaceDump(request);
+        assertEquals(0, interfaceContext.getIndex(LOCAL0, mappingContext));
+        assertEquals(PHYSICAL_IFC_INDEX, interfaceContext.getIndex(PHYSICAL_IFC, mappingContext));
+        assertEquals(PHYSICAL_IFC, interfaceContext.getName(PHYSICAL_IFC_INDEX, mappingContext));
+    }
+
+    @Test
+    public void testReplayPreExistingInterface() throws Exception {
+        restorer.onVppRestarted();
+
+        // configuration of physical interface, replayed through regular writer after restore
+        when(api.swInterfaceSetFlags(any())).thenReturn(future(new SwInterfaceSetFlagsReply()));
+        final InterfaceCustomizer customizer = new InterfaceCustomizer(api, interfaceContext);
+        customizer.writeCurrentAttributes(
+                InstanceIdentifier.create(Interfaces.class).child(Interface.class, new InterfaceKey(PHYSICAL_IFC)),
+                new InterfaceBuilder().setName(PHYSICAL_IFC).setEnabled(true).build(), writeContext);
+
+        final SwInterfaceSetFlags expected = new SwInterfaceSetFlags();
+        expected.swIfIndex = PHYSICAL_IFC_INDEX;
+        expected.adminUpDown = 1;
+        verify(api).swInterfaceSetFlags(expected);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testDumpFailed() {
+        when(api.swInterfaceDump(any())).thenReturn(failedFuture());
+        restorer.onVppRestarted();
+    }
+
+    private SwInterfaceDetails details(final int swIfIndex, final String name) {
+        final SwInterfaceDetails details = new SwInterfaceDetails();
+        details.swIfIndex = swIfIndex;
+        details.interfaceName = name.getBytes();
+        return details;
+    }
+}
@@ -16,6 +16,10 @@
 
 package io.fd.hc2vpp.v3po.interfaces;
 
+import static io.fd.hc2vpp.v3po.interfacesstate.cache.InterfaceDumpCacheTestUtils.cacheWithDump;
+import static io.fd.hc2vpp.v3po.interfacesstate.cache.InterfaceDumpCacheTestUtils.isCached;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.fail;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
@@ -23,6 +27,7 @@ import static org.mockito.Mockito.when;
 
 import io.fd.hc2vpp.common.test.write.WriterCustomizerTest;
 import io.fd.hc2vpp.common.translate.util.NamingContext;
+import io.fd.hc2vpp.v3po.interfacesstate.cache.InterfaceDumpCache;
 import io.fd.honeycomb.translate.write.WriteFailedException;
 import io.fd.vpp.jvpp.core.dto.SwInterfaceSetMtu;
 import io.fd.vpp.jvpp.core.dto.SwInterfaceSetMtuReply;
@@ -31,9 +36,9 @@ import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.iana._if.type.re
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.interfaces.rev140508.Interfaces;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.interfaces.rev140508.interfaces.Interface;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.interfaces.rev140508.interfaces.InterfaceKey;
-import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.v3po.rev170607.VppInterfaceAugmentation;
-import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.v3po.rev170607.interfaces._interface.Ethernet;
-import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.v3po.rev170607.interfaces._interface.EthernetBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.v3po.rev171205.VppInterfaceAugmentation;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.v3po.rev171205.interfaces._interface.Ethernet;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.v3po.rev171205.interfaces._interface.EthernetBuilder;
 import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
 
 public class EthernetCustomizerTest extends WriterCustomizerTest {
@@ -44,12 +49,14 @@ public class EthernetCustomizerTest extends WriterCustomizerTest {
     private static final InstanceIdentifier<Ethernet> IF_IID =
         InstanceIdentifier.create(Interfaces.class).child(Interface.class, new InterfaceKey(IF_NAME)).augmentation(
             VppInterfaceAugmentation.class).child(Ethernet.class);
+    private InterfaceDumpCache dumpCache;
     private EthernetCustomizer customizer;
 
     @Override
     public void setUpTest() throws Exception {
         InterfaceTypeTestUtils.setupWriteContext(writeContext, EthernetCsmacd.class);
-        customizer = new EthernetCustomizer(api, new NamingContext("ifcintest", IFC_TEST_INSTANCE));
+        dumpCache = cacheWithDump();
+        customizer = new EthernetCustomizer(api, new NamingContext("ifcintest", IFC_TEST_INSTANCE), dumpCache);
         defineMapping(mappingContext, IF_NAME, IF_INDEX, IFC_TEST_INSTANCE);
     }
 
@@ -59,6 +66,20 @@ public class EthernetCustomizerTest extends WriterCustomizerTest {
         final int mtu = 1234;
         customizer.writeCurrentAttributes(IF_IID, ethernet(mtu), writeContext);
         verify(api).swInterfaceSetMtu(mtuSetRequest(mtu));
+        assertFalse(isCached(dumpCache));
+    }
+
+    @Test
+    public void testWriteFailed() {
+        when(api.swInterfaceSetMtu(any())).thenReturn(failedFuture());
+        try {
+            customizer.writeCurrentAttributes(IF_IID, ethernet(1234), writeContext);
+        } catch (WriteFailedException e) {
+            // dump is invalidated even if the write fails, because VPP state is unknown
+            assertFalse(isCached(dumpCache));
+            return;
+        }
+        fail("WriteFailedException was expected");
     }
 
     @Test
@@ -67,6 +88,7 @@ public class EthernetCustomizerTest extends WriterCustomizerTest {
         final int mtu = 5678;
         customizer.updateCurrentAttributes(IF_IID, mock(Ethernet.class), ethernet(mtu), writeContext);
         verify(api).swInterfaceSetMtu(mtuSetRequest(mtu));
+        assertFalse(isCached(dumpCache));
     }
 
     private SwInterfaceSetMtu mtuSetRequest(final int mtu) {
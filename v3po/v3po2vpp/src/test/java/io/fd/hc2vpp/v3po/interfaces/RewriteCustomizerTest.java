@@ -16,7 +16,10 @@
 
 package io.fd.hc2vpp.v3po.interfaces;
 
+import static io.fd.hc2vpp.v3po.interfacesstate.cache.InterfaceDumpCacheTestUtils.cacheWithDump;
+import static io.fd.hc2vpp.v3po.interfacesstate.cache.InterfaceDumpCacheTestUtils.isCached;
 import static junit.framework.TestCase.assertTrue;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.fail;
 import static org.mockito.Matchers.any;
 import static org.mockito.Mockito.doReturn;
@@ -25,6 +28,7 @@ import static org.mockito.Mockito.verify;
 import io.fd.hc2vpp.common.test.write.WriterCustomizerTest;
 import io.fd.hc2vpp.common.translate.util.NamingContext;
 import io.fd.hc2vpp.common.translate.util.TagRewriteOperation;
+import io.fd.hc2vpp.v3po.interfacesstate.cache.InterfaceDumpCache;
 import io.fd.honeycomb.translate.write.WriteFailedException;
 import io.fd.vpp.jvpp.VppBaseCallException;
 import io.fd.vpp.jvpp.VppInvocationException;
@@ -53,6 +57,7 @@ public class RewriteCustomizerTest extends WriterCustomizerTest {
     private static final int VLAN_IF_ID = 1;
     private static final int VLAN_IF_INDEX = 11;
     private NamingContext namingContext;
+    private InterfaceDumpCache dumpCache;
     private RewriteCustomizer customizer;
     private InstanceIdentifier<Rewrite> VLAN_IID;
 
@@ -69,7 +74,8 @@ public class RewriteCustomizerTest extends WriterCustomizerTest {
     @Override
     public void setUpTest() throws Exception {
         namingContext = new NamingContext("generatedSubInterfaceName", IFC_TEST_INSTANCE);
-        customizer = new RewriteCustomizer(api, namingContext);
+        dumpCache = cacheWithDump();
+        customizer = new RewriteCustomizer(api, namingContext, dumpCache);
         VLAN_IID = getVlanTagRewriteId(IF_NAME, VLAN_IF_ID);
         defineMapping(mappingContext, VLAN_IF_NAME, VLAN_IF_INDEX, IFC_TEST_INSTANCE);
     }
@@ -121,6 +127,7 @@ public class RewriteCustomizerTest extends WriterCustomizerTest {
         customizer.writeCurrentAttributes(VLAN_IID, vlanTagRewrite, writeContext);
 
         verify(api).l2InterfaceVlanTagRewrite(generateL2InterfaceVlanTagRewrite(VLAN_IF_INDEX, op));
+        assertFalse(isCached(dumpCache));
     }
 
     @Test
@@ -135,6 +142,7 @@ public class RewriteCustomizerTest extends WriterCustomizerTest {
         } catch (WriteFailedException e) {
             assertTrue(e.getCause() instanceof VppBaseCallException);
             verify(api).l2InterfaceVlanTagRewrite(generateL2InterfaceVlanTagRewrite(VLAN_IF_INDEX, op));
+            assertFalse(isCached(dumpCache));
             return;
         }
         fail("WriteFailedException.CreateFailedException was expected");
@@ -151,6 +159,7 @@ public class RewriteCustomizerTest extends WriterCustomizerTest {
 
         verify(api)
                 .l2InterfaceVlanTagRewrite(generateL2InterfaceVlanTagRewrite(VLAN_IF_INDEX, TagRewriteOperation.pop_1));
+        assertFalse(isCached(dumpCache));
     }
 
     @Test
@@ -179,6 +188,7 @@ public class RewriteCustomizerTest extends WriterCustomizerTest {
         customizer.deleteCurrentAttributes(VLAN_IID, null, writeContext);
 
         verifyL2InterfaceVlanTagRewriteDeleteWasInvoked();
+        assertFalse(isCached(dumpCache));
     }
 
     @Test
@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2017 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.v3po.interfacesstate;
+
+import static io.fd.hc2vpp.v3po.interfacesstate.statistics.InterfaceCounter.DROP;
+import static io.fd.hc2vpp.v3po.interfacesstate.statistics.InterfaceCounter.RX_NO_BUFFER;
+import static io.fd.hc2vpp.v3po.interfacesstate.statistics.InterfaceCounter.RX_OCTETS;
+import static io.fd.hc2vpp.v3po.interfacesstate.statistics.InterfaceCounter.RX_PACKETS;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.mockito.Mockito.verifyZeroInteractions;
+
+import io.fd.hc2vpp.common.test.read.ReaderCustomizerTest;
+import io.fd.hc2vpp.common.translate.util.NamingContext;
+import io.fd.hc2vpp.v3po.interfacesstate.statistics.InterfaceStatisticsStore;
+import io.fd.honeycomb.translate.spi.read.ReaderCustomizer;
+import java.math.BigInteger;
+import org.junit.Test;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.interfaces.rev140508.InterfacesState;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.interfaces.rev140508.interfaces.state.Interface;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.interfaces.rev140508.interfaces.state.InterfaceBuilder;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.interfaces.rev140508.interfaces.state.InterfaceKey;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.interfaces.rev140508.interfaces.state._interface.Statistics;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.interfaces.rev140508.interfaces.state._interface.StatisticsBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.v3po.rev171205.VppInterfaceStatisticsAugmentation;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+
+public class InterfaceStatisticsCustomizerTest extends ReaderCustomizerTest<Statistics, StatisticsBuilder> {
+
+    private static final String IFC_CTX_NAME = "ifc-test-instance";
+    private static final String IF_NAME = "local0";
+    private static final int IF_ID = 1;
+    private static final long SECOND = 1_000_000_000L;
+    private static final InstanceIdentifier<Statistics> IID =
+            InstanceIdentifier.create(InterfacesState.class).child(Interface.class, new InterfaceKey(IF_NAME))
+                    .child(Statistics.class);
+
+    private NamingContext interfacesContext;
+    private InterfaceStatisticsStore store;
+
+    public InterfaceStatisticsCustomizerTest() {
+        super(Statistics.class, InterfaceBuilder.class);
+    }
+
+    @Override
+    public void setUp() {
+        interfacesContext = new NamingContext("generatedIfaceName", IFC_CTX_NAME);
+        defineMapping(mappingContext, IF_NAME, IF_ID, IFC_CTX_NAME);
+        store = new InterfaceStatisticsStore(4);
+    }
+
+    @Override
+    protected ReaderCustomizer<Statistics, StatisticsBuilder> initCustomizer() {
+        return new InterfaceStatisticsCustomizer(interfacesContext, store);
+    }
+
+    @Test
+    public void testRead() throws Exception {
+        store.update(RX_PACKETS, IF_ID, new long[]{10}, 1, SECOND, 0x1000);
+        store.update(RX_OCTETS, IF_ID, new long[]{1000}, 1, SECOND, 0x1000);
+        store.update(RX_OCTETS, IF_ID, new long[]{-1L}, 1, 2 * SECOND, 0x2000);
+        store.update(DROP, IF_ID, new long[]{0x100000005L}, 1, SECOND, 0x1000);
+        store.update(RX_NO_BUFFER, IF_ID, new long[]{3}, 1, SECOND, 0x1000);
+
+        final StatisticsBuilder builder = getCustomizer().getBuilder(IID);
+        getCustomizer().readCurrentAttributes(IID, builder, ctx);
+
+        assertEquals(BigInteger.TEN, builder.getInUnicastPkts().getValue());
+        assertEquals(new BigInteger("18446744073709551615"), builder.getInOctets().getValue());
+        // counter32 wraps
+        assertEquals(5L, builder.getInDiscards().getValue().longValue());
+        // decreased value of rx octets is handled as counter reset
+        assertEquals("1970-01-01T00:00:08.192Z", builder.getDiscontinuityTime().getValue());
+        final VppInterfaceStatisticsAugmentation augmentation =
+                builder.getAugmentation(VppInterfaceStatisticsAugmentation.class);
+        assertEquals(BigInteger.valueOf(3), augmentation.getInErrorsNoBuf().getValue());
+        assertEquals(BigInteger.ZERO, augmentation.getInOctetsRate());
+    }
+
+    @Test
+    public void testReadNotCollected() throws Exception {
+        final StatisticsBuilder builder = getCustomizer().getBuilder(IID);
+        getCustomizer().readCurrentAttributes(IID, builder, ctx);
+
+        assertNull(builder.getInOctets());
+        assertNull(builder.getDiscontinuityTime());
+        verifyZeroInteractions(api);
+    }
+}
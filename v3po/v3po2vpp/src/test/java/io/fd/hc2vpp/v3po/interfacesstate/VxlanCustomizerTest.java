@@ -21,6 +21,7 @@ import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyZeroInteractions;
 import static org.mockito.Mockito.when;
@@ -39,15 +40,16 @@ import io.fd.vpp.jvpp.core.dto.VxlanTunnelDump;
 import java.net.InetAddress;
 import java.net.UnknownHostException;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.interfaces.rev140508.InterfacesState;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.interfaces.rev140508.interfaces.state.Interface;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.interfaces.rev140508.interfaces.state.InterfaceKey;
-import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.v3po.rev170607.L2Input;
-import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.v3po.rev170607.VppInterfaceStateAugmentation;
-import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.v3po.rev170607.VppInterfaceStateAugmentationBuilder;
-import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.v3po.rev170607.interfaces.state._interface.Vxlan;
-import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.v3po.rev170607.interfaces.state._interface.VxlanBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.v3po.rev171205.L2Input;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.v3po.rev171205.VppInterfaceStateAugmentation;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.v3po.rev171205.VppInterfaceStateAugmentationBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.v3po.rev171205.interfaces.state._interface.Vxlan;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.v3po.rev171205.interfaces.state._interface.VxlanBuilder;
 import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
 
 public class VxlanCustomizerTest extends ReaderCustomizerTest<Vxlan, VxlanBuilder> {
@@ -111,6 +113,31 @@ public class VxlanCustomizerTest extends ReaderCustomizerTest<Vxlan, VxlanBuilde
         verify(api).vxlanTunnelDump(any(VxlanTunnelDump.class));
     }
 
+    @Test
+    public void testReadCurrentAttributesAfterInterfaceListRead() throws Exception {
+        when(dumpCacheManager.isInterfaceListRead(ctx)).thenReturn(true);
+        defineMapping(mappingContext, "ifc2", 1, IFC_CTX_NAME);
+        final InstanceIdentifier<Vxlan> secondIid =
+                InstanceIdentifier.create(InterfacesState.class).child(Interface.class, new InterfaceKey("ifc2"))
+                        .augmentation(VppInterfaceStateAugmentation.class).child(Vxlan.class);
+        final SwInterfaceDetails v = new SwInterfaceDetails();
+        v.interfaceName = "vxlan-tunnel5".getBytes();
+        when(dumpCacheManager.getInterfaceDetail(secondIid, ctx, "ifc2")).thenReturn(v);
+
+        final VxlanBuilder builder = getCustomizer().getBuilder(IID);
+        getCustomizer().readCurrentAttributes(IID, builder, ctx);
+        assertEquals(9, builder.getVni().getValue().intValue());
+
+        // no details for second tunnel in full dump, should be ignored without additional dump
+        final VxlanBuilder secondBuilder = getCustomizer().getBuilder(secondIid);
+        getCustomizer().readCurrentAttributes(secondIid, secondBuilder, ctx);
+        assertNull(secondBuilder.getVni());
+
+        final ArgumentCaptor<VxlanTunnelDump> requestCaptor = ArgumentCaptor.forClass(VxlanTunnelDump.class);
+        verify(api, times(1)).vxlanTunnelDump(requestCaptor.capture());
+        assertEquals(-1, requestCaptor.getValue().swIfIndex);
+    }
+
     @Test(expected = IllegalArgumentException.class)
     public void testReadCurrentAttributesVppNameNotCached() throws Exception {
         when(dumpCacheManager.getInterfaceDetail(IID, ctx, IF_NAME))
@@ -20,6 +20,9 @@ import static io.fd.hc2vpp.v3po.interfacesstate.cache.InterfaceCacheDumpManagerI
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
@@ -30,12 +33,16 @@ import static org.mockito.MockitoAnnotations.initMocks;
 import io.fd.hc2vpp.common.test.util.FutureProducer;
 import io.fd.hc2vpp.common.test.util.NamingContextHelper;
 import io.fd.hc2vpp.common.translate.util.NamingContext;
+import io.fd.hc2vpp.v3po.interfaces.InterfaceCustomizer;
 import io.fd.honeycomb.translate.MappingContext;
 import io.fd.honeycomb.translate.ModificationCache;
 import io.fd.honeycomb.translate.read.ReadContext;
+import io.fd.honeycomb.translate.write.WriteContext;
+import io.fd.honeycomb.translate.write.WriteFailedException;
 import io.fd.vpp.jvpp.core.dto.SwInterfaceDetails;
 import io.fd.vpp.jvpp.core.dto.SwInterfaceDetailsReplyDump;
 import io.fd.vpp.jvpp.core.dto.SwInterfaceDump;
+import io.fd.vpp.jvpp.core.dto.SwInterfaceSetFlagsReply;
 import io.fd.vpp.jvpp.core.future.FutureJVppCore;
 import java.util.Arrays;
 import java.util.HashMap;
@@ -44,7 +51,9 @@ import java.util.stream.Collectors;
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.Mock;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.interfaces.rev140508.Interfaces;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.interfaces.rev140508.InterfacesState;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.interfaces.rev140508.interfaces.InterfaceBuilder;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.interfaces.rev140508.interfaces.state.Interface;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.interfaces.rev140508.interfaces.state.InterfaceKey;
 import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
@@ -118,6 +127,15 @@ public class InterfaceCacheDumpManagerImplTest implements NamingContextHelper, F
         verifyNoMoreInteractions(jvpp);
     }
 
+    @Test
+    public void isInterfaceListRead() throws Exception {
+        manager.getInterfaceDetail(identifierThree, ctx, IFACE_3);
+        assertFalse(manager.isInterfaceListRead(ctx));
+
+        manager.getInterfaces(identifier, ctx);
+        assertTrue(manager.isInterfaceListRead(ctx));
+    }
+
     @Test
     public void getInterfaceDetailFromCache() throws Exception {
         final HashMap<Object, Object> cachedMap = new HashMap<>();
@@ -141,6 +159,92 @@ public class InterfaceCacheDumpManagerImplTest implements NamingContextHelper, F
         verify(jvpp, times(1)).swInterfaceDump(specificRequest(IFACE_3));
     }
 
+    @Test
+    public void getInterfacesFromSharedDump() throws Exception {
+        final InterfaceDumpCache sharedCache = new InterfaceDumpCache(true, 60);
+        manager = new InterfaceCacheDumpManagerImpl(jvpp, namingContext, sharedCache);
+        assertEquals(3, manager.getInterfaces(identifier, ctx).count());
+
+        // next transaction
+        newTransaction();
+        assertEquals(3, manager.getInterfaces(identifier, ctx).count());
+        verify(jvpp, times(1)).swInterfaceDump(fullRequest());
+
+        // dump is performed again after invalidation
+        sharedCache.invalidate();
+        newTransaction();
+        assertEquals(3, manager.getInterfaces(identifier, ctx).count());
+        verify(jvpp, times(2)).swInterfaceDump(fullRequest());
+    }
+
+    @Test
+    public void getInterfaceDetailNotInSharedDump() throws Exception {
+        final InterfaceDumpCache sharedCache = new InterfaceDumpCache(true, 60);
+        manager = new InterfaceCacheDumpManagerImpl(jvpp, namingContext, sharedCache);
+        manager.getInterfaces(identifier, ctx);
+
+        newTransaction();
+        assertEquals(detailZero(), manager.getInterfaceDetail(identifier, ctx, IFACE_0));
+        assertEquals(detailThree(), manager.getInterfaceDetail(identifierThree, ctx, IFACE_3));
+        verify(jvpp, times(1)).swInterfaceDump(fullRequest());
+        verify(jvpp, times(1)).swInterfaceDump(specificRequest(IFACE_3));
+
+        // shared dump is outdated
+        assertFalse(sharedCache.get().isPresent());
+    }
+
+    @Test
+    public void getInterfacesDuringInterfaceWrite() throws Exception {
+        final InterfaceDumpCache sharedCache = new InterfaceDumpCache(true, 60);
+        manager = new InterfaceCacheDumpManagerImpl(jvpp, namingContext, sharedCache);
+        // interfaces are read while the write is processed by VPP
+        when(jvpp.swInterfaceSetFlags(any())).thenAnswer(invocation -> {
+            assertEquals(3, manager.getInterfaces(identifier, ctx).count());
+            return future(new SwInterfaceSetFlagsReply());
+        });
+
+        writeInterface(sharedCache);
+
+        // dump read before the write completed is not kept
+        assertFalse(sharedCache.get().isPresent());
+        newTransaction();
+        manager.getInterfaces(identifier, ctx);
+        verify(jvpp, times(2)).swInterfaceDump(fullRequest());
+    }
+
+    @Test
+    public void getInterfacesDuringFailedInterfaceWrite() throws Exception {
+        final InterfaceDumpCache sharedCache = new InterfaceDumpCache(true, 60);
+        manager = new InterfaceCacheDumpManagerImpl(jvpp, namingContext, sharedCache);
+        when(jvpp.swInterfaceSetFlags(any())).thenAnswer(invocation -> {
+            assertEquals(3, manager.getInterfaces(identifier, ctx).count());
+            return failedFuture();
+        });
+
+        try {
+            writeInterface(sharedCache);
+            fail("WriteFailedException expected");
+        } catch (WriteFailedException e) {
+            // VPP could have applied part of the write
+            assertFalse(sharedCache.get().isPresent());
+        }
+    }
+
+    private void writeInterface(final InterfaceDumpCache sharedCache) throws WriteFailedException {
+        final WriteContext writeContext = mock(WriteContext.class);
+        when(writeContext.getMappingContext()).thenReturn(mappingContext);
+        new InterfaceCustomizer(jvpp, namingContext, sharedCache).writeCurrentAttributes(
+                InstanceIdentifier.create(Interfaces.class).child(
+                        org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.interfaces.rev140508.interfaces.Interface.class,
+                        new org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.interfaces.rev140508.interfaces.InterfaceKey(IFACE_0)),
+                new InterfaceBuilder().setName(IFACE_0).setEnabled(true).build(), writeContext);
+    }
+
+    private void newTransaction() {
+        cache = new ModificationCache();
+        when(ctx.getModificationCache()).thenReturn(cache);
+    }
+
     private SwInterfaceDetailsReplyDump fullReply() {
         final SwInterfaceDetailsReplyDump reply = new SwInterfaceDetailsReplyDump();
         reply.swInterfaceDetails = Arrays.asList(detailZero(), detailOne(), detailTwo());
@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2017 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.v3po.interfacesstate.cache;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import com.google.common.base.Ticker;
+import io.fd.vpp.jvpp.core.dto.SwInterfaceDetails;
+import io.fd.vpp.jvpp.core.dto.SwInterfaceDetailsReplyDump;
+import io.fd.vpp.jvpp.core.dto.SwInterfaceEvent;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.junit.Before;
+import org.junit.Test;
+
+public class InterfaceDumpCacheTest {
+
+    private static final int TTL = 10;
+
+    private long time;
+    private InterfaceDumpCache cache;
+
+    @Before
+    public void setUp() {
+        cache = new InterfaceDumpCache(true, TTL, new Ticker() {
+            @Override
+            public long read() {
+                return time;
+            }
+        });
+    }
+
+    @Test
+    public void testPutAndGet() {
+        final SwInterfaceDetailsReplyDump dump = dump(0, 1);
+        cache.put(dump, cache.getVersion());
+        assertSame(dump, cache.get().get());
+    }
+
+    @Test
+    public void testDisabled() {
+        final InterfaceDumpCache disabled = InterfaceDumpCache.disabled();
+        disabled.put(dump(0), disabled.getVersion());
+        assertFalse(disabled.get().isPresent());
+    }
+
+    @Test
+    public void testExpired() {
+        cache.put(dump(0), cache.getVersion());
+        time += TimeUnit.SECONDS.toNanos(TTL);
+        assertTrue(cache.get().isPresent());
+        time += 1;
+        assertFalse(cache.get().isPresent());
+    }
+
+    @Test
+    public void testInvalidate() {
+        cache.put(dump(0), cache.getVersion());
+        cache.invalidate();
+        assertFalse(cache.get().isPresent());
+    }
+
+    @Test
+    public void testPutAfterInvalidate() {
+        final long version = cache.getVersion();
+        cache.invalidate();
+        cache.put(dump(0), version);
+        assertFalse(cache.get().isPresent());
+    }
+
+    @Test
+    public void testStateChangeEvent() {
+        cache.put(dump(0, 1), cache.getVersion());
+        cache.onInterfaceEvent(event(1, false));
+        assertFalse(cache.get().isPresent());
+    }
+
+    @Test
+    public void testDeleteEvent() {
+        cache.put(dump(0, 1, 2), cache.getVersion());
+        cache.onInterfaceEvent(event(1, true));
+        final SwInterfaceDetailsReplyDump patched = cache.get().get();
+        assertEquals(2, patched.swInterfaceDetails.size());
+        assertEquals(0, patched.swInterfaceDetails.get(0).swIfIndex);
+        assertEquals(2, patched.swInterfaceDetails.get(1).swIfIndex);
+    }
+
+    @Test
+    public void testPutAfterDeleteEvent() {
+        final long version = cache.getVersion();
+        cache.onInterfaceEvent(event(1, true));
+        cache.put(dump(0, 1), version);
+        assertFalse(cache.get().isPresent());
+    }
+
+    private static SwInterfaceEvent event(final int swIfIndex, final boolean deleted) {
+        final SwInterfaceEvent event = new SwInterfaceEvent();
+        event.swIfIndex = swIfIndex;
+        event.deleted = (byte) (deleted ? 1 : 0);
+        return event;
+    }
+
+    private static SwInterfaceDetailsReplyDump dump(final int... indexes) {
+        final SwInterfaceDetailsReplyDump dump = new SwInterfaceDetailsReplyDump();
+        dump.swInterfaceDetails = Arrays.stream(indexes).mapToObj(index -> {
+            final SwInterfaceDetails detail = new SwInterfaceDetails();
+            detail.swIfIndex = index;
+            return detail;
+        }).collect(Collectors.toList());
+        return dump;
+    }
+}
@@ -0,0 +1,37 @@
+/*
+ * Copyright (c) 2017 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.v3po.interfacesstate.cache;
+
+import io.fd.vpp.jvpp.core.dto.SwInterfaceDetailsReplyDump;
+
+public final class InterfaceDumpCacheTestUtils {
+
+    private InterfaceDumpCacheTestUtils() {}
+
+    /**
+     * @return enabled cache holding empty interface dump
+     */
+    public static InterfaceDumpCache cacheWithDump() {
+        final InterfaceDumpCache cache = new InterfaceDumpCache(true, 60);
+        cache.put(new SwInterfaceDetailsReplyDump(), cache.getVersion());
+        return cache;
+    }
+
+    public static boolean isCached(final InterfaceDumpCache cache) {
+        return cache.get().isPresent();
+    }
+}
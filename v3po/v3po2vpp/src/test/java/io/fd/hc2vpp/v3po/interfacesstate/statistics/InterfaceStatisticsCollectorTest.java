@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2017 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.v3po.interfacesstate.statistics;
+
+import static io.fd.hc2vpp.v3po.interfacesstate.statistics.InterfaceCounter.RX_MISS;
+import static io.fd.hc2vpp.v3po.interfacesstate.statistics.InterfaceCounter.TX_OCTETS;
+import static io.fd.hc2vpp.v3po.interfacesstate.statistics.InterfaceCounter.TX_PACKETS;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import io.fd.hc2vpp.common.test.util.FutureProducer;
+import io.fd.vpp.jvpp.core.callback.VnetInterfaceCombinedCountersCallback;
+import io.fd.vpp.jvpp.core.callback.VnetInterfaceSimpleCountersCallback;
+import io.fd.vpp.jvpp.core.dto.VnetInterfaceCombinedCounters;
+import io.fd.vpp.jvpp.core.dto.VnetInterfaceSimpleCounters;
+import io.fd.vpp.jvpp.core.dto.WantInterfaceCombinedStats;
+import io.fd.vpp.jvpp.core.dto.WantInterfaceCombinedStatsReply;
+import io.fd.vpp.jvpp.core.dto.WantInterfaceSimpleStats;
+import io.fd.vpp.jvpp.core.dto.WantInterfaceSimpleStatsReply;
+import io.fd.vpp.jvpp.core.future.FutureJVppCore;
+import io.fd.vpp.jvpp.core.notification.CoreEventRegistry;
+import io.fd.vpp.jvpp.core.types.VlibCounter;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+public class InterfaceStatisticsCollectorTest implements FutureProducer {
+
+    @Mock
+    private FutureJVppCore jvpp;
+    @Mock
+    private CoreEventRegistry eventRegistry;
+    @Mock
+    private AutoCloseable simpleCountersReg;
+    @Mock
+    private AutoCloseable combinedCountersReg;
+
+    private ArgumentCaptor<VnetInterfaceSimpleCountersCallback> simpleCallbackCaptor;
+    private ArgumentCaptor<VnetInterfaceCombinedCountersCallback> combinedCallbackCaptor;
+    private InterfaceStatisticsStore store;
+    private InterfaceStatisticsCollector collector;
+
+    @Before
+    public void setUp() throws Exception {
+        MockitoAnnotations.initMocks(this);
+        doReturn(eventRegistry).when(jvpp).getEventRegistry();
+        simpleCallbackCaptor = ArgumentCaptor.forClass(VnetInterfaceSimpleCountersCallback.class);
+        combinedCallbackCaptor = ArgumentCaptor.forClass(VnetInterfaceCombinedCountersCallback.class);
+        doReturn(simpleCountersReg).when(eventRegistry)
+                .registerVnetInterfaceSimpleCountersCallback(simpleCallbackCaptor.capture());
+        doReturn(combinedCountersReg).when(eventRegistry)
+                .registerVnetInterfaceCombinedCountersCallback(combinedCallbackCaptor.capture());
+        doReturn(future(new WantInterfaceSimpleStatsReply())).when(jvpp)
+                .wantInterfaceSimpleStats(any(WantInterfaceSimpleStats.class));
+        doReturn(future(new WantInterfaceCombinedStatsReply())).when(jvpp)
+                .wantInterfaceCombinedStats(any(WantInterfaceCombinedStats.class));
+        store = new InterfaceStatisticsStore(16);
+        collector = new InterfaceStatisticsCollector(jvpp, store);
+    }
+
+    @Test
+    public void testStartClose() throws Exception {
+        collector.start();
+        verify(jvpp).wantInterfaceSimpleStats(any(WantInterfaceSimpleStats.class));
+        verify(jvpp).wantInterfaceCombinedStats(any(WantInterfaceCombinedStats.class));
+
+        collector.close();
+        verify(jvpp, times(2)).wantInterfaceSimpleStats(any(WantInterfaceSimpleStats.class));
+        verify(jvpp, times(2)).wantInterfaceCombinedStats(any(WantInterfaceCombinedStats.class));
+        verify(simpleCountersReg).close();
+        verify(combinedCountersReg).close();
+    }
+
+    @Test
+    public void testRenewSubscription() throws Exception {
+        // not started, nothing to renew
+        collector.renewSubscription();
+        verify(jvpp, never()).wantInterfaceSimpleStats(any(WantInterfaceSimpleStats.class));
+
+        collector.start();
+        collector.renewSubscription();
+        final ArgumentCaptor<WantInterfaceSimpleStats> simpleCaptor =
+                ArgumentCaptor.forClass(WantInterfaceSimpleStats.class);
+        final ArgumentCaptor<WantInterfaceCombinedStats> combinedCaptor =
+                ArgumentCaptor.forClass(WantInterfaceCombinedStats.class);
+        verify(jvpp, times(2)).wantInterfaceSimpleStats(simpleCaptor.capture());
+        verify(jvpp, times(2)).wantInterfaceCombinedStats(combinedCaptor.capture());
+        assertEquals(1, simpleCaptor.getValue().enableDisable);
+        assertEquals(1, combinedCaptor.getValue().enableDisable);
+        // callbacks registered in jvpp are kept
+        verify(simpleCountersReg, never()).close();
+        verify(combinedCountersReg, never()).close();
+    }
+
+    @Test
+    public void testSimpleCounters() throws Exception {
+        collector.start();
+        final VnetInterfaceSimpleCounters counters = new VnetInterfaceSimpleCounters();
+        counters.vnetCounterType = 5; // rx-miss
+        counters.firstSwIfIndex = 2;
+        counters.count = 2;
+        counters.data = new long[]{7, 8};
+        simpleCallbackCaptor.getValue().onVnetInterfaceSimpleCounters(counters);
+
+        assertNull(store.getCounters(1));
+        assertEquals(7, store.getCounters(2).getValue(RX_MISS));
+        assertEquals(8, store.getCounters(3).getValue(RX_MISS));
+    }
+
+    @Test
+    public void testUnsupportedSimpleCounters() throws Exception {
+        collector.start();
+        final VnetInterfaceSimpleCounters counters = new VnetInterfaceSimpleCounters();
+        counters.vnetCounterType = 100;
+        counters.count = 1;
+        counters.data = new long[]{7};
+        simpleCallbackCaptor.getValue().onVnetInterfaceSimpleCounters(counters);
+
+        assertNull(store.getCounters(0));
+    }
+
+    @Test
+    public void testCombinedCounters() throws Exception {
+        collector.start();
+        final VnetInterfaceCombinedCounters counters = new VnetInterfaceCombinedCounters();
+        counters.vnetCounterType = 1; // tx
+        counters.firstSwIfIndex = 0;
+        counters.count = 2;
+        counters.data = new VlibCounter[]{counter(1, 100), counter(2, 200)};
+        combinedCallbackCaptor.getValue().onVnetInterfaceCombinedCounters(counters);
+
+        assertEquals(1, store.getCounters(0).getValue(TX_PACKETS));
+        assertEquals(100, store.getCounters(0).getValue(TX_OCTETS));
+        assertEquals(2, store.getCounters(1).getValue(TX_PACKETS));
+        assertEquals(200, store.getCounters(1).getValue(TX_OCTETS));
+    }
+
+    private static VlibCounter counter(final long packets, final long bytes) {
+        final VlibCounter counter = new VlibCounter();
+        counter.packets = packets;
+        counter.bytes = bytes;
+        return counter;
+    }
+}
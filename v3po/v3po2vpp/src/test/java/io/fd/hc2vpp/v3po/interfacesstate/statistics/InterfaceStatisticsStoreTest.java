@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2017 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.v3po.interfacesstate.statistics;
+
+import static io.fd.hc2vpp.v3po.interfacesstate.statistics.InterfaceCounter.DROP;
+import static io.fd.hc2vpp.v3po.interfacesstate.statistics.InterfaceCounter.RX_OCTETS;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import org.junit.Before;
+import org.junit.Test;
+
+public class InterfaceStatisticsStoreTest {
+
+    private static final long SECOND = 1_000_000_000L;
+
+    private InterfaceStatisticsStore store;
+
+    @Before
+    public void setUp() {
+        store = new InterfaceStatisticsStore(2);
+    }
+
+    @Test
+    public void testNotSampled() {
+        assertNull(store.getCounters(0));
+        assertNull(store.getCounters(-1));
+        assertNull(store.getCounters(100));
+    }
+
+    @Test
+    public void testUpdate() {
+        store.update(RX_OCTETS, 1, new long[]{10, 20, 30}, 2, SECOND, 1000);
+
+        assertNull(store.getCounters(0));
+        final InterfaceCounters counters = store.getCounters(1);
+        assertNotNull(counters);
+        assertEquals(10, counters.getValue(RX_OCTETS));
+        assertEquals(0, counters.getRate(RX_OCTETS));
+        assertEquals(0, counters.getValue(DROP));
+        assertEquals(1000, counters.getDiscontinuityTime());
+        assertEquals(20, store.getCounters(2).getValue(RX_OCTETS));
+        // count is respected
+        assertNull(store.getCounters(3));
+    }
+
+    @Test
+    public void testRate() {
+        store.update(RX_OCTETS, 0, new long[]{100}, 1, SECOND, 1000);
+        store.update(RX_OCTETS, 0, new long[]{600}, 1, 3 * SECOND, 3000);
+
+        final InterfaceCounters counters = store.getCounters(0);
+        assertEquals(600, counters.getValue(RX_OCTETS));
+        assertEquals(250, counters.getRate(RX_OCTETS));
+        assertEquals(1000, counters.getDiscontinuityTime());
+    }
+
+    @Test
+    public void testCounterReset() {
+        store.update(RX_OCTETS, 0, new long[]{100}, 1, SECOND, 1000);
+        store.update(RX_OCTETS, 0, new long[]{600}, 1, 2 * SECOND, 2000);
+        store.update(RX_OCTETS, 0, new long[]{5}, 1, 3 * SECOND, 3000);
+
+        final InterfaceCounters counters = store.getCounters(0);
+        assertEquals(5, counters.getValue(RX_OCTETS));
+        assertEquals(0, counters.getRate(RX_OCTETS));
+        assertEquals(3000, counters.getDiscontinuityTime());
+    }
+
+    @Test
+    public void testGrow() {
+        store.update(DROP, 0, new long[]{1, 2}, 2, SECOND, 1000);
+        store.update(DROP, 10000, new long[]{3}, 1, SECOND, 1000);
+
+        assertEquals(1, store.getCounters(0).getValue(DROP));
+        assertEquals(2, store.getCounters(1).getValue(DROP));
+        assertEquals(3, store.getCounters(10000).getValue(DROP));
+        assertNull(store.getCounters(9999));
+    }
+
+    @Test
+    public void testClear() {
+        store.update(RX_OCTETS, 0, new long[]{100}, 1, SECOND, 1000);
+        store.clear();
+        assertNull(store.getCounters(0));
+
+        // interface with the same sw_if_index in restarted VPP starts without rate and with new discontinuity time
+        store.update(RX_OCTETS, 0, new long[]{500}, 1, 2 * SECOND, 2000);
+        final InterfaceCounters counters = store.getCounters(0);
+        assertEquals(500, counters.getValue(RX_OCTETS));
+        assertEquals(0, counters.getRate(RX_OCTETS));
+        assertEquals(2000, counters.getDiscontinuityTime());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidCount() {
+        store.update(DROP, 0, new long[]{1}, 2, SECOND, 1000);
+    }
+}
@@ -17,14 +17,19 @@
 package io.fd.hc2vpp.v3po.notification;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 import static org.mockito.Matchers.any;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 import io.fd.hc2vpp.common.test.util.FutureProducer;
 import io.fd.hc2vpp.common.test.util.NamingContextHelper;
 import io.fd.hc2vpp.common.translate.util.NamingContext;
+import io.fd.hc2vpp.v3po.V3poConfiguration;
+import io.fd.hc2vpp.v3po.interfacesstate.cache.InterfaceDumpCache;
 import io.fd.honeycomb.notification.NotificationCollector;
 import io.fd.honeycomb.translate.MappingContext;
 import io.fd.vpp.jvpp.core.callback.SwInterfaceEventCallback;
@@ -38,14 +43,15 @@ import org.junit.Test;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
-import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.v3po.rev170607.InterfaceStateChange;
-import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.v3po.rev170607.InterfaceStatus;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.v3po.rev171205.InterfaceStateChange;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.v3po.rev171205.InterfaceStatus;
 
 public class InterfaceChangeNotificationProducerTest implements FutureProducer, NamingContextHelper {
 
     private static final String IFC_CTX_NAME = "ifc-test-instance";
     private static final String IFACE_NAME = "eth0";
     private static final int IFACE_ID = 0;
+    private static final int QUEUE_CAPACITY = 16;
 
     @Mock
     private FutureJVppCore jVpp;
@@ -58,6 +64,8 @@ public class InterfaceChangeNotificationProducerTest implements FutureProducer,
     private CoreEventRegistry notificationRegistry;
     @Mock
     private AutoCloseable notificationListenerReg;
+    @Mock
+    private V3poConfiguration configuration;
 
     private ArgumentCaptor<SwInterfaceEventCallback> callbackArgumentCaptor;
 
@@ -70,12 +78,14 @@ public class InterfaceChangeNotificationProducerTest implements FutureProducer,
             callbackArgumentCaptor.capture());
         defineMapping(mappingContext, IFACE_NAME, IFACE_ID, IFC_CTX_NAME);
         doReturn(future(new WantInterfaceEventsReply())).when(jVpp).wantInterfaceEvents(any(WantInterfaceEvents.class));
+        doReturn(QUEUE_CAPACITY).when(configuration).getInterfaceNotificationQueueCapacity();
     }
 
     @Test
     public void testStart() throws Exception {
         final InterfaceChangeNotificationProducer interfaceChangeNotificationProducer =
-            new InterfaceChangeNotificationProducer(jVpp, namingContext, mappingContext);
+            new InterfaceChangeNotificationProducer(jVpp, namingContext, mappingContext,
+                InterfaceDumpCache.disabled(), configuration);
 
         interfaceChangeNotificationProducer.start(collector);
         verify(jVpp).wantInterfaceEvents(any(WantInterfaceEvents.class));
@@ -86,12 +96,34 @@ public class InterfaceChangeNotificationProducerTest implements FutureProducer,
         interfaceChangeNotificationProducer.stop();
         verify(jVpp, times(2)).wantInterfaceEvents(any(WantInterfaceEvents.class));
         verify(notificationListenerReg).close();
+        assertNull(interfaceChangeNotificationProducer.getEventPipeline());
+    }
+
+    @Test
+    public void testRenewSubscription() throws Exception {
+        final InterfaceChangeNotificationProducer interfaceChangeNotificationProducer =
+            new InterfaceChangeNotificationProducer(jVpp, namingContext, mappingContext,
+                InterfaceDumpCache.disabled(), configuration);
+
+        // not started, nothing to renew
+        interfaceChangeNotificationProducer.renewSubscription();
+        verify(jVpp, never()).wantInterfaceEvents(any(WantInterfaceEvents.class));
+
+        interfaceChangeNotificationProducer.start(collector);
+        interfaceChangeNotificationProducer.renewSubscription();
+        final ArgumentCaptor<WantInterfaceEvents> requestCaptor = ArgumentCaptor.forClass(WantInterfaceEvents.class);
+        verify(jVpp, times(2)).wantInterfaceEvents(requestCaptor.capture());
+        assertEquals(1, requestCaptor.getValue().enableDisable);
+        // callback registered in jvpp is kept
+        verify(notificationRegistry).registerSwInterfaceEventCallback(any(SwInterfaceEventCallback.class));
+        verify(notificationListenerReg, never()).close();
     }
 
     @Test
     public void testNotification() throws Exception {
         final InterfaceChangeNotificationProducer interfaceChangeNotificationProducer =
-            new InterfaceChangeNotificationProducer(jVpp, namingContext, mappingContext);
+            new InterfaceChangeNotificationProducer(jVpp, namingContext, mappingContext,
+                InterfaceDumpCache.disabled(), configuration);
 
         interfaceChangeNotificationProducer.start(collector);
 
@@ -103,7 +135,7 @@ public class InterfaceChangeNotificationProducerTest implements FutureProducer,
         callbackArgumentCaptor.getValue().onSwInterfaceEvent(swInterfaceSetFlagsNotification);
         final ArgumentCaptor<InterfaceStateChange> notificationCaptor =
             ArgumentCaptor.forClass(InterfaceStateChange.class);
-        verify(collector).onNotification(notificationCaptor.capture());
+        verify(collector, timeout(1000)).onNotification(notificationCaptor.capture());
 
         assertEquals(IFACE_NAME, notificationCaptor.getValue().getName().getString());
         assertEquals(InterfaceStatus.Up, notificationCaptor.getValue().getAdminStatus());
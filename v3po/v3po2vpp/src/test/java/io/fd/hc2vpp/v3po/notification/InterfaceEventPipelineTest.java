@@ -0,0 +1,197 @@
+/*
+ * Copyright (c) 2017 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.v3po.notification;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import io.fd.vpp.jvpp.core.dto.SwInterfaceEvent;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class InterfaceEventPipelineTest {
+
+    private static final long TIMEOUT_SECONDS = 5;
+
+    private CountDownLatch consumerStarted;
+    private CountDownLatch consumerReleased;
+    private List<SwInterfaceEvent> consumed;
+    private InterfaceEventPipeline pipeline;
+
+    @Before
+    public void setUp() {
+        consumerStarted = new CountDownLatch(1);
+        consumerReleased = new CountDownLatch(1);
+        consumed = new CopyOnWriteArrayList<>();
+        pipeline = new InterfaceEventPipeline(2, event -> {
+            consumerStarted.countDown();
+            try {
+                consumerReleased.await(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            consumed.add(event);
+        });
+    }
+
+    @After
+    public void tearDown() {
+        pipeline.close();
+    }
+
+    @Test
+    public void testCoalescing() throws Exception {
+        // worker is blocked by processing of first event
+        assertTrue(pipeline.offer(event(0, 0)));
+        assertTrue(consumerStarted.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+
+        assertTrue(pipeline.offer(event(1, 0)));
+        assertTrue(pipeline.offer(event(2, 0)));
+        assertTrue(pipeline.offer(event(1, 1)));
+        assertTrue(pipeline.offer(event(2, 1)));
+        assertEquals(2, pipeline.getQueueDepth());
+        consumerReleased.countDown();
+
+        awaitConsumed(3);
+        assertEquals(0, consumed.get(0).swIfIndex);
+        // order of interfaces is preserved, only latest event of each interface is processed
+        assertEquals(1, consumed.get(1).swIfIndex);
+        assertEquals(1, consumed.get(1).linkUpDown);
+        assertEquals(2, consumed.get(2).swIfIndex);
+        assertEquals(1, consumed.get(2).linkUpDown);
+        assertEquals(5, pipeline.getReceivedEvents());
+        assertEquals(2, pipeline.getCoalescedEvents());
+        assertEquals(0, pipeline.getDroppedEvents());
+    }
+
+    @Test
+    public void testDeleteThenCreate() throws Exception {
+        assertTrue(pipeline.offer(event(0, 0)));
+        assertTrue(consumerStarted.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+
+        // interface is deleted and sw_if_index is reused by new interface
+        assertTrue(pipeline.offer(event(1, 0)));
+        assertTrue(pipeline.offer(deleted(1)));
+        assertTrue(pipeline.offer(event(1, 0)));
+        assertTrue(pipeline.offer(event(1, 1)));
+        assertEquals(1, pipeline.getQueueDepth());
+        consumerReleased.countDown();
+
+        awaitConsumed(3);
+        // delete is never replaced, state preceding the delete is obsolete
+        assertEquals(1, consumed.get(1).swIfIndex);
+        assertEquals(1, consumed.get(1).deleted);
+        assertEquals(1, consumed.get(2).swIfIndex);
+        assertEquals(0, consumed.get(2).deleted);
+        assertEquals(1, consumed.get(2).linkUpDown);
+        assertEquals(3, pipeline.getCoalescedEvents());
+    }
+
+    @Test
+    public void testRepeatedDelete() throws Exception {
+        assertTrue(pipeline.offer(event(0, 0)));
+        assertTrue(consumerStarted.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+
+        assertTrue(pipeline.offer(deleted(1)));
+        assertTrue(pipeline.offer(event(1, 1)));
+        assertTrue(pipeline.offer(deleted(1)));
+        consumerReleased.countDown();
+
+        awaitConsumed(2);
+        assertEquals(1, consumed.get(1).deleted);
+    }
+
+    @Test
+    public void testOverflow() throws Exception {
+        assertTrue(pipeline.offer(event(0, 0)));
+        assertTrue(consumerStarted.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+
+        assertTrue(pipeline.offer(event(1, 0)));
+        assertTrue(pipeline.offer(event(2, 0)));
+        assertFalse(pipeline.offer(event(3, 0)));
+        // events of already queued interfaces are still accepted
+        assertTrue(pipeline.offer(event(2, 1)));
+        consumerReleased.countDown();
+
+        awaitConsumed(3);
+        assertEquals(1, pipeline.getDroppedEvents());
+        assertEquals(1, pipeline.getCoalescedEvents());
+    }
+
+    @Test
+    public void testMBean() throws Exception {
+        final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        final ObjectName name = new ObjectName(InterfaceEventPipeline.OBJECT_NAME);
+        assertTrue(pipeline.offer(event(0, 0)));
+        assertTrue(consumerStarted.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        assertTrue(pipeline.offer(event(1, 0)));
+        assertTrue(pipeline.offer(event(2, 0)));
+        assertFalse(pipeline.offer(event(3, 0)));
+
+        assertEquals(1L, server.getAttribute(name, "DroppedEvents"));
+        assertEquals(2, server.getAttribute(name, "QueueDepth"));
+        pipeline.close();
+        assertFalse(server.isRegistered(name));
+    }
+
+    @Test
+    public void testConsumerFailure() throws Exception {
+        pipeline.close();
+        final CountDownLatch processed = new CountDownLatch(2);
+        pipeline = new InterfaceEventPipeline(2, event -> {
+            processed.countDown();
+            if (event.swIfIndex == 0) {
+                throw new IllegalStateException("test failure");
+            }
+        });
+        pipeline.offer(event(0, 0));
+        pipeline.offer(event(1, 0));
+
+        assertTrue(processed.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        assertEquals(1, pipeline.getFailedEvents());
+    }
+
+    private void awaitConsumed(final int count) throws InterruptedException {
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(TIMEOUT_SECONDS);
+        while (consumed.size() < count && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(count, consumed.size());
+    }
+
+    private static SwInterfaceEvent event(final int swIfIndex, final int linkUpDown) {
+        final SwInterfaceEvent event = new SwInterfaceEvent();
+        event.swIfIndex = swIfIndex;
+        event.linkUpDown = (byte) linkUpDown;
+        return event;
+    }
+
+    private static SwInterfaceEvent deleted(final int swIfIndex) {
+        final SwInterfaceEvent event = event(swIfIndex, 0);
+        event.deleted = 1;
+        return event;
+    }
+}
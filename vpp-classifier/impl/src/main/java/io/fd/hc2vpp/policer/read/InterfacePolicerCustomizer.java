@@ -70,7 +70,8 @@ final class InterfacePolicerCustomizer extends FutureJVppCustomizer
         return (id, type) -> {
             PolicerClassifyDump request = new PolicerClassifyDump();
             request.type = type;
-            return getReplyForRead(getFutureJVpp().policerClassifyDump(request).toCompletableFuture(), id);
+            return getReplyForRead(getFutureJVpp().policerClassifyDump(request).toCompletableFuture(),
+                    id, PolicerClassifyDump.class);
         };
     }
 
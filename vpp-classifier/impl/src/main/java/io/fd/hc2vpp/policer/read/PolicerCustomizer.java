@@ -72,7 +72,7 @@ final class PolicerCustomizer extends FutureJVppCustomizer
         dumpManager = new DumpCacheManager.DumpCacheManagerBuilder<PolicerDetailsReplyDump, Void>()
             .withExecutor(
                 (id, param) -> getReplyForRead(getFutureJVpp().policerDump(new PolicerDump()).toCompletableFuture(),
-                    id))
+                    id, PolicerDump.class))
             .acceptOnly(PolicerDetailsReplyDump.class)
             .build();
     }
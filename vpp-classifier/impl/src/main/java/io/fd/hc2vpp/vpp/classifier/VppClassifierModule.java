@@ -38,6 +38,7 @@ public class VppClassifierModule extends AbstractModule {
     protected void configure() {
         LOG.debug("Installing VppClassifierAcl module");
         install(ConfigurationModule.create());
+        requestInjection(VppClassifierConfiguration.class);
 
         bind(VppClassifierContextManager.class)
             .annotatedWith(Names.named("classify-table-context"))
@@ -16,11 +16,15 @@
 
 package io.fd.hc2vpp.vpp.classifier.factory.write;
 
+import com.google.common.collect.Sets;
 import com.google.inject.Inject;
 import com.google.inject.name.Named;
+import io.fd.hc2vpp.common.translate.util.BulkRequestWriter;
 import io.fd.hc2vpp.common.translate.util.NamingContext;
+import io.fd.hc2vpp.vpp.classifier.VppClassifierConfiguration;
 import io.fd.hc2vpp.vpp.classifier.context.VppClassifierContextManager;
 import io.fd.hc2vpp.vpp.classifier.write.ClassifySessionWriter;
+import io.fd.hc2vpp.vpp.classifier.write.ClassifyTableBulkCustomizer;
 import io.fd.hc2vpp.vpp.classifier.write.ClassifyTableWriter;
 import io.fd.honeycomb.translate.impl.write.GenericListWriter;
 import io.fd.honeycomb.translate.write.WriterFactory;
@@ -44,6 +48,12 @@ public final class VppClassifierHoneycombWriterFactory implements WriterFactory
     private final VppClassifierContextManager classifyTableContext;
     private NamingContext policerContext;
 
+    @Inject
+    private VppClassifierConfiguration configuration;
+
+    @Inject
+    private BulkRequestWriter bulkRequestWriter;
+
     @Inject
     public VppClassifierHoneycombWriterFactory(@Nonnull final FutureJVppCore jvpp,
                                                @Named("classify-table-context") @Nonnull final VppClassifierContextManager classifyTableContext,
@@ -56,13 +66,24 @@ public final class VppClassifierHoneycombWriterFactory implements WriterFactory
     @Override
     public void init(@Nonnull final ModifiableWriterRegistryBuilder registry) {
         // Ordering here is: First create table, then create sessions and then assign as ACL
-        // ClassifyTable
-        registry.addBefore(
-                new GenericListWriter<>(CLASSIFY_TABLE_ID, new ClassifyTableWriter(jvpp, classifyTableContext)),
-                CLASSIFY_SESSION_ID);
-        //  ClassifyTableSession
-        registry.addBefore(
-                new GenericListWriter<>(CLASSIFY_SESSION_ID, new ClassifySessionWriter(jvpp, classifyTableContext, policerContext)),
-                InterfaceAclWriterFactory.ACL_ID);
+        if (configuration.isBulkSessionWriteEnabled()) {
+            // ClassifyTable together with its sessions, keeping multiple session requests in flight
+            registry.subtreeAddBefore(
+                    Sets.newHashSet(InstanceIdentifier.create(ClassifyTable.class).child(ClassifySession.class)),
+                    new GenericListWriter<>(CLASSIFY_TABLE_ID, new ClassifyTableBulkCustomizer(
+                            new ClassifyTableWriter(jvpp, classifyTableContext),
+                            new ClassifySessionWriter(jvpp, classifyTableContext, policerContext),
+                            bulkRequestWriter)),
+                    InterfaceAclWriterFactory.ACL_ID);
+        } else {
+            // ClassifyTable
+            registry.addBefore(
+                    new GenericListWriter<>(CLASSIFY_TABLE_ID, new ClassifyTableWriter(jvpp, classifyTableContext)),
+                    CLASSIFY_SESSION_ID);
+            //  ClassifyTableSession
+            registry.addBefore(
+                    new GenericListWriter<>(CLASSIFY_SESSION_ID, new ClassifySessionWriter(jvpp, classifyTableContext, policerContext)),
+                    InterfaceAclWriterFactory.ACL_ID);
+        }
     }
 }
@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2017 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.vpp.classifier.read;
+
+import com.google.common.base.Optional;
+import io.fd.vpp.jvpp.core.dto.ClassifySessionDetails;
+import io.fd.vpp.jvpp.core.dto.ClassifySessionDetailsReplyDump;
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.Map;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * Classify sessions of single classify table indexed by match. Index is built once per session dump,
+ * so that reading all sessions of a table is linear in number of sessions.
+ */
+final class ClassifySessionIndex {
+
+    private final Map<ByteBuffer, ClassifySessionDetails> sessions;
+    // number of sessions for matches present more than once
+    private final Map<ByteBuffer, Integer> duplicates;
+
+    ClassifySessionIndex(@Nullable final ClassifySessionDetailsReplyDump classifySessionDump) {
+        sessions = new HashMap<>();
+        duplicates = new HashMap<>();
+        if (classifySessionDump != null && classifySessionDump.classifySessionDetails != null) {
+            for (final ClassifySessionDetails detail : classifySessionDump.classifySessionDetails) {
+                // wrapped arrays are compared and hashed by content
+                final ByteBuffer match = ByteBuffer.wrap(detail.match);
+                if (sessions.putIfAbsent(match, detail) != null) {
+                    duplicates.merge(match, 2, (count, one) -> count + 1);
+                }
+            }
+        }
+    }
+
+    Optional<ClassifySessionDetails> findByMatch(@Nonnull final byte[] match) {
+        final ByteBuffer key = ByteBuffer.wrap(match);
+        final Integer count = duplicates.get(key);
+        if (count != null) {
+            throw new IllegalStateException(String.format(
+                    "Found %d classify sessions witch given match. Single session expected.", count));
+        }
+        return Optional.fromNullable(sessions.get(key));
+    }
+}
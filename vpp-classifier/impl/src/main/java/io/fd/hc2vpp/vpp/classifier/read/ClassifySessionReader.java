@@ -33,7 +33,6 @@ import io.fd.vpp.jvpp.core.dto.ClassifySessionDetails;
 import io.fd.vpp.jvpp.core.dto.ClassifySessionDetailsReplyDump;
 import io.fd.vpp.jvpp.core.dto.ClassifySessionDump;
 import io.fd.vpp.jvpp.core.future.FutureJVppCore;
-import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -67,6 +66,7 @@ public class ClassifySessionReader extends FutureJVppCustomizer
 
     private static final Logger LOG = LoggerFactory.getLogger(ClassifySessionReader.class);
     static final String CACHE_KEY = ClassifySessionReader.class.getName();
+    private static final String INDEX_CACHE_KEY = CACHE_KEY + "_index";
 
     private final VppClassifierContextManager classifyTableContext;
 
@@ -97,10 +97,8 @@ public class ClassifySessionReader extends FutureJVppCustomizer
         final ClassifySessionKey key = id.firstKeyOf(ClassifySession.class);
         Preconditions.checkArgument(key != null, "could not find ClassifySession key in {}", id);
 
-        final ClassifySessionDetailsReplyDump classifySessionDump = dumpClassifySessions(id, ctx);
         final byte[] match = DatatypeConverter.parseHexBinary(key.getMatch().getValue().replace(":", ""));
-        final Optional<ClassifySessionDetails> classifySession =
-                findClassifySessionDetailsByMatch(classifySessionDump, match);
+        final Optional<ClassifySessionDetails> classifySession = getSessionIndex(id, ctx).findByMatch(match);
 
         if (classifySession.isPresent()) {
             final ClassifySessionDetails detail = classifySession.get();
@@ -139,6 +137,19 @@ public class ClassifySessionReader extends FutureJVppCustomizer
         }
     }
 
+    @Nonnull
+    private ClassifySessionIndex getSessionIndex(@Nonnull final InstanceIdentifier<?> id,
+                                                 @Nonnull final ReadContext ctx) throws ReadFailedException {
+        final String indexKey = INDEX_CACHE_KEY + id.firstKeyOf(ClassifyTable.class);
+
+        ClassifySessionIndex index = (ClassifySessionIndex) ctx.getModificationCache().get(indexKey);
+        if (index == null) {
+            index = new ClassifySessionIndex(dumpClassifySessions(id, ctx));
+            ctx.getModificationCache().put(indexKey, index);
+        }
+        return index;
+    }
+
     @Nullable
     private ClassifySessionDetailsReplyDump dumpClassifySessions(@Nonnull final InstanceIdentifier<?> id,
                                                                  @Nonnull final ReadContext ctx)
@@ -178,25 +189,6 @@ public class ClassifySessionReader extends FutureJVppCustomizer
         return classifySessionDump;
     }
 
-    private static Optional<ClassifySessionDetails> findClassifySessionDetailsByMatch(
-            @Nullable final ClassifySessionDetailsReplyDump classifySessionDump, @Nonnull final byte[] match) {
-        if (classifySessionDump != null && classifySessionDump.classifySessionDetails != null) {
-            final List<ClassifySessionDetails> details = classifySessionDump.classifySessionDetails;
-            final List<ClassifySessionDetails> filteredSessions = details.stream()
-                    .filter(singleDetail -> Arrays.equals(singleDetail.match, match)).collect(Collectors.toList());
-            if (filteredSessions.isEmpty()) {
-                return Optional.absent();
-            } else if (filteredSessions.size() == 1) {
-                return Optional.of(filteredSessions.get(0));
-            } else {
-                throw new IllegalStateException(String.format(
-                        "Found %d classify sessions witch given match. Single session expected.",
-                        filteredSessions.size()));
-            }
-        }
-        return Optional.absent();
-    }
-
     @Nonnull
     @Override
     public List<ClassifySessionKey> getAllIds(@Nonnull final InstanceIdentifier<ClassifySession> id,
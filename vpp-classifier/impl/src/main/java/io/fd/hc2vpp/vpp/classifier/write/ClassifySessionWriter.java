@@ -20,6 +20,7 @@ import static com.google.common.base.Preconditions.checkNotNull;
 
 import com.google.common.base.Optional;
 import com.google.common.base.Preconditions;
+import io.fd.hc2vpp.common.translate.util.BulkRequestWriter;
 import io.fd.hc2vpp.common.translate.util.ByteDataTranslator;
 import io.fd.hc2vpp.common.translate.util.JvppReplyConsumer;
 import io.fd.hc2vpp.common.translate.util.NamingContext;
@@ -105,30 +106,72 @@ public class ClassifySessionWriter extends VppNodeWriter
                                        @Nonnull final ClassifySession classifySession,
                                        @Nonnull final WriteContext writeContext)
             throws VppBaseCallException, WriteFailedException {
+        final ClassifyTable classifyTable =
+                getClassifyTable(writeContext, id.firstIdentifierOf(ClassifyTable.class), isAdd);
+        final ClassifyAddDelSession request =
+                classifyAddDelSessionRequest(isAdd, id, classifySession, classifyTable,
+                        writeContext.getMappingContext());
+        final CompletionStage<ClassifyAddDelSessionReply> createClassifyTableReplyCompletionStage = getFutureJVpp()
+                .classifyAddDelSession(request);
+
+        getReplyForWrite(createClassifyTableReplyCompletionStage.toCompletableFuture(), id);
+    }
+
+    /**
+     * Prepares requests adding or removing provided session, used by {@link ClassifyTableBulkCustomizer}. Requests
+     * are validated and built eagerly (including node index resolution), suppliers only send them.
+     */
+    BulkRequestWriter.Change sessionChange(final boolean isAdd,
+                                           @Nonnull final InstanceIdentifier<ClassifySession> id,
+                                           @Nonnull final ClassifySession classifySession,
+                                           @Nonnull final ClassifyTable classifyTable,
+                                           @Nonnull final MappingContext ctx)
+            throws WriteFailedException {
+        final ClassifyAddDelSession request;
+        try {
+            request = classifyAddDelSessionRequest(isAdd, id, classifySession, classifyTable, ctx);
+        } catch (VppBaseCallException e) {
+            throw isAdd
+                    ? new WriteFailedException.CreateFailedException(id, classifySession, e)
+                    : new WriteFailedException.DeleteFailedException(id, e);
+        }
+        // same session with inverted operation, next nodes are already resolved
+        final ClassifyAddDelSession inverseRequest =
+                getClassifyAddDelSessionRequest(!isAdd, classifySession, request.tableIndex);
+        inverseRequest.hitNextIndex = request.hitNextIndex;
+        inverseRequest.opaqueIndex = request.opaqueIndex;
+        final BulkRequestWriter.Change change = isAdd
+                ? BulkRequestWriter.Change.create(id, classifySession)
+                : BulkRequestWriter.Change.delete(id, classifySession);
+        return change.request(() -> getFutureJVpp().classifyAddDelSession(request),
+                () -> getFutureJVpp().classifyAddDelSession(inverseRequest));
+    }
+
+    private ClassifyAddDelSession classifyAddDelSessionRequest(final boolean isAdd,
+                                                               @Nonnull final InstanceIdentifier<ClassifySession> id,
+                                                               @Nonnull final ClassifySession classifySession,
+                                                               @Nonnull final ClassifyTable classifyTable,
+                                                               @Nonnull final MappingContext ctx)
+            throws VppBaseCallException, WriteFailedException {
         final ClassifyTableKey tableKey = id.firstKeyOf(ClassifyTable.class);
         Preconditions.checkArgument(tableKey != null, "could not find classify table key in {}", id);
 
         final String tableName = tableKey.getName();
-        Preconditions.checkState(classifyTableContext.containsTable(tableName, writeContext.getMappingContext()),
+        Preconditions.checkState(classifyTableContext.containsTable(tableName, ctx),
                 "Could not find classify table index for {} in the classify table context", tableName);
-        final int tableIndex = classifyTableContext.getTableIndex(tableName, writeContext.getMappingContext());
+        final int tableIndex = classifyTableContext.getTableIndex(tableName, ctx);
 
-        final ClassifyTable classifyTable =
-                getClassifyTable(writeContext, id.firstIdentifierOf(ClassifyTable.class), isAdd);
         final ClassifyAddDelSession request = getClassifyAddDelSessionRequest(isAdd, classifySession, tableIndex);
 
         // TODO(HC2VPP-9): registry of next_node translators would allow to weaken dependency between policer
         // and vpp-classifier models
         final NextNode nextNode = classifySession.getNextNode();
         if (nextNode instanceof Standard) {
-            translateNode(request, id, (Standard)nextNode, classifyTable, writeContext.getMappingContext());
+            translateNode(request, id, (Standard)nextNode, classifyTable, ctx);
         } else if (nextNode instanceof Policer) {
-            translateNode(request, (Policer)nextNode, writeContext.getMappingContext());
+            translateNode(request, (Policer)nextNode, ctx);
         }
-        final CompletionStage<ClassifyAddDelSessionReply> createClassifyTableReplyCompletionStage = getFutureJVpp()
-                .classifyAddDelSession(request);
-
-        getReplyForWrite(createClassifyTableReplyCompletionStage.toCompletableFuture(), id);
+        return request;
     }
 
     private void translateNode(final ClassifyAddDelSession request, final InstanceIdentifier<ClassifySession> id,
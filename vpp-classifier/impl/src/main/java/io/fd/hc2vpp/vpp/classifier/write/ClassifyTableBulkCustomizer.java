@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) 2017 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.vpp.classifier.write;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import io.fd.hc2vpp.common.translate.util.BulkRequestWriter;
+import io.fd.hc2vpp.common.translate.util.JvppRequestDeadline;
+import io.fd.honeycomb.translate.MappingContext;
+import io.fd.honeycomb.translate.spi.write.ListWriterCustomizer;
+import io.fd.honeycomb.translate.write.WriteContext;
+import io.fd.honeycomb.translate.write.WriteFailedException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import javax.annotation.Nonnull;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.vpp.classifier.rev170327.classify.table.base.attributes.ClassifySession;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.vpp.classifier.rev170327.classify.table.base.attributes.ClassifySessionKey;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.vpp.classifier.rev170327.vpp.classifier.ClassifyTable;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.vpp.classifier.rev170327.vpp.classifier.ClassifyTableBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.vpp.classifier.rev170327.vpp.classifier.ClassifyTableKey;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Writer customizer handling classify table together with all its sessions. Table is written by
+ * {@link ClassifyTableWriter}, sessions are programmed using {@link BulkRequestWriter}, requests are prepared
+ * by {@link ClassifySessionWriter}.
+ */
+public final class ClassifyTableBulkCustomizer implements ListWriterCustomizer<ClassifyTable, ClassifyTableKey> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ClassifyTableBulkCustomizer.class);
+
+    private final ClassifyTableWriter tableWriter;
+    private final ClassifySessionWriter sessionWriter;
+    private final BulkRequestWriter writer;
+
+    public ClassifyTableBulkCustomizer(@Nonnull final ClassifyTableWriter tableWriter,
+                                       @Nonnull final ClassifySessionWriter sessionWriter,
+                                       @Nonnull final BulkRequestWriter writer) {
+        this.tableWriter = checkNotNull(tableWriter, "tableWriter should not be null");
+        this.sessionWriter = checkNotNull(sessionWriter, "sessionWriter should not be null");
+        this.writer = checkNotNull(writer, "writer should not be null");
+    }
+
+    @Override
+    public void writeCurrentAttributes(@Nonnull final InstanceIdentifier<ClassifyTable> id,
+                                       @Nonnull final ClassifyTable dataAfter,
+                                       @Nonnull final WriteContext writeContext) throws WriteFailedException {
+        tableWriter.writeCurrentAttributes(id, dataAfter, writeContext);
+        final Collection<ClassifySession> sessions = sessions(dataAfter).values();
+        LOG.debug("Writing {} classify sessions for {}", sessions.size(), id);
+        try {
+            apply(writeContext, Collections.emptyList(), changes(id, sessions, dataAfter, writeContext, true));
+        } catch (WriteFailedException | RuntimeException e) {
+            // table was created as part of this write, so it would not be reverted
+            removeTable(id, dataAfter, writeContext);
+            throw e;
+        }
+    }
+
+    @Override
+    public void updateCurrentAttributes(@Nonnull final InstanceIdentifier<ClassifyTable> id,
+                                        @Nonnull final ClassifyTable dataBefore,
+                                        @Nonnull final ClassifyTable dataAfter,
+                                        @Nonnull final WriteContext writeContext) throws WriteFailedException {
+        final Map<ClassifySessionKey, ClassifySession> before = sessions(dataBefore);
+        final Map<ClassifySessionKey, ClassifySession> after = sessions(dataAfter);
+        final List<ClassifySession> removed = new ArrayList<>();
+        final List<ClassifySession> added = new ArrayList<>();
+        for (final ClassifySession sessionBefore : before.values()) {
+            final ClassifySession sessionAfter = after.get(sessionBefore.getKey());
+            if (sessionAfter == null) {
+                removed.add(sessionBefore);
+            } else if (!sessionAfter.equals(sessionBefore)) {
+                throw new WriteFailedException.UpdateFailedException(
+                        id.child(ClassifySession.class, sessionBefore.getKey()), sessionBefore, sessionAfter,
+                        new UnsupportedOperationException("Classify session update is not supported"));
+            }
+        }
+        after.values().stream()
+                .filter(session -> !before.containsKey(session.getKey()))
+                .forEach(added::add);
+
+        if (!withoutSessions(dataBefore).equals(withoutSessions(dataAfter))) {
+            tableWriter.updateCurrentAttributes(id, dataBefore, dataAfter, writeContext);
+        }
+
+        LOG.debug("Updating classify sessions for {}, removing {}, adding {}", id, removed.size(), added.size());
+        apply(writeContext, changes(id, removed, dataBefore, writeContext, false),
+                changes(id, added, dataAfter, writeContext, true));
+    }
+
+    @Override
+    public void deleteCurrentAttributes(@Nonnull final InstanceIdentifier<ClassifyTable> id,
+                                        @Nonnull final ClassifyTable dataBefore,
+                                        @Nonnull final WriteContext writeContext) throws WriteFailedException {
+        final Collection<ClassifySession> sessions = sessions(dataBefore).values();
+        LOG.debug("Removing {} classify sessions for {}", sessions.size(), id);
+        apply(writeContext, changes(id, sessions, dataBefore, writeContext, false), Collections.emptyList());
+        tableWriter.deleteCurrentAttributes(id, dataBefore, writeContext);
+    }
+
+    private void apply(final WriteContext writeContext, final List<BulkRequestWriter.Change> removed,
+                       final List<BulkRequestWriter.Change> added) throws WriteFailedException {
+        try (JvppRequestDeadline deadline = JvppRequestDeadline.forTransaction(writeContext.getModificationCache())) {
+            writer.write(removed, added);
+        }
+    }
+
+    private List<BulkRequestWriter.Change> changes(final InstanceIdentifier<ClassifyTable> id,
+                                                   final Collection<ClassifySession> sessions,
+                                                   final ClassifyTable classifyTable,
+                                                   final WriteContext writeContext,
+                                                   final boolean isAdd) throws WriteFailedException {
+        final MappingContext mappingContext = writeContext.getMappingContext();
+        final List<BulkRequestWriter.Change> changes = new ArrayList<>(sessions.size());
+        for (final ClassifySession session : sessions) {
+            final InstanceIdentifier<ClassifySession> sessionId = id.child(ClassifySession.class, session.getKey());
+            changes.add(sessionWriter.sessionChange(isAdd, sessionId, session, classifyTable, mappingContext));
+        }
+        return changes;
+    }
+
+    private void removeTable(final InstanceIdentifier<ClassifyTable> id, final ClassifyTable table,
+                             final WriteContext writeContext) {
+        try {
+            tableWriter.deleteCurrentAttributes(id, table, writeContext);
+        } catch (WriteFailedException | RuntimeException e) {
+            LOG.warn("Unable to remove classify table {} after failed session write", id, e);
+        }
+    }
+
+    private static ClassifyTable withoutSessions(final ClassifyTable table) {
+        return new ClassifyTableBuilder(table).setClassifySession(null).build();
+    }
+
+    private static Map<ClassifySessionKey, ClassifySession> sessions(final ClassifyTable table) {
+        return Optional.ofNullable(table.getClassifySession())
+                .orElse(Collections.emptyList())
+                .stream()
+                .collect(Collectors.toMap(ClassifySession::getKey, Function.identity(), (left, right) -> left,
+                        LinkedHashMap::new));
+    }
+}
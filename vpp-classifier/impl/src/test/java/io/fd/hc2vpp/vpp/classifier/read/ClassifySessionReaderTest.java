@@ -90,6 +90,22 @@ public class ClassifySessionReaderTest extends
         getCustomizer().readCurrentAttributes(id, builder, ctx);
     }
 
+    @Test(expected = IllegalStateException.class)
+    public void testReadDuplicateMatch() throws ReadFailedException {
+        final InstanceIdentifier<ClassifySession> id = getClassifySessionId(TABLE_NAME, MATCH_1);
+        final ModificationCache cache = new ModificationCache();
+        final ClassifySessionDetailsReplyDump dump = new ClassifySessionDetailsReplyDump();
+        final ClassifySessionDetails details = new ClassifySessionDetails();
+        details.match =
+            new byte[] {0x00, 0x00, 0x00, 0x00, 0x00, 0x00, (byte) 0x01, (byte) 0x02, (byte) 0x03, (byte) 0x04,
+                (byte) 0x05, (byte) 0x06, 0x00, 0x00, 0x00, 0x00};
+        dump.classifySessionDetails = Arrays.asList(details, details);
+        cache.put(ClassifySessionReader.CACHE_KEY + id.firstKeyOf(ClassifyTable.class), dump);
+        when(ctx.getModificationCache()).thenReturn(cache);
+
+        getCustomizer().readCurrentAttributes(id, mock(ClassifySessionBuilder.class), ctx);
+    }
+
     @Test
     public void testGetAllIds() throws ReadFailedException {
         final InstanceIdentifier<ClassifySession> id = getClassifySessionId(TABLE_NAME, MATCH_1);
@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) 2017 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.vpp.classifier.write;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.google.common.collect.ImmutableList;
+import io.fd.hc2vpp.common.test.write.WriterCustomizerTest;
+import io.fd.hc2vpp.common.translate.util.BulkRequestWriter;
+import io.fd.hc2vpp.common.translate.util.NamingContext;
+import io.fd.hc2vpp.vpp.classifier.context.VppClassifierContextManager;
+import io.fd.honeycomb.translate.write.WriteFailedException;
+import io.fd.vpp.jvpp.core.dto.ClassifyAddDelSession;
+import io.fd.vpp.jvpp.core.dto.ClassifyAddDelSessionReply;
+import java.util.Arrays;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.yang.types.rev130715.HexString;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.vpp.classifier.rev170327.OpaqueIndex;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.vpp.classifier.rev170327.PacketHandlingAction;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.vpp.classifier.rev170327.VppClassifier;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.vpp.classifier.rev170327.VppNode;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.vpp.classifier.rev170327.classify.session.attributes.next_node.StandardBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.vpp.classifier.rev170327.classify.table.base.attributes.ClassifySession;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.vpp.classifier.rev170327.classify.table.base.attributes.ClassifySessionBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.vpp.classifier.rev170327.classify.table.base.attributes.ClassifySessionKey;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.vpp.classifier.rev170327.vpp.classifier.ClassifyTable;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.vpp.classifier.rev170327.vpp.classifier.ClassifyTableBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.vpp.classifier.rev170327.vpp.classifier.ClassifyTableKey;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+
+public class ClassifyTableBulkCustomizerTest extends WriterCustomizerTest {
+
+    private static final int TABLE_INDEX = 123;
+    private static final String TABLE_NAME = "table123";
+    private static final InstanceIdentifier<ClassifyTable> IID = InstanceIdentifier.create(VppClassifier.class)
+            .child(ClassifyTable.class, new ClassifyTableKey(TABLE_NAME));
+
+    @Captor
+    private ArgumentCaptor<ClassifyAddDelSession> requestCaptor;
+    @Mock
+    private VppClassifierContextManager classifierContext;
+    private ClassifyTableWriter tableWriter;
+    private ClassifyTableBulkCustomizer customizer;
+
+    @Override
+    public void setUpTest() {
+        tableWriter = mock(ClassifyTableWriter.class);
+        customizer = new ClassifyTableBulkCustomizer(tableWriter,
+                new ClassifySessionWriter(api, classifierContext, new NamingContext("policer-", "policer-context-")),
+                new BulkRequestWriter(2));
+        when(classifierContext.containsTable(TABLE_NAME, mappingContext)).thenReturn(true);
+        when(classifierContext.getTableIndex(TABLE_NAME, mappingContext)).thenReturn(TABLE_INDEX);
+        when(api.classifyAddDelSession(any())).thenReturn(future(new ClassifyAddDelSessionReply()));
+    }
+
+    @Test
+    public void testWrite() throws WriteFailedException {
+        final ClassifyTable table = table(session(1), session(2), session(3));
+        customizer.writeCurrentAttributes(IID, table, writeContext);
+
+        verify(tableWriter).writeCurrentAttributes(IID, table, writeContext);
+        verifyRequests(request(true, 1), request(true, 2), request(true, 3));
+    }
+
+    @Test
+    public void testUpdate() throws WriteFailedException {
+        customizer.updateCurrentAttributes(IID, table(session(1), session(2)), table(session(2), session(3)),
+                writeContext);
+
+        // unchanged session is skipped, removed sessions are processed first
+        verifyRequests(request(false, 1), request(true, 3));
+        verify(tableWriter, never()).updateCurrentAttributes(any(), any(), any(), any());
+    }
+
+    @Test(expected = WriteFailedException.UpdateFailedException.class)
+    public void testUpdateSession() throws WriteFailedException {
+        final ClassifySession updated = new ClassifySessionBuilder(session(1)).setAdvance(7).build();
+        customizer.updateCurrentAttributes(IID, table(session(1)), table(updated), writeContext);
+    }
+
+    @Test
+    public void testDelete() throws WriteFailedException {
+        final ClassifyTable table = table(session(1), session(2));
+        customizer.deleteCurrentAttributes(IID, table, writeContext);
+
+        // sessions are removed before the table
+        final InOrder inOrder = inOrder(api, tableWriter);
+        inOrder.verify(api, times(2)).classifyAddDelSession(any());
+        inOrder.verify(tableWriter).deleteCurrentAttributes(IID, table, writeContext);
+        verifyRequests(request(false, 1), request(false, 2));
+    }
+
+    @Test
+    public void testWriteFailed() {
+        when(api.classifyAddDelSession(any())).thenReturn(failedFuture());
+        final ClassifyTable table = table(session(1));
+        try {
+            customizer.writeCurrentAttributes(IID, table, writeContext);
+        } catch (WriteFailedException e) {
+            // table created by the write is removed
+            verify(tableWriter).deleteCurrentAttributes(IID, table, writeContext);
+            return;
+        }
+        fail("WriteFailedException expected");
+    }
+
+    private void verifyRequests(final ClassifyAddDelSession... requests) {
+        verify(api, times(requests.length)).classifyAddDelSession(requestCaptor.capture());
+        assertEquals(Arrays.asList(requests), requestCaptor.getAllValues());
+    }
+
+    private static ClassifyAddDelSession request(final boolean isAdd, final int session) {
+        final ClassifyAddDelSession request = new ClassifyAddDelSession();
+        request.isAdd = (byte) (isAdd ? 1 : 0);
+        request.tableIndex = TABLE_INDEX;
+        request.opaqueIndex = session;
+        request.hitNextIndex = 0;
+        request.advance = 123;
+        request.match = new byte[] {0x00, 0x00, 0x00, 0x00, 0x00, 0x00, (byte) 0x01, (byte) 0x02, (byte) 0x03,
+                (byte) 0x04, (byte) 0x05, (byte) session, 0x00, 0x00, 0x00, 0x00};
+        return request;
+    }
+
+    private static ClassifyTable table(final ClassifySession... sessions) {
+        return new ClassifyTableBuilder()
+                .setKey(new ClassifyTableKey(TABLE_NAME))
+                .setName(TABLE_NAME)
+                .setClassifySession(ImmutableList.copyOf(sessions))
+                .build();
+    }
+
+    private static ClassifySession session(final int session) {
+        return new ClassifySessionBuilder()
+                .setKey(new ClassifySessionKey(new HexString(match(session))))
+                .setMatch(new HexString(match(session)))
+                .setNextNode(new StandardBuilder()
+                        .setOpaqueIndex(new OpaqueIndex((long) session))
+                        .setHitNext(new VppNode(PacketHandlingAction.Deny))
+                        .build())
+                .setAdvance(123)
+                .build();
+    }
+
+    private static String match(final int session) {
+        return String.format("00:00:00:00:00:00:01:02:03:04:05:%02x:00:00:00:00", session);
+    }
+}
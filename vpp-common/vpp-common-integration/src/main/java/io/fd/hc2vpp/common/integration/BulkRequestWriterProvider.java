@@ -0,0 +1,35 @@
+/*
+ * Copyright (c) 2017 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.common.integration;
+
+import com.google.inject.Inject;
+import io.fd.hc2vpp.common.translate.util.BulkRequestWriter;
+import io.fd.honeycomb.binding.init.ProviderTrait;
+
+/**
+ * Provides {@link BulkRequestWriter} shared by bulk writers of all plugins.
+ */
+public final class BulkRequestWriterProvider extends ProviderTrait<BulkRequestWriter> {
+
+    @Inject
+    private VppConfigAttributes config;
+
+    @Override
+    protected BulkRequestWriter create() {
+        return new BulkRequestWriter(config.jvppBulkWriteWindow);
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2017 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.common.integration;
+
+import com.google.common.base.Optional;
+import com.google.inject.Inject;
+import com.google.inject.name.Named;
+import io.fd.honeycomb.infra.distro.data.ConfigAndOperationalPipelineModule;
+import io.fd.honeycomb.infra.distro.initializer.InitializerPipelineModule;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import javax.annotation.Nonnull;
+import org.opendaylight.controller.md.sal.binding.api.DataBroker;
+import org.opendaylight.controller.md.sal.binding.api.ReadOnlyTransaction;
+import org.opendaylight.controller.md.sal.binding.api.WriteTransaction;
+import org.opendaylight.controller.md.sal.binding.impl.BindingToNormalizedNodeCodec;
+import org.opendaylight.controller.md.sal.common.api.data.LogicalDatastoreType;
+import org.opendaylight.controller.md.sal.common.api.data.ReadFailedException;
+import org.opendaylight.controller.md.sal.common.api.data.TransactionCommitFailedException;
+import org.opendaylight.controller.sal.core.api.model.SchemaService;
+import org.opendaylight.yangtools.yang.binding.DataObject;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.model.api.ContainerSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.DataSchemaNode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Writes configuration present in config data store to (restarted) VPP.
+ * <p/>
+ * Configuration is first removed from config data store using initializer broker (which does not invoke writers)
+ * and then written back using config broker, so that all writers process it as newly created data. All top-level
+ * configuration is written in single transaction, which lets writer registry order writes as on startup and
+ * customizers supporting bulk writes pipeline their requests.
+ */
+final class ConfigurationReplay {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ConfigurationReplay.class);
+
+    @Inject
+    @Named(ConfigAndOperationalPipelineModule.HONEYCOMB_CONFIG)
+    private DataBroker configDataBroker;
+
+    @Inject
+    @Named(InitializerPipelineModule.HONEYCOMB_INITIALIZER)
+    private DataBroker initializerDataBroker;
+
+    @Inject
+    private SchemaService schemaService;
+
+    @Inject
+    private BindingToNormalizedNodeCodec serializer;
+
+    /**
+     * @return number of replayed top-level nodes
+     */
+    int replay() throws ReadFailedException, TransactionCommitFailedException {
+        final Map<InstanceIdentifier<DataObject>, DataObject> configuration = readConfiguration();
+        if (configuration.isEmpty()) {
+            LOG.info("No configuration to replay");
+            return 0;
+        }
+
+        LOG.info("Replaying configuration: {}", configuration.keySet());
+        final WriteTransaction clear = initializerDataBroker.newWriteOnlyTransaction();
+        configuration.keySet().forEach(id -> clear.delete(LogicalDatastoreType.CONFIGURATION, id));
+        clear.submit().checkedGet();
+
+        final WriteTransaction replay = configDataBroker.newWriteOnlyTransaction();
+        configuration.forEach((id, data) -> replay.put(LogicalDatastoreType.CONFIGURATION, id, data));
+        try {
+            replay.submit().checkedGet();
+        } catch (TransactionCommitFailedException e) {
+            // keep configuration in data store, it is replayed by restoration on next honeycomb start
+            LOG.warn("Configuration replay failed, restoring config data store", e);
+            final WriteTransaction restore = initializerDataBroker.newWriteOnlyTransaction();
+            configuration.forEach((id, data) -> restore.put(LogicalDatastoreType.CONFIGURATION, id, data));
+            restore.submit().checkedGet();
+            throw e;
+        }
+        return configuration.size();
+    }
+
+    private Map<InstanceIdentifier<DataObject>, DataObject> readConfiguration() throws ReadFailedException {
+        final Map<InstanceIdentifier<DataObject>, DataObject> configuration = new LinkedHashMap<>();
+        try (final ReadOnlyTransaction tx = configDataBroker.newReadOnlyTransaction()) {
+            for (final DataSchemaNode node : schemaService.getGlobalContext().getChildNodes()) {
+                final InstanceIdentifier<DataObject> id = topLevelId(node);
+                if (id == null) {
+                    continue;
+                }
+                final Optional<DataObject> data = tx.read(LogicalDatastoreType.CONFIGURATION, id).checkedGet();
+                if (data.isPresent()) {
+                    configuration.put(id, data.get());
+                }
+            }
+        }
+        return configuration;
+    }
+
+    @SuppressWarnings("unchecked")
+    private InstanceIdentifier<DataObject> topLevelId(@Nonnull final DataSchemaNode node) {
+        // top-level lists are not addressable as whole in binding
+        if (!node.isConfiguration() || !(node instanceof ContainerSchemaNode)) {
+            return null;
+        }
+        return (InstanceIdentifier<DataObject>) serializer.fromYangInstanceIdentifier(
+                YangInstanceIdentifier.of(node.getQName()));
+    }
+}
@@ -16,30 +16,19 @@
 
 package io.fd.hc2vpp.common.integration;
 
-import com.google.common.base.Charsets;
-import com.google.common.io.CharStreams;
-import com.google.common.primitives.UnsignedInts;
 import com.google.inject.Inject;
 import io.fd.honeycomb.binding.init.ProviderTrait;
 import io.fd.honeycomb.data.init.ShutdownHandler;
-import io.fd.vpp.jvpp.JVppRegistry;
-import io.fd.vpp.jvpp.JVppRegistryImpl;
-import io.fd.vpp.jvpp.VppJNIConnection;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.io.BufferedInputStream;
 import java.io.IOException;
-import java.io.InputStreamReader;
-
-import static com.google.common.base.Preconditions.checkState;
-import static java.lang.String.format;
 
 /**
  * Provides JVppRegistry. Must be a singleton due to shutdown hook usage. Registers shutdown hook to disconnect from
  * VPP.
  */
-public final class JVppRegistryProvider extends ProviderTrait<JVppRegistry> {
+public final class JVppRegistryProvider extends ProviderTrait<ReconnectingJVppRegistry> {
 
     private static final Logger LOG = LoggerFactory.getLogger(JVppRegistryProvider.class);
 
@@ -48,14 +37,11 @@ public final class JVppRegistryProvider extends ProviderTrait<JVppRegistry> {
     @Inject
     private ShutdownHandler shutdownHandler;
 
-    private long connectedVppPid;
-
     @Override
-    protected JVppRegistry create() {
-        final JVppRegistry registry;
+    protected ReconnectingJVppRegistry create() {
+        final ReconnectingJVppRegistry registry;
         try {
-            registry = new JVppRegistryImpl(config.jvppConnectionName);
-            connectedVppPid = initConnectedVppPid(registry);
+            registry = new ReconnectingJVppRegistry(config.jvppConnectionName);
             shutdownHandler.register("jvpp-registry", () -> {
                 // Closing JVpp connection with shutdown hook to erase the connection from VPP so HC will be able
                 // to connect next time. If JVM is force closed, this will not be executed and VPP connection
@@ -70,7 +56,7 @@ public final class JVppRegistryProvider extends ProviderTrait<JVppRegistry> {
                 // status listener says that vpp is running. This condition prevents honeycomb to invoke disconnect on different vpp
                 // instance than it was connected to, which would ultimately lead to vpp being in state that is unresponsive
                 // to connection attempts.
-                if (isConnectedVppRunning(connectedVppPid)) {
+                if (registry.isConnectedVppRunning()) {
                     registry.close();
                     LOG.info("Successfully disconnected from VPP as {}", config.jvppConnectionName);
                 } else {
@@ -84,31 +70,4 @@ public final class JVppRegistryProvider extends ProviderTrait<JVppRegistry> {
         LOG.info("JVpp connection opened successfully as: {}", config.jvppConnectionName);
         return registry;
     }
-
-    /**
-     * Tells whether vpp instance that was used for connection is still running
-     */
-    private static boolean isConnectedVppRunning(final long connectedVppPid) {
-        try {
-            final Process process = Runtime.getRuntime().exec(format("ps -eo pid|grep %s", connectedVppPid));
-
-            final BufferedInputStream input = new BufferedInputStream(process.getInputStream());
-            final String processOut = CharStreams.toString(new InputStreamReader(input, Charsets.UTF_8));
-            return processOut.trim().contains(String.valueOf(connectedVppPid));
-        } catch (IOException e) {
-            throw new IllegalStateException(e);
-        }
-    }
-
-    /**
-     * Read process id of currently connected vpp
-     */
-    private static long initConnectedVppPid(final JVppRegistry jVppRegistry) {
-        checkState(jVppRegistry.getConnection() instanceof VppJNIConnection, "Connection is not %s", VppJNIConnection.class);
-        final VppJNIConnection jniConnection = VppJNIConnection.class.cast(jVppRegistry.getConnection());
-        final VppJNIConnection.ConnectionInfo jniConnectionInfo = VppJNIConnection.ConnectionInfo.class.cast(
-                jniConnection.getConnectionInfo());
-
-        return UnsignedInts.toLong(jniConnectionInfo.pid);
-    }
 }
@@ -19,6 +19,7 @@ package io.fd.hc2vpp.common.integration;
 import com.google.inject.Inject;
 import com.google.inject.Provider;
 import io.fd.hc2vpp.common.translate.util.JvppReplyConsumer;
+import io.fd.hc2vpp.common.translate.util.JvppRequestTimeouts;
 
 class JVppTimeoutProvider implements Provider<JVppTimeoutProvider.JVppTimeoutInit> {
 
@@ -28,6 +29,8 @@ class JVppTimeoutProvider implements Provider<JVppTimeoutProvider.JVppTimeoutIni
     @Override
     public JVppTimeoutInit get() {
         JvppReplyConsumer.JvppReplyTimeoutHolder.setupTimeout(configAttributes.jvppRequestTimeout);
+        JvppRequestTimeouts.setup(JvppRequestTimeouts.parseProfiles(configAttributes.jvppRequestTimeoutProfiles),
+                configAttributes.jvppDumpTimeoutAllowance, configAttributes.jvppTransactionTimeout);
         return new JVppTimeoutInit() {
         };
     }
@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2017 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.common.integration;
+
+import static com.google.common.base.Preconditions.checkState;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.primitives.UnsignedInts;
+import io.fd.vpp.jvpp.JVpp;
+import io.fd.vpp.jvpp.JVppRegistry;
+import io.fd.vpp.jvpp.JVppRegistryImpl;
+import io.fd.vpp.jvpp.VppConnection;
+import io.fd.vpp.jvpp.VppInvocationException;
+import io.fd.vpp.jvpp.VppJNIConnection;
+import io.fd.vpp.jvpp.callback.JVppCallback;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.ToLongFunction;
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * JVppRegistry that can reopen connection to VPP. Plugins registered to the registry are registered again on the new
+ * connection, so that jvpp facades injected into customizers remain usable after VPP restart.
+ */
+@ThreadSafe
+final class ReconnectingJVppRegistry implements JVppRegistry {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ReconnectingJVppRegistry.class);
+
+    private final String connectionName;
+    private final RegistryFactory registryFactory;
+    private final ToLongFunction<JVppRegistry> vppPidReader;
+    @GuardedBy("this")
+    private final Map<JVpp, JVppCallback> plugins = new LinkedHashMap<>();
+    private volatile JVppRegistry delegate;
+    @GuardedBy("this")
+    private boolean delegateClosed;
+    private volatile long connectedVppPid;
+
+    ReconnectingJVppRegistry(@Nonnull final String connectionName) throws IOException {
+        this(connectionName, JVppRegistryImpl::new, ReconnectingJVppRegistry::vppPidOf);
+    }
+
+    @VisibleForTesting
+    ReconnectingJVppRegistry(@Nonnull final String connectionName, @Nonnull final RegistryFactory registryFactory,
+                             @Nonnull final ToLongFunction<JVppRegistry> vppPidReader) throws IOException {
+        this.connectionName = connectionName;
+        this.registryFactory = registryFactory;
+        this.vppPidReader = vppPidReader;
+        this.delegate = registryFactory.create(connectionName);
+        this.connectedVppPid = vppPidReader.applyAsLong(delegate);
+    }
+
+    /**
+     * Opens new connection to VPP and registers all plugins on it. Old connection is always closed first, even if VPP
+     * it was opened to is not running anymore: jvpp keeps connections per client name (and connection state in its
+     * native library), so new connection with the same name can be opened only after the old one was closed.
+     *
+     * @throws IOException if VPP does not accept connection
+     */
+    synchronized void reconnect() throws IOException {
+        if (!delegateClosed) {
+            if (!isConnectedVppRunning()) {
+                LOG.debug("VPP with pid {} is not running anymore, closing its connection", connectedVppPid);
+            }
+            closeQuietly(delegate);
+            // previous attempt could fail after the connection was closed, do not close it again
+            delegateClosed = true;
+        }
+        final JVppRegistry reconnected = registryFactory.create(connectionName);
+        try {
+            plugins.forEach(reconnected::register);
+        } catch (RuntimeException e) {
+            // release client name for the next attempt
+            closeQuietly(reconnected);
+            throw e;
+        }
+        delegate = reconnected;
+        delegateClosed = false;
+        connectedVppPid = vppPidReader.applyAsLong(reconnected);
+        LOG.info("JVpp connection reopened as {} to VPP with pid {}", connectionName, connectedVppPid);
+    }
+
+    /**
+     * @return process id of VPP the registry is connected to
+     */
+    long getConnectedVppPid() {
+        return connectedVppPid;
+    }
+
+    /**
+     * Tells whether vpp instance that was used for connection is still running
+     */
+    boolean isConnectedVppRunning() {
+        return Files.isDirectory(Paths.get("/proc", String.valueOf(connectedVppPid)));
+    }
+
+    @Override
+    public VppConnection getConnection() {
+        return delegate.getConnection();
+    }
+
+    @Override
+    public synchronized void register(final JVpp jvpp, final JVppCallback callback) {
+        delegate.register(jvpp, callback);
+        plugins.put(jvpp, callback);
+    }
+
+    @Override
+    public synchronized void unregister(final String name) {
+        delegate.unregister(name);
+        plugins.keySet().removeIf(jvpp -> jvpp.getClass().getName().equals(name));
+    }
+
+    @Override
+    public JVppCallback get(final String name) {
+        return delegate.get(name);
+    }
+
+    @Override
+    public int controlPing(final Class<? extends JVpp> clazz) throws VppInvocationException {
+        return delegate.controlPing(clazz);
+    }
+
+    @Override
+    public void close() throws Exception {
+        delegate.close();
+    }
+
+    private static void closeQuietly(final JVppRegistry registry) {
+        try {
+            registry.close();
+        } catch (Exception e) {
+            LOG.warn("Unable to close previous JVpp connection", e);
+        }
+    }
+
+    /**
+     * Read process id of currently connected vpp
+     */
+    private static long vppPidOf(final JVppRegistry jVppRegistry) {
+        checkState(jVppRegistry.getConnection() instanceof VppJNIConnection, "Connection is not %s",
+                VppJNIConnection.class);
+        final VppJNIConnection jniConnection = VppJNIConnection.class.cast(jVppRegistry.getConnection());
+        final VppJNIConnection.ConnectionInfo jniConnectionInfo = VppJNIConnection.ConnectionInfo.class.cast(
+                jniConnection.getConnectionInfo());
+
+        return UnsignedInts.toLong(jniConnectionInfo.pid);
+    }
+
+    @FunctionalInterface
+    interface RegistryFactory {
+        JVppRegistry create(@Nonnull String connectionName) throws IOException;
+    }
+}
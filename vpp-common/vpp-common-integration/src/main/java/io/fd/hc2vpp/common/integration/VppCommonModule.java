@@ -19,6 +19,7 @@ package io.fd.hc2vpp.common.integration;
 import com.google.inject.AbstractModule;
 import com.google.inject.Singleton;
 import com.google.inject.multibindings.Multibinder;
+import io.fd.hc2vpp.common.translate.util.BulkRequestWriter;
 import io.fd.hc2vpp.common.translate.util.VppStatusListener;
 import io.fd.honeycomb.translate.read.ReaderFactory;
 import io.fd.vpp.jvpp.JVppRegistry;
@@ -33,9 +34,15 @@ public final class VppCommonModule extends AbstractModule {
         requestInjection(VppConfigAttributes.class);
 
         bind(VppStatusListener.class).toInstance(new VppStatusListener());
-        bind(JVppRegistry.class).toProvider(JVppRegistryProvider.class).in(Singleton.class);
+        bind(ReconnectingJVppRegistry.class).toProvider(JVppRegistryProvider.class).in(Singleton.class);
+        bind(JVppRegistry.class).to(ReconnectingJVppRegistry.class);
         bind(FutureJVppCore.class).toProvider(JVppCoreProvider.class).in(Singleton.class);
         bind(JVppTimeoutProvider.JVppTimeoutInit.class).toProvider(JVppTimeoutProvider.class).asEagerSingleton();
+        // In-process recovery from VPP failures, if enabled
+        bind(VppRecoveryProvider.VppRecoveryInit.class).toProvider(VppRecoveryProvider.class).asEagerSingleton();
+
+        // Writes requests of bulk writers with bounded number of requests in flight
+        bind(BulkRequestWriter.class).toProvider(BulkRequestWriterProvider.class).in(Singleton.class);
 
         // Naming contexts reader exposing context storage over REST/HONEYCOMB_NETCONF
         final Multibinder<ReaderFactory> readerBinder = Multibinder.newSetBinder(binder(), ReaderFactory.class);
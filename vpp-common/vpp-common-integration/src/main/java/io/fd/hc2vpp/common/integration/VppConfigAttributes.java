@@ -28,4 +28,43 @@ public class VppConfigAttributes {
 
     @InjectConfig("jvpp-request-timeout")
     public int jvppRequestTimeout;
+
+    /**
+     * Timeouts in seconds per request message type, e.g. "IpFibDump:60,Ip6FibDump:60".
+     */
+    @InjectConfig("jvpp-request-timeout-profiles")
+    public String jvppRequestTimeoutProfiles;
+
+    /**
+     * Additional time for dumps in milliseconds per 1000 entries of the last reply of the same dump.
+     */
+    @InjectConfig("jvpp-dump-timeout-allowance")
+    public int jvppDumpTimeoutAllowance;
+
+    /**
+     * Time in seconds available to all jvpp requests of single transaction, 0 if not limited.
+     */
+    @InjectConfig("jvpp-transaction-timeout")
+    public int jvppTransactionTimeout;
+
+    /**
+     * Maximum number of requests in flight, used by bulk writers of plugins that enable them.
+     */
+    @InjectConfig("jvpp-bulk-write-window")
+    public int jvppBulkWriteWindow;
+
+    /**
+     * Recover from VPP failure in-process instead of restarting honeycomb.
+     */
+    @InjectConfig("vpp-recovery-enabled")
+    public boolean vppRecoveryEnabled;
+
+    @InjectConfig("vpp-recovery-attempts")
+    public int vppRecoveryAttempts;
+
+    /**
+     * Interval between reconnect attempts in seconds.
+     */
+    @InjectConfig("vpp-recovery-interval")
+    public int vppRecoveryInterval;
 }
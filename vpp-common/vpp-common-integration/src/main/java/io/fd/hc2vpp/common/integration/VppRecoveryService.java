@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2017 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.common.integration;
+
+import com.google.inject.Inject;
+import com.google.inject.name.Named;
+import io.fd.hc2vpp.common.translate.util.VppStatusListener;
+import io.fd.honeycomb.infra.distro.data.context.ContextPipelineModule;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.opendaylight.controller.md.sal.binding.api.DataBroker;
+import org.opendaylight.controller.md.sal.binding.api.WriteTransaction;
+import org.opendaylight.controller.md.sal.common.api.data.LogicalDatastoreType;
+import org.opendaylight.controller.md.sal.common.api.data.ReadFailedException;
+import org.opendaylight.controller.md.sal.common.api.data.TransactionCommitFailedException;
+import org.opendaylight.yang.gen.v1.urn.honeycomb.params.xml.ns.yang.naming.context.rev160513.Contexts;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Recovers VPP connection in-process:
+ * <ol>
+ * <li>reopens jvpp connection, retrying until VPP accepts it</li>
+ * <li>if VPP was restarted (its pid changed), removes naming contexts and notifies
+ * {@link VppStatusListener.VppRestartListener}s, so that data referring to indexes of the previous VPP instance are
+ * dropped and mappings of entities created by VPP itself are restored</li>
+ * <li>notifies {@link VppStatusListener.VppReconnectListener}s, so that event subscriptions are renewed</li>
+ * <li>if VPP was restarted, replays configuration</li>
+ * </ol>
+ * Failure of any listener fails the recovery, which results in honeycomb restart.
+ */
+final class VppRecoveryService implements VppStatusListener.RecoveryHandler {
+
+    private static final Logger LOG = LoggerFactory.getLogger(VppRecoveryService.class);
+
+    @Inject
+    private ReconnectingJVppRegistry registry;
+
+    @Inject
+    @Named(ContextPipelineModule.HONEYCOMB_CONTEXT)
+    private DataBroker contextDataBroker;
+
+    @Inject
+    private ConfigurationReplay configurationReplay;
+
+    @Inject
+    private VppConfigAttributes config;
+
+    @Inject
+    private VppStatusListener vppStatusListener;
+
+    @Override
+    public boolean recover() {
+        final long previousPid = registry.getConnectedVppPid();
+        if (!reconnect()) {
+            return false;
+        }
+        if (registry.getConnectedVppPid() == previousPid) {
+            LOG.info("VPP with pid {} was not restarted, no need to replay configuration", previousPid);
+            // subscriptions were dropped together with the previous connection
+            vppStatusListener.onVppReconnected();
+            return true;
+        }
+        try {
+            resetNamingContexts();
+            vppStatusListener.onVppRestarted();
+            vppStatusListener.onVppReconnected();
+            final int replayed = configurationReplay.replay();
+            LOG.info("Configuration replayed to VPP with pid {}, {} top-level nodes written",
+                    registry.getConnectedVppPid(), replayed);
+            return true;
+        } catch (ReadFailedException | TransactionCommitFailedException e) {
+            LOG.error("Unable to replay configuration to VPP with pid {}", registry.getConnectedVppPid(), e);
+            return false;
+        }
+    }
+
+    private boolean reconnect() {
+        for (int attempt = 1; attempt <= config.vppRecoveryAttempts; attempt++) {
+            try {
+                registry.reconnect();
+                return true;
+            } catch (IOException e) {
+                LOG.debug("Unable to reconnect to VPP, attempt {}/{}", attempt, config.vppRecoveryAttempts, e);
+            }
+            try {
+                TimeUnit.SECONDS.sleep(config.vppRecoveryInterval);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        LOG.error("Unable to reconnect to VPP after {} attempts", config.vppRecoveryAttempts);
+        return false;
+    }
+
+    private void resetNamingContexts() throws TransactionCommitFailedException {
+        final WriteTransaction tx = contextDataBroker.newWriteOnlyTransaction();
+        tx.delete(LogicalDatastoreType.OPERATIONAL, InstanceIdentifier.create(Contexts.class));
+        tx.submit().checkedGet();
+        LOG.debug("Naming contexts removed");
+    }
+}
@@ -0,0 +1,191 @@
+/*
+ * Copyright (c) 2017 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.fd.hc2vpp.common.integration;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.fd.vpp.jvpp.JVpp;
+import io.fd.vpp.jvpp.JVppRegistry;
+import io.fd.vpp.jvpp.VppConnection;
+import io.fd.vpp.jvpp.callback.JVppCallback;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ReconnectingJVppRegistryTest {
+
+    private static final String CONNECTION_NAME = "test-connection";
+    // pid of process that does not exist
+    private static final long DEAD_PID = Long.MAX_VALUE;
+
+    private JVppRegistry first;
+    private JVppRegistry second;
+    private ReconnectingJVppRegistry registry;
+
+    @Before
+    public void setUp() throws Exception {
+        first = mock(JVppRegistry.class);
+        second = mock(JVppRegistry.class);
+        final Iterator<JVppRegistry> registries = Arrays.asList(first, second).iterator();
+        final Iterator<Long> pids = Arrays.asList(DEAD_PID, 2L).iterator();
+        registry = new ReconnectingJVppRegistry(CONNECTION_NAME, name -> registries.next(), r -> pids.next());
+    }
+
+    @Test
+    public void testDelegate() throws Exception {
+        final VppConnection connection = mock(VppConnection.class);
+        when(first.getConnection()).thenReturn(connection);
+        assertSame(connection, registry.getConnection());
+        registry.controlPing(JVpp.class);
+        verify(first).controlPing(JVpp.class);
+    }
+
+    @Test
+    public void testReconnect() throws Exception {
+        final JVpp jvpp = mock(JVpp.class);
+        final JVppCallback callback = mock(JVppCallback.class);
+        registry.register(jvpp, callback);
+        verify(first).register(jvpp, callback);
+
+        registry.reconnect();
+        // client name of the first connection has to be released, even if vpp it was opened to is gone
+        verify(first).close();
+        verify(second).register(jvpp, callback);
+        assertEquals(2L, registry.getConnectedVppPid());
+
+        registry.controlPing(JVpp.class);
+        verify(second).controlPing(JVpp.class);
+    }
+
+    @Test
+    public void testReconnectUnregistered() throws Exception {
+        final JVpp jvpp = mock(JVpp.class);
+        final JVppCallback callback = mock(JVppCallback.class);
+        registry.register(jvpp, callback);
+        registry.unregister(jvpp.getClass().getName());
+
+        registry.reconnect();
+        verify(second, never()).register(jvpp, callback);
+    }
+
+    @Test
+    public void testReconnectAfterVppRestart() throws Exception {
+        final JVppConnections connections = new JVppConnections();
+        final Iterator<Long> pids = Arrays.asList(DEAD_PID, 2L).iterator();
+        final ReconnectingJVppRegistry restarted =
+                new ReconnectingJVppRegistry(CONNECTION_NAME, connections::connect, r -> pids.next());
+
+        restarted.reconnect();
+        assertEquals(2L, restarted.getConnectedVppPid());
+        assertEquals(1, connections.connected.size());
+        assertSame(connections.connected.get(CONNECTION_NAME), restarted.getConnection());
+    }
+
+    @Test
+    public void testReconnectRetry() throws Exception {
+        final JVppConnections connections = new JVppConnections();
+        final Iterator<Long> pids = Arrays.asList(DEAD_PID, 2L).iterator();
+        final ReconnectingJVppRegistry restarted =
+                new ReconnectingJVppRegistry(CONNECTION_NAME, connections::connect, r -> pids.next());
+
+        // vpp is not accepting connections yet
+        connections.vppRunning = false;
+        try {
+            restarted.reconnect();
+            fail("IOException expected");
+        } catch (IOException e) {
+            assertTrue(connections.connected.isEmpty());
+        }
+
+        connections.vppRunning = true;
+        restarted.reconnect();
+        assertEquals(2L, restarted.getConnectedVppPid());
+        assertEquals(1, connections.connected.size());
+    }
+
+    /**
+     * Follows connection handling of VppJNIConnection: connections are kept per client name, new connection with the
+     * same name can be opened only after the previous one was closed. Closing connection to VPP that is not running
+     * anymore succeeds.
+     */
+    private static final class JVppConnections {
+        private final Map<String, VppConnection> connected = new HashMap<>();
+        private boolean vppRunning = true;
+
+        private JVppRegistry connect(final String clientName) throws IOException {
+            if (connected.containsKey(clientName)) {
+                throw new IOException("Client " + clientName + " already connected");
+            }
+            if (!vppRunning) {
+                throw new IOException("Connection returned error -1");
+            }
+            final VppConnection connection = mock(VppConnection.class);
+            connected.put(clientName, connection);
+            return new ConnectedRegistry(clientName, connection);
+        }
+
+        private final class ConnectedRegistry implements JVppRegistry {
+            private final String clientName;
+            private final VppConnection connection;
+
+            private ConnectedRegistry(final String clientName, final VppConnection connection) {
+                this.clientName = clientName;
+                this.connection = connection;
+            }
+
+            @Override
+            public VppConnection getConnection() {
+                return connection;
+            }
+
+            @Override
+            public void register(final JVpp jvpp, final JVppCallback callback) {
+            }
+
+            @Override
+            public void unregister(final String name) {
+            }
+
+            @Override
+            public JVppCallback get(final String name) {
+                return null;
+            }
+
+            @Override
+            public int controlPing(final Class<? extends JVpp> clazz) {
+                return 0;
+            }
+
+            @Override
+            public void close() {
+                connected.remove(clientName, connection);
+            }
+        }
+    }
+}
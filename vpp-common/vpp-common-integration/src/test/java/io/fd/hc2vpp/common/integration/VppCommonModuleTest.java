@@ -28,14 +28,20 @@ import com.google.inject.Inject;
 import com.google.inject.name.Named;
 import com.google.inject.testing.fieldbinder.Bind;
 import com.google.inject.testing.fieldbinder.BoundFieldModule;
+import io.fd.hc2vpp.common.translate.util.BulkRequestWriter;
 import io.fd.hc2vpp.common.translate.util.JvppReplyConsumer;
+import io.fd.hc2vpp.common.translate.util.JvppRequestTimeouts;
 import io.fd.honeycomb.data.init.ShutdownHandler;
 import io.fd.honeycomb.translate.read.ReaderFactory;
+import io.fd.vpp.jvpp.core.dto.IpFibDump;
+import io.fd.vpp.jvpp.core.dto.SwInterfaceDump;
 import java.util.HashSet;
 import java.util.Set;
 import org.junit.Test;
 import org.mockito.Mock;
 import org.opendaylight.controller.md.sal.binding.api.DataBroker;
+import org.opendaylight.controller.md.sal.binding.impl.BindingToNormalizedNodeCodec;
+import org.opendaylight.controller.sal.core.api.model.SchemaService;
 
 public class VppCommonModuleTest {
 
@@ -44,6 +50,24 @@ public class VppCommonModuleTest {
     @Mock
     private DataBroker honeycombContext;
 
+    @Named("honeycomb-config")
+    @Bind
+    @Mock
+    private DataBroker honeycombConfig;
+
+    @Named("honeycomb-initializer")
+    @Bind
+    @Mock
+    private DataBroker honeycombInitializer;
+
+    @Mock
+    @Bind
+    private SchemaService schemaService;
+
+    @Mock
+    @Bind
+    private BindingToNormalizedNodeCodec serializer;
+
     @Mock
     @Bind
     private ShutdownHandler shutdownHandler;
@@ -51,12 +75,19 @@ public class VppCommonModuleTest {
     @Inject
     private Set<ReaderFactory> readerFactories = new HashSet<>();
 
+    @Inject
+    private BulkRequestWriter bulkRequestWriter;
+
     @Test
     public void testConfigure() throws Exception {
         initMocks(this);
         Guice.createInjector(new VppCommonModule(), BoundFieldModule.of(this)).injectMembers(this);
         assertThat(readerFactories, is(not(empty())));
         assertEquals(15, JvppReplyConsumer.JvppReplyTimeoutHolder.getTimeout());
+        assertEquals(30, JvppRequestTimeouts.timeoutFor(IpFibDump.class));
+        assertEquals(15, JvppRequestTimeouts.timeoutFor(SwInterfaceDump.class));
+        assertEquals(0, JvppRequestTimeouts.getTransactionTimeout());
+        assertEquals(64, bulkRequestWriter.getWindowSize());
     }
 
     @Test
@@ -0,0 +1,410 @@
+/*
+ * Copyright (c) 2017 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.common.translate.util;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Conversions of ipv4, ipv6 and mac addresses between byte arrays, primitive values and their textual form.
+ * <p/>
+ * Used by address translators on dump and write paths, therefore avoids {@link java.net.InetAddress}, regular
+ * expressions and intermediate arrays. Strings are formatted in per thread buffer, so the only allocated object is
+ * the result.
+ */
+public final class AddressCodec {
+
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    /**
+     * Large enough for any ipv4, ipv6 or mac address including prefix length.
+     */
+    private static final int BUFFER_SIZE = 64;
+    private static final ThreadLocal<char[]> BUFFER = ThreadLocal.withInitial(() -> new char[BUFFER_SIZE]);
+
+    private static final int IPV4_LENGTH = 4;
+    private static final int IPV6_LENGTH = 16;
+    private static final int IPV6_HEXTETS = 8;
+    private static final int MAC_LENGTH = 6;
+    private static final int MAC_STRING_LENGTH = 17;
+    private static final long MAC_MASK = 0xFFFF_FFFF_FFFFL;
+
+    private AddressCodec() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    // ipv4
+
+    /**
+     * Packs 4 bytes of ipv4 address starting at offset into int, first byte being the most significant one.
+     */
+    public static int ipv4ToInt(@Nonnull final byte[] address, final int offset) {
+        checkArgument(address.length >= offset + IPV4_LENGTH, "Invalid ipv4 address length %s", address.length);
+        return (address[offset] & 0xFF) << 24
+                | (address[offset + 1] & 0xFF) << 16
+                | (address[offset + 2] & 0xFF) << 8
+                | (address[offset + 3] & 0xFF);
+    }
+
+    /**
+     * Writes packed ipv4 address into target array starting at offset.
+     */
+    public static void intToIpv4(final int address, @Nonnull final byte[] target, final int offset) {
+        target[offset] = (byte) (address >>> 24);
+        target[offset + 1] = (byte) (address >>> 16);
+        target[offset + 2] = (byte) (address >>> 8);
+        target[offset + 3] = (byte) address;
+    }
+
+    /**
+     * Parses dotted decimal ipv4 address in given range of value.
+     *
+     * @return packed address
+     * @throws IllegalArgumentException if range does not contain 4 decimal octets separated by dots
+     */
+    public static int parseIpv4(@Nonnull final CharSequence value, final int start, final int end) {
+        int address = 0;
+        int octets = 0;
+        int position = start;
+        while (position < end && octets < IPV4_LENGTH) {
+            if (octets > 0) {
+                checkArgument(value.charAt(position) == '.', "Invalid ipv4 address %s", value);
+                position++;
+            }
+            int octet = 0;
+            int digits = 0;
+            while (position < end && digits < 4) {
+                final char c = value.charAt(position);
+                if (c < '0' || c > '9') {
+                    break;
+                }
+                octet = octet * 10 + (c - '0');
+                digits++;
+                position++;
+            }
+            checkArgument(digits > 0 && digits <= 3 && octet <= 0xFF, "Invalid ipv4 address %s", value);
+            address = address << 8 | octet;
+            octets++;
+        }
+        checkArgument(octets == IPV4_LENGTH && position == end, "Invalid ipv4 address %s", value);
+        return address;
+    }
+
+    /**
+     * Formats 4 bytes of ipv4 address starting at offset in dotted decimal form.
+     */
+    @Nonnull
+    public static String formatIpv4(@Nonnull final byte[] address, final int offset) {
+        return formatIpv4(ipv4ToInt(address, offset));
+    }
+
+    /**
+     * Formats packed ipv4 address in dotted decimal form.
+     */
+    @Nonnull
+    public static String formatIpv4(final int address) {
+        final char[] buffer = BUFFER.get();
+        return new String(buffer, 0, appendIpv4(address, buffer, 0));
+    }
+
+    /**
+     * Formats packed ipv4 address in dotted decimal form followed by /prefixLength.
+     */
+    @Nonnull
+    public static String formatIpv4Prefix(final int address, final int prefixLength) {
+        final char[] buffer = BUFFER.get();
+        int position = appendIpv4(address, buffer, 0);
+        buffer[position++] = '/';
+        return new String(buffer, 0, appendDecimal(prefixLength, buffer, position));
+    }
+
+    // ipv6
+
+    /**
+     * Detects ipv4 address mapped to ipv6 address(::ffff:a.b.c.d).
+     */
+    public static boolean isIpv4Mapped(@Nonnull final byte[] address) {
+        if (address.length != IPV6_LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < 10; i++) {
+            if (address[i] != 0) {
+                return false;
+            }
+        }
+        return address[10] == (byte) 0xFF && address[11] == (byte) 0xFF;
+    }
+
+    /**
+     * Formats 16 byte ipv6 address.
+     *
+     * @param compressed if true, longest run of zero hextets is replaced by "::", as done by
+     *                   {@link com.google.common.net.InetAddresses#toAddrString}. Otherwise all hextets are printed,
+     *                   as done by {@link java.net.Inet6Address#getHostAddress()}
+     */
+    @Nonnull
+    public static String formatIpv6(@Nonnull final byte[] address, final boolean compressed) {
+        final char[] buffer = BUFFER.get();
+        return new String(buffer, 0, appendIpv6(address, compressed, buffer, 0));
+    }
+
+    /**
+     * Formats 16 byte ipv6 address followed by /prefixLength.
+     *
+     * @see #formatIpv6(byte[], boolean)
+     */
+    @Nonnull
+    public static String formatIpv6Prefix(@Nonnull final byte[] address, final boolean compressed,
+                                          final int prefixLength) {
+        final char[] buffer = BUFFER.get();
+        int position = appendIpv6(address, compressed, buffer, 0);
+        buffer[position++] = '/';
+        return new String(buffer, 0, appendDecimal(prefixLength, buffer, position));
+    }
+
+    /**
+     * Parses ipv6 address consisting of hexadecimal hextets, optionally compressed by "::", into target array.
+     *
+     * @return false if range contains address in different form(e.g. with embedded ipv4 address or zone), in which
+     * case target array is left in undefined state
+     */
+    public static boolean parseIpv6(@Nonnull final CharSequence value, final int start, final int end,
+                                    @Nonnull final byte[] target) {
+        checkArgument(target.length == IPV6_LENGTH, "Invalid ipv6 address length %s", target.length);
+        int hextets = 0;
+        int compressionIndex = -1;
+        int position = start;
+        if (end - start >= 2 && value.charAt(start) == ':' && value.charAt(start + 1) == ':') {
+            compressionIndex = 0;
+            position += 2;
+        }
+        while (position < end) {
+            if (hextets == IPV6_HEXTETS) {
+                return false;
+            }
+            int hextet = 0;
+            int digits = 0;
+            while (position < end && digits < 5) {
+                final int digit = Character.digit(value.charAt(position), 16);
+                if (digit < 0) {
+                    break;
+                }
+                hextet = hextet << 4 | digit;
+                digits++;
+                position++;
+            }
+            if (digits == 0 || digits > 4) {
+                return false;
+            }
+            target[2 * hextets] = (byte) (hextet >>> 8);
+            target[2 * hextets + 1] = (byte) hextet;
+            hextets++;
+            if (position == end) {
+                break;
+            }
+            if (value.charAt(position) != ':' || position + 1 == end) {
+                return false;
+            }
+            position++;
+            if (value.charAt(position) == ':') {
+                if (compressionIndex != -1) {
+                    return false;
+                }
+                compressionIndex = hextets;
+                position++;
+            }
+        }
+
+        if (compressionIndex == -1) {
+            return hextets == IPV6_HEXTETS;
+        }
+        if (hextets == IPV6_HEXTETS) {
+            return false;
+        }
+        // move hextets after compression to the end of address and fill the gap with zeroes
+        final int shift = 2 * (IPV6_HEXTETS - hextets);
+        for (int i = 2 * hextets - 1; i >= 2 * compressionIndex; i--) {
+            target[i + shift] = target[i];
+        }
+        for (int i = 2 * compressionIndex; i < 2 * compressionIndex + shift; i++) {
+            target[i] = 0;
+        }
+        return true;
+    }
+
+    // mac
+
+    /**
+     * Detects mac address in form xx:xx:xx:xx:xx:xx.
+     */
+    public static boolean isCanonicalMac(@Nonnull final CharSequence value) {
+        if (value.length() != MAC_STRING_LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < MAC_STRING_LENGTH; i++) {
+            final char c = value.charAt(i);
+            if (i % 3 == 2 ? c != ':' : Character.digit(c, 16) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Parses mac address in form xx:xx:xx:xx:xx:xx.
+     *
+     * @return address packed in 6 least significant bytes
+     * @throws IllegalArgumentException if value is not in expected form
+     */
+    public static long parseMac(@Nonnull final CharSequence value) {
+        checkArgument(isCanonicalMac(value), "Invalid mac address %s", value);
+        long mac = 0;
+        for (int i = 0; i < MAC_STRING_LENGTH; i += 3) {
+            mac = mac << 8 | Character.digit(value.charAt(i), 16) << 4 | Character.digit(value.charAt(i + 1), 16);
+        }
+        return mac;
+    }
+
+    /**
+     * Packs 6 bytes of mac address starting at offset into 6 least significant bytes of long.
+     */
+    public static long macToLong(@Nonnull final byte[] address, final int offset) {
+        checkArgument(address.length >= offset + MAC_LENGTH, "Invalid mac address length %s", address.length);
+        long mac = 0;
+        for (int i = offset; i < offset + MAC_LENGTH; i++) {
+            mac = mac << 8 | (address[i] & 0xFF);
+        }
+        return mac;
+    }
+
+    /**
+     * Writes mac address packed in 6 least significant bytes into target array starting at offset.
+     */
+    public static void longToMac(final long mac, @Nonnull final byte[] target, final int offset) {
+        for (int i = MAC_LENGTH - 1; i >= 0; i--) {
+            target[offset + i] = (byte) (mac >>> (8 * (MAC_LENGTH - 1 - i)));
+        }
+    }
+
+    /**
+     * Formats mac address packed in 6 least significant bytes.
+     *
+     * @param separated if true, bytes are separated by ":"
+     */
+    @Nonnull
+    public static String formatMac(final long mac, final boolean separated) {
+        final char[] buffer = BUFFER.get();
+        final long value = mac & MAC_MASK;
+        int position = 0;
+        for (int i = MAC_LENGTH - 1; i >= 0; i--) {
+            final int octet = (int) (value >>> (8 * i)) & 0xFF;
+            buffer[position++] = HEX_DIGITS[octet >>> 4];
+            buffer[position++] = HEX_DIGITS[octet & 0xF];
+            if (separated && i > 0) {
+                buffer[position++] = ':';
+            }
+        }
+        return new String(buffer, 0, position);
+    }
+
+    private static int appendIpv4(final int address, final char[] buffer, final int offset) {
+        int position = offset;
+        for (int shift = 24; shift >= 0; shift -= 8) {
+            if (shift != 24) {
+                buffer[position++] = '.';
+            }
+            position = appendDecimal((address >>> shift) & 0xFF, buffer, position);
+        }
+        return position;
+    }
+
+    private static int appendIpv6(final byte[] address, final boolean compressed, final char[] buffer,
+                                  final int offset) {
+        checkArgument(address.length == IPV6_LENGTH, "Invalid ipv6 address length %s", address.length);
+        int compressionStart = -1;
+        int compressionLength = 1;
+        if (compressed) {
+            // find longest run of zeroes(at least 2 hextets), first one wins in case of equal length
+            int runStart = -1;
+            for (int i = 0; i <= IPV6_HEXTETS; i++) {
+                if (i < IPV6_HEXTETS && hextet(address, i) == 0) {
+                    if (runStart == -1) {
+                        runStart = i;
+                    }
+                } else if (runStart != -1) {
+                    if (i - runStart > compressionLength) {
+                        compressionStart = runStart;
+                        compressionLength = i - runStart;
+                    }
+                    runStart = -1;
+                }
+            }
+        }
+
+        int position = offset;
+        for (int i = 0; i < IPV6_HEXTETS; i++) {
+            if (compressionStart != -1 && i >= compressionStart && i < compressionStart + compressionLength) {
+                if (i == compressionStart) {
+                    buffer[position++] = ':';
+                    buffer[position++] = ':';
+                }
+                continue;
+            }
+            if (i != 0 && i != compressionStart + compressionLength) {
+                buffer[position++] = ':';
+            }
+            position = appendHex(hextet(address, i), buffer, position);
+        }
+        return position;
+    }
+
+    private static int hextet(final byte[] address, final int index) {
+        return (address[2 * index] & 0xFF) << 8 | (address[2 * index + 1] & 0xFF);
+    }
+
+    private static int appendHex(final int value, final char[] buffer, final int offset) {
+        int position = offset;
+        boolean leading = true;
+        for (int shift = 12; shift >= 0; shift -= 4) {
+            final int digit = (value >>> shift) & 0xF;
+            if (leading && digit == 0 && shift != 0) {
+                continue;
+            }
+            leading = false;
+            buffer[position++] = HEX_DIGITS[digit];
+        }
+        return position;
+    }
+
+    private static int appendDecimal(final int value, final char[] buffer, final int offset) {
+        checkArgument(value >= 0, "Negative value %s", value);
+        if (value == 0) {
+            buffer[offset] = '0';
+            return offset + 1;
+        }
+        int digits = 0;
+        for (int remaining = value; remaining > 0; remaining /= 10) {
+            digits++;
+        }
+        int position = offset + digits;
+        for (int remaining = value; remaining > 0; remaining /= 10) {
+            buffer[--position] = (char) ('0' + remaining % 10);
+        }
+        return offset + digits;
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2017 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.common.translate.util;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import io.fd.vpp.jvpp.dto.JVppReply;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Keeps bounded number of jvpp requests in flight. Requests are sent as soon as there is a free slot in the window,
+ * so that full VPP round-trip latency is paid once per window instead of once per request.
+ * <p/>
+ * Each request is submitted under a key, failures are reported per key by {@link #awaitAll()}.
+ *
+ * @param <K> type of key used for failure attribution
+ */
+@NotThreadSafe
+public final class AsyncRequestWindow<K> implements JvppReplyConsumer {
+
+    private final Semaphore slots;
+    private final int timeoutInSeconds;
+    private final List<PendingRequest<K>> pending = new ArrayList<>();
+
+    /**
+     * Creates window using default jvpp reply timeout.
+     *
+     * @param size maximum number of requests in flight
+     */
+    public AsyncRequestWindow(@Nonnegative final int size) {
+        this(size, JvppReplyTimeoutHolder.getTimeout());
+    }
+
+    /**
+     * @param size             maximum number of requests in flight
+     * @param timeoutInSeconds timeout for each request, measured from the time it was sent
+     */
+    public AsyncRequestWindow(@Nonnegative final int size, @Nonnegative final int timeoutInSeconds) {
+        checkArgument(size > 0, "Window size has to be positive, but was %s", size);
+        this.slots = new Semaphore(size);
+        this.timeoutInSeconds = timeoutInSeconds;
+    }
+
+    /**
+     * Sends request once there is a free slot in the window. Blocks while the window is full.
+     *
+     * @param key     key identifying the request in failures reported by {@link #awaitAll()}
+     * @param request sends the request, invoked only after slot was acquired
+     */
+    public <REP extends JVppReply<?>> void submit(@Nonnull final K key,
+                                                  @Nonnull final Supplier<CompletionStage<REP>> request) {
+        try {
+            slots.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted", e);
+        }
+
+        final CompletionStage<REP> reply;
+        try {
+            reply = getReplyAsync(request.get(), timeoutInSeconds);
+        } catch (RuntimeException e) {
+            slots.release();
+            throw e;
+        }
+        pending.add(new PendingRequest<>(key, reply.toCompletableFuture().whenComplete((rep, t) -> slots.release())));
+    }
+
+    /**
+     * Waits for replies to all submitted requests. Window can be reused afterwards.
+     *
+     * @return failures of submitted requests by key, in submission order. If more requests with the same key failed,
+     * only the first failure is reported. Empty if all requests succeeded.
+     */
+    @Nonnull
+    public Map<K, Throwable> awaitAll() {
+        final Map<K, Throwable> failures = new LinkedHashMap<>();
+        for (final PendingRequest<K> request : pending) {
+            try {
+                request.reply.join();
+            } catch (CompletionException e) {
+                failures.putIfAbsent(request.key, AsyncReplies.unwrap(e));
+            }
+        }
+        pending.clear();
+        return failures.isEmpty()
+                ? Collections.emptyMap()
+                : failures;
+    }
+
+    private static final class PendingRequest<K> {
+        private final K key;
+        private final CompletableFuture<?> reply;
+
+        private PendingRequest(final K key, final CompletableFuture<?> reply) {
+            this.key = key;
+            this.reply = reply;
+        }
+    }
+}
@@ -0,0 +1,273 @@
+/*
+ * Copyright (c) 2017 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.common.translate.util;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import io.fd.honeycomb.translate.write.WriteFailedException;
+import io.fd.vpp.jvpp.dto.JVppReply;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+import org.opendaylight.yangtools.yang.binding.DataObject;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Writes changes of single transaction with bounded number of jvpp requests in flight, see
+ * {@link AsyncRequestWindow}.
+ * <p/>
+ * Removed data are processed before added ones. Success callbacks of changes (e.g. context mapping updates) run only
+ * after all requests succeeded. If any request fails, successful requests are reverted (best effort) and the first
+ * failed change is reported. Other failed changes are attached as suppressed exceptions.
+ */
+@ThreadSafe
+public final class BulkRequestWriter {
+
+    private static final Logger LOG = LoggerFactory.getLogger(BulkRequestWriter.class);
+
+    private final int windowSize;
+
+    /**
+     * @param windowSize maximum number of requests in flight
+     */
+    public BulkRequestWriter(final int windowSize) {
+        checkArgument(windowSize > 0, "Bulk write window has to be positive, but was %s", windowSize);
+        this.windowSize = windowSize;
+    }
+
+    public int getWindowSize() {
+        return windowSize;
+    }
+
+    /**
+     * Sends requests of all provided changes.
+     *
+     * @throws WriteFailedException of the first failed change
+     */
+    public void write(@Nonnull final List<Change> changes) throws WriteFailedException {
+        write(Collections.emptyList(), changes);
+    }
+
+    /**
+     * Sends requests of removed changes, then requests of added changes.
+     *
+     * @throws WriteFailedException of the first failed change
+     */
+    public void write(@Nonnull final List<Change> removed, @Nonnull final List<Change> added)
+            throws WriteFailedException {
+        final long start = System.nanoTime();
+        final Map<Request<?>, Throwable> removeFailures = send(removed);
+        if (!removeFailures.isEmpty()) {
+            revert(removed, removeFailures);
+            throw toWriteFailedException(byChange(removeFailures));
+        }
+
+        final Map<Request<?>, Throwable> addFailures = send(added);
+        if (!addFailures.isEmpty()) {
+            revert(added, addFailures);
+            revert(removed, Collections.emptyMap());
+            throw toWriteFailedException(byChange(addFailures));
+        }
+
+        removed.forEach(change -> change.onSuccess.run());
+        added.forEach(change -> change.onSuccess.run());
+        LOG.debug("{} changes removed and {} changes added in {} ms", removed.size(), added.size(),
+                (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private Map<Request<?>, Throwable> send(final List<Change> changes) {
+        final AsyncRequestWindow<Request<?>> window = new AsyncRequestWindow<>(windowSize);
+        boolean submitted = false;
+        try {
+            for (final Change change : changes) {
+                for (final Request<?> request : change.requests) {
+                    LOG.trace("Writing {}", change.id);
+                    submit(window, request, false);
+                }
+            }
+            submitted = true;
+        } finally {
+            if (!submitted) {
+                // request failed before it was sent, requests already in flight are awaited before failure propagates
+                window.awaitAll().forEach((request, failure) ->
+                        LOG.warn("Write of {} failed", request.change.id, failure));
+            }
+        }
+        return window.awaitAll();
+    }
+
+    /**
+     * Sends inverse requests for all requests of provided changes, that did not fail.
+     */
+    private void revert(final List<Change> changes, final Map<Request<?>, Throwable> failures) {
+        final AsyncRequestWindow<Request<?>> window = new AsyncRequestWindow<>(windowSize);
+        for (final Change change : changes) {
+            for (final Request<?> request : change.requests) {
+                if (failures.containsKey(request)) {
+                    continue;
+                }
+                if (request.inverse == null) {
+                    LOG.warn("Unable to revert {}, request can't be reverted", change.id);
+                    continue;
+                }
+                try {
+                    submit(window, request, true);
+                } catch (RuntimeException e) {
+                    LOG.warn("Unable to revert {}", change.id, e);
+                }
+            }
+        }
+        window.awaitAll().forEach((request, failure) ->
+                LOG.warn("Unable to revert {}", request.change.id, failure));
+    }
+
+    private static <REP extends JVppReply<?>> void submit(final AsyncRequestWindow<Request<?>> window,
+                                                          final Request<REP> request, final boolean inverse) {
+        window.submit(request, inverse
+                ? request.inverse
+                : request.request);
+    }
+
+    /**
+     * Only the first failure of each change is reported.
+     */
+    private static Map<Change, Throwable> byChange(final Map<Request<?>, Throwable> failures) {
+        final Map<Change, Throwable> result = new LinkedHashMap<>();
+        failures.forEach((request, failure) -> result.putIfAbsent(request.change, failure));
+        return result;
+    }
+
+    /**
+     * Converts failures of changes to exception of the first failed change. Other failures are attached
+     * as suppressed exceptions.
+     *
+     * @param failures failures by change, in order of changes
+     */
+    @Nonnull
+    public static WriteFailedException toWriteFailedException(@Nonnull final Map<Change, Throwable> failures) {
+        checkArgument(!failures.isEmpty(), "No failures to report");
+        WriteFailedException result = null;
+        for (final Map.Entry<Change, Throwable> failure : failures.entrySet()) {
+            final WriteFailedException exception = failure.getKey().toWriteFailedException(failure.getValue());
+            if (result == null) {
+                result = exception;
+            } else {
+                LOG.warn("Write of {} failed", failure.getKey().id, exception);
+                result.addSuppressed(exception);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Requests needed to create, update or delete single data object. Changes are compared by identity.
+     */
+    public static final class Change {
+        private final InstanceIdentifier<?> id;
+        private final DataObject dataBefore;
+        private final DataObject dataAfter;
+        private final List<Request<?>> requests = new ArrayList<>(1);
+        private Runnable onSuccess = () -> {
+        };
+
+        private Change(@Nonnull final InstanceIdentifier<?> id, @Nullable final DataObject dataBefore,
+                       @Nullable final DataObject dataAfter) {
+            this.id = requireNonNull(id, "id should not be null");
+            this.dataBefore = dataBefore;
+            this.dataAfter = dataAfter;
+        }
+
+        public static Change create(@Nonnull final InstanceIdentifier<?> id, @Nonnull final DataObject dataAfter) {
+            return new Change(id, null, dataAfter);
+        }
+
+        public static Change update(@Nonnull final InstanceIdentifier<?> id, @Nonnull final DataObject dataBefore,
+                                    @Nonnull final DataObject dataAfter) {
+            return new Change(id, dataBefore, dataAfter);
+        }
+
+        public static Change delete(@Nonnull final InstanceIdentifier<?> id, @Nonnull final DataObject dataBefore) {
+            return new Change(id, dataBefore, null);
+        }
+
+        /**
+         * Adds request of the change. Requests are sent in order they were added.
+         *
+         * @param request        sends request programming the change
+         * @param inverseRequest sends request reverting the change, null if the request can't be reverted
+         */
+        public <REP extends JVppReply<?>> Change request(
+                @Nonnull final Supplier<CompletionStage<REP>> request,
+                @Nullable final Supplier<CompletionStage<REP>> inverseRequest) {
+            requests.add(new Request<>(this, request, inverseRequest));
+            return this;
+        }
+
+        /**
+         * Sets callback invoked after requests of all changes succeeded, e.g. to update context mappings.
+         */
+        public Change onSuccess(@Nonnull final Runnable onSuccess) {
+            this.onSuccess = requireNonNull(onSuccess, "onSuccess should not be null");
+            return this;
+        }
+
+        @Nonnull
+        public InstanceIdentifier<?> getId() {
+            return id;
+        }
+
+        private WriteFailedException toWriteFailedException(final Throwable cause) {
+            if (cause instanceof TimeoutException) {
+                return new WriteTimeoutException(id, cause);
+            }
+            if (dataBefore == null) {
+                return new WriteFailedException.CreateFailedException(id, dataAfter, cause);
+            } else if (dataAfter == null) {
+                return new WriteFailedException.DeleteFailedException(id, cause);
+            } else {
+                return new WriteFailedException.UpdateFailedException(id, dataBefore, dataAfter, cause);
+            }
+        }
+    }
+
+    /**
+     * Single request of a change. Requests are compared by identity.
+     */
+    private static final class Request<REP extends JVppReply<?>> {
+        private final Change change;
+        private final Supplier<CompletionStage<REP>> request;
+        private final Supplier<CompletionStage<REP>> inverse;
+
+        private Request(final Change change, final Supplier<CompletionStage<REP>> request,
+                        final Supplier<CompletionStage<REP>> inverse) {
+            this.change = change;
+            this.request = requireNonNull(request, "request should not be null");
+            this.inverse = inverse;
+        }
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2017 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.common.translate.util;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Bidirectional in-memory index of context data, mapping lookup keys to ids of context list entries, e.g. VPP index
+ * to name of naming context mapping. Each id is mapped to at most one key. A key mapped to more than one id is
+ * ambiguous, such state is invalid and strict lookups for the key fail.
+ * <p/>
+ * Lookups are lock-free. Use together with {@link MappingContextIndex} to keep the index consistent with context data.
+ *
+ * @param <K> type of lookup key
+ * @param <V> type of context entry id
+ */
+@ThreadSafe
+public final class ContextIndex<K, V> {
+
+    private final ConcurrentMap<K, V> keyToId = new ConcurrentHashMap<>();
+    private final ConcurrentMap<V, K> idToKey = new ConcurrentHashMap<>();
+    private final Set<K> ambiguousKeys = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Returns id mapped to provided key.
+     *
+     * @throws IllegalStateException if key is mapped to more than one id
+     */
+    @Nullable
+    public V get(@Nonnull final K key) {
+        if (ambiguousKeys.contains(key)) {
+            throw new IllegalStateException("Multiple mappings defined for " + key);
+        }
+        return keyToId.get(key);
+    }
+
+    /**
+     * Returns first id mapped to provided key, the same as sequential search of context data would.
+     */
+    @Nullable
+    public V getFirst(@Nonnull final K key) {
+        return keyToId.get(key);
+    }
+
+    public boolean containsKey(@Nonnull final K key) {
+        return keyToId.containsKey(key);
+    }
+
+    /**
+     * Returns key of provided id, or null if id is not indexed or has no key.
+     */
+    @Nullable
+    public K getKey(@Nonnull final V id) {
+        return idToKey.get(id);
+    }
+
+    /**
+     * Returns unmodifiable view of indexed keys.
+     */
+    @Nonnull
+    public Set<K> keys() {
+        return Collections.unmodifiableSet(keyToId.keySet());
+    }
+
+    /**
+     * Maps provided id to provided key, replacing previous key of the id.
+     *
+     * @param id  id of context entry
+     * @param key key of the entry, or null if the entry can't be looked up by key
+     * @return previous key of the id
+     */
+    @Nullable
+    public synchronized K put(@Nonnull final V id, @Nullable final K key) {
+        final K previousKey = key == null
+                ? idToKey.remove(id)
+                : idToKey.put(id, key);
+        if (previousKey != null && !previousKey.equals(key)) {
+            keyToId.remove(previousKey, id);
+        }
+        if (key != null) {
+            final V previousId = keyToId.putIfAbsent(key, id);
+            if (previousId != null && !previousId.equals(id)) {
+                ambiguousKeys.add(key);
+            }
+        }
+        return previousKey;
+    }
+
+    /**
+     * Removes mapping of provided id.
+     *
+     * @return false if the index can't be patched and needs to be rebuilt from context data
+     */
+    public synchronized boolean remove(@Nonnull final V id) {
+        final K key = idToKey.remove(id);
+        if (key == null) {
+            return true;
+        }
+        if (ambiguousKeys.contains(key)) {
+            return false;
+        }
+        keyToId.remove(key, id);
+        return true;
+    }
+}
@@ -16,9 +16,9 @@
 
 package io.fd.hc2vpp.common.translate.util;
 
+import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 
-import com.google.common.net.InetAddresses;
 import java.net.InetAddress;
 import java.net.UnknownHostException;
 import java.util.Arrays;
@@ -43,12 +43,9 @@ public interface Ipv4Translator extends ByteDataTranslator {
     default byte[] ipv4AddressPrefixToArray(@Nonnull final Ipv4Prefix ipv4Prefix) {
         checkNotNull(ipv4Prefix, "Cannot convert null prefix");
 
-        byte[] retval = new byte[4];
-        String[] address = ipv4Prefix.getValue().substring(0, ipv4Prefix.getValue().indexOf('/')).split("\\.");
-
-        for (int d = 0; d < 4; d++) {
-            retval[d] = (byte) (Short.parseShort(address[d]) & 0xff);
-        }
+        final String value = ipv4Prefix.getValue();
+        final byte[] retval = new byte[4];
+        AddressCodec.intToIpv4(AddressCodec.parseIpv4(value, 0, value.indexOf('/')), retval, 0);
         return retval;
     }
 
@@ -65,9 +62,9 @@ public interface Ipv4Translator extends ByteDataTranslator {
      * Converts byte array to {@link Ipv4Prefix} with specified prefixLength
      */
     default Ipv4Prefix arrayToIpv4Prefix(final byte[] address, byte prefixLength) {
-        Ipv4AddressNoZone addressPart = arrayToIpv4AddressNoZone(address);
-
-        return new Ipv4Prefix(addressPart.getValue().concat("/").concat(String.valueOf(prefixLength)));
+        checkArgument(address.length == 4 || address.length == 16, "Unable to parse ipv4 from array of length %s",
+                address.length);
+        return new Ipv4Prefix(AddressCodec.formatIpv4Prefix(AddressCodec.ipv4ToInt(address, 0), prefixLength));
     }
 
     /**
@@ -79,14 +76,8 @@ public interface Ipv4Translator extends ByteDataTranslator {
     @Nonnull
     default Ipv4AddressNoZone arrayToIpv4AddressNoZone(@Nonnull byte[] ip) {
         // VPP sends ipv4 in a 16 byte array
-        if (ip.length == 16) {
-            ip = Arrays.copyOfRange(ip, 0, 4);
-        }
-        try {
-            return new Ipv4AddressNoZone(InetAddresses.toAddrString(InetAddress.getByAddress(ip)));
-        } catch (UnknownHostException e) {
-            throw new IllegalArgumentException("Unable to parse ipv4", e);
-        }
+        checkArgument(ip.length == 4 || ip.length == 16, "Unable to parse ipv4 from array of length %s", ip.length);
+        return new Ipv4AddressNoZone(AddressCodec.formatIpv4(ip, 0));
     }
 
     /**
@@ -100,16 +91,15 @@ public interface Ipv4Translator extends ByteDataTranslator {
     }
 
     default byte[] ipv4AddressNoZoneToArray(final String ipv4Addr) {
-        byte[] retval = new byte[4];
-        String[] dots = ipv4Addr.split("\\.");
-
-        for (int d = 0; d < 4; d++) {
-            retval[d] = (byte) (Short.parseShort(dots[d]) & 0xff);
-        }
+        final byte[] retval = new byte[4];
+        AddressCodec.intToIpv4(AddressCodec.parseIpv4(ipv4Addr, 0, ipv4Addr.length()), retval, 0);
         return retval;
     }
 
     default Ipv4Prefix toIpv4Prefix(final byte[] address, final int prefix) {
+        if (address.length == 4) {
+            return new Ipv4Prefix(AddressCodec.formatIpv4Prefix(AddressCodec.ipv4ToInt(address, 0), prefix));
+        }
         try {
             return new Ipv4Prefix(
                     String.format("%s/%s", InetAddress.getByAddress(address).getHostAddress(),
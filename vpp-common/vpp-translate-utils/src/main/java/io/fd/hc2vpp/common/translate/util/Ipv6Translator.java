@@ -62,8 +62,8 @@ public interface Ipv6Translator extends ByteDataTranslator {
     default byte[] ipv6AddressPrefixToArray(@Nonnull final Ipv6Prefix ipv6Prefix) {
         checkNotNull(ipv6Prefix, "Cannot convert null prefix");
 
-        return ipv6AddressNoZoneToArray(new Ipv6AddressNoZone(
-                new Ipv6Address(ipv6Prefix.getValue().substring(0, ipv6Prefix.getValue().indexOf('/')))));
+        final String value = ipv6Prefix.getValue();
+        return Impl.ipv6AddressNoZoneToArray(value, value.indexOf('/'));
     }
 
     /**
@@ -79,6 +79,10 @@ public interface Ipv6Translator extends ByteDataTranslator {
      * Converts byte array to {@link Ipv6Prefix} with specified prefixLength
      */
     default Ipv6Prefix arrayToIpv6Prefix(final byte[] address, int prefixLength) {
+        checkArgument(address.length == 16, "Illegal array length");
+        if (!AddressCodec.isIpv4Mapped(address)) {
+            return new Ipv6Prefix(AddressCodec.formatIpv6Prefix(address, true, prefixLength));
+        }
         Ipv6AddressNoZone addressPart = arrayToIpv6AddressNoZone(address);
         return new Ipv6Prefix(addressPart.getValue().concat("/").concat(String.valueOf(prefixLength)));
     }
@@ -92,7 +96,11 @@ public interface Ipv6Translator extends ByteDataTranslator {
     @Nonnull
     default Ipv6AddressNoZone arrayToIpv6AddressNoZone(@Nonnull byte[] ip) {
         checkArgument(ip.length == 16, "Illegal array length");
+        if (!AddressCodec.isIpv4Mapped(ip)) {
+            return new Ipv6AddressNoZone(AddressCodec.formatIpv6(ip, true));
+        }
 
+        // ipv4 mapped address is printed in ipv4 form
         try {
             return new Ipv6AddressNoZone(InetAddresses.toAddrString(InetAddress.getByAddress(ip)));
         } catch (UnknownHostException e) {
@@ -129,6 +137,9 @@ public interface Ipv6Translator extends ByteDataTranslator {
     }
 
     default Ipv6Prefix toIpv6Prefix(final byte[] address, final int prefix) {
+        if (address.length == 16 && !AddressCodec.isIpv4Mapped(address)) {
+            return new Ipv6Prefix(AddressCodec.formatIpv6Prefix(address, false, prefix));
+        }
         try {
             return new Ipv6Prefix(
                     String.format("%s/%s", InetAddress.getByAddress(address).getHostAddress(),
@@ -140,10 +151,19 @@ public interface Ipv6Translator extends ByteDataTranslator {
     }
 
     class Impl {
-        private static byte[] ipv6AddressNoZoneToArray(@Nonnull final String address){
+        private static byte[] ipv6AddressNoZoneToArray(@Nonnull final String address) {
+            return ipv6AddressNoZoneToArray(address, address.length());
+        }
+
+        private static byte[] ipv6AddressNoZoneToArray(@Nonnull final String address, final int end) {
+            final byte[] result = new byte[16];
+            if (AddressCodec.parseIpv6(address, 0, end, result)) {
+                return result;
+            }
+            // addresses with embedded ipv4 or zone
             try {
                 // No lookup performed for literal ipv6 addresses
-                return InetAddress.getByName(address).getAddress();
+                return InetAddress.getByName(address.substring(0, end)).getAddress();
             } catch (UnknownHostException e) {
                 throw new IllegalArgumentException("Invalid address supplied", e);
             }
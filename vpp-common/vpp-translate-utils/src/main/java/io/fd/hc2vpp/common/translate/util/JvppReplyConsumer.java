@@ -18,15 +18,23 @@ package io.fd.hc2vpp.common.translate.util;
 
 import static com.google.common.base.Preconditions.checkArgument;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.fd.honeycomb.translate.write.WriteFailedException;
 import io.fd.vpp.jvpp.VppBaseCallException;
 import io.fd.vpp.jvpp.dto.JVppReply;
+import io.fd.vpp.jvpp.dto.JVppRequest;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
 import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
 import org.opendaylight.yangtools.yang.binding.DataObject;
@@ -54,6 +62,17 @@ public interface JvppReplyConsumer {
         return getReplyForWrite(future, replyType, JvppReplyTimeoutHolder.getTimeout());
     }
 
+    /**
+     * Consumes reply for jvpp call representing any write operation, waiting for the timeout of provided request type,
+     * see {@link #timeoutFor(Class)}.
+     */
+    default <REP extends JVppReply<?>> REP getReplyForWrite(@Nonnull Future<REP> future,
+                                                            @Nonnull final InstanceIdentifier<?> replyType,
+                                                            @Nonnull final Class<? extends JVppRequest> requestType)
+            throws WriteFailedException {
+        return getReplyForWrite(future, replyType, timeoutFor(requestType));
+    }
+
     /**
      * Consumes reply for jvpp call representing any write operation
      * Should be used in case of calls where it's not clear which write crud operation respective
@@ -83,6 +102,18 @@ public interface JvppReplyConsumer {
         return getReplyForCreate(future, replyType, data, JvppReplyTimeoutHolder.getTimeout());
     }
 
+    /**
+     * Consumes reply for jvpp call representing create operation, waiting for the timeout of provided request type,
+     * see {@link #timeoutFor(Class)}.
+     */
+    default <REP extends JVppReply<?>> REP getReplyForCreate(@Nonnull Future<REP> future,
+                                                             @Nonnull final InstanceIdentifier<?> replyType,
+                                                             @Nonnull final DataObject data,
+                                                             @Nonnull final Class<? extends JVppRequest> requestType)
+        throws WriteFailedException.CreateFailedException {
+        return getReplyForCreate(future, replyType, data, timeoutFor(requestType));
+    }
+
     /**
      * Consumes reply for jvpp call representing create operation
      */
@@ -112,6 +143,19 @@ public interface JvppReplyConsumer {
         return getReplyForUpdate(future, replyType, dataBefore, dataAfter, JvppReplyTimeoutHolder.getTimeout());
     }
 
+    /**
+     * Consumes reply for jvpp call representing update operation, waiting for the timeout of provided request type,
+     * see {@link #timeoutFor(Class)}.
+     */
+    default <REP extends JVppReply<?>> REP getReplyForUpdate(@Nonnull Future<REP> future,
+                                                             @Nonnull final InstanceIdentifier<?> replyType,
+                                                             @Nonnull final DataObject dataBefore,
+                                                             @Nonnull final DataObject dataAfter,
+                                                             @Nonnull final Class<? extends JVppRequest> requestType)
+        throws WriteFailedException.UpdateFailedException {
+        return getReplyForUpdate(future, replyType, dataBefore, dataAfter, timeoutFor(requestType));
+    }
+
     /**
      * Consumes reply for jvpp call representing update operation
      */
@@ -140,6 +184,17 @@ public interface JvppReplyConsumer {
         return getReplyForDelete(future, replyType, JvppReplyTimeoutHolder.getTimeout());
     }
 
+    /**
+     * Consumes reply for jvpp call representing delete operation, waiting for the timeout of provided request type,
+     * see {@link #timeoutFor(Class)}.
+     */
+    default <REP extends JVppReply<?>> REP getReplyForDelete(@Nonnull Future<REP> future,
+                                                             @Nonnull final InstanceIdentifier<?> replyType,
+                                                             @Nonnull final Class<? extends JVppRequest> requestType)
+        throws WriteFailedException.DeleteFailedException {
+        return getReplyForDelete(future, replyType, timeoutFor(requestType));
+    }
+
     /**
      * Consumes reply for jvpp call representing delete operation
      */
@@ -162,6 +217,17 @@ public interface JvppReplyConsumer {
         return getReplyForRead(future, replyType, JvppReplyTimeoutHolder.getTimeout());
     }
 
+    /**
+     * Consumes reply for jvpp call representing read operation, waiting for the timeout of provided request type,
+     * see {@link #timeoutFor(Class)}.
+     */
+    default <REP extends JVppReply<?>> REP getReplyForRead(@Nonnull Future<REP> future,
+                                                           @Nonnull final InstanceIdentifier<?> replyType,
+                                                           @Nonnull final Class<? extends JVppRequest> requestType)
+            throws ReadFailedException {
+        return getReplyForRead(future, replyType, timeoutFor(requestType));
+    }
+
     default <REP extends JVppReply<?>> REP getReplyForRead(@Nonnull Future<REP> future,
                                                            @Nonnull final InstanceIdentifier<?> replyType,
                                                            @Nonnegative final int timeoutInSeconds)
@@ -175,6 +241,13 @@ public interface JvppReplyConsumer {
         }
     }
 
+    /**
+     * Provides reply timeout for given request type, see {@link JvppRequestTimeouts#timeoutFor(Class)}.
+     */
+    default int timeoutFor(@Nonnull final Class<?> requestType) {
+        return JvppRequestTimeouts.timeoutFor(requestType);
+    }
+
     default <REP extends JVppReply<?>> REP getReply(@Nonnull Future<REP> future)
             throws TimeoutException, VppBaseCallException {
         return getReply(future, JvppReplyTimeoutHolder.getTimeout());
@@ -183,19 +256,307 @@ public interface JvppReplyConsumer {
     default <REP extends JVppReply<?>> REP getReply(@Nonnull Future<REP> future,
                                                     @Nonnegative final int timeoutInSeconds)
             throws TimeoutException, VppBaseCallException {
+        checkArgument(timeoutInSeconds > 0, "Timeout cannot be < 0");
+        final JvppReplyStatistics statistics = JvppReplyStatistics.getInstance();
+        // wait only for the time remaining until deadline, if it is shorter than request timeout
+        final long remainingNanos = JvppRequestDeadline.remainingNanos();
+        final boolean limitedByDeadline = remainingNanos < TimeUnit.SECONDS.toNanos(timeoutInSeconds);
+        if (limitedByDeadline) {
+            statistics.requestLimitedByDeadline(remainingNanos <= 0);
+        }
+        final long startTime = statistics.requestStarted();
         try {
-            checkArgument(timeoutInSeconds > 0, "Timeout cannot be < 0");
-            return future.get(timeoutInSeconds, TimeUnit.SECONDS);
+            final REP reply = limitedByDeadline
+                    ? future.get(Math.max(0, remainingNanos), TimeUnit.NANOSECONDS)
+                    : future.get(timeoutInSeconds, TimeUnit.SECONDS);
+            statistics.replyReceived(reply, startTime);
+            return reply;
         } catch (InterruptedException e) {
+            statistics.requestAborted();
             Thread.currentThread().interrupt();
             throw new IllegalStateException("Interrupted", e);
+        } catch (TimeoutException e) {
+            statistics.requestTimedOut(future instanceof CompletionStage
+                    ? (CompletionStage<?>) future
+                    : null);
+            throw e;
         } catch (ExecutionException e) {
             // Execution exception could generally contains any exception
             // when using exceptions instead of return codes just rethrow it for processing on corresponding place
             if (e instanceof ExecutionException && (e.getCause() instanceof VppBaseCallException)) {
+                statistics.requestFailed((VppBaseCallException) e.getCause(), startTime);
                 throw (VppBaseCallException) (e.getCause());
             }
+            statistics.requestAborted();
             throw new IllegalStateException(e);
+        } catch (RuntimeException e) {
+            statistics.requestAborted();
+            throw e;
+        }
+    }
+
+    /**
+     * Non-blocking variant of {@link #getReplyForWrite(Future, InstanceIdentifier)}. Returned stage fails with the same
+     * exceptions the blocking variant throws.
+     */
+    default <REP extends JVppReply<?>> CompletionStage<REP> getReplyForWriteAsync(
+            @Nonnull final CompletionStage<REP> stage,
+            @Nonnull final InstanceIdentifier<?> replyType) {
+        return getReplyForWriteAsync(stage, replyType, JvppReplyTimeoutHolder.getTimeout());
+    }
+
+    /**
+     * Non-blocking variant of {@link #getReplyForWrite(Future, InstanceIdentifier, int)}.
+     */
+    default <REP extends JVppReply<?>> CompletionStage<REP> getReplyForWriteAsync(
+            @Nonnull final CompletionStage<REP> stage,
+            @Nonnull final InstanceIdentifier<?> replyType,
+            @Nonnegative final int timeoutInSeconds) {
+        return AsyncReplies.mapFailure(getReplyAsync(stage, timeoutInSeconds), cause -> {
+            if (cause instanceof TimeoutException) {
+                return new WriteTimeoutException(replyType, cause);
+            } else if (cause instanceof VppBaseCallException) {
+                return new WriteFailedException(replyType, cause);
+            }
+            return cause;
+        });
+    }
+
+    /**
+     * Non-blocking variant of {@link #getReplyForCreate(Future, InstanceIdentifier, DataObject)}. Returned stage fails
+     * with the same exceptions the blocking variant throws.
+     */
+    default <REP extends JVppReply<?>> CompletionStage<REP> getReplyForCreateAsync(
+            @Nonnull final CompletionStage<REP> stage,
+            @Nonnull final InstanceIdentifier<?> replyType,
+            @Nonnull final DataObject data) {
+        return getReplyForCreateAsync(stage, replyType, data, JvppReplyTimeoutHolder.getTimeout());
+    }
+
+    /**
+     * Non-blocking variant of {@link #getReplyForCreate(Future, InstanceIdentifier, DataObject, int)}.
+     */
+    default <REP extends JVppReply<?>> CompletionStage<REP> getReplyForCreateAsync(
+            @Nonnull final CompletionStage<REP> stage,
+            @Nonnull final InstanceIdentifier<?> replyType,
+            @Nonnull final DataObject data,
+            @Nonnegative final int timeoutInSeconds) {
+        return AsyncReplies.mapFailure(getReplyAsync(stage, timeoutInSeconds), cause -> {
+            if (cause instanceof VppBaseCallException) {
+                return new WriteFailedException.CreateFailedException(replyType, data, cause);
+            } else if (cause instanceof TimeoutException) {
+                return new WriteFailedException.CreateFailedException(replyType, data,
+                        new WriteTimeoutException(replyType, cause));
+            }
+            return cause;
+        });
+    }
+
+    /**
+     * Non-blocking variant of {@link #getReplyForUpdate(Future, InstanceIdentifier, DataObject, DataObject)}.
+     * Returned stage fails with the same exceptions the blocking variant throws.
+     */
+    default <REP extends JVppReply<?>> CompletionStage<REP> getReplyForUpdateAsync(
+            @Nonnull final CompletionStage<REP> stage,
+            @Nonnull final InstanceIdentifier<?> replyType,
+            @Nonnull final DataObject dataBefore,
+            @Nonnull final DataObject dataAfter) {
+        return getReplyForUpdateAsync(stage, replyType, dataBefore, dataAfter, JvppReplyTimeoutHolder.getTimeout());
+    }
+
+    /**
+     * Non-blocking variant of {@link #getReplyForUpdate(Future, InstanceIdentifier, DataObject, DataObject, int)}.
+     */
+    default <REP extends JVppReply<?>> CompletionStage<REP> getReplyForUpdateAsync(
+            @Nonnull final CompletionStage<REP> stage,
+            @Nonnull final InstanceIdentifier<?> replyType,
+            @Nonnull final DataObject dataBefore,
+            @Nonnull final DataObject dataAfter,
+            @Nonnegative final int timeoutInSeconds) {
+        return AsyncReplies.mapFailure(getReplyAsync(stage, timeoutInSeconds), cause -> {
+            if (cause instanceof VppBaseCallException) {
+                return new WriteFailedException.UpdateFailedException(replyType, dataBefore, dataAfter, cause);
+            } else if (cause instanceof TimeoutException) {
+                return new WriteFailedException.UpdateFailedException(replyType, dataBefore, dataAfter,
+                        new WriteTimeoutException(replyType, cause));
+            }
+            return cause;
+        });
+    }
+
+    /**
+     * Non-blocking variant of {@link #getReplyForDelete(Future, InstanceIdentifier)}. Returned stage fails with the
+     * same exceptions the blocking variant throws.
+     */
+    default <REP extends JVppReply<?>> CompletionStage<REP> getReplyForDeleteAsync(
+            @Nonnull final CompletionStage<REP> stage,
+            @Nonnull final InstanceIdentifier<?> replyType) {
+        return getReplyForDeleteAsync(stage, replyType, JvppReplyTimeoutHolder.getTimeout());
+    }
+
+    /**
+     * Non-blocking variant of {@link #getReplyForDelete(Future, InstanceIdentifier, int)}.
+     */
+    default <REP extends JVppReply<?>> CompletionStage<REP> getReplyForDeleteAsync(
+            @Nonnull final CompletionStage<REP> stage,
+            @Nonnull final InstanceIdentifier<?> replyType,
+            @Nonnegative final int timeoutInSeconds) {
+        return AsyncReplies.mapFailure(getReplyAsync(stage, timeoutInSeconds), cause -> {
+            if (cause instanceof VppBaseCallException) {
+                return new WriteFailedException.DeleteFailedException(replyType, cause);
+            } else if (cause instanceof TimeoutException) {
+                return new WriteFailedException.DeleteFailedException(replyType,
+                        new WriteTimeoutException(replyType, cause));
+            }
+            return cause;
+        });
+    }
+
+    /**
+     * Non-blocking variant of {@link #getReplyForRead(Future, InstanceIdentifier)}. Returned stage fails with the same
+     * exceptions the blocking variant throws.
+     */
+    default <REP extends JVppReply<?>> CompletionStage<REP> getReplyForReadAsync(
+            @Nonnull final CompletionStage<REP> stage,
+            @Nonnull final InstanceIdentifier<?> replyType) {
+        return getReplyForReadAsync(stage, replyType, JvppReplyTimeoutHolder.getTimeout());
+    }
+
+    /**
+     * Non-blocking variant of {@link #getReplyForRead(Future, InstanceIdentifier, int)}.
+     */
+    default <REP extends JVppReply<?>> CompletionStage<REP> getReplyForReadAsync(
+            @Nonnull final CompletionStage<REP> stage,
+            @Nonnull final InstanceIdentifier<?> replyType,
+            @Nonnegative final int timeoutInSeconds) {
+        return AsyncReplies.mapFailure(getReplyAsync(stage, timeoutInSeconds), cause -> {
+            if (cause instanceof TimeoutException) {
+                return new ReadTimeoutException(replyType, cause);
+            } else if (cause instanceof VppBaseCallException) {
+                return new ReadFailedException(replyType, cause);
+            }
+            return cause;
+        });
+    }
+
+    /**
+     * Non-blocking variant of {@link #getReply(Future, int)}. Returned stage fails with {@link TimeoutException} if
+     * reply is not received within provided timeout, or with {@link VppBaseCallException} if VPP call fails.
+     */
+    default <REP extends JVppReply<?>> CompletionStage<REP> getReplyAsync(@Nonnull final CompletionStage<REP> stage,
+                                                                          @Nonnegative final int timeoutInSeconds) {
+        checkArgument(timeoutInSeconds > 0, "Timeout cannot be < 0");
+        final JvppReplyStatistics statistics = JvppReplyStatistics.getInstance();
+        final long timeoutNanos = TimeUnit.SECONDS.toNanos(timeoutInSeconds);
+        // deadline of calling thread applies also to async replies
+        final long remainingNanos = JvppRequestDeadline.remainingNanos();
+        final boolean limitedByDeadline = remainingNanos < timeoutNanos;
+        if (limitedByDeadline) {
+            statistics.requestLimitedByDeadline(remainingNanos <= 0);
+        }
+        final long startTime = statistics.requestStarted();
+        final CompletableFuture<REP> result = new CompletableFuture<>();
+        final ScheduledFuture<?> timeout = AsyncReplies.TIMEOUT_SCHEDULER.schedule(() -> {
+            if (result.completeExceptionally(limitedByDeadline
+                    ? new TimeoutException("Reply not received before deadline")
+                    : new TimeoutException("Reply not received within " + timeoutInSeconds + " seconds"))) {
+                statistics.requestTimedOut(stage);
+            }
+        }, limitedByDeadline ? Math.max(0, remainingNanos) : timeoutNanos, TimeUnit.NANOSECONDS);
+        stage.whenComplete((reply, failure) -> {
+            timeout.cancel(false);
+            if (failure == null) {
+                if (result.complete(reply)) {
+                    statistics.replyReceived(reply, startTime);
+                }
+            } else {
+                final Throwable cause = AsyncReplies.unwrap(failure);
+                if (result.completeExceptionally(cause)) {
+                    if (cause instanceof VppBaseCallException) {
+                        statistics.requestFailed((VppBaseCallException) cause, startTime);
+                    } else {
+                        statistics.requestAborted();
+                    }
+                }
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Waits for reply provided by one of the {@code get*Async} write methods. Exceptions the stage failed with are
+     * rethrown unwrapped.
+     */
+    default <REP> REP awaitWriteReply(@Nonnull final CompletionStage<REP> stage) throws WriteFailedException {
+        try {
+            return stage.toCompletableFuture().join();
+        } catch (CompletionException e) {
+            final Throwable cause = AsyncReplies.unwrap(e);
+            if (cause instanceof WriteFailedException) {
+                throw (WriteFailedException) cause;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    /**
+     * Waits for reply provided by one of the {@code get*Async} read methods. Exceptions the stage failed with are
+     * rethrown unwrapped.
+     */
+    default <REP> REP awaitReadReply(@Nonnull final CompletionStage<REP> stage) throws ReadFailedException {
+        try {
+            return stage.toCompletableFuture().join();
+        } catch (CompletionException e) {
+            final Throwable cause = AsyncReplies.unwrap(e);
+            if (cause instanceof ReadFailedException) {
+                throw (ReadFailedException) cause;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    /**
+     * Helpers for non-blocking reply handling.
+     */
+    final class AsyncReplies {
+
+        /**
+         * Completes pending replies exceptionally once their timeout expires. Cancelled timeouts are removed
+         * immediately, so that many requests in flight do not pile up in the queue.
+         */
+        private static final ScheduledThreadPoolExecutor TIMEOUT_SCHEDULER = createTimeoutScheduler();
+
+        private AsyncReplies() {
+            throw new UnsupportedOperationException("Utility class");
+        }
+
+        private static ScheduledThreadPoolExecutor createTimeoutScheduler() {
+            final ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1,
+                    new ThreadFactoryBuilder().setNameFormat("jvpp-reply-timeout-%d").setDaemon(true).build());
+            scheduler.setRemoveOnCancelPolicy(true);
+            return scheduler;
+        }
+
+        /**
+         * Returns cause of the failure, stripped from {@link CompletionException} added by stage composition.
+         */
+        public static Throwable unwrap(@Nonnull final Throwable failure) {
+            return failure instanceof CompletionException && failure.getCause() != null
+                    ? failure.getCause()
+                    : failure;
+        }
+
+        private static <REP> CompletionStage<REP> mapFailure(@Nonnull final CompletionStage<REP> stage,
+                                                             @Nonnull final Function<Throwable, Throwable> mapper) {
+            final CompletableFuture<REP> result = new CompletableFuture<>();
+            stage.whenComplete((reply, failure) -> {
+                if (failure == null) {
+                    result.complete(reply);
+                } else {
+                    result.completeExceptionally(mapper.apply(unwrap(failure)));
+                }
+            });
+            return result;
         }
     }
 
@@ -0,0 +1,271 @@
+/*
+ * Copyright (c) 2017 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.common.translate.util;
+
+import io.fd.vpp.jvpp.VppBaseCallException;
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Statistics of jvpp requests, recorded by {@link JvppReplyConsumer} for every consumed reply.
+ * <p/>
+ * Message type is resolved from reply class (or from method name of {@link VppBaseCallException}), facade from
+ * package of the reply (io.fd.vpp.jvpp.&lt;facade&gt;.dto). Recording of replies is lock-free and does not allocate
+ * once message type was seen. Type of request that timed out is not known until its reply arrives, so timeouts are
+ * counted globally and attributed to message type only if the reply arrives later.
+ */
+@ThreadSafe
+public final class JvppReplyStatistics implements JvppReplyStatisticsMXBean {
+
+    private static final Logger LOG = LoggerFactory.getLogger(JvppReplyStatistics.class);
+    private static final JvppReplyStatistics INSTANCE = new JvppReplyStatistics();
+
+    static final String OBJECT_NAME = "io.fd.hc2vpp:type=JvppReplyStatistics";
+    static final String UNKNOWN_FACADE = "unknown";
+    private static final String REPLY_SUFFIX = "Reply";
+    private static final String DUMP_REPLY_SUFFIX = "DetailsReplyDump";
+    private static final String DUMP_SUFFIX = "Dump";
+    private static final String DTO_PACKAGE_SUFFIX = ".dto";
+    private static final String JVPP_PACKAGE_PREFIX = "io.fd.vpp.jvpp.";
+
+    private final ConcurrentMap<String, MessageReplyStatistics> byMessageType = new ConcurrentHashMap<>();
+    private final ClassValue<ReplyType> byReplyClass = new ClassValue<ReplyType>() {
+        @Override
+        protected ReplyType computeValue(final Class<?> replyClass) {
+            final String facade = facadeOf(replyClass);
+            final MessageReplyStatistics statistics =
+                    byMessageType.computeIfAbsent(messageTypeOf(replyClass), type -> new MessageReplyStatistics(type, facade));
+            // message type could be registered by failure before, without facade
+            statistics.setFacade(facade);
+            return new ReplyType(statistics, detailsFieldOf(replyClass));
+        }
+    };
+    private final LongAdder inFlight = new LongAdder();
+    private final LongAdder timeouts = new LongAdder();
+    private final LongAdder deadlineLimited = new LongAdder();
+    private final LongAdder deadlineExpirations = new LongAdder();
+
+    JvppReplyStatistics() {
+    }
+
+    public static JvppReplyStatistics getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Registers statistics in platform MBean server, does nothing if already registered.
+     */
+    public static void registerMBean() {
+        final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            final ObjectName name = new ObjectName(OBJECT_NAME);
+            if (!server.isRegistered(name)) {
+                server.registerMBean(INSTANCE, name);
+                LOG.debug("Jvpp reply statistics registered as {}", name);
+            }
+        } catch (JMException e) {
+            LOG.warn("Unable to register jvpp reply statistics MBean", e);
+        }
+    }
+
+    /**
+     * Marks start of waiting for reply.
+     *
+     * @return start time to be passed to one of the record methods
+     */
+    long requestStarted() {
+        inFlight.increment();
+        return System.nanoTime();
+    }
+
+    void replyReceived(@Nullable final Object reply, final long startTime) {
+        final long latency = System.nanoTime() - startTime;
+        inFlight.decrement();
+        if (reply != null) {
+            final ReplyType replyType = byReplyClass.get(reply.getClass());
+            replyType.statistics.recordReply(latency);
+            if (replyType.details != null) {
+                replyType.statistics.recordDumpSize(sizeOf(replyType.details, reply));
+            }
+        }
+    }
+
+    void requestFailed(@Nonnull final VppBaseCallException failure, final long startTime) {
+        final long latency = System.nanoTime() - startTime;
+        inFlight.decrement();
+        final String methodName = failure.getMethodName();
+        if (methodName != null && !methodName.isEmpty()) {
+            forMessageType(Character.toUpperCase(methodName.charAt(0)) + methodName.substring(1))
+                    .recordError(latency);
+        }
+    }
+
+    /**
+     * Marks end of waiting for reply, that was not received or failed without VPP error.
+     */
+    void requestAborted() {
+        inFlight.decrement();
+    }
+
+    /**
+     * Records timeout. If reply is still pending, its type is recorded once the reply arrives.
+     */
+    void requestTimedOut(@Nullable final CompletionStage<?> pendingReply) {
+        inFlight.decrement();
+        timeouts.increment();
+        if (pendingReply != null) {
+            pendingReply.thenAccept(this::lateReplyReceived);
+        }
+    }
+
+    void lateReplyReceived(@Nullable final Object reply) {
+        if (reply != null) {
+            byReplyClass.get(reply.getClass()).statistics.recordTimeout();
+        }
+    }
+
+    /**
+     * Records that waiting for reply was shortened by {@link JvppRequestDeadline}.
+     *
+     * @param expired true if the deadline already expired before waiting started
+     */
+    void requestLimitedByDeadline(final boolean expired) {
+        deadlineLimited.increment();
+        if (expired) {
+            deadlineExpirations.increment();
+        }
+    }
+
+    /**
+     * @return number of entries in the last reply to given dump request, 0 if not known
+     */
+    public int getLastDumpSize(@Nonnull final String messageType) {
+        final MessageReplyStatistics statistics = byMessageType.get(messageType);
+        return statistics == null
+                ? 0
+                : statistics.getLastDumpSize();
+    }
+
+    @Override
+    public long getRequestsInFlight() {
+        return inFlight.sum();
+    }
+
+    @Override
+    public long getTimeouts() {
+        return timeouts.sum();
+    }
+
+    @Override
+    public long getDeadlineLimitedRequests() {
+        return deadlineLimited.sum();
+    }
+
+    @Override
+    public long getDeadlineExpirations() {
+        return deadlineExpirations.sum();
+    }
+
+    @Override
+    public List<MessageReplyStatistics> getMessageStatistics() {
+        return new ArrayList<>(byMessageType.values());
+    }
+
+    private MessageReplyStatistics forMessageType(final String messageType) {
+        final MessageReplyStatistics statistics = byMessageType.get(messageType);
+        return statistics != null
+                ? statistics
+                : byMessageType.computeIfAbsent(messageType, type -> new MessageReplyStatistics(type, UNKNOWN_FACADE));
+    }
+
+    /**
+     * Derives request name from reply class, e.g. SwInterfaceDump from SwInterfaceDetailsReplyDump.
+     */
+    static String messageTypeOf(@Nonnull final Class<?> replyClass) {
+        final String name = replyClass.getSimpleName();
+        if (name.endsWith(DUMP_REPLY_SUFFIX)) {
+            return name.substring(0, name.length() - DUMP_REPLY_SUFFIX.length()) + DUMP_SUFFIX;
+        } else if (name.endsWith(REPLY_SUFFIX)) {
+            return name.substring(0, name.length() - REPLY_SUFFIX.length());
+        }
+        return name;
+    }
+
+    /**
+     * Finds list of details in dump reply (jvpp dumps keep details in single public list field).
+     */
+    @Nullable
+    private static Field detailsFieldOf(@Nonnull final Class<?> replyClass) {
+        if (!replyClass.getSimpleName().endsWith(DUMP_REPLY_SUFFIX)) {
+            return null;
+        }
+        for (final Field field : replyClass.getFields()) {
+            if (List.class.isAssignableFrom(field.getType())) {
+                return field;
+            }
+        }
+        return null;
+    }
+
+    private static int sizeOf(@Nonnull final Field details, @Nonnull final Object reply) {
+        try {
+            final List<?> list = (List<?>) details.get(reply);
+            return list == null
+                    ? 0
+                    : list.size();
+        } catch (IllegalAccessException e) {
+            LOG.trace("Unable to read size of {}", reply.getClass(), e);
+            return 0;
+        }
+    }
+
+    static String facadeOf(@Nonnull final Class<?> replyClass) {
+        final String packageName = replyClass.getPackage() == null
+                ? ""
+                : replyClass.getPackage().getName();
+        if (packageName.startsWith(JVPP_PACKAGE_PREFIX) && packageName.endsWith(DTO_PACKAGE_SUFFIX)
+                && packageName.length() > JVPP_PACKAGE_PREFIX.length() + DTO_PACKAGE_SUFFIX.length()) {
+            return packageName.substring(JVPP_PACKAGE_PREFIX.length(),
+                    packageName.length() - DTO_PACKAGE_SUFFIX.length());
+        }
+        return UNKNOWN_FACADE;
+    }
+
+    private static final class ReplyType {
+        private final MessageReplyStatistics statistics;
+        private final Field details;
+
+        private ReplyType(@Nonnull final MessageReplyStatistics statistics, @Nullable final Field details) {
+            this.statistics = statistics;
+            this.details = details;
+        }
+    }
+}
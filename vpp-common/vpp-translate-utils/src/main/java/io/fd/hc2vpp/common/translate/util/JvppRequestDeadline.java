@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2017 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.common.translate.util;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkState;
+
+import com.google.common.annotations.VisibleForTesting;
+import io.fd.honeycomb.translate.ModificationCache;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * Deadline of jvpp requests issued by current thread. While deadline is bound, {@link JvppReplyConsumer} waits
+ * for each reply only for the remaining time (or for the request timeout, whichever is shorter).
+ * <p/>
+ * Transaction deadline is bound explicitly by translation code that receives read or write context of a transaction.
+ * Deadline is set when the transaction binds it for the first time, using timeout provided by
+ * {@link JvppRequestTimeouts#getTransactionTimeout()}, and is stored in {@link ModificationCache} of the transaction.
+ * All requests of the transaction therefore share the same deadline, expired deadline stays expired until the
+ * transaction ends and requests of other transactions are not affected:
+ * <pre>
+ * try (JvppRequestDeadline deadline = JvppRequestDeadline.forTransaction(ctx.getModificationCache())) {
+ *     // all jvpp requests of the transaction share the same deadline
+ * }
+ * </pre>
+ * Deadlines can be nested, nested deadline never extends the outer one.
+ */
+public final class JvppRequestDeadline implements AutoCloseable {
+
+    private static final ThreadLocal<JvppRequestDeadline> CURRENT = new ThreadLocal<>();
+    private static final Object TRANSACTION_DEADLINE_KEY = new Object();
+
+    private final long deadlineNanos;
+    private final JvppRequestDeadline previous;
+
+    private JvppRequestDeadline(final long deadlineNanos, @Nullable final JvppRequestDeadline previous) {
+        this.deadlineNanos = deadlineNanos;
+        this.previous = previous;
+    }
+
+    /**
+     * Binds deadline to current thread.
+     *
+     * @param timeout time available for all jvpp requests issued until the deadline is closed
+     */
+    public static JvppRequestDeadline start(@Nonnegative final long timeout, @Nonnull final TimeUnit unit) {
+        checkArgument(timeout >= 0, "Timeout cannot be < 0");
+        return bind(System.nanoTime() + unit.toNanos(timeout));
+    }
+
+    /**
+     * Binds deadline of transaction the cache belongs to.
+     * If transaction timeout is not configured, only timeout of individual requests applies.
+     *
+     * @param cache modification cache of read or write context of the transaction
+     */
+    public static JvppRequestDeadline forTransaction(@Nonnull final ModificationCache cache) {
+        return forTransaction(cache, JvppRequestTimeouts.getTransactionTimeout());
+    }
+
+    @VisibleForTesting
+    static JvppRequestDeadline forTransaction(@Nonnull final ModificationCache cache,
+                                              @Nonnegative final int transactionTimeout) {
+        Long deadlineNanos = (Long) cache.get(TRANSACTION_DEADLINE_KEY);
+        if (deadlineNanos == null) {
+            if (transactionTimeout == 0) {
+                return bind(Long.MAX_VALUE);
+            }
+            // start of the transaction, deadline ends together with its context
+            deadlineNanos = System.nanoTime() + TimeUnit.SECONDS.toNanos(transactionTimeout);
+            cache.put(TRANSACTION_DEADLINE_KEY, deadlineNanos);
+        }
+        return bind(deadlineNanos);
+    }
+
+    private static JvppRequestDeadline bind(final long deadlineNanos) {
+        final JvppRequestDeadline current = CURRENT.get();
+        final JvppRequestDeadline deadline = current == null
+                ? new JvppRequestDeadline(deadlineNanos, null)
+                : new JvppRequestDeadline(earlier(current.deadlineNanos, deadlineNanos), current);
+        CURRENT.set(deadline);
+        return deadline;
+    }
+
+    private static long earlier(final long first, final long second) {
+        if (first == Long.MAX_VALUE) {
+            return second;
+        } else if (second == Long.MAX_VALUE) {
+            return first;
+        }
+        // nanoTime values have to be compared by difference, because of possible overflow
+        return first - second < 0
+                ? first
+                : second;
+    }
+
+    /**
+     * @return time remaining until deadline bound to current thread in nanoseconds (negative if already expired),
+     * {@link Long#MAX_VALUE} if no deadline is bound
+     */
+    static long remainingNanos() {
+        final JvppRequestDeadline current = CURRENT.get();
+        return current == null
+                ? Long.MAX_VALUE
+                : current.getRemainingNanos();
+    }
+
+    /**
+     * @return time remaining until this deadline in nanoseconds, negative if already expired
+     */
+    public long getRemainingNanos() {
+        return deadlineNanos == Long.MAX_VALUE
+                ? Long.MAX_VALUE
+                : deadlineNanos - System.nanoTime();
+    }
+
+    @Override
+    public void close() {
+        checkState(CURRENT.get() == this, "Deadline closed out of order");
+        if (previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2017 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.common.translate.util;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import com.google.common.base.Splitter;
+import com.google.common.collect.ImmutableMap;
+import java.util.Map;
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Timeouts of jvpp requests, that differ from default reply timeout provided by
+ * {@link JvppReplyConsumer.JvppReplyTimeoutHolder}:
+ * <ul>
+ * <li>per message type profiles, e.g. IpFibDump:60</li>
+ * <li>allowance for dumps, proportional to size of the last reply of the same dump</li>
+ * <li>timeout of whole transaction, see {@link JvppRequestDeadline}</li>
+ * </ul>
+ * Timeouts are resolved by {@link JvppReplyConsumer} for requests whose type is provided by the caller, so that they
+ * apply from the very first request of given type. Other requests use the default reply timeout.
+ */
+public final class JvppRequestTimeouts {
+
+    private static final Logger LOG = LoggerFactory.getLogger(JvppRequestTimeouts.class);
+    private static final Splitter.MapSplitter PROFILE_SPLITTER =
+            Splitter.on(',').omitEmptyStrings().trimResults().withKeyValueSeparator(Splitter.on(':').trimResults());
+    private static final String DUMP_SUFFIX = "Dump";
+    private static final ClassValue<String> MESSAGE_TYPES = new ClassValue<String>() {
+        @Override
+        protected String computeValue(final Class<?> requestType) {
+            return requestType.getSimpleName();
+        }
+    };
+
+    private static volatile boolean configured;
+    private static volatile Map<String, Integer> profiles = ImmutableMap.of();
+    private static volatile int dumpAllowanceMillis;
+    private static volatile int transactionTimeout;
+
+    private JvppRequestTimeouts() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    /**
+     * @param profiles            timeouts in seconds per request message type
+     * @param dumpAllowanceMillis additional time in milliseconds per 1000 entries of the last dump of the same type
+     * @param transactionTimeout  timeout of whole transaction in seconds, 0 if not limited
+     */
+    public static synchronized void setup(@Nonnull final Map<String, Integer> profiles,
+                                          @Nonnegative final int dumpAllowanceMillis,
+                                          @Nonnegative final int transactionTimeout) {
+        if (configured) {
+            // do not fail on reconfigure, to not disturb restarts
+            LOG.warn("JVpp request timeouts already configured");
+            return;
+        }
+        profiles.forEach((type, timeout) ->
+                checkArgument(timeout > 0, "Timeout of %s has to be positive, but was %s", type, timeout));
+        checkArgument(dumpAllowanceMillis >= 0, "Dump allowance cannot be < 0");
+        checkArgument(transactionTimeout >= 0, "Transaction timeout cannot be < 0");
+        JvppRequestTimeouts.profiles = ImmutableMap.copyOf(profiles);
+        JvppRequestTimeouts.dumpAllowanceMillis = dumpAllowanceMillis;
+        JvppRequestTimeouts.transactionTimeout = transactionTimeout;
+        configured = true;
+        LOG.info("Jvpp request timeout profiles: {}, dump allowance: {}ms per 1000 entries, transaction timeout: {}s",
+                profiles, dumpAllowanceMillis, transactionTimeout);
+    }
+
+    /**
+     * Parses timeout profiles in format MessageType:seconds[,MessageType:seconds...].
+     */
+    public static Map<String, Integer> parseProfiles(@Nonnull final String profiles) {
+        final ImmutableMap.Builder<String, Integer> parsed = ImmutableMap.builder();
+        try {
+            PROFILE_SPLITTER.split(profiles).forEach((type, timeout) -> parsed.put(type, Integer.valueOf(timeout)));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid jvpp timeout profiles: " + profiles, e);
+        }
+        return parsed.build();
+    }
+
+    /**
+     * Provides reply timeout for given request type. Timeout from profile (or the default one) is extended
+     * for dumps by allowance proportional to size of the last reply of the same dump.
+     *
+     * @param requestType type of jvpp request, e.g. IpFibDump
+     * @return timeout in seconds
+     */
+    public static int timeoutFor(@Nonnull final Class<?> requestType) {
+        return timeoutFor(MESSAGE_TYPES.get(requestType));
+    }
+
+    private static int timeoutFor(@Nonnull final String messageType) {
+        final Integer profile = profiles.get(messageType);
+        final int timeout = profile != null
+                ? profile
+                : JvppReplyConsumer.JvppReplyTimeoutHolder.getTimeout();
+        if (dumpAllowanceMillis == 0 || !messageType.endsWith(DUMP_SUFFIX)) {
+            return timeout;
+        }
+        final long allowanceMillis =
+                (long) JvppReplyStatistics.getInstance().getLastDumpSize(messageType) * dumpAllowanceMillis / 1000;
+        final int allowance = (int) Math.min(Integer.MAX_VALUE - timeout, (allowanceMillis + 999) / 1000);
+        if (allowance > 0) {
+            LOG.debug("Timeout of {} extended by {}s to {}s", messageType, allowance, timeout + allowance);
+        }
+        return timeout + allowance;
+    }
+
+    /**
+     * @return timeout of whole transaction in seconds, 0 if not limited
+     */
+    public static int getTransactionTimeout() {
+        return transactionTimeout;
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2017 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.common.translate.util;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Lock-free latency histogram with power of two buckets in microseconds. Bucket i counts latencies in
+ * [2^(i-1), 2^i) microseconds, bucket 0 latencies below 1 microsecond. Recording does not allocate.
+ */
+@ThreadSafe
+public final class LatencyHistogram {
+
+    /**
+     * Number of buckets, last bucket counts all latencies above ~17 minutes.
+     */
+    public static final int BUCKETS = 32;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sumMicros = new LongAdder();
+    private final AtomicLong maxMicros = new AtomicLong();
+
+    /**
+     * Records single latency.
+     */
+    public void record(final long latencyNanos) {
+        final long micros = Math.max(0, TimeUnit.NANOSECONDS.toMicros(latencyNanos));
+        buckets.incrementAndGet(bucketOf(micros));
+        count.increment();
+        sumMicros.add(micros);
+        long max = maxMicros.get();
+        while (micros > max && !maxMicros.compareAndSet(max, micros)) {
+            max = maxMicros.get();
+        }
+    }
+
+    /**
+     * @return number of recorded latencies
+     */
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * @return number of latencies recorded in given bucket
+     */
+    public long getBucketCount(final int bucket) {
+        return buckets.get(bucket);
+    }
+
+    /**
+     * @return exclusive upper bound of given bucket in microseconds
+     */
+    public static long getBucketUpperBoundMicros(final int bucket) {
+        return 1L << bucket;
+    }
+
+    /**
+     * @return mean of recorded latencies in microseconds, 0 if nothing was recorded
+     */
+    public long getMeanMicros() {
+        final long recorded = count.sum();
+        return recorded == 0
+                ? 0
+                : sumMicros.sum() / recorded;
+    }
+
+    /**
+     * @return maximal recorded latency in microseconds
+     */
+    public long getMaxMicros() {
+        return maxMicros.get();
+    }
+
+    /**
+     * @param percentile requested percentile, from (0, 100]
+     * @return upper bound of bucket containing given percentile of latencies in microseconds (values are
+     * overestimated by at most factor of 2), 0 if nothing was recorded
+     */
+    public long getPercentileMicros(final double percentile) {
+        checkArgument(percentile > 0 && percentile <= 100, "Invalid percentile %s", percentile);
+        long total = 0;
+        final long[] snapshot = new long[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++) {
+            snapshot[i] = buckets.get(i);
+            total += snapshot[i];
+        }
+        if (total == 0) {
+            return 0;
+        }
+        final long rank = (long) Math.ceil(total * percentile / 100);
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += snapshot[i];
+            if (seen >= rank) {
+                return Math.min(getBucketUpperBoundMicros(i), getMaxMicros());
+            }
+        }
+        return getMaxMicros();
+    }
+
+    private static int bucketOf(final long micros) {
+        return Math.min(Long.SIZE - Long.numberOfLeadingZeros(micros), BUCKETS - 1);
+    }
+}
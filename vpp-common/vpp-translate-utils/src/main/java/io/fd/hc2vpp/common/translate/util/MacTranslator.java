@@ -20,7 +20,6 @@ import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 
 import com.google.common.base.Splitter;
-import java.util.Arrays;
 import java.util.List;
 import java.util.function.BiConsumer;
 import javax.annotation.Nonnull;
@@ -40,6 +39,11 @@ public interface MacTranslator {
      */
     @Nonnull
     default byte[] parseMac(@Nonnull final String macAddress) {
+        if (AddressCodec.isCanonicalMac(macAddress)) {
+            final byte[] mac = new byte[6];
+            AddressCodec.longToMac(AddressCodec.parseMac(macAddress), mac, 0);
+            return mac;
+        }
         final List<String> parts = COLON_SPLITTER.splitToList(macAddress);
         checkArgument(parts.size() == 6, "Mac address is expected to have 6 parts but was: %s", macAddress);
         return parseMacLikeString(parts);
@@ -67,7 +71,7 @@ public interface MacTranslator {
      */
     default String byteArrayToMacUnseparated(byte[] address) {
         checkArgument(address.length >= 6, "Illegal array length");
-        return Hex.encodeHexString(Arrays.copyOf(address, 6));
+        return AddressCodec.formatMac(AddressCodec.macToLong(address, 0), false);
     }
 
     /**
@@ -75,19 +79,7 @@ public interface MacTranslator {
      */
     default String byteArrayToMacSeparated(byte[] address) {
         checkArgument(address.length >= 6, "Illegal array length");
-
-        String unseparatedAddress = Hex.encodeHexString(Arrays.copyOf(address, 6));
-        String separated = "";
-
-        for (int i = 0; i < unseparatedAddress.length(); i = i + 2) {
-            if (i == (unseparatedAddress.length() - 2)) {
-                separated = separated + unseparatedAddress.substring(0 + i, 2 + i);
-            } else {
-                separated = separated + unseparatedAddress.substring(0 + i, 2 + i) + ":";
-            }
-        }
-
-        return separated;
+        return AddressCodec.formatMac(AddressCodec.macToLong(address, 0), true);
     }
 
     default PhysAddress toPhysAddress(final byte[] macAddress) {
@@ -99,6 +91,9 @@ public interface MacTranslator {
      */
     default byte[] macToByteArray(String mac) {
         checkNotNull(mac, "MAC cannot be null");
+        if (AddressCodec.isCanonicalMac(mac)) {
+            return parseMac(mac);
+        }
 
         mac = mac.replace(":", "");
 
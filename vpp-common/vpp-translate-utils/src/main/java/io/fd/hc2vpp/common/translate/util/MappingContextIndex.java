@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2017 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.common.translate.util;
+
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.fd.honeycomb.translate.MappingContext;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * In-memory index of context data, kept per {@link MappingContext} instance. The index is built from context data
+ * the first time a mapping context instance is used and is patched by modifications made through
+ * {@link #update} afterwards, so it assumes the mapping context is transaction scoped.
+ * <p/>
+ * Building the index and modifying context data are serialized per mapping context instance, so the index never
+ * misses modifications made while it was being built. Lookups on the returned index do not lock, the index
+ * implementation is responsible for making them safe with concurrent modifications.
+ *
+ * @param <I> type of index
+ */
+@ThreadSafe
+public final class MappingContextIndex<I> {
+
+    /**
+     * Weak keys compare by identity, so the index is dropped together with the transaction it belongs to.
+     */
+    private final Cache<MappingContext, Holder> holders = CacheBuilder.newBuilder().weakKeys().build();
+    private final Function<MappingContext, I> loader;
+
+    /**
+     * @param loader builds the index from context data
+     */
+    public MappingContextIndex(@Nonnull final Function<MappingContext, I> loader) {
+        this.loader = requireNonNull(loader, "loader should not be null");
+    }
+
+    /**
+     * Returns index for provided mapping context, builds it from context data if not present yet.
+     */
+    @Nonnull
+    public I get(@Nonnull final MappingContext mappingContext) {
+        final Holder holder = getHolder(mappingContext);
+        final I index = holder.index;
+        if (index != null) {
+            return index;
+        }
+        synchronized (holder) {
+            return holder.getOrLoad(mappingContext);
+        }
+    }
+
+    /**
+     * Modifies context data and patches the index accordingly. If the index was not built yet, only context data
+     * are modified.
+     *
+     * @param mappingContext mapping context providing context data for current transaction
+     * @param contextUpdate  modifies context data
+     * @param indexUpdate    patches the index, returns false if the index can't be patched and needs to be rebuilt
+     *                       from context data on next access
+     */
+    public void update(@Nonnull final MappingContext mappingContext, @Nonnull final Runnable contextUpdate,
+                       @Nonnull final Predicate<? super I> indexUpdate) {
+        final Holder holder = getHolder(mappingContext);
+        synchronized (holder) {
+            contextUpdate.run();
+            if (holder.index != null && !indexUpdate.test(holder.index)) {
+                holder.index = null;
+            }
+        }
+    }
+
+    /**
+     * Runs provided action with modifications of the mapping context blocked, e.g. to check for a mapping
+     * and add it if missing. The action can modify context data only through {@link #update}.
+     */
+    public <T> T locked(@Nonnull final MappingContext mappingContext, @Nonnull final Function<? super I, T> action) {
+        final Holder holder = getHolder(mappingContext);
+        synchronized (holder) {
+            return action.apply(holder.getOrLoad(mappingContext));
+        }
+    }
+
+    /**
+     * Drops the index of provided mapping context, it is rebuilt from context data on next access. Useful if context
+     * data might have been modified outside of this index.
+     */
+    public void invalidate(@Nonnull final MappingContext mappingContext) {
+        final Holder holder = holders.getIfPresent(mappingContext);
+        if (holder != null) {
+            synchronized (holder) {
+                holder.index = null;
+            }
+        }
+    }
+
+    private Holder getHolder(final MappingContext mappingContext) {
+        final Holder holder = holders.getIfPresent(mappingContext);
+        if (holder != null) {
+            return holder;
+        }
+        try {
+            return holders.get(mappingContext, Holder::new);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Unable to create index holder", e);
+        }
+    }
+
+    private final class Holder {
+        @GuardedBy("this")
+        private volatile I index;
+
+        private I getOrLoad(final MappingContext mappingContext) {
+            if (index == null) {
+                try {
+                    index = requireNonNull(loader.apply(mappingContext), "loader returned null index");
+                } catch (RuntimeException e) {
+                    throw new IllegalStateException("Unable to build index from context data", e);
+                }
+            }
+            return index;
+        }
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2017 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.common.translate.util;
+
+import java.util.concurrent.atomic.LongAdder;
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Statistics of single jvpp message type.
+ */
+@ThreadSafe
+public final class MessageReplyStatistics {
+
+    private final String messageType;
+    private volatile String facade;
+    private final LatencyHistogram latency = new LatencyHistogram();
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder timeouts = new LongAdder();
+    private volatile int lastDumpSize;
+
+    MessageReplyStatistics(@Nonnull final String messageType, @Nonnull final String facade) {
+        this.messageType = messageType;
+        this.facade = facade;
+    }
+
+    void recordReply(final long latencyNanos) {
+        latency.record(latencyNanos);
+    }
+
+    void recordError(final long latencyNanos) {
+        latency.record(latencyNanos);
+        errors.increment();
+    }
+
+    void recordTimeout() {
+        timeouts.increment();
+    }
+
+    void recordDumpSize(final int size) {
+        lastDumpSize = size;
+    }
+
+    void setFacade(@Nonnull final String facade) {
+        this.facade = facade;
+    }
+
+    /**
+     * @return name of request message, e.g. SwInterfaceDump
+     */
+    public String getMessageType() {
+        return messageType;
+    }
+
+    /**
+     * @return jvpp facade (core or plugin name) the message belongs to
+     */
+    public String getFacade() {
+        return facade;
+    }
+
+    /**
+     * @return number of completed requests, including failed ones
+     */
+    public long getRequests() {
+        return latency.getCount();
+    }
+
+    /**
+     * @return number of requests failed in VPP
+     */
+    public long getErrors() {
+        return errors.sum();
+    }
+
+    /**
+     * @return number of requests not completed within timeout
+     */
+    public long getTimeouts() {
+        return timeouts.sum();
+    }
+
+    /**
+     * @return number of entries in the last reply, 0 if message is not a dump
+     */
+    public int getLastDumpSize() {
+        return lastDumpSize;
+    }
+
+    public long getMeanLatencyMicros() {
+        return latency.getMeanMicros();
+    }
+
+    public long getMaxLatencyMicros() {
+        return latency.getMaxMicros();
+    }
+
+    public long getP50LatencyMicros() {
+        return latency.getPercentileMicros(50);
+    }
+
+    public long getP99LatencyMicros() {
+        return latency.getPercentileMicros(99);
+    }
+
+    /**
+     * @return latency histogram of completed requests
+     */
+    public LatencyHistogram getLatencyHistogram() {
+        return latency;
+    }
+}
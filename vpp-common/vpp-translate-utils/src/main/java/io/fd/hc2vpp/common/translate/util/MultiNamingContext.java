@@ -20,11 +20,14 @@ import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkState;
 
 import com.google.common.base.Optional;
+import com.google.common.util.concurrent.Striped;
 import io.fd.honeycomb.translate.MappingContext;
 import io.fd.honeycomb.translate.util.RWUtils;
 import java.util.Collections;
+import java.util.concurrent.locks.Lock;
 import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
+import javax.annotation.concurrent.ThreadSafe;
 import org.opendaylight.yang.gen.v1.urn.honeycomb.params.xml.ns.yang.multi.naming.context.rev160411.MultiMappingCtxAugmentation;
 import org.opendaylight.yang.gen.v1.urn.honeycomb.params.xml.ns.yang.multi.naming.context.rev160411.multi.naming.contexts.attributes.MultiNamingContexts;
 import org.opendaylight.yang.gen.v1.urn.honeycomb.params.xml.ns.yang.multi.naming.context.rev160411.multi.naming.contexts.attributes.multi.naming.contexts.MultiNaming;
@@ -40,13 +43,21 @@ import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
 import org.opendaylight.yangtools.yang.binding.KeyedInstanceIdentifier;
 
 /**
- * One to many context mapping
+ * One to many context mapping. Reads do not lock, modifications lock only the parent mapping they modify.
  */
+@ThreadSafe
 public class MultiNamingContext {
 
+    private static final int LOCK_STRIPES = 64;
+
     private final KeyedInstanceIdentifier<MultiNaming, MultiNamingKey>
             multiNamingContextIid;
 
+    /**
+     * Serializes read-modify-write operations per parent name.
+     */
+    private final Striped<Lock> parentLocks = Striped.lock(LOCK_STRIPES);
+
     private final int startIndex;
 
     public MultiNamingContext(@Nonnull final String instanceName, final int startIndex) {
@@ -57,29 +68,42 @@ public class MultiNamingContext {
         this.startIndex = startIndex;
     }
 
-    public synchronized void addChild(@Nonnull final String parentName, final int childIndex,
-                                      @Nonnull final String childName,
-                                      @Nonnull final MappingContext mappingContext) {
+    public void addChild(@Nonnull final String parentName, final int childIndex,
+                         @Nonnull final String childName,
+                         @Nonnull final MappingContext mappingContext) {
         checkArgument(childIndex >= startIndex, "Index cannot be lower than start index %s", startIndex);
         final KeyedInstanceIdentifier<Mapping, MappingKey> mappingIid = getMappingIid(parentName);
 
-        //uses merge to preserve previous
-        mappingContext.merge(mappingIid,
-                new MappingBuilder().setName(parentName).setValue(Collections.singletonList(new ValueBuilder()
-                        .setIndex(childIndex)
-                        .setName(childName)
-                        .build())).build());
+        final Lock lock = parentLocks.get(parentName);
+        lock.lock();
+        try {
+            //uses merge to preserve previous
+            mappingContext.merge(mappingIid,
+                    new MappingBuilder().setName(parentName).setValue(Collections.singletonList(new ValueBuilder()
+                            .setIndex(childIndex)
+                            .setName(childName)
+                            .build())).build());
+        } finally {
+            lock.unlock();
+        }
     }
 
-    public synchronized void addChild(@Nonnull final String parentName,
-                                      @Nonnull final String childName,
-                                      @Nonnull final MappingContext mappingContext) {
-        addChild(parentName, getNextAvailableChildIndex(parentName, mappingContext), childName, mappingContext);
+    public void addChild(@Nonnull final String parentName,
+                         @Nonnull final String childName,
+                         @Nonnull final MappingContext mappingContext) {
+        // lock is reentrant, so it is held also while adding the child
+        final Lock lock = parentLocks.get(parentName);
+        lock.lock();
+        try {
+            addChild(parentName, getNextAvailableChildIndex(parentName, mappingContext), childName, mappingContext);
+        } finally {
+            lock.unlock();
+        }
     }
 
-    public synchronized String getChildName(@Nonnull final String parentName,
-                                            @Nonnull final int childIndex,
-                                            @Nonnull final MappingContext mappingContext) {
+    public String getChildName(@Nonnull final String parentName,
+                               @Nonnull final int childIndex,
+                               @Nonnull final MappingContext mappingContext) {
         final Optional<Mapping> read = mappingContext.read(getMappingIid(parentName));
 
         checkState(read.isPresent(), "Mapping not present");
@@ -89,9 +113,9 @@ public class MultiNamingContext {
                 .collect(RWUtils.singleItemCollector()).getName();
     }
 
-    public synchronized int getChildIndex(@Nonnull final String parentName,
-                                          @Nonnull final String childName,
-                                          @Nonnull final MappingContext mappingContext) {
+    public int getChildIndex(@Nonnull final String parentName,
+                             @Nonnull final String childName,
+                             @Nonnull final MappingContext mappingContext) {
         final Optional<Mapping> read = mappingContext.read(getMappingIid(parentName));
 
         checkState(read.isPresent(), "Mapping not present");
@@ -102,25 +126,30 @@ public class MultiNamingContext {
     }
 
 
-    public synchronized void removeChild(@Nonnull final String parentName,
-                                         @Nonnull final String childName,
-                                         @Nonnull final MappingContext mappingContext) {
-
-        final Optional<Mapping> read = mappingContext.read(getMappingIid(parentName));
-
-        // ignore delete's for non-existing parent
-        if (read.isPresent()) {
-            final Mapping mapping = read.get();
-
-            // overrides old data with new(without removed child)
-            mappingContext.put(getMappingIid(parentName), new MappingBuilder()
-                    .setName(mapping.getName())
-                    .setKey(mapping.getKey())
-                    .setValue(mapping.getValue()
-                            .stream()
-                            .filter(value -> !value.getName().equals(childName))
-                            .collect(Collectors.toList()))
-                    .build());
+    public void removeChild(@Nonnull final String parentName,
+                            @Nonnull final String childName,
+                            @Nonnull final MappingContext mappingContext) {
+        final Lock lock = parentLocks.get(parentName);
+        lock.lock();
+        try {
+            final Optional<Mapping> read = mappingContext.read(getMappingIid(parentName));
+
+            // ignore delete's for non-existing parent
+            if (read.isPresent()) {
+                final Mapping mapping = read.get();
+
+                // overrides old data with new(without removed child)
+                mappingContext.put(getMappingIid(parentName), new MappingBuilder()
+                        .setName(mapping.getName())
+                        .setKey(mapping.getKey())
+                        .setValue(mapping.getValue()
+                                .stream()
+                                .filter(value -> !value.getName().equals(childName))
+                                .collect(Collectors.toList()))
+                        .build());
+            }
+        } finally {
+            lock.unlock();
         }
     }
 
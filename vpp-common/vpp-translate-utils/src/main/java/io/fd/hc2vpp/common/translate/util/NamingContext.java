@@ -17,16 +17,13 @@
 package io.fd.hc2vpp.common.translate.util;
 
 import static com.google.common.base.Preconditions.checkArgument;
-import static com.google.common.base.Preconditions.checkState;
 
 import com.google.common.base.Optional;
 import io.fd.honeycomb.translate.MappingContext;
-import io.fd.honeycomb.translate.util.RWUtils;
-import java.util.List;
 import java.util.function.Supplier;
-import java.util.stream.Collector;
-import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
 import org.opendaylight.yang.gen.v1.urn.honeycomb.params.xml.ns.yang.naming.context.rev160513.Contexts;
 import org.opendaylight.yang.gen.v1.urn.honeycomb.params.xml.ns.yang.naming.context.rev160513.contexts.NamingContextKey;
 import org.opendaylight.yang.gen.v1.urn.honeycomb.params.xml.ns.yang.naming.context.rev160513.contexts.naming.context.Mappings;
@@ -39,14 +36,24 @@ import org.opendaylight.yangtools.yang.binding.KeyedInstanceIdentifier;
 /**
  * Utility adapter on top of {@link MappingContext} storing integer to string mappings according to naming-context yang
  * model.
+ * <p/>
+ * Index to name lookups are served from an in-memory index. The index is built from context data the first time
+ * a {@link MappingContext} instance is used and is kept up to date by {@link #addName} and {@link #removeName}
+ * afterwards, so it assumes the mapping context is transaction scoped. {@link #getNameIfPresent} validates the index
+ * against context data and is therefore also safe to use with long-lived mapping contexts.
+ * <p/>
+ * Lookups never block. Modifications and building of the index are serialized per mapping context instance only,
+ * so concurrent transactions do not contend with each other.
  */
+@ThreadSafe
 public final class NamingContext implements AutoCloseable {
 
-    private static final Collector<Mapping, ?, Mapping> SINGLE_ITEM_COLLECTOR = RWUtils.singleItemCollector();
     private final String artificialNamePrefix;
     private final KeyedInstanceIdentifier<org.opendaylight.yang.gen.v1.urn.honeycomb.params.xml.ns.yang.naming.context.rev160513.contexts.NamingContext, NamingContextKey>
             namingContextIid;
 
+    private final MappingContextIndex<MappingIndex> indexes;
+
     /**
      * Create new naming context
      *
@@ -59,6 +66,8 @@ public final class NamingContext implements AutoCloseable {
         namingContextIid = InstanceIdentifier.create(Contexts.class).child(
                 org.opendaylight.yang.gen.v1.urn.honeycomb.params.xml.ns.yang.naming.context.rev160513.contexts.NamingContext.class,
                 new NamingContextKey(instanceName));
+        indexes = new MappingContextIndex<>(
+                mappingContext -> new MappingIndex(mappingContext.read(namingContextIid.child(Mappings.class))));
     }
 
     /**
@@ -70,46 +79,48 @@ public final class NamingContext implements AutoCloseable {
      * @return name mapped to provided index
      */
     @Nonnull
-    public synchronized String getName(final int index, @Nonnull final MappingContext mappingContext) {
-        if (!containsName(index, mappingContext)) {
-            final String artificialName = getArtificialName(index);
-            addName(index, artificialName, mappingContext);
+    public String getName(final int index, @Nonnull final MappingContext mappingContext) {
+        final String name = indexes.get(mappingContext).getName(index);
+        if (name != null) {
+            return name;
         }
 
-        final Optional<Mappings> read = mappingContext.read(namingContextIid.child(Mappings.class));
-        checkState(read.isPresent(), "Mapping for index: %s is not present. But should be", index);
-
-        return read.get().getMapping().stream()
-                .filter(mapping -> mapping.getIndex().equals(index))
-                .collect(SINGLE_ITEM_COLLECTOR).getName();
+        return indexes.locked(mappingContext, mappingIndex -> {
+            // check again, mapping might have been added meanwhile
+            final String storedName = mappingIndex.getName(index);
+            if (storedName != null) {
+                return storedName;
+            }
+            final String artificialName = getArtificialName(index);
+            addName(index, artificialName, mappingContext);
+            return artificialName;
+        });
     }
 
     /**
      * Retrieve name for mapping stored provided mappingContext instance. if present
+     * <p/>
+     * Result is verified against context data, so the method can be used also with mapping contexts that outlive
+     * a single transaction.
      *
      * @param index          index of a mapped item
      * @param mappingContext mapping context providing context data for current transaction
      * @return name mapped to provided index
      */
     @Nonnull
-    public synchronized Optional<String> getNameIfPresent(final int index,
-                                                          @Nonnull final MappingContext mappingContext) {
-        final Optional<Mappings> read = mappingContext.read(namingContextIid.child(Mappings.class));
-        if (!read.isPresent()) {
-            return Optional.absent();
+    public Optional<String> getNameIfPresent(final int index,
+                                             @Nonnull final MappingContext mappingContext) {
+        final String name = indexes.get(mappingContext).getName(index);
+        if (name != null) {
+            final Optional<Mapping> read = mappingContext.read(getMappingIid(name));
+            if (read.isPresent() && read.get().getIndex() == index) {
+                return Optional.of(name);
+            }
         }
 
-        final List<Mapping> mappings = read.get().getMapping().stream()
-                .filter(mapping -> mapping.getIndex().equals(index))
-                .collect(Collectors.toList());
-
-        if (mappings.size() > 1) {
-            throw new IllegalStateException("Multiple mappings defined with index=" + index + ": " + mappings);
-        } else if (mappings.size() == 1) {
-            return Optional.of(mappings.get(0).getName());
-        } else {
-            return Optional.absent();
-        }
+        // either a miss or stale entry, context data might have been changed outside of this context instance
+        indexes.invalidate(mappingContext);
+        return Optional.fromNullable(indexes.get(mappingContext).getName(index));
     }
 
     /**
@@ -119,11 +130,8 @@ public final class NamingContext implements AutoCloseable {
      * @param mappingContext mapping context providing context data for current transaction
      * @return true if present, false otherwise
      */
-    public synchronized boolean containsName(final int index, @Nonnull final MappingContext mappingContext) {
-        final Optional<Mappings> read = mappingContext.read(namingContextIid.child(Mappings.class));
-        return read.isPresent()
-                ? read.get().getMapping().stream().anyMatch(mapping -> mapping.getIndex().equals(index))
-                : false;
+    public boolean containsName(final int index, @Nonnull final MappingContext mappingContext) {
+        return indexes.get(mappingContext).containsIndex(index);
     }
 
 
@@ -134,9 +142,14 @@ public final class NamingContext implements AutoCloseable {
      * @param name           name of a mapped item
      * @param mappingContext mapping context providing context data for current transaction
      */
-    public synchronized void addName(final int index, final String name, final MappingContext mappingContext) {
+    public void addName(final int index, final String name, final MappingContext mappingContext) {
         final KeyedInstanceIdentifier<Mapping, MappingKey> mappingIid = getMappingIid(name);
-        mappingContext.put(mappingIid, new MappingBuilder().setIndex(index).setName(name).build());
+        indexes.update(mappingContext,
+                () -> mappingContext.put(mappingIid, new MappingBuilder().setIndex(index).setName(name).build()),
+                mappingIndex -> {
+                    mappingIndex.put(index, name);
+                    return true;
+                });
     }
 
     /**
@@ -146,8 +159,11 @@ public final class NamingContext implements AutoCloseable {
      * @param name           name of a mapped item
      * @param mappingContext mapping context providing context data for current transaction
      */
-    public synchronized void addName(final String name, final MappingContext mappingContext) {
-        addName(getNextAvailableIndex(mappingContext), name, mappingContext);
+    public void addName(final String name, final MappingContext mappingContext) {
+        indexes.locked(mappingContext, mappingIndex -> {
+            addName(mappingIndex.getNextAvailableIndex(), name, mappingContext);
+            return null;
+        });
     }
 
     private KeyedInstanceIdentifier<Mapping, MappingKey> getMappingIid(final String name) {
@@ -160,8 +176,9 @@ public final class NamingContext implements AutoCloseable {
      * @param name           name of a mapped item
      * @param mappingContext mapping context providing context data for current transaction
      */
-    public synchronized void removeName(final String name, final MappingContext mappingContext) {
-        mappingContext.delete(getMappingIid(name));
+    public void removeName(final String name, final MappingContext mappingContext) {
+        indexes.update(mappingContext, () -> mappingContext.delete(getMappingIid(name)),
+                mappingIndex -> mappingIndex.remove(name));
     }
 
     /**
@@ -172,7 +189,7 @@ public final class NamingContext implements AutoCloseable {
      * @return integer index value matching supplied name
      * @throws IllegalArgumentException if name was not found
      */
-    public synchronized int getIndex(final String name, final MappingContext mappingContext) {
+    public int getIndex(final String name, final MappingContext mappingContext) {
         final Optional<Mapping> read = mappingContext.read(getMappingIid(name));
         checkArgument(read.isPresent(), "No mapping stored for name: %s", name);
         return read.get().getIndex();
@@ -188,9 +205,9 @@ public final class NamingContext implements AutoCloseable {
      * @return integer index value matching supplied name
      * @throws T if name was not found
      */
-    public synchronized <T extends Throwable> int getIndex(final String name,
-                                                           final MappingContext mappingContext,
-                                                           final Supplier<T> throwIfNonExisting) throws T {
+    public <T extends Throwable> int getIndex(final String name,
+                                              final MappingContext mappingContext,
+                                              final Supplier<T> throwIfNonExisting) throws T {
         // supplier is used to not instantiate exception if not needed
         final Optional<Mapping> read = mappingContext.read(getMappingIid(name));
         if (!read.isPresent()) {
@@ -206,7 +223,7 @@ public final class NamingContext implements AutoCloseable {
      * @param mappingContext mapping context providing context data for current transaction
      * @return true if present, false otherwise
      */
-    public synchronized boolean containsIndex(final String name, final MappingContext mappingContext) {
+    public boolean containsIndex(final String name, final MappingContext mappingContext) {
         return mappingContext.read(getMappingIid(name)).isPresent();
     }
 
@@ -214,27 +231,68 @@ public final class NamingContext implements AutoCloseable {
         return artificialNamePrefix + index;
     }
 
+    @Override
+    public void close() throws Exception {
+        /// Not removing the mapping from backing storage
+    }
+
     /**
-     * Returns next available index for mapping
+     * Index of name to index mappings, together with next available index. Modifications and next available index
+     * lookups need to hold the lock of {@link MappingContextIndex}.
      */
-    private int getNextAvailableIndex(final MappingContext mappingContext) {
-        final Optional<Mappings> read = mappingContext.read(namingContextIid.child(Mappings.class));
+    private static final class MappingIndex {
+        private final ContextIndex<Integer, String> mappings = new ContextIndex<>();
+        private int nextAvailableIndex;
+        private boolean nextAvailableIndexValid = true;
 
-        if (!read.isPresent()) {
-            return 0;
+        private MappingIndex(@Nonnull final Optional<Mappings> mappings) {
+            if (mappings.isPresent() && mappings.get().getMapping() != null) {
+                mappings.get().getMapping().forEach(mapping -> put(mapping.getIndex(), mapping.getName()));
+            }
         }
 
-        return read.get().getMapping()
-                .stream()
-                .mapToInt(Mapping::getIndex)
-                // do not use i++(need increase before, not after
-                .map(i -> ++i)
-                .max()
-                .orElse(0);
-    }
+        @Nullable
+        private String getName(final int index) {
+            return mappings.get(index);
+        }
 
-    @Override
-    public void close() throws Exception {
-        /// Not removing the mapping from backing storage
+        private boolean containsIndex(final int index) {
+            return mappings.containsKey(index);
+        }
+
+        private void put(final int index, final String name) {
+            final Integer previousIndex = mappings.put(name, index);
+            if (previousIndex != null && previousIndex != index) {
+                nextAvailableIndexValid = false;
+            }
+            if (nextAvailableIndexValid) {
+                nextAvailableIndex = Math.max(nextAvailableIndex, index + 1);
+            }
+        }
+
+        /**
+         * Removes mapping for provided name.
+         *
+         * @return false if index can't be updated and needs to be rebuilt
+         */
+        private boolean remove(final String name) {
+            final Integer index = mappings.getKey(name);
+            if (index != null && index + 1 == nextAvailableIndex) {
+                // recomputed lazily, only when the highest index was removed
+                nextAvailableIndexValid = false;
+            }
+            return mappings.remove(name);
+        }
+
+        private int getNextAvailableIndex() {
+            if (!nextAvailableIndexValid) {
+                nextAvailableIndex = mappings.keys().stream()
+                        .mapToInt(i -> i + 1)
+                        .max()
+                        .orElse(0);
+                nextAvailableIndexValid = true;
+            }
+            return nextAvailableIndex;
+        }
     }
 }
@@ -16,12 +16,24 @@
 
 package io.fd.hc2vpp.common.translate.util;
 
+import static com.google.common.base.Preconditions.checkState;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import io.fd.honeycomb.translate.util.read.KeepaliveReaderWrapper;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * Listens to vpp status changes. Restarts honeycomb if vpp is down.
+ * Listens to vpp status changes. If vpp is down, restarts honeycomb or, if {@link RecoveryHandler} is set,
+ * tries to recover connection to vpp in-process.
  */
 public final class VppStatusListener implements KeepaliveReaderWrapper.KeepaliveFailureListener {
 
@@ -32,15 +44,157 @@ public final class VppStatusListener implements KeepaliveReaderWrapper.Keepalive
     private static final Logger LOG = LoggerFactory.getLogger(VppStatusListener.class);
 
     private volatile boolean down;
+    private volatile RecoveryHandler recoveryHandler;
+    private final AtomicBoolean recovering = new AtomicBoolean();
+    private final AtomicLong recoveries = new AtomicLong();
+    private volatile long lastRecoveryDurationMillis;
+    private final List<VppRestartListener> restartListeners = new CopyOnWriteArrayList<>();
+    private final List<VppReconnectListener> reconnectListeners = new CopyOnWriteArrayList<>();
 
     public boolean isDown() {
         return down;
     }
 
+    /**
+     * @param recoveryHandler handler invoked on keepalive failure instead of honeycomb restart, null to restart
+     */
+    public void setRecoveryHandler(@Nullable final RecoveryHandler recoveryHandler) {
+        this.recoveryHandler = recoveryHandler;
+    }
+
     @Override
     public void onKeepaliveFailure() {
-        LOG.error("Keepalive failed. VPP is probably DOWN! Restarting Honeycomb");
+        final RecoveryHandler handler = recoveryHandler;
+        if (handler == null) {
+            LOG.error("Keepalive failed. VPP is probably DOWN! Restarting Honeycomb");
+            this.down = true;
+            System.exit(RESTART_ERROR_CODE);
+            return;
+        }
+        if (!recovering.compareAndSet(false, true)) {
+            LOG.debug("Keepalive failed, VPP recovery already in progress");
+            return;
+        }
+        LOG.error("Keepalive failed. VPP is probably DOWN! Recovering connection to VPP");
         this.down = true;
-        System.exit(RESTART_ERROR_CODE);
+        // recover outside of keepalive thread
+        new ThreadFactoryBuilder().setNameFormat("vpp-recovery-%d").setDaemon(true).build()
+                .newThread(() -> recover(handler))
+                .start();
+    }
+
+    private void recover(@Nonnull final RecoveryHandler handler) {
+        final long start = System.nanoTime();
+        boolean recovered = false;
+        try {
+            recovered = handler.recover();
+        } catch (RuntimeException e) {
+            LOG.error("VPP recovery failed", e);
+        }
+        if (!recovered) {
+            LOG.error("Unable to recover VPP connection. Restarting Honeycomb");
+            System.exit(RESTART_ERROR_CODE);
+            return;
+        }
+        lastRecoveryDurationMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        down = false;
+        recovering.set(false);
+        recoveries.incrementAndGet();
+        LOG.info("VPP connection recovered in {} ms", lastRecoveryDurationMillis);
+    }
+
+    /**
+     * @param listener notified when in-process recovery connects to restarted VPP
+     */
+    public void addRestartListener(@Nonnull final VppRestartListener listener) {
+        restartListeners.add(listener);
+    }
+
+    /**
+     * Notifies restart listeners. Invoked by {@link RecoveryHandler} after connecting to restarted VPP, before
+     * configuration is replayed to it.
+     *
+     * @throws IllegalStateException if any of the listeners failed, after all of them were notified
+     */
+    public void onVppRestarted() {
+        notifyAll(restartListeners, VppRestartListener::onVppRestarted, "restart");
+    }
+
+    /**
+     * @param listener notified whenever in-process recovery reconnects to VPP, restarted or not
+     */
+    public void addReconnectListener(@Nonnull final VppReconnectListener listener) {
+        reconnectListeners.add(listener);
+    }
+
+    /**
+     * Notifies reconnect listeners. Invoked by {@link RecoveryHandler} after every reconnect to VPP, after restart
+     * listeners if VPP was restarted.
+     *
+     * @throws IllegalStateException if any of the listeners failed, after all of them were notified
+     */
+    public void onVppReconnected() {
+        notifyAll(reconnectListeners, VppReconnectListener::onVppReconnected, "reconnect");
+    }
+
+    private static <L> void notifyAll(@Nonnull final List<L> listeners, @Nonnull final Consumer<L> notification,
+                                      @Nonnull final String type) {
+        int failed = 0;
+        for (final L listener : listeners) {
+            try {
+                notification.accept(listener);
+            } catch (RuntimeException e) {
+                LOG.warn("VPP {} listener {} failed", type, listener, e);
+                failed++;
+            }
+        }
+        // state of VPP or honeycomb is not consistent, recovery has to fall back to restart
+        checkState(failed == 0, "%s VPP %s listener(s) failed", failed, type);
+    }
+
+    /**
+     * @return number of successful in-process recoveries
+     */
+    public long getRecoveries() {
+        return recoveries.get();
+    }
+
+    /**
+     * @return duration of the last successful recovery in milliseconds, 0 if there was none
+     */
+    public long getLastRecoveryDurationMillis() {
+        return lastRecoveryDurationMillis;
+    }
+
+    /**
+     * Recovers connection to VPP (and VPP state if VPP was restarted) without restarting honeycomb.
+     */
+    public interface RecoveryHandler {
+
+        /**
+         * Invoked on keepalive failure, outside of keepalive thread.
+         *
+         * @return true if VPP was recovered, false to restart honeycomb
+         */
+        boolean recover();
+    }
+
+    /**
+     * Drops data that refer to state of previous VPP instance, e.g. cached dumps or sw_if_index based indexes, or
+     * restores data of entities VPP created on its own, e.g. naming context mappings of physical interfaces.
+     */
+    @FunctionalInterface
+    public interface VppRestartListener {
+
+        void onVppRestarted();
+    }
+
+    /**
+     * Restores state VPP keeps per client connection, e.g. event subscriptions.
+     */
+    @FunctionalInterface
+    public interface VppReconnectListener {
+
+        void onVppReconnected();
     }
 }
@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2017 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.common.translate.util;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.net.InetAddress;
+import org.junit.Test;
+
+public class AddressCodecTest {
+
+    private static final byte[] IPV4 = {-64, -88, 2, 1};
+    private static final byte[] IPV6 = {32, 1, 13, -72, 10, 11, 18, -16, 0, 0, 0, 0, 0, 0, 0, 1};
+
+    @Test
+    public void testIpv4() {
+        final int packed = AddressCodec.ipv4ToInt(IPV4, 0);
+        assertEquals(0xC0A80201, packed);
+        assertEquals("192.168.2.1", AddressCodec.formatIpv4(packed));
+        assertEquals("192.168.2.1", AddressCodec.formatIpv4(IPV4, 0));
+        assertEquals("192.168.2.1/24", AddressCodec.formatIpv4Prefix(packed, 24));
+        assertEquals("0.0.0.0/0", AddressCodec.formatIpv4Prefix(0, 0));
+
+        final byte[] bytes = new byte[4];
+        AddressCodec.intToIpv4(AddressCodec.parseIpv4("192.168.2.1", 0, 11), bytes, 0);
+        assertArrayEquals(IPV4, bytes);
+    }
+
+    @Test
+    public void testParseIpv4Range() {
+        assertEquals(0xC0A80201, AddressCodec.parseIpv4("192.168.2.1/24", 0, 11));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testParseIpv4TooShort() {
+        AddressCodec.parseIpv4("192.168.2", 0, 9);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testParseIpv4TooLong() {
+        AddressCodec.parseIpv4("192.168.2.1.1", 0, 13);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testParseIpv4InvalidOctet() {
+        AddressCodec.parseIpv4("192.168.256.1", 0, 13);
+    }
+
+    @Test
+    public void testFormatIpv6() throws Exception {
+        assertEquals("2001:db8:a0b:12f0::1", AddressCodec.formatIpv6(IPV6, true));
+        assertEquals("2001:db8:a0b:12f0:0:0:0:1", AddressCodec.formatIpv6(IPV6, false));
+        assertEquals(InetAddress.getByAddress(IPV6).getHostAddress(), AddressCodec.formatIpv6(IPV6, false));
+        assertEquals("2001:db8:a0b:12f0::1/64", AddressCodec.formatIpv6Prefix(IPV6, true, 64));
+        assertEquals("::", AddressCodec.formatIpv6(new byte[16], true));
+    }
+
+    @Test
+    public void testFormatIpv6LongestRunCompressed() {
+        // 1:0:0:2:0:0:0:3
+        assertEquals("1:0:0:2::3",
+                AddressCodec.formatIpv6(new byte[]{0, 1, 0, 0, 0, 0, 0, 2, 0, 0, 0, 0, 0, 0, 0, 3}, true));
+        // 1:0:0:2:0:0:3:4, first run wins
+        assertEquals("1::2:0:0:3:4",
+                AddressCodec.formatIpv6(new byte[]{0, 1, 0, 0, 0, 0, 0, 2, 0, 0, 0, 0, 0, 3, 0, 4}, true));
+        // single zero hextet is not compressed
+        assertEquals("1:0:2:3:4:5:6:7",
+                AddressCodec.formatIpv6(new byte[]{0, 1, 0, 0, 0, 2, 0, 3, 0, 4, 0, 5, 0, 6, 0, 7}, true));
+    }
+
+    @Test
+    public void testParseIpv6() {
+        final byte[] bytes = new byte[16];
+        assertTrue(AddressCodec.parseIpv6("2001:db8:a0b:12f0::1", 0, 20, bytes));
+        assertArrayEquals(IPV6, bytes);
+        assertTrue(AddressCodec.parseIpv6("2001:0db8:0a0b:12f0:0000:0000:0000:0001", 0, 39, bytes));
+        assertArrayEquals(IPV6, bytes);
+        assertTrue(AddressCodec.parseIpv6("::", 0, 2, bytes));
+        assertArrayEquals(new byte[16], bytes);
+    }
+
+    @Test
+    public void testParseIpv6Unsupported() {
+        final byte[] bytes = new byte[16];
+        assertFalse(AddressCodec.parseIpv6("::ffff:1.2.3.4", 0, 14, bytes));
+        assertFalse(AddressCodec.parseIpv6("fe80::1%eth0", 0, 12, bytes));
+        assertFalse(AddressCodec.parseIpv6("1::2::3", 0, 7, bytes));
+        assertFalse(AddressCodec.parseIpv6("1:2:3:4:5:6:7:8:9", 0, 17, bytes));
+    }
+
+    @Test
+    public void testIpv4Mapped() {
+        assertTrue(AddressCodec.isIpv4Mapped(new byte[]{0, 0, 0, 0, 0, 0, 0, 0, 0, 0, -1, -1, 1, 2, 3, 4}));
+        assertFalse(AddressCodec.isIpv4Mapped(IPV6));
+        assertFalse(AddressCodec.isIpv4Mapped(IPV4));
+    }
+
+    @Test
+    public void testMac() {
+        final long mac = AddressCodec.parseMac("00:fF:7f:15:5e:A9");
+        assertEquals(0x00FF7F155EA9L, mac);
+        assertEquals("00:ff:7f:15:5e:a9", AddressCodec.formatMac(mac, true));
+        assertEquals("00ff7f155ea9", AddressCodec.formatMac(mac, false));
+
+        final byte[] bytes = new byte[6];
+        AddressCodec.longToMac(mac, bytes, 0);
+        assertArrayEquals(new byte[]{0, -1, 127, 21, 94, -87}, bytes);
+        assertEquals(mac, AddressCodec.macToLong(bytes, 0));
+    }
+
+    @Test
+    public void testCanonicalMac() {
+        assertTrue(AddressCodec.isCanonicalMac("aa:bb:cc:dd:ee:ff"));
+        assertFalse(AddressCodec.isCanonicalMac("a:bb:cc:dd:ee:ff"));
+        assertFalse(AddressCodec.isCanonicalMac("aa-bb-cc-dd-ee-ff"));
+        assertFalse(AddressCodec.isCanonicalMac("aa:bb:cc:dd:ee:fg"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testParseInvalidMac() {
+        AddressCodec.parseMac("aa:bb:cc:dd:ee");
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2017 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.common.translate.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import io.fd.vpp.jvpp.VppCallbackException;
+import io.fd.vpp.jvpp.dto.JVppReply;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeoutException;
+import org.junit.Test;
+
+public class AsyncRequestWindowTest {
+
+    @Test
+    public void testAllSucceeded() {
+        final AsyncRequestWindow<String> window = new AsyncRequestWindow<>(2);
+        window.submit("a", AsyncRequestWindowTest::replied);
+        window.submit("b", AsyncRequestWindowTest::replied);
+        window.submit("c", AsyncRequestWindowTest::replied);
+        assertTrue(window.awaitAll().isEmpty());
+    }
+
+    @Test
+    public void testFailuresByKey() {
+        final VppCallbackException first = new VppCallbackException("call", "msg", 1, -1);
+        final VppCallbackException second = new VppCallbackException("call", "msg", 2, -2);
+        final AsyncRequestWindow<String> window = new AsyncRequestWindow<>(2);
+        window.submit("a", AsyncRequestWindowTest::replied);
+        window.submit("b", () -> failed(first));
+        window.submit("b", () -> failed(second));
+        window.submit("c", () -> failed(second));
+
+        final Map<String, Throwable> failures = window.awaitAll();
+        assertEquals(2, failures.size());
+        assertSame(first, failures.get("b"));
+        assertSame(second, failures.get("c"));
+
+        // window is reusable
+        window.submit("d", AsyncRequestWindowTest::replied);
+        assertTrue(window.awaitAll().isEmpty());
+    }
+
+    @Test(timeout = 10000)
+    public void testTimeout() {
+        final AsyncRequestWindow<String> window = new AsyncRequestWindow<>(1, 1);
+        window.submit("a", () -> new CompletableFuture<JVppReply<?>>());
+        assertTrue(window.awaitAll().get("a") instanceof TimeoutException);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidSize() {
+        new AsyncRequestWindow<String>(0);
+    }
+
+    private static CompletableFuture<JVppReply<?>> replied() {
+        return CompletableFuture.completedFuture(mock(JVppReply.class));
+    }
+
+    private static CompletableFuture<JVppReply<?>> failed(final Exception exception) {
+        final CompletableFuture<JVppReply<?>> future = new CompletableFuture<>();
+        future.completeExceptionally(exception);
+        return future;
+    }
+}
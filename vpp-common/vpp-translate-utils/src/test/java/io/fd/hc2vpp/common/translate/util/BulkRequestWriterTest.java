@@ -0,0 +1,199 @@
+/*
+ * Copyright (c) 2017 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.common.translate.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.mock;
+
+import io.fd.hc2vpp.common.translate.util.BulkRequestWriter.Change;
+import io.fd.honeycomb.translate.write.WriteFailedException;
+import io.fd.vpp.jvpp.VppCallbackException;
+import io.fd.vpp.jvpp.dto.JVppReply;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+import org.junit.Before;
+import org.junit.Test;
+import org.opendaylight.yang.gen.v1.urn.honeycomb.params.xml.ns.yang.naming.context.rev160513.Contexts;
+import org.opendaylight.yang.gen.v1.urn.honeycomb.params.xml.ns.yang.naming.context.rev160513.contexts.NamingContextKey;
+import org.opendaylight.yang.gen.v1.urn.honeycomb.params.xml.ns.yang.naming.context.rev160513.contexts.naming.context.Mappings;
+import org.opendaylight.yang.gen.v1.urn.honeycomb.params.xml.ns.yang.naming.context.rev160513.contexts.naming.context.mappings.Mapping;
+import org.opendaylight.yang.gen.v1.urn.honeycomb.params.xml.ns.yang.naming.context.rev160513.contexts.naming.context.mappings.MappingKey;
+import org.opendaylight.yangtools.yang.binding.DataObject;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+
+public class BulkRequestWriterTest {
+
+    private static final InstanceIdentifier<Mapping> ID_1 = id("name-1");
+    private static final InstanceIdentifier<Mapping> ID_2 = id("name-2");
+    private static final InstanceIdentifier<Mapping> ID_3 = id("name-3");
+
+    private final DataObject data = mock(DataObject.class);
+    private final List<String> sent = new ArrayList<>();
+    private BulkRequestWriter writer;
+
+    @Before
+    public void setUp() {
+        writer = new BulkRequestWriter(2);
+    }
+
+    @Test
+    public void testWrite() throws WriteFailedException {
+        final AtomicBoolean removedSuccess = new AtomicBoolean();
+        final AtomicBoolean addedSuccess = new AtomicBoolean();
+        writer.write(
+                Collections.singletonList(Change.delete(ID_1, data)
+                        .request(replied("del-1"), replied("revert-del-1"))
+                        .onSuccess(() -> removedSuccess.set(true))),
+                Collections.singletonList(Change.create(ID_2, data)
+                        .request(replied("add-2a"), replied("revert-add-2a"))
+                        .request(replied("add-2b"), replied("revert-add-2b"))
+                        .onSuccess(() -> addedSuccess.set(true))));
+
+        assertEquals(Arrays.asList("del-1", "add-2a", "add-2b"), sent);
+        assertTrue(removedSuccess.get());
+        assertTrue(addedSuccess.get());
+    }
+
+    @Test
+    public void testAddFailed() {
+        final AtomicBoolean success = new AtomicBoolean();
+        try {
+            writer.write(
+                    Collections.singletonList(Change.delete(ID_1, data)
+                            .request(replied("del-1"), replied("revert-del-1"))
+                            .onSuccess(() -> success.set(true))),
+                    Arrays.asList(
+                            Change.create(ID_2, data)
+                                    .request(replied("add-2"), replied("revert-add-2")),
+                            Change.create(ID_3, data)
+                                    .request(failed("add-3a"), replied("revert-add-3a"))
+                                    .request(failed("add-3b"), replied("revert-add-3b"))));
+        } catch (WriteFailedException.CreateFailedException e) {
+            assertEquals(ID_3, e.getFailedId());
+            // only first failure of a change is reported
+            assertEquals(0, e.getSuppressed().length);
+            // successful requests reverted, removed data after added ones
+            assertEquals(Arrays.asList("del-1", "add-2", "add-3a", "add-3b", "revert-add-2", "revert-del-1"), sent);
+            assertFalse(success.get());
+            return;
+        } catch (WriteFailedException e) {
+            fail("CreateFailedException expected");
+        }
+        fail("WriteFailedException expected");
+    }
+
+    @Test
+    public void testDeleteFailed() {
+        try {
+            writer.write(
+                    Arrays.asList(
+                            Change.delete(ID_1, data).request(failed("del-1"), replied("revert-del-1")),
+                            Change.delete(ID_2, data).request(failed("del-2"), replied("revert-del-2")),
+                            Change.delete(ID_3, data).request(replied("del-3"), replied("revert-del-3"))),
+                    Collections.singletonList(Change.create(ID_3, data).request(replied("add-3"), null)));
+        } catch (WriteFailedException.DeleteFailedException e) {
+            assertEquals(ID_1, e.getFailedId());
+            assertEquals(1, e.getSuppressed().length);
+            // added data not sent at all
+            assertEquals(Arrays.asList("del-1", "del-2", "del-3", "revert-del-3"), sent);
+            return;
+        } catch (WriteFailedException e) {
+            fail("DeleteFailedException expected");
+        }
+        fail("WriteFailedException expected");
+    }
+
+    @Test
+    public void testUpdateFailed() {
+        try {
+            writer.write(Arrays.asList(
+                    Change.update(ID_1, data, data).request(replied("update-1"), null),
+                    Change.update(ID_2, data, data).request(failed("update-2"), replied("revert-update-2"))));
+        } catch (WriteFailedException.UpdateFailedException e) {
+            assertEquals(ID_2, e.getFailedId());
+            // request without inverse is not reverted
+            assertEquals(Arrays.asList("update-1", "update-2"), sent);
+            return;
+        } catch (WriteFailedException e) {
+            fail("UpdateFailedException expected");
+        }
+        fail("WriteFailedException expected");
+    }
+
+    @Test
+    public void testRequestFailedBeforeSent() throws WriteFailedException {
+        final CompletableFuture<JVppReply<?>> inFlight = new CompletableFuture<>();
+        final Thread replier = new Thread(() -> {
+            try {
+                Thread.sleep(100);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            inFlight.complete(mock(JVppReply.class));
+        });
+        replier.start();
+        try {
+            writer.write(Arrays.asList(
+                    Change.create(ID_1, data).request(() -> inFlight, null),
+                    Change.create(ID_2, data).request(() -> {
+                        throw new IllegalStateException("Unable to send");
+                    }, null)));
+        } catch (IllegalStateException e) {
+            // request in flight is awaited before the failure propagates
+            assertTrue(inFlight.isDone());
+            return;
+        }
+        fail("IllegalStateException expected");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidWindow() {
+        new BulkRequestWriter(0);
+    }
+
+    private static InstanceIdentifier<Mapping> id(final String name) {
+        return InstanceIdentifier.create(Contexts.class)
+                .child(org.opendaylight.yang.gen.v1.urn.honeycomb.params.xml.ns.yang.naming.context.rev160513.contexts.NamingContext.class,
+                        new NamingContextKey("context"))
+                .child(Mappings.class).child(Mapping.class, new MappingKey(name));
+    }
+
+    private Supplier<CompletionStage<JVppReply<?>>> replied(final String name) {
+        return () -> {
+            sent.add(name);
+            return CompletableFuture.completedFuture(mock(JVppReply.class));
+        };
+    }
+
+    private Supplier<CompletionStage<JVppReply<?>>> failed(final String name) {
+        return () -> {
+            sent.add(name);
+            final CompletableFuture<JVppReply<?>> future = new CompletableFuture<>();
+            future.completeExceptionally(new VppCallbackException(name, "msg", 1, -1));
+            return future;
+        };
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2017 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.common.translate.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Before;
+import org.junit.Test;
+
+public class ContextIndexTest {
+
+    private ContextIndex<Integer, String> index;
+
+    @Before
+    public void setUp() {
+        index = new ContextIndex<>();
+        index.put("name-1", 1);
+        index.put("name-2", 2);
+    }
+
+    @Test
+    public void testGet() {
+        assertEquals("name-1", index.get(1));
+        assertEquals(Integer.valueOf(2), index.getKey("name-2"));
+        assertTrue(index.containsKey(2));
+        assertNull(index.get(3));
+    }
+
+    @Test
+    public void testPutMovesKey() {
+        assertEquals(Integer.valueOf(1), index.put("name-1", 3));
+        assertFalse(index.containsKey(1));
+        assertEquals("name-1", index.get(3));
+    }
+
+    @Test
+    public void testPutNullKey() {
+        assertEquals(Integer.valueOf(1), index.put("name-1", null));
+        assertFalse(index.containsKey(1));
+        assertNull(index.getKey("name-1"));
+    }
+
+    @Test
+    public void testRemove() {
+        assertTrue(index.remove("name-1"));
+        assertFalse(index.containsKey(1));
+        assertTrue(index.remove("name-1"));
+        assertEquals(1, index.keys().size());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testGetAmbiguous() {
+        index.put("name-3", 1);
+        index.get(1);
+    }
+
+    @Test
+    public void testAmbiguous() {
+        index.put("name-3", 1);
+        // first mapping wins
+        assertEquals("name-1", index.getFirst(1));
+        assertFalse(index.remove("name-3"));
+    }
+}
@@ -17,6 +17,7 @@
 package io.fd.hc2vpp.common.translate.util;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 import static org.mockito.Matchers.anyLong;
@@ -27,6 +28,9 @@ import static org.mockito.Mockito.when;
 import io.fd.hc2vpp.common.translate.util.JvppReplyConsumer;
 import io.fd.hc2vpp.common.translate.util.ReadTimeoutException;
 import io.fd.hc2vpp.common.translate.util.WriteTimeoutException;
+import io.fd.honeycomb.translate.write.WriteFailedException;
+import io.fd.vpp.jvpp.VppCallbackException;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
@@ -76,4 +80,62 @@ public class JvppReplyConsumerTest implements JvppReplyConsumer {
         }
         fail("ReadTimeoutException was expected");
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testGetReplyForCreateAsync() throws Exception {
+        final CompletableFuture<JVppReply<?>> future = new CompletableFuture<>();
+        final JVppReply<?> reply = mock(JVppReply.class);
+        final InstanceIdentifier<AnDataObject> replyType = InstanceIdentifier.create(AnDataObject.class);
+
+        final CompletableFuture<JVppReply<?>> result =
+                getReplyForCreateAsync(future, replyType, new AnDataObject()).toCompletableFuture();
+        assertTrue(!result.isDone());
+
+        future.complete(reply);
+        assertSame(reply, awaitWriteReply(result));
+    }
+
+    @Test
+    public void testGetReplyForCreateAsyncFailed() throws Exception {
+        final CompletableFuture<JVppReply<?>> future = new CompletableFuture<>();
+        final VppCallbackException cause = new VppCallbackException("test-call", "test error msg", 1, -1);
+        future.completeExceptionally(cause);
+        final InstanceIdentifier<AnDataObject> replyType = InstanceIdentifier.create(AnDataObject.class);
+        try {
+            awaitWriteReply(getReplyForCreateAsync(future, replyType, new AnDataObject()));
+        } catch (WriteFailedException.CreateFailedException e) {
+            assertSame(cause, e.getCause());
+            assertEquals(replyType, e.getFailedId());
+            return;
+        }
+        fail("CreateFailedException was expected");
+    }
+
+    @Test
+    public void testGetReplyForWriteAsyncTimeout() throws Exception {
+        final CompletableFuture<JVppReply<?>> neverCompleted = new CompletableFuture<>();
+        final InstanceIdentifier<AnDataObject> replyType = InstanceIdentifier.create(AnDataObject.class);
+        try {
+            awaitWriteReply(getReplyForWriteAsync(neverCompleted, replyType, 1));
+        } catch (WriteTimeoutException e) {
+            assertTrue(e.getCause() instanceof TimeoutException);
+            assertEquals(replyType, e.getFailedId());
+            return;
+        }
+        fail("WriteTimeoutException was expected");
+    }
+
+    @Test
+    public void testGetReplyForReadAsyncTimeout() throws Exception {
+        final CompletableFuture<JVppReply<?>> neverCompleted = new CompletableFuture<>();
+        final InstanceIdentifier<AnDataObject> replyType = InstanceIdentifier.create(AnDataObject.class);
+        try {
+            awaitReadReply(getReplyForReadAsync(neverCompleted, replyType, 1));
+        } catch (ReadTimeoutException e) {
+            assertTrue(e.getCause() instanceof TimeoutException);
+            assertEquals(replyType, e.getFailedId());
+            return;
+        }
+        fail("ReadTimeoutException was expected");
+    }
+}
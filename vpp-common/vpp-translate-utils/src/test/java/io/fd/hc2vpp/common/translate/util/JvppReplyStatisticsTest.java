@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2017 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.common.translate.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import io.fd.vpp.jvpp.VppCallbackException;
+import io.fd.vpp.jvpp.core.dto.SwInterfaceDetails;
+import io.fd.vpp.jvpp.core.dto.SwInterfaceDetailsReplyDump;
+import io.fd.vpp.jvpp.core.dto.SwInterfaceSetFlagsReply;
+import java.util.concurrent.CompletableFuture;
+import org.junit.Test;
+
+public class JvppReplyStatisticsTest {
+
+    private final JvppReplyStatistics statistics = new JvppReplyStatistics();
+
+    @Test
+    public void testMessageType() {
+        assertEquals("SwInterfaceSetFlags", JvppReplyStatistics.messageTypeOf(SwInterfaceSetFlagsReply.class));
+        assertEquals("SwInterfaceDump", JvppReplyStatistics.messageTypeOf(SwInterfaceDetailsReplyDump.class));
+    }
+
+    @Test
+    public void testFacade() {
+        assertEquals("core", JvppReplyStatistics.facadeOf(SwInterfaceSetFlagsReply.class));
+        assertEquals(JvppReplyStatistics.UNKNOWN_FACADE, JvppReplyStatistics.facadeOf(String.class));
+    }
+
+    @Test
+    public void testReplyReceived() {
+        final long start = statistics.requestStarted();
+        assertEquals(1, statistics.getRequestsInFlight());
+        statistics.replyReceived(new SwInterfaceSetFlagsReply(), start);
+        statistics.replyReceived(new SwInterfaceSetFlagsReply(), statistics.requestStarted());
+
+        assertEquals(0, statistics.getRequestsInFlight());
+        final MessageReplyStatistics message = single();
+        assertEquals("SwInterfaceSetFlags", message.getMessageType());
+        assertEquals("core", message.getFacade());
+        assertEquals(2, message.getRequests());
+        assertEquals(0, message.getErrors());
+    }
+
+    @Test
+    public void testDumpSize() {
+        final SwInterfaceDetailsReplyDump dump = new SwInterfaceDetailsReplyDump();
+        dump.swInterfaceDetails.add(new SwInterfaceDetails());
+        dump.swInterfaceDetails.add(new SwInterfaceDetails());
+        statistics.replyReceived(dump, statistics.requestStarted());
+
+        assertEquals(2, statistics.getLastDumpSize("SwInterfaceDump"));
+        assertEquals(0, statistics.getLastDumpSize("IpFibDump"));
+    }
+
+    @Test
+    public void testRequestFailed() {
+        statistics.requestFailed(new VppCallbackException("swInterfaceSetFlags", "error", 1, -1),
+                statistics.requestStarted());
+
+        assertEquals(0, statistics.getRequestsInFlight());
+        final MessageReplyStatistics message = single();
+        assertEquals("SwInterfaceSetFlags", message.getMessageType());
+        assertEquals(JvppReplyStatistics.UNKNOWN_FACADE, message.getFacade());
+        assertEquals(1, message.getRequests());
+        assertEquals(1, message.getErrors());
+
+        // facade is resolved once reply of the same type arrives
+        statistics.replyReceived(new SwInterfaceSetFlagsReply(), statistics.requestStarted());
+        assertEquals("core", single().getFacade());
+        assertEquals(2, single().getRequests());
+    }
+
+    @Test
+    public void testTimeout() {
+        final CompletableFuture<SwInterfaceSetFlagsReply> pending = new CompletableFuture<>();
+        statistics.requestStarted();
+        statistics.requestTimedOut(pending);
+
+        assertEquals(0, statistics.getRequestsInFlight());
+        assertEquals(1, statistics.getTimeouts());
+        assertTrue(statistics.getMessageStatistics().isEmpty());
+
+        pending.complete(new SwInterfaceSetFlagsReply());
+        assertEquals(1, single().getTimeouts());
+        assertEquals(0, single().getRequests());
+    }
+
+    @Test
+    public void testRequestAborted() {
+        statistics.requestStarted();
+        statistics.requestAborted();
+
+        assertEquals(0, statistics.getRequestsInFlight());
+        assertTrue(statistics.getMessageStatistics().isEmpty());
+    }
+
+    private MessageReplyStatistics single() {
+        assertEquals(1, statistics.getMessageStatistics().size());
+        return statistics.getMessageStatistics().get(0);
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2017 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.common.translate.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import io.fd.honeycomb.translate.ModificationCache;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.junit.Test;
+
+public class JvppRequestDeadlineTest implements JvppReplyConsumer {
+
+    @Test
+    public void testNoDeadline() {
+        assertEquals(Long.MAX_VALUE, JvppRequestDeadline.remainingNanos());
+    }
+
+    @Test
+    public void testNestedDeadlineDoesNotExtend() {
+        try (JvppRequestDeadline outer = JvppRequestDeadline.start(1, TimeUnit.SECONDS)) {
+            try (JvppRequestDeadline inner = JvppRequestDeadline.start(1, TimeUnit.HOURS)) {
+                assertTrue(JvppRequestDeadline.remainingNanos() <= TimeUnit.SECONDS.toNanos(1));
+            }
+            try (JvppRequestDeadline inner = JvppRequestDeadline.start(0, TimeUnit.SECONDS)) {
+                assertTrue(JvppRequestDeadline.remainingNanos() <= 0);
+            }
+            assertTrue(JvppRequestDeadline.remainingNanos() > 0);
+        }
+        assertEquals(Long.MAX_VALUE, JvppRequestDeadline.remainingNanos());
+    }
+
+    @Test
+    public void testTransactionDeadlineNotConfigured() {
+        try (JvppRequestDeadline deadline = JvppRequestDeadline.forTransaction(new ModificationCache(), 0)) {
+            assertEquals(Long.MAX_VALUE, JvppRequestDeadline.remainingNanos());
+        }
+    }
+
+    @Test
+    public void testTransactionDeadlineShared() {
+        final ModificationCache cache = new ModificationCache();
+        final long first;
+        try (JvppRequestDeadline deadline = JvppRequestDeadline.forTransaction(cache, 60)) {
+            first = JvppRequestDeadline.remainingNanos();
+            assertTrue(first > 0 && first <= TimeUnit.SECONDS.toNanos(60));
+        }
+        assertEquals(Long.MAX_VALUE, JvppRequestDeadline.remainingNanos());
+        try (JvppRequestDeadline deadline = JvppRequestDeadline.forTransaction(cache, 60)) {
+            // deadline is not reset by subsequent requests of the same transaction
+            assertTrue(JvppRequestDeadline.remainingNanos() <= first);
+        }
+    }
+
+    @Test
+    public void testExpiredTransactionDeadlineStaysExpired() throws InterruptedException {
+        final ModificationCache cache = new ModificationCache();
+        try (JvppRequestDeadline deadline = JvppRequestDeadline.forTransaction(cache, 1)) {
+            Thread.sleep(1100);
+            assertTrue(JvppRequestDeadline.remainingNanos() <= 0);
+        }
+        // no matter how long the transaction was idle
+        Thread.sleep(1100);
+        try (JvppRequestDeadline deadline = JvppRequestDeadline.forTransaction(cache, 1)) {
+            assertTrue(JvppRequestDeadline.remainingNanos() <= 0);
+        }
+    }
+
+    @Test
+    public void testTransactionsDoNotShareDeadline() throws InterruptedException {
+        try (JvppRequestDeadline deadline = JvppRequestDeadline.forTransaction(new ModificationCache(), 1)) {
+            Thread.sleep(1100);
+            assertTrue(JvppRequestDeadline.remainingNanos() <= 0);
+        }
+        try (JvppRequestDeadline deadline = JvppRequestDeadline.forTransaction(new ModificationCache(), 1)) {
+            assertTrue(JvppRequestDeadline.remainingNanos() > 0);
+        }
+    }
+
+    @Test
+    public void testExplicitDeadlineAppliesToTransaction() {
+        try (JvppRequestDeadline explicit = JvppRequestDeadline.start(1, TimeUnit.SECONDS);
+             JvppRequestDeadline transaction = JvppRequestDeadline.forTransaction(new ModificationCache(), 60)) {
+            final long remainingNanos = JvppRequestDeadline.remainingNanos();
+            assertTrue(remainingNanos > 0 && remainingNanos <= TimeUnit.SECONDS.toNanos(1));
+        }
+    }
+
+    @Test(timeout = 5000)
+    public void testGetReplyAfterDeadline() throws Exception {
+        final long timeoutsBefore = JvppReplyStatistics.getInstance().getDeadlineExpirations();
+        try (JvppRequestDeadline deadline = JvppRequestDeadline.start(0, TimeUnit.SECONDS)) {
+            getReply(new CompletableFuture<>(), 60);
+        } catch (TimeoutException e) {
+            assertEquals(timeoutsBefore + 1, JvppReplyStatistics.getInstance().getDeadlineExpirations());
+            return;
+        }
+        throw new AssertionError("TimeoutException was expected");
+    }
+
+    @Test(timeout = 5000)
+    public void testGetReplyAsyncAfterDeadline() throws Exception {
+        final CompletableFuture<?> reply;
+        try (JvppRequestDeadline deadline = JvppRequestDeadline.start(10, TimeUnit.MILLISECONDS)) {
+            reply = getReplyAsync(new CompletableFuture<>(), 60).toCompletableFuture();
+        }
+        try {
+            reply.get();
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof TimeoutException);
+            return;
+        }
+        throw new AssertionError("TimeoutException was expected");
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testCloseOutOfOrder() {
+        final JvppRequestDeadline outer = JvppRequestDeadline.start(1, TimeUnit.SECONDS);
+        try (JvppRequestDeadline inner = JvppRequestDeadline.start(1, TimeUnit.SECONDS)) {
+            outer.close();
+        } finally {
+            outer.close();
+        }
+    }
+}
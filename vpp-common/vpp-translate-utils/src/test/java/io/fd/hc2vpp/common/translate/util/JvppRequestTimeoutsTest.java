@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2017 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.common.translate.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import com.google.common.collect.ImmutableMap;
+import io.fd.vpp.jvpp.core.dto.WantInterfaceEvents;
+import org.junit.Test;
+
+public class JvppRequestTimeoutsTest {
+
+    @Test
+    public void testParseProfiles() {
+        assertEquals(ImmutableMap.of("IpFibDump", 60, "WantInterfaceEvents", 1),
+                JvppRequestTimeouts.parseProfiles("IpFibDump:60, WantInterfaceEvents : 1"));
+    }
+
+    @Test
+    public void testParseEmptyProfiles() {
+        assertTrue(JvppRequestTimeouts.parseProfiles("").isEmpty());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testParseInvalidProfiles() {
+        JvppRequestTimeouts.parseProfiles("IpFibDump=60");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testParseInvalidTimeout() {
+        JvppRequestTimeouts.parseProfiles("IpFibDump:sixty");
+    }
+
+    @Test
+    public void testTimeoutWithoutProfile() {
+        assertEquals(JvppReplyConsumer.JvppReplyTimeoutHolder.getTimeout(),
+                JvppRequestTimeouts.timeoutFor(WantInterfaceEvents.class));
+    }
+}
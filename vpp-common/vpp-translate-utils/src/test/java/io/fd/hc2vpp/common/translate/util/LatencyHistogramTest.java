@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2017 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.common.translate.util;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.concurrent.TimeUnit;
+import org.junit.Test;
+
+public class LatencyHistogramTest {
+
+    private final LatencyHistogram histogram = new LatencyHistogram();
+
+    @Test
+    public void testEmpty() {
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getMeanMicros());
+        assertEquals(0, histogram.getMaxMicros());
+        assertEquals(0, histogram.getPercentileMicros(99));
+    }
+
+    @Test
+    public void testRecord() {
+        histogram.record(TimeUnit.MICROSECONDS.toNanos(100));
+        histogram.record(TimeUnit.MICROSECONDS.toNanos(300));
+
+        assertEquals(2, histogram.getCount());
+        assertEquals(200, histogram.getMeanMicros());
+        assertEquals(300, histogram.getMaxMicros());
+        // 100us falls into [64, 128), 300us into [256, 512)
+        assertEquals(1, histogram.getBucketCount(7));
+        assertEquals(1, histogram.getBucketCount(9));
+    }
+
+    @Test
+    public void testPercentiles() {
+        for (int i = 0; i < 99; i++) {
+            histogram.record(TimeUnit.MICROSECONDS.toNanos(10));
+        }
+        histogram.record(TimeUnit.MILLISECONDS.toNanos(5));
+
+        assertEquals(16, histogram.getPercentileMicros(50));
+        assertEquals(16, histogram.getPercentileMicros(99));
+        // clipped to maximum
+        assertEquals(5000, histogram.getPercentileMicros(100));
+    }
+
+    @Test
+    public void testOverflowBucket() {
+        histogram.record(Long.MAX_VALUE);
+        assertEquals(1, histogram.getBucketCount(LatencyHistogram.BUCKETS - 1));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidPercentile() {
+        histogram.getPercentileMicros(0);
+    }
+}
@@ -17,6 +17,8 @@
 package io.fd.hc2vpp.common.translate.util;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
@@ -108,6 +110,62 @@ public class NamingContextTest implements InjectablesProcessor {
                 .build());
     }
 
+    @Test
+    public void addNameNextIndexAfterRemove() throws Exception {
+        assertTrue(namingContext.containsName(2, mappingContext));
+        namingContext.removeName(NAME_2, mappingContext);
+        namingContext.addName("name-3", mappingContext);
+        verify(mappingContext, times(1))
+                .put(instanceIdentifierArgumentCaptor.capture(), mappingArgumentCaptor.capture());
+
+        assertEquals(mappingArgumentCaptor.getValue(), new MappingBuilder()
+                .setIndex(2)
+                .setName("name-3")
+                .build());
+    }
+
+    @Test
+    public void indexKeptCurrent() {
+        assertEquals(NAME_1, namingContext.getName(1, mappingContext));
+        assertFalse(namingContext.containsName(5, mappingContext));
+
+        namingContext.addName(5, "name-5", mappingContext);
+        assertTrue(namingContext.containsName(5, mappingContext));
+        assertEquals("name-5", namingContext.getName(5, mappingContext));
+
+        namingContext.removeName(NAME_1, mappingContext);
+        assertFalse(namingContext.containsName(1, mappingContext));
+
+        // index is built only once per mapping context
+        verify(mappingContext, times(1)).read(namingContextIid.child(Mappings.class));
+    }
+
+    @Test
+    public void addNameWhileBuildingIndex() throws Exception {
+        final Thread[] writer = new Thread[1];
+        when(mappingContext.read(namingContextIid.child(Mappings.class))).thenAnswer(invocation -> {
+            // mapping added by concurrent transaction thread after context data snapshot was read
+            writer[0] = new Thread(() -> namingContext.addName(5, "name-5", mappingContext));
+            writer[0].start();
+            writer[0].join(100);
+            return Optional.of(mappings);
+        });
+
+        assertEquals(NAME_1, namingContext.getName(1, mappingContext));
+        writer[0].join();
+        assertTrue(namingContext.containsName(5, mappingContext));
+    }
+
+    @Test
+    public void getNameArtificial() {
+        assertEquals("prefix7", namingContext.getName(7, mappingContext));
+        verify(mappingContext).put(parentKey("prefix7"), new MappingBuilder()
+                .setIndex(7)
+                .setName("prefix7")
+                .build());
+        assertTrue(namingContext.containsName(7, mappingContext));
+    }
+
     @Test(expected = IllegalArgumentException.class)
     public void getAndThrow() {
         when(mappingContext.read(any())).thenReturn(Optional.absent());
@@ -16,9 +16,15 @@
 
 package io.fd.hc2vpp.common.translate.util;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 import io.fd.hc2vpp.common.translate.util.VppStatusListener;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.contrib.java.lang.system.ExpectedSystemExit;
@@ -35,4 +41,64 @@ public class VppStatusListenerTest {
         exit.checkAssertionAfterwards(() -> assertTrue(vppStatus.isDown()));
         vppStatus.onKeepaliveFailure();
     }
-}
\ No newline at end of file
+
+    @Test(timeout = 10000)
+    public void testOnKeepaliveFailureRecovered() throws Exception {
+        final VppStatusListener vppStatus = new VppStatusListener();
+        final CountDownLatch release = new CountDownLatch(1);
+        final AtomicInteger invocations = new AtomicInteger();
+        vppStatus.setRecoveryHandler(() -> {
+            invocations.incrementAndGet();
+            try {
+                return release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        });
+
+        vppStatus.onKeepaliveFailure();
+        assertTrue(vppStatus.isDown());
+        // failures reported while recovering do not start another recovery
+        vppStatus.onKeepaliveFailure();
+        release.countDown();
+
+        while (vppStatus.getRecoveries() == 0) {
+            Thread.sleep(10);
+        }
+        assertFalse(vppStatus.isDown());
+        assertEquals(1, invocations.get());
+    }
+
+    @Test
+    public void testOnVppRestarted() {
+        final VppStatusListener vppStatus = new VppStatusListener();
+        final AtomicInteger notifications = new AtomicInteger();
+        vppStatus.addRestartListener(() -> {
+            throw new IllegalStateException("failing listener");
+        });
+        vppStatus.addRestartListener(notifications::incrementAndGet);
+
+        try {
+            vppStatus.onVppRestarted();
+            fail("Failure of restart listener should fail the recovery");
+        } catch (IllegalStateException e) {
+            // failure of one listener does not prevent notification of others
+            assertEquals(1, notifications.get());
+        }
+    }
+
+    @Test
+    public void testOnVppReconnected() {
+        final VppStatusListener vppStatus = new VppStatusListener();
+        final AtomicInteger restarts = new AtomicInteger();
+        final AtomicInteger reconnects = new AtomicInteger();
+        vppStatus.addRestartListener(restarts::incrementAndGet);
+        vppStatus.addReconnectListener(reconnects::incrementAndGet);
+        vppStatus.addReconnectListener(reconnects::incrementAndGet);
+
+        vppStatus.onVppReconnected();
+        assertEquals(0, restarts.get());
+        assertEquals(2, reconnects.get());
+    }
+}
@@ -18,7 +18,9 @@ package io.fd.hc2vpp.management;
 
 import com.google.inject.AbstractModule;
 import com.google.inject.multibindings.Multibinder;
+import io.fd.hc2vpp.common.translate.util.JvppReplyStatistics;
 import io.fd.hc2vpp.management.rpc.CliInbandService;
+import io.fd.hc2vpp.management.state.JvppReplyStatisticsProvider;
 import io.fd.hc2vpp.management.state.StateReaderFactory;
 import io.fd.honeycomb.rpc.RpcService;
 import io.fd.honeycomb.translate.read.ReaderFactory;
@@ -33,6 +35,9 @@ public class VppManagementModule extends AbstractModule {
         install(ConfigurationModule.create());
         requestInjection(VppManagementConfiguration.class);
 
+        // Statistics of jvpp requests, registered in JMX on startup
+        bind(JvppReplyStatistics.class).toProvider(JvppReplyStatisticsProvider.class).asEagerSingleton();
+
         // Readers
         final Multibinder<ReaderFactory> readerFactoryBinder = Multibinder.newSetBinder(binder(), ReaderFactory.class);
         readerFactoryBinder.addBinding().to(StateReaderFactory.class);
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2017 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.management.state;
+
+import io.fd.hc2vpp.common.translate.util.JvppReplyStatistics;
+import io.fd.hc2vpp.common.translate.util.MessageReplyStatistics;
+import io.fd.honeycomb.translate.read.ReadContext;
+import io.fd.honeycomb.translate.read.ReadFailedException;
+import io.fd.honeycomb.translate.spi.read.ReaderCustomizer;
+import java.math.BigInteger;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+import javax.annotation.Nonnull;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.vpp.management.rev171205.VppStateBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.vpp.management.rev171205.vpp.state.JvppStatistics;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.vpp.management.rev171205.vpp.state.JvppStatisticsBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.vpp.management.rev171205.vpp.state.jvpp.statistics.Message;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.vpp.management.rev171205.vpp.state.jvpp.statistics.MessageBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.vpp.management.rev171205.vpp.state.jvpp.statistics.MessageKey;
+import org.opendaylight.yangtools.concepts.Builder;
+import org.opendaylight.yangtools.yang.binding.DataObject;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+
+/**
+ * Provides statistics of jvpp requests, as recorded by {@link JvppReplyStatistics}. Does not communicate with VPP.
+ */
+public final class JvppStatisticsCustomizer implements ReaderCustomizer<JvppStatistics, JvppStatisticsBuilder> {
+
+    private final JvppReplyStatistics statistics;
+
+    public JvppStatisticsCustomizer(@Nonnull final JvppReplyStatistics statistics) {
+        this.statistics = statistics;
+    }
+
+    @Override
+    public void merge(@Nonnull final Builder<? extends DataObject> parentBuilder,
+                      @Nonnull final JvppStatistics readValue) {
+        ((VppStateBuilder) parentBuilder).setJvppStatistics(readValue);
+    }
+
+    @Nonnull
+    @Override
+    public JvppStatisticsBuilder getBuilder(@Nonnull final InstanceIdentifier<JvppStatistics> id) {
+        return new JvppStatisticsBuilder();
+    }
+
+    @Override
+    public void readCurrentAttributes(@Nonnull final InstanceIdentifier<JvppStatistics> id,
+                                      @Nonnull final JvppStatisticsBuilder builder,
+                                      @Nonnull final ReadContext ctx) throws ReadFailedException {
+        builder.setRequestsInFlight(BigInteger.valueOf(Math.max(0, statistics.getRequestsInFlight())));
+        builder.setTimeouts(BigInteger.valueOf(statistics.getTimeouts()));
+        builder.setDeadlineLimitedRequests(BigInteger.valueOf(statistics.getDeadlineLimitedRequests()));
+        builder.setDeadlineExpirations(BigInteger.valueOf(statistics.getDeadlineExpirations()));
+        builder.setMessage(messages());
+    }
+
+    private List<Message> messages() {
+        return statistics.getMessageStatistics().stream()
+                .sorted(Comparator.comparing(MessageReplyStatistics::getMessageType))
+                .map(message -> new MessageBuilder()
+                        .setKey(new MessageKey(message.getMessageType()))
+                        .setName(message.getMessageType())
+                        .setFacade(message.getFacade())
+                        .setRequests(BigInteger.valueOf(message.getRequests()))
+                        .setErrors(BigInteger.valueOf(message.getErrors()))
+                        .setTimeouts(BigInteger.valueOf(message.getTimeouts()))
+                        .setLastDumpSize((long) message.getLastDumpSize())
+                        .setLatencyMeanUs(BigInteger.valueOf(message.getMeanLatencyMicros()))
+                        .setLatencyMaxUs(BigInteger.valueOf(message.getMaxLatencyMicros()))
+                        .setLatencyP50Us(BigInteger.valueOf(message.getP50LatencyMicros()))
+                        .setLatencyP99Us(BigInteger.valueOf(message.getP99LatencyMicros()))
+                        .build())
+                .collect(Collectors.toList());
+    }
+}
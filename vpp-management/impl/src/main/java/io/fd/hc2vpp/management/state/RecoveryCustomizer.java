@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2017 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.management.state;
+
+import io.fd.hc2vpp.common.translate.util.VppStatusListener;
+import io.fd.honeycomb.translate.read.ReadContext;
+import io.fd.honeycomb.translate.read.ReadFailedException;
+import io.fd.honeycomb.translate.spi.read.ReaderCustomizer;
+import java.math.BigInteger;
+import javax.annotation.Nonnull;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.vpp.management.rev171205.VppStateBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.vpp.management.rev171205.vpp.state.Recovery;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.vpp.management.rev171205.vpp.state.RecoveryBuilder;
+import org.opendaylight.yangtools.concepts.Builder;
+import org.opendaylight.yangtools.yang.binding.DataObject;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+
+/**
+ * Provides statistics of in-process VPP recoveries, as recorded by {@link VppStatusListener}. Does not communicate
+ * with VPP.
+ */
+public final class RecoveryCustomizer implements ReaderCustomizer<Recovery, RecoveryBuilder> {
+
+    private final VppStatusListener vppStatusListener;
+
+    public RecoveryCustomizer(@Nonnull final VppStatusListener vppStatusListener) {
+        this.vppStatusListener = vppStatusListener;
+    }
+
+    @Override
+    public void merge(@Nonnull final Builder<? extends DataObject> parentBuilder, @Nonnull final Recovery readValue) {
+        ((VppStateBuilder) parentBuilder).setRecovery(readValue);
+    }
+
+    @Nonnull
+    @Override
+    public RecoveryBuilder getBuilder(@Nonnull final InstanceIdentifier<Recovery> id) {
+        return new RecoveryBuilder();
+    }
+
+    @Override
+    public void readCurrentAttributes(@Nonnull final InstanceIdentifier<Recovery> id,
+                                      @Nonnull final RecoveryBuilder builder,
+                                      @Nonnull final ReadContext ctx) throws ReadFailedException {
+        builder.setRecoveries(BigInteger.valueOf(vppStatusListener.getRecoveries()));
+        builder.setLastRecoveryDurationMs(BigInteger.valueOf(vppStatusListener.getLastRecoveryDurationMillis()));
+    }
+}
@@ -16,7 +16,9 @@
 
 package io.fd.hc2vpp.management.state;
 
+import com.google.common.collect.ImmutableSet;
 import com.google.inject.Inject;
+import io.fd.hc2vpp.common.translate.util.JvppReplyStatistics;
 import io.fd.hc2vpp.common.translate.util.ReadTimeoutException;
 import io.fd.hc2vpp.common.translate.util.VppStatusListener;
 import io.fd.hc2vpp.management.VppManagementConfiguration;
@@ -27,9 +29,12 @@ import io.fd.honeycomb.translate.util.read.KeepaliveReaderWrapper;
 import io.fd.vpp.jvpp.core.future.FutureJVppCore;
 import java.util.concurrent.ScheduledExecutorService;
 import javax.annotation.Nonnull;
-import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.vpp.management.rev170315.VppState;
-import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.vpp.management.rev170315.VppStateBuilder;
-import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.vpp.management.rev170315.vpp.state.Version;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.vpp.management.rev171205.VppState;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.vpp.management.rev171205.VppStateBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.vpp.management.rev171205.vpp.state.JvppStatistics;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.vpp.management.rev171205.vpp.state.Recovery;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.vpp.management.rev171205.vpp.state.Version;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.vpp.management.rev171205.vpp.state.jvpp.statistics.Message;
 import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
 
 public class StateReaderFactory implements ReaderFactory {
@@ -46,6 +51,9 @@ public class StateReaderFactory implements ReaderFactory {
     @Inject
     private VppManagementConfiguration configuration;
 
+    @Inject
+    private JvppReplyStatistics jvppReplyStatistics;
+
     @Override
     public void init(@Nonnull final ModifiableReaderRegistryBuilder registry) {
         // VppState(Structural)
@@ -57,5 +65,11 @@ public class StateReaderFactory implements ReaderFactory {
         registry.add(new KeepaliveReaderWrapper<>(
                 new GenericReader<>(vppStateId.child(Version.class), new VersionCustomizer(vppApi)),
                 keepaliveExecutor, ReadTimeoutException.class, configuration.getKeepaliveDelay(), vppStatusListener));
+        //  JvppStatistics
+        registry.subtreeAdd(ImmutableSet.of(InstanceIdentifier.create(JvppStatistics.class).child(Message.class)),
+                new GenericReader<>(vppStateId.child(JvppStatistics.class),
+                        new JvppStatisticsCustomizer(jvppReplyStatistics)));
+        //  Recovery
+        registry.add(new GenericReader<>(vppStateId.child(Recovery.class), new RecoveryCustomizer(vppStatusListener)));
     }
 }
@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2017 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.management.state;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import io.fd.hc2vpp.common.translate.util.JvppReplyConsumer;
+import io.fd.hc2vpp.common.translate.util.JvppReplyStatistics;
+import io.fd.honeycomb.translate.read.ReadContext;
+import io.fd.vpp.jvpp.core.dto.ShowVersionReply;
+import java.math.BigInteger;
+import java.util.concurrent.CompletableFuture;
+import org.junit.Test;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.vpp.management.rev171205.VppState;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.vpp.management.rev171205.vpp.state.JvppStatistics;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.vpp.management.rev171205.vpp.state.JvppStatisticsBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.vpp.management.rev171205.vpp.state.jvpp.statistics.Message;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+
+public class JvppStatisticsCustomizerTest {
+
+    private static final InstanceIdentifier<JvppStatistics> IID =
+            InstanceIdentifier.create(VppState.class).child(JvppStatistics.class);
+
+    private final JvppStatisticsCustomizer customizer =
+            new JvppStatisticsCustomizer(JvppReplyStatistics.getInstance());
+
+    @Test
+    public void testReadCurrentAttributes() throws Exception {
+        JvppReplyConsumer.INSTANCE.getReply(CompletableFuture.completedFuture(new ShowVersionReply()), 1);
+
+        final JvppStatisticsBuilder builder = customizer.getBuilder(IID);
+        customizer.readCurrentAttributes(IID, builder, mock(ReadContext.class));
+
+        assertEquals(BigInteger.ZERO, builder.getRequestsInFlight());
+        final Message showVersion = builder.getMessage().stream()
+                .filter(message -> "ShowVersion".equals(message.getName()))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("ShowVersion statistics missing"));
+        assertEquals("core", showVersion.getFacade());
+        assertTrue(showVersion.getRequests().compareTo(BigInteger.ZERO) > 0);
+        assertEquals(BigInteger.ZERO, showVersion.getErrors());
+    }
+}
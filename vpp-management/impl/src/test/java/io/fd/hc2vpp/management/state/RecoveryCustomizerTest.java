@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2017 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.management.state;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.mock;
+
+import io.fd.hc2vpp.common.translate.util.VppStatusListener;
+import io.fd.honeycomb.translate.read.ReadContext;
+import java.math.BigInteger;
+import org.junit.Test;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.vpp.management.rev171205.VppState;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.vpp.management.rev171205.vpp.state.Recovery;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.vpp.management.rev171205.vpp.state.RecoveryBuilder;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+
+public class RecoveryCustomizerTest {
+
+    private static final InstanceIdentifier<Recovery> IID =
+            InstanceIdentifier.create(VppState.class).child(Recovery.class);
+
+    @Test
+    public void testReadNoRecovery() throws Exception {
+        final RecoveryCustomizer customizer = new RecoveryCustomizer(new VppStatusListener());
+        final RecoveryBuilder builder = customizer.getBuilder(IID);
+        customizer.readCurrentAttributes(IID, builder, mock(ReadContext.class));
+
+        assertEquals(BigInteger.ZERO, builder.getRecoveries());
+        assertEquals(BigInteger.ZERO, builder.getLastRecoveryDurationMs());
+    }
+
+    @Test(timeout = 10000)
+    public void testReadRecovered() throws Exception {
+        final VppStatusListener vppStatusListener = new VppStatusListener();
+        vppStatusListener.setRecoveryHandler(() -> true);
+        vppStatusListener.onKeepaliveFailure();
+        while (vppStatusListener.getRecoveries() == 0) {
+            Thread.sleep(10);
+        }
+
+        final RecoveryCustomizer customizer = new RecoveryCustomizer(vppStatusListener);
+        final RecoveryBuilder builder = customizer.getBuilder(IID);
+        customizer.readCurrentAttributes(IID, builder, mock(ReadContext.class));
+
+        assertEquals(BigInteger.ONE, builder.getRecoveries());
+    }
+}